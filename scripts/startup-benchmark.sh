@@ -0,0 +1,102 @@
+#!/usr/bin/env bash
+#
+# 기동 시간 / RSS 비교 벤치마크 (full 프로파일 vs lean 프로파일)
+#
+# 사용법:
+#   ./scripts/startup-benchmark.sh [반복횟수]
+#
+# 환경변수:
+#   JAR           실행할 jar (기본: build/libs/dbsync-sample-module-1.0.0.jar, 없으면 bootJar 빌드)
+#   BASE_PROFILE  공통 프로파일 (기본: dev)
+#   PORT          기동 포트 (기본: 18090)
+#   JAVA_OPTS     JVM 옵션 (예: -Xmx512m)
+#   OUT_DIR       결과 저장 경로 (기본: build/benchmark)
+#
+# 측정 항목:
+#   startupMs  프로세스 시작 ~ /actuator/health 응답(UP)까지 걸린 시간
+#   rssKb      health 응답 직후 프로세스 RSS
+#   heapUsedMb /actuator/metrics/jvm.memory.used (area=heap)
+#
+set -euo pipefail
+
+RUNS="${1:-5}"
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+JAR="${JAR:-$ROOT_DIR/build/libs/dbsync-sample-module-1.0.0.jar}"
+BASE_PROFILE="${BASE_PROFILE:-dev}"
+PORT="${PORT:-18090}"
+JAVA_OPTS="${JAVA_OPTS:-}"
+OUT_DIR="${OUT_DIR:-$ROOT_DIR/build/benchmark}"
+TIMEOUT_SEC=120
+
+if [ ! -f "$JAR" ]; then
+  echo "jar 파일이 없어 빌드합니다: $JAR"
+  (cd "$ROOT_DIR" && ./gradlew -q bootJar)
+fi
+
+mkdir -p "$OUT_DIR"
+RESULT_CSV="$OUT_DIR/startup-benchmark.csv"
+echo "profile,run,startupMs,rssKb,heapUsedMb" > "$RESULT_CSV"
+
+now_ms() {
+  date +%s%3N
+}
+
+rss_kb() {
+  if [ -r "/proc/$1/status" ]; then
+    awk '/VmRSS/ {print $2}' "/proc/$1/status"
+  else
+    ps -o rss= -p "$1" | tr -d ' '
+  fi
+}
+
+measure() {
+  local label="$1" profiles="$2" run="$3"
+  local log_file="$OUT_DIR/${label}-${run}.log"
+
+  local start
+  start=$(now_ms)
+  # shellcheck disable=SC2086
+  java $JAVA_OPTS -jar "$JAR" --spring.profiles.active="$profiles" --server.port="$PORT" > "$log_file" 2>&1 &
+  local pid=$!
+
+  local deadline=$((SECONDS + TIMEOUT_SEC))
+  until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null 2>&1; do
+    if ! kill -0 "$pid" 2> /dev/null; then
+      echo "[$label #$run] 기동 실패 (로그: $log_file)" >&2
+      return 1
+    fi
+    if [ "$SECONDS" -ge "$deadline" ]; then
+      echo "[$label #$run] 기동 시간 초과 (로그: $log_file)" >&2
+      kill "$pid" 2> /dev/null || true
+      return 1
+    fi
+    sleep 0.1
+  done
+  local startup_ms=$(( $(now_ms) - start ))
+  local rss
+  rss=$(rss_kb "$pid")
+  local heap_mb
+  heap_mb=$(curl -sf "http://localhost:$PORT/actuator/metrics/jvm.memory.used?tag=area:heap" \
+    | sed -n 's/.*"value":\([0-9.E+]*\).*/\1/p' | awk '{printf "%.1f", $1 / 1048576}')
+
+  kill "$pid" 2> /dev/null || true
+  wait "$pid" 2> /dev/null || true
+
+  echo "$label,$run,$startup_ms,$rss,${heap_mb:-}" >> "$RESULT_CSV"
+  echo "[$label #$run] startup=${startup_ms}ms rss=${rss}KB heap=${heap_mb:-?}MB"
+}
+
+for run in $(seq 1 "$RUNS"); do
+  measure full "$BASE_PROFILE" "$run"
+  measure lean "$BASE_PROFILE,lean" "$run"
+done
+
+echo
+echo "=== 평균 (${RUNS}회) ==="
+awk -F, 'NR > 1 {n[$1]++; t[$1] += $3; r[$1] += $4; h[$1] += $5}
+  END {
+    printf "%-6s %12s %12s %12s\n", "profile", "startupMs", "rssMb", "heapUsedMb"
+    for (p in n) printf "%-6s %12.0f %12.1f %12.1f\n", p, t[p] / n[p], r[p] / n[p] / 1024, h[p] / n[p]
+  }' "$RESULT_CSV"
+echo
+echo "결과: $RESULT_CSV"
@@ -0,0 +1,79 @@
+package com.gims.module.dbsync.loadtest;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 측정 구간 동안 힙 사용량과 GC 횟수/시간을 주기적으로 수집
+ */
+public class HeapSampler implements AutoCloseable {
+
+    private static final long SAMPLE_INTERVAL_MS = 200;
+
+    private final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "loadtest-heap-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final long gcCountAtStart;
+    private final long gcTimeAtStart;
+    private long maxUsed;
+    private double sumUsed;
+    private long samples;
+
+    public HeapSampler() {
+        this.gcCountAtStart = gcCount();
+        this.gcTimeAtStart = gcTimeMs();
+        scheduler.scheduleAtFixedRate(this::sample, 0, SAMPLE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void sample() {
+        long used = memoryBean.getHeapMemoryUsage().getUsed();
+        maxUsed = Math.max(maxUsed, used);
+        sumUsed += used;
+        samples++;
+    }
+
+    public synchronized Map<String, Object> summary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("heapMaxMb", toMb(maxUsed));
+        summary.put("heapAvgMb", samples > 0 ? toMb(sumUsed / samples) : null);
+        summary.put("heapLimitMb", toMb(memoryBean.getHeapMemoryUsage().getMax()));
+        summary.put("gcCount", gcCount() - gcCountAtStart);
+        summary.put("gcTimeMs", gcTimeMs() - gcTimeAtStart);
+        return summary;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private static long gcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionCount());
+        }
+        return total;
+    }
+
+    private static long gcTimeMs() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionTime());
+        }
+        return total;
+    }
+
+    private static double toMb(double bytes) {
+        return Math.round(bytes / 1048576 * 10) / 10.0;
+    }
+}
@@ -0,0 +1,106 @@
+package com.gims.module.dbsync.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (시스템 속성 loadtest.*)
+ *
+ * ./gradlew loadTest -Ploadtest.scales=100000,1000000 -Ploadtest.concurrency=3
+ */
+public class LoadTestConfig {
+
+    // Source(source_orders) 생성 건수 목록, 건수마다 한 번씩 측정
+    private final List<Long> scales;
+    // 측정할 동기화 방식 목록
+    private final List<String> modes;
+    // 동시에 진행할 실행 수
+    private final int concurrency;
+    // 측정 구간(건수 x 방식)마다 보낼 실행 요청 수
+    private final int executions;
+    // 모듈 기동 프로파일 (로컬 PostgreSQL 접속 설정 포함)
+    private final String profiles;
+    // Manager 스텁 응답 지연 (느린 관리 시스템 재현용)
+    private final long stubDelayMs;
+    // 실행 하나의 완료 대기 한도
+    private final long executionTimeoutSec;
+    private final long seed;
+    private final String outputDir;
+
+    private LoadTestConfig() {
+        this.scales = parseLongs(System.getProperty("loadtest.scales", "10000,100000"));
+        this.modes = Arrays.asList(System.getProperty("loadtest.modes", "UPSERT,FULL_REFRESH").toUpperCase().split(","));
+        this.concurrency = Integer.parseInt(System.getProperty("loadtest.concurrency", "3"));
+        this.executions = Integer.parseInt(System.getProperty("loadtest.executions", "3"));
+        this.profiles = System.getProperty("loadtest.profiles", "dev");
+        this.stubDelayMs = Long.parseLong(System.getProperty("loadtest.stub-delay-ms", "0"));
+        this.executionTimeoutSec = Long.parseLong(System.getProperty("loadtest.execution-timeout-sec", "3600"));
+        this.seed = Long.parseLong(System.getProperty("loadtest.seed", "42"));
+        this.outputDir = System.getProperty("loadtest.output-dir", "build/reports/load-test");
+    }
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig();
+    }
+
+    public List<Long> getScales() {
+        return scales;
+    }
+
+    public List<String> getModes() {
+        return modes;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public int getExecutions() {
+        return executions;
+    }
+
+    public String getProfiles() {
+        return profiles;
+    }
+
+    public long getStubDelayMs() {
+        return stubDelayMs;
+    }
+
+    public long getExecutionTimeoutSec() {
+        return executionTimeoutSec;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public String getOutputDir() {
+        return outputDir;
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("scales", scales);
+        map.put("modes", modes);
+        map.put("concurrency", concurrency);
+        map.put("executions", executions);
+        map.put("profiles", profiles);
+        map.put("stubDelayMs", stubDelayMs);
+        map.put("seed", seed);
+        return map;
+    }
+
+    private static List<Long> parseLongs(String value) {
+        List<Long> result = new ArrayList<>();
+        for (String part : value.split(",")) {
+            if (!part.trim().isEmpty()) {
+                result.add(Long.parseLong(part.trim()));
+            }
+        }
+        return result;
+    }
+}
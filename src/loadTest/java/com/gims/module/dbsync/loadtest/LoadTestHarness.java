@@ -0,0 +1,339 @@
+package com.gims.module.dbsync.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gims.module.dbsync.SampleDbSyncModuleApplication;
+import com.gims.module.dbsync.dto.DataGenerationRequest;
+import com.gims.module.dbsync.initializer.SyntheticDataGenerator;
+import com.gims.module.dbsync.service.SyncMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 부하 테스트 하네스
+ *
+ * 1. Manager 콜백 스텁을 띄우고 모듈을 같은 JVM에서 기동 (콜백 URL = 스텁)
+ * 2. 건수(scale)마다 합성 데이터 생성기로 source_orders 적재
+ * 3. 동기화 방식(mode)마다 /api/module/execute 를 동시 실행 수만큼 겹쳐 호출하고 완료 콜백을 대기
+ * 4. rows/sec, 배치/실행/콜백 지연 p50·p99, 힙 사용량을 JSON/HTML 리포트로 저장
+ *
+ * 동시 실행끼리 같은 Target 테이블을 다투지 않도록 실행 슬롯마다 lt_target_orders_N 테이블을 사용합니다.
+ * 실행: ./gradlew loadTest [-Ploadtest.scales=100000,1000000 -Ploadtest.modes=UPSERT,FULL_REFRESH ...]
+ */
+public class LoadTestHarness {
+
+    private static final String SOURCE_TABLE = "source_orders";
+    private static final String TARGET_TABLE_PREFIX = "lt_target_orders_";
+    private static final String[][] COLUMN_MAPPINGS = {
+            {"order_id", "sync_order_id"},
+            {"order_number", "ord_number"},
+            {"customer_name", "cust_name"},
+            {"product_name", "prod_name"},
+            {"quantity", "qty"},
+            {"unit_price", "price"},
+            {"total_amount", "total"},
+            {"order_status", "status"},
+            {"order_date", "ord_date"}
+    };
+
+    // 지연 시간 히스토그램 버킷 상한
+    private static final String LATENCY_BUCKETS = "1ms,2ms,3ms,5ms,7ms,10ms,15ms,20ms,30ms,50ms,75ms,100ms,150ms,"
+            + "200ms,300ms,500ms,750ms,1s,1500ms,2s,3s,5s,7s,10s,15s,30s,60s,120s,300s";
+
+    private final LoadTestConfig config;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ManagerStubServer stub;
+    private ConfigurableApplicationContext context;
+    private String moduleUrl;
+
+    public LoadTestHarness(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestHarness harness = new LoadTestHarness(LoadTestConfig.fromSystemProperties());
+        boolean success;
+        try {
+            success = harness.run();
+        } finally {
+            harness.shutdown();
+        }
+        System.exit(success ? 0 : 1);
+    }
+
+    public boolean run() throws Exception {
+        LocalDateTime startedAt = LocalDateTime.now();
+        String runId = startedAt.format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        startStubAndModule();
+        createTargetTables();
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        boolean allSucceeded = true;
+        for (long scale : config.getScales()) {
+            seedSource(scale);
+            for (String mode : config.getModes()) {
+                Map<String, Object> result = measure(scale, mode);
+                results.add(result);
+                allSucceeded &= ((Number) result.get("failedExecutions")).longValue() == 0;
+                log("측정 완료: %s", result);
+            }
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("runId", runId);
+        report.put("startedAt", startedAt.withNano(0).toString());
+        report.put("config", config.toMap());
+        report.put("jvm", System.getProperty("java.version"));
+        report.put("results", results);
+        File html = new LoadTestReport().write(config.getOutputDir(), runId, report);
+        log("리포트: %s", html.getAbsolutePath());
+        return allSucceeded;
+    }
+
+    private void startStubAndModule() throws IOException {
+        stub = new ManagerStubServer(config.getStubDelayMs());
+        stub.start();
+        log("Manager 스텁 기동: %s", stub.getBaseUrl());
+
+        // application.properties 보다 우선하도록 커맨드라인 인자로 전달
+        context = new SpringApplicationBuilder(SampleDbSyncModuleApplication.class)
+                .profiles(config.getProfiles().split(","))
+                .run(
+                        "--server.port=0",
+                        "--manager.callback.base-url=" + stub.getBaseUrl(),
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.com.gims.module=INFO",
+                        // 구간별 p50/p99는 고정 버킷(SLO) 누적 카운트의 차이로 계산
+                        "--management.metrics.distribution.slo.dbsync=" + LATENCY_BUCKETS);
+        moduleUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        log("모듈 기동: %s", moduleUrl);
+    }
+
+    private void createTargetTables() throws SQLException {
+        DataSource targetDataSource = context.getBean("targetDataSource", DataSource.class);
+        try (Connection conn = targetDataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            for (int slot = 0; slot < config.getConcurrency(); slot++) {
+                stmt.execute("CREATE TABLE IF NOT EXISTS " + TARGET_TABLE_PREFIX + slot + " (" +
+                        "sync_order_id BIGINT PRIMARY KEY, " +
+                        "ord_number VARCHAR(50), " +
+                        "cust_name VARCHAR(100), " +
+                        "prod_name VARCHAR(200), " +
+                        "qty INTEGER, " +
+                        "price DECIMAL(10,2), " +
+                        "total DECIMAL(12,2), " +
+                        "status VARCHAR(30), " +
+                        "ord_date DATE, " +
+                        "sync_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)");
+            }
+        }
+    }
+
+    private void seedSource(long scale) throws SQLException {
+        log("Source 데이터 생성: %s %d건", SOURCE_TABLE, scale);
+        context.getBean(SyntheticDataGenerator.class).generate(DataGenerationRequest.builder()
+                .tables(Collections.singletonList(DataGenerationRequest.TableRequest.builder()
+                        .table(SOURCE_TABLE)
+                        .rows(scale)
+                        .build()))
+                .seed(config.getSeed())
+                .truncate(true)
+                .build());
+    }
+
+    private void truncateTargetTables() throws SQLException {
+        DataSource targetDataSource = context.getBean("targetDataSource", DataSource.class);
+        try (Connection conn = targetDataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            for (int slot = 0; slot < config.getConcurrency(); slot++) {
+                stmt.execute("TRUNCATE TABLE " + TARGET_TABLE_PREFIX + slot);
+            }
+        }
+    }
+
+    /**
+     * 건수 x 방식 한 구간 측정
+     */
+    private Map<String, Object> measure(long scale, String mode) throws Exception {
+        truncateTargetTables();
+        MeterRegistry registry = context.getBean(MeterRegistry.class);
+        TimerHistogram batchBefore = TimerHistogram.capture(registry, SyncMetrics.BATCH_WRITE, "mode", mode);
+        TimerHistogram callbackBefore = TimerHistogram.capture(registry, "dbsync.callback");
+        long progressBefore = stub.getProgressCount();
+
+        log("측정 시작: %d건, %s, 실행 %d회 (동시 %d)", scale, mode, config.getExecutions(), config.getConcurrency());
+        List<Long> executionTimes = new ArrayList<>();
+        long processedRows = 0;
+        int failed = 0;
+
+        Map<String, Object> heap;
+        long startNanos = System.nanoTime();
+        try (HeapSampler heapSampler = new HeapSampler()) {
+            // 슬롯별 순차 실행, 슬롯끼리는 동시 실행
+            ExecutorService slots = Executors.newFixedThreadPool(config.getConcurrency());
+            List<Queue<Integer>> slotQueues = new ArrayList<>();
+            for (int slot = 0; slot < config.getConcurrency(); slot++) {
+                slotQueues.add(new ConcurrentLinkedQueue<>());
+            }
+            for (int i = 0; i < config.getExecutions(); i++) {
+                slotQueues.get(i % config.getConcurrency()).add(i);
+            }
+            List<Future<List<JsonNode>>> slotFutures = new ArrayList<>();
+            for (int slot = 0; slot < config.getConcurrency(); slot++) {
+                int slotIndex = slot;
+                Queue<Integer> queue = slotQueues.get(slot);
+                slotFutures.add(slots.submit(() -> {
+                    List<JsonNode> completions = new ArrayList<>();
+                    while (queue.poll() != null) {
+                        completions.add(executeAndWait(mode, TARGET_TABLE_PREFIX + slotIndex));
+                    }
+                    return completions;
+                }));
+            }
+            try {
+                for (Future<List<JsonNode>> slotFuture : slotFutures) {
+                    for (JsonNode completion : slotFuture.get()) {
+                        if (completion == null || !completion.path("success").asBoolean()
+                                || completion.path("errorCount").asLong() > 0) {
+                            failed++;
+                        }
+                        if (completion != null) {
+                            processedRows += completion.path("processedCount").asLong();
+                            executionTimes.add(completion.path("executionTimeMs").asLong());
+                        }
+                    }
+                }
+            } finally {
+                slots.shutdownNow();
+            }
+            heap = heapSampler.summary();
+        }
+        long wallMs = (System.nanoTime() - startNanos) / 1_000_000;
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("scale", scale);
+        result.put("mode", mode);
+        result.put("executions", config.getExecutions());
+        result.put("failedExecutions", failed);
+        result.put("processedRows", processedRows);
+        result.put("wallMs", wallMs);
+        result.put("rowsPerSec", wallMs > 0 ? processedRows * 1000 / wallMs : null);
+        result.put("batchLatency",
+                TimerHistogram.capture(registry, SyncMetrics.BATCH_WRITE, "mode", mode).since(batchBefore));
+        result.put("executionLatency", executionLatency(executionTimes));
+        result.put("callbackLatency", TimerHistogram.capture(registry, "dbsync.callback").since(callbackBefore));
+        result.put("progressCallbacks", stub.getProgressCount() - progressBefore);
+        result.put("heap", heap);
+        return result;
+    }
+
+    /**
+     * 실행 요청 후 완료 콜백 대기 (실패 시 null)
+     */
+    private JsonNode executeAndWait(String mode, String targetTable) {
+        long execId = stub.nextExecId();
+        CompletableFuture<JsonNode> completion = stub.completionOf(execId);
+        try {
+            post(moduleUrl + "/api/module/execute", buildExecuteRequest(execId, mode, targetTable));
+            return completion.get(config.getExecutionTimeoutSec(), TimeUnit.SECONDS);
+        } catch (Exception e) {
+            log("실행 실패: execId=%d, %s", execId, e);
+            return null;
+        }
+    }
+
+    private Map<String, Object> buildExecuteRequest(long execId, String mode, String targetTable) {
+        List<Map<String, Object>> columnMappings = new ArrayList<>();
+        for (String[] mapping : COLUMN_MAPPINGS) {
+            Map<String, Object> column = new LinkedHashMap<>();
+            column.put("sourceColumn", mapping[0]);
+            column.put("targetColumn", mapping[1]);
+            column.put("isPrimaryKey", mapping[0].equals("order_id") ? "Y" : "N");
+            columnMappings.add(column);
+        }
+        Map<String, Object> tableMapping = new LinkedHashMap<>();
+        tableMapping.put("sourceTable", SOURCE_TABLE);
+        tableMapping.put("targetTable", targetTable);
+        tableMapping.put("pkColumn", "order_id");
+        tableMapping.put("targetPkColumn", "sync_order_id");
+        tableMapping.put("syncMode", mode);
+        tableMapping.put("columnMappings", columnMappings);
+        if ("WINDOW_REPLACE".equals(mode)) {
+            tableMapping.put("sourceDateColumn", "order_date");
+        }
+
+        Map<String, Object> mappingConfig = new LinkedHashMap<>();
+        mappingConfig.put("moduleId", "loadTest");
+        mappingConfig.put("tableMappings", Collections.singletonList(tableMapping));
+        if ("WINDOW_REPLACE".equals(mode)) {
+            // 생성기 기본 날짜 범위(최근 90일) 전체
+            mappingConfig.put("syncStartDt", LocalDateTime.now().minusDays(120).withNano(0).toString());
+            mappingConfig.put("syncEndDt", LocalDateTime.now().plusDays(1).withNano(0).toString());
+        }
+
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("execId", execId);
+        request.put("moduleId", "loadTest");
+        request.put("configJson", "{}");
+        request.put("mappingConfig", mappingConfig);
+        return request;
+    }
+
+    private void post(String url, Object body) throws IOException {
+        HttpURLConnection conn = (HttpURLConnection) new URL(url).openConnection();
+        conn.setRequestMethod("POST");
+        conn.setDoOutput(true);
+        conn.setRequestProperty("Content-Type", "application/json");
+        try (OutputStream out = conn.getOutputStream()) {
+            out.write(objectMapper.writeValueAsString(body).getBytes(StandardCharsets.UTF_8));
+        }
+        int status = conn.getResponseCode();
+        conn.disconnect();
+        if (status != 200) {
+            throw new IOException("실행 요청 실패: HTTP " + status);
+        }
+    }
+
+    private Map<String, Object> executionLatency(List<Long> executionTimes) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        if (executionTimes.isEmpty()) {
+            return stats;
+        }
+        List<Long> sorted = new ArrayList<>(executionTimes);
+        Collections.sort(sorted);
+        stats.put("count", sorted.size());
+        stats.put("p50Ms", sorted.get((int) Math.ceil(sorted.size() * 0.5) - 1));
+        stats.put("p99Ms", sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1));
+        return stats;
+    }
+
+    private void shutdown() {
+        if (context != null) {
+            context.close();
+        }
+        if (stub != null) {
+            stub.stop();
+        }
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.println("[loadTest] " + String.format(format, args));
+    }
+}
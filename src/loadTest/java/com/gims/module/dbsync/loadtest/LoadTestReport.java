@@ -0,0 +1,137 @@
+package com.gims.module.dbsync.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 저장 (JSON + HTML)
+ *
+ * HTML에는 이번 실행 결과와 같은 디렉토리에 있는 이전 실행(JSON)들과의 비교표가 포함됩니다.
+ */
+public class LoadTestReport {
+
+    private static final String FILE_PREFIX = "load-test-";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * @return 생성한 HTML 파일
+     */
+    public File write(String outputDir, String runId, Map<String, Object> report) throws IOException {
+        File dir = new File(outputDir);
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("리포트 디렉토리를 만들 수 없습니다: " + dir);
+        }
+        File jsonFile = new File(dir, FILE_PREFIX + runId + ".json");
+        objectMapper.writeValue(jsonFile, report);
+
+        String html = renderHtml(runId, objectMapper.valueToTree(report), loadPreviousRuns(dir));
+        File htmlFile = new File(dir, FILE_PREFIX + runId + ".html");
+        Files.write(htmlFile.toPath(), html.getBytes(StandardCharsets.UTF_8));
+        Files.write(new File(dir, "index.html").toPath(), html.getBytes(StandardCharsets.UTF_8));
+        return htmlFile;
+    }
+
+    private List<JsonNode> loadPreviousRuns(File dir) throws IOException {
+        File[] files = dir.listFiles((d, name) -> name.startsWith(FILE_PREFIX) && name.endsWith(".json"));
+        List<JsonNode> runs = new ArrayList<>();
+        if (files == null) {
+            return runs;
+        }
+        Arrays.sort(files);
+        for (File file : files) {
+            runs.add(objectMapper.readTree(file));
+        }
+        return runs;
+    }
+
+    private String renderHtml(String runId, JsonNode report, List<JsonNode> runs) {
+        StringBuilder html = new StringBuilder();
+        html.append("<!DOCTYPE html>\n<html lang=\"ko\"><head><meta charset=\"UTF-8\">")
+                .append("<title>DB Sync 부하 테스트 ").append(escape(runId)).append("</title>")
+                .append("<style>body{font-family:sans-serif;margin:24px}table{border-collapse:collapse;margin-bottom:24px}")
+                .append("th,td{border:1px solid #ccc;padding:4px 8px;text-align:right}th{background:#f0f0f0}")
+                .append("td.l{text-align:left}.fail{color:#c00}</style></head><body>\n");
+
+        html.append("<h1>DB Sync 부하 테스트 ").append(escape(runId)).append("</h1>\n");
+        html.append("<p>설정: <code>").append(escape(report.path("config").toString())).append("</code></p>\n");
+
+        html.append("<h2>이번 실행</h2>\n");
+        appendResultTable(html, report);
+
+        html.append("<h2>실행 비교 (같은 디렉토리의 전체 실행)</h2>\n");
+        html.append("<table><tr><th>실행</th><th>건수</th><th>방식</th><th>rows/sec</th>")
+                .append("<th>배치 p50 (ms)</th><th>배치 p99 (ms)</th><th>콜백 p99 (ms)</th><th>최대 힙 (MB)</th><th>실패</th></tr>\n");
+        for (JsonNode run : runs) {
+            for (JsonNode result : run.path("results")) {
+                html.append("<tr><td class=\"l\">").append(escape(run.path("runId").asText())).append("</td>")
+                        .append(cell(result.path("scale")))
+                        .append("<td class=\"l\">").append(escape(result.path("mode").asText())).append("</td>")
+                        .append(cell(result.path("rowsPerSec")))
+                        .append(cell(result.path("batchLatency").path("p50Ms")))
+                        .append(cell(result.path("batchLatency").path("p99Ms")))
+                        .append(cell(result.path("callbackLatency").path("p99Ms")))
+                        .append(cell(result.path("heap").path("heapMaxMb")))
+                        .append(failCell(result.path("failedExecutions")))
+                        .append("</tr>\n");
+            }
+        }
+        html.append("</table>\n</body></html>\n");
+        return html.toString();
+    }
+
+    private void appendResultTable(StringBuilder html, JsonNode report) {
+        html.append("<table><tr><th>건수</th><th>방식</th><th>실행 수</th><th>실패</th><th>처리 건수</th>")
+                .append("<th>소요 (ms)</th><th>rows/sec</th><th>배치 p50 / p99 (ms)</th><th>실행 p50 / p99 (ms)</th>")
+                .append("<th>콜백 p50 / p99 (ms)</th><th>힙 평균 / 최대 (MB)</th><th>GC 횟수 / 시간 (ms)</th></tr>\n");
+        for (JsonNode result : report.path("results")) {
+            html.append("<tr>")
+                    .append(cell(result.path("scale")))
+                    .append("<td class=\"l\">").append(escape(result.path("mode").asText())).append("</td>")
+                    .append(cell(result.path("executions")))
+                    .append(failCell(result.path("failedExecutions")))
+                    .append(cell(result.path("processedRows")))
+                    .append(cell(result.path("wallMs")))
+                    .append(cell(result.path("rowsPerSec")))
+                    .append(pairCell(result.path("batchLatency")))
+                    .append(pairCell(result.path("executionLatency")))
+                    .append(pairCell(result.path("callbackLatency")))
+                    .append("<td>").append(text(result.path("heap").path("heapAvgMb"))).append(" / ")
+                    .append(text(result.path("heap").path("heapMaxMb"))).append("</td>")
+                    .append("<td>").append(text(result.path("heap").path("gcCount"))).append(" / ")
+                    .append(text(result.path("heap").path("gcTimeMs"))).append("</td>")
+                    .append("</tr>\n");
+        }
+        html.append("</table>\n");
+    }
+
+    private String cell(JsonNode value) {
+        return "<td>" + text(value) + "</td>";
+    }
+
+    private String failCell(JsonNode value) {
+        return value.asLong() > 0 ? "<td class=\"fail\">" + text(value) + "</td>" : cell(value);
+    }
+
+    private String pairCell(JsonNode latency) {
+        return "<td>" + text(latency.path("p50Ms")) + " / " + text(latency.path("p99Ms")) + "</td>";
+    }
+
+    private String text(JsonNode value) {
+        return value.isMissingNode() || value.isNull() ? "-" : escape(value.asText());
+    }
+
+    private String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
@@ -0,0 +1,111 @@
+package com.gims.module.dbsync.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 관리 시스템 콜백 스텁
+ *
+ * 모듈이 호출하는 /execution/start, /progress, /execution/complete 를 받아
+ * 실행별 완료 보고를 CompletableFuture로 전달합니다.
+ */
+public class ManagerStubServer {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final long responseDelayMs;
+    private final AtomicLong execIdSequence = new AtomicLong(System.currentTimeMillis());
+    private final Map<Long, CompletableFuture<JsonNode>> completions = new ConcurrentHashMap<>();
+    private final AtomicLong progressCount = new AtomicLong();
+
+    private HttpServer server;
+
+    public ManagerStubServer(long responseDelayMs) {
+        this.responseDelayMs = responseDelayMs;
+    }
+
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/execution/start", exchange -> {
+            readBody(exchange);
+            respond(exchange, nextExecId());
+        });
+        server.createContext("/progress", exchange -> {
+            readBody(exchange);
+            progressCount.incrementAndGet();
+            respond(exchange, null);
+        });
+        server.createContext("/execution/complete", exchange -> {
+            JsonNode body = readBody(exchange);
+            respond(exchange, null);
+            long execId = body.path("execId").asLong();
+            completions.computeIfAbsent(execId, id -> new CompletableFuture<>()).complete(body);
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public long nextExecId() {
+        return execIdSequence.incrementAndGet();
+    }
+
+    public long getProgressCount() {
+        return progressCount.get();
+    }
+
+    /**
+     * 실행 완료 보고 대기용 Future (완료 보고 본문)
+     */
+    public CompletableFuture<JsonNode> completionOf(long execId) {
+        return completions.computeIfAbsent(execId, id -> new CompletableFuture<>());
+    }
+
+    private JsonNode readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return objectMapper.readTree(in);
+        }
+    }
+
+    private void respond(HttpExchange exchange, Object data) throws IOException {
+        if (responseDelayMs > 0) {
+            try {
+                Thread.sleep(responseDelayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("success", true);
+        body.put("message", "OK");
+        body.put("data", data);
+        byte[] bytes = objectMapper.writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
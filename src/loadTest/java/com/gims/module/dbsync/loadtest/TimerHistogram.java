@@ -0,0 +1,85 @@
+package com.gims.module.dbsync.loadtest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 타이머 백분위 히스토그램의 구간 차이
+ *
+ * 측정 시작/종료 시점의 누적 버킷 카운트 차이로 해당 구간만의 p50/p99를 계산합니다.
+ * 백분위 값은 해당 버킷의 상한(ms)이므로 버킷 간격만큼의 오차가 있습니다.
+ */
+public class TimerHistogram {
+
+    // 버킷 상한(ms) -> 누적 카운트 (해당 값 이하 건수)
+    private final TreeMap<Double, Double> buckets;
+    private final long count;
+    private final double totalMs;
+
+    private TimerHistogram(TreeMap<Double, Double> buckets, long count, double totalMs) {
+        this.buckets = buckets;
+        this.count = count;
+        this.totalMs = totalMs;
+    }
+
+    /**
+     * 이름과 태그가 일치하는 모든 타이머를 합친 스냅샷
+     */
+    public static TimerHistogram capture(MeterRegistry registry, String name, String... tags) {
+        TreeMap<Double, Double> buckets = new TreeMap<>();
+        long count = 0;
+        double totalMs = 0;
+        for (Timer timer : registry.find(name).tags(tags).timers()) {
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            for (CountAtBucket bucket : snapshot.histogramCounts()) {
+                buckets.merge(bucket.bucket(TimeUnit.MILLISECONDS), bucket.count(), Double::sum);
+            }
+            count += snapshot.count();
+            totalMs += snapshot.total(TimeUnit.MILLISECONDS);
+        }
+        return new TimerHistogram(buckets, count, totalMs);
+    }
+
+    /**
+     * 이 스냅샷(종료 시점)에서 before(시작 시점)를 뺀 구간 통계
+     */
+    public Map<String, Object> since(TimerHistogram before) {
+        TreeMap<Double, Double> delta = new TreeMap<>();
+        buckets.forEach((bound, cumulative) ->
+                delta.put(bound, cumulative - before.buckets.getOrDefault(bound, 0.0)));
+        long deltaCount = count - before.count;
+        double deltaTotalMs = totalMs - before.totalMs;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("count", deltaCount);
+        stats.put("meanMs", deltaCount > 0 ? round(deltaTotalMs / deltaCount) : null);
+        stats.put("p50Ms", percentile(delta, deltaCount, 0.5));
+        stats.put("p99Ms", percentile(delta, deltaCount, 0.99));
+        return stats;
+    }
+
+    private static Double percentile(TreeMap<Double, Double> cumulativeBuckets, long total, double quantile) {
+        if (total <= 0) {
+            return null;
+        }
+        double rank = Math.ceil(total * quantile);
+        for (Map.Entry<Double, Double> entry : cumulativeBuckets.entrySet()) {
+            if (entry.getValue() >= rank) {
+                return round(entry.getKey());
+            }
+        }
+        // 최대 버킷을 넘는 값
+        return cumulativeBuckets.isEmpty() ? null : round(cumulativeBuckets.lastKey());
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
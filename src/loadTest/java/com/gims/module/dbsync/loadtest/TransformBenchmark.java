@@ -0,0 +1,153 @@
+package com.gims.module.dbsync.loadtest;
+
+import com.gims.module.dbsync.dto.MappingConfigDto;
+import com.gims.module.dbsync.service.ColumnTransformCompiler;
+import com.gims.module.dbsync.service.RowTransformer;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 컬럼 변환식 마이크로 벤치마크 (DB 불필요)
+ *
+ * 자주 쓰는 변환식별 값 하나당 변환 시간(ns)과, 여러 변환식을 함께 적용한 배치 변환 처리량을
+ * 순차/병렬(ForkJoin 공용 풀)로 측정합니다.
+ *
+ * 시스템 속성: transform.rows(기본 100000), transform.iterations(기본 20), transform.warmup(기본 10)
+ */
+public class TransformBenchmark {
+
+    private static final String[][] EXPRESSIONS = {
+            {"customer_name", "trim"},
+            {"customer_name", "trim | upper"},
+            {"customer_name", "emptytonull | default('N/A')"},
+            {"quantity", "cast(long)"},
+            {"order_number", "cast(string) | substr(1, 4)"},
+            {"unit_price", "round(1)"},
+            {"order_number", "mask(3)"},
+            {"order_number", "replace('ORD', 'O')"},
+            {"customer_name", "md5"},
+            {"customer_name", "sha256"},
+            {"order_number", "concat($, '-', order_status)"},
+            {"order_date", "cast(date)"},
+    };
+
+    private static volatile Object sink;
+
+    public static void main(String[] args) {
+        int rows = Integer.getInteger("transform.rows", 100000);
+        int iterations = Integer.getInteger("transform.iterations", 20);
+        int warmup = Integer.getInteger("transform.warmup", 10);
+
+        List<Map<String, Object>> source = generateRows(rows);
+        System.out.printf("[transformBenchmark] rows=%d, iterations=%d, warmup=%d, cpus=%d%n",
+                rows, iterations, warmup, Runtime.getRuntime().availableProcessors());
+
+        // 1. 변환식별 값 하나당 시간
+        System.out.printf("%n%-36s %12s%n", "변환식", "ns/값");
+        for (String[] expression : EXPRESSIONS) {
+            ColumnTransformCompiler.ColumnTransform transform = ColumnTransformCompiler.compile(expression[1]).getTransform();
+            double nanosPerValue = measurePerValue(transform, expression[0], source, iterations, warmup);
+            System.out.printf("%-36s %12.1f%n", expression[1], nanosPerValue);
+        }
+
+        // 2. 전체 변환식을 적용한 배치 변환 (순차 / 병렬)
+        List<MappingConfigDto.ColumnMappingDto> mappings = new ArrayList<>();
+        for (String column : Arrays.asList("order_number", "customer_name", "quantity", "unit_price", "order_status")) {
+            mappings.add(MappingConfigDto.ColumnMappingDto.builder().sourceColumn(column).targetColumn(column)
+                    .transform(transformFor(column)).build());
+        }
+        System.out.printf("%n%-36s %12s %14s%n", "배치 변환 (5개 컬럼)", "ns/행", "rows/sec");
+        for (int threshold : new int[]{Integer.MAX_VALUE, 1}) {
+            RowTransformer transformer = RowTransformer.compile(mappings, threshold);
+            double nanosPerRow = measureBatch(transformer, source, iterations, warmup);
+            System.out.printf("%-36s %12.1f %14.0f%n", threshold == 1 ? "병렬 (parallelStream)" : "순차",
+                    nanosPerRow, 1_000_000_000.0 / nanosPerRow);
+        }
+    }
+
+    private static String transformFor(String column) {
+        switch (column) {
+            case "order_number":
+                return "mask(3)";
+            case "customer_name":
+                return "trim | upper";
+            case "quantity":
+                return "default(0) | cast(long)";
+            case "unit_price":
+                return "round(1)";
+            default:
+                return "lower";
+        }
+    }
+
+    private static double measurePerValue(ColumnTransformCompiler.ColumnTransform transform, String column,
+                                          List<Map<String, Object>> source, int iterations, int warmup) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < warmup + iterations; i++) {
+            long start = System.nanoTime();
+            Object last = null;
+            for (Map<String, Object> row : source) {
+                last = transform.apply(row.get(column), row);
+            }
+            long elapsed = System.nanoTime() - start;
+            sink = last;
+            if (i >= warmup) {
+                best = Math.min(best, elapsed);
+            }
+        }
+        return (double) best / source.size();
+    }
+
+    private static double measureBatch(RowTransformer transformer, List<Map<String, Object>> source,
+                                       int iterations, int warmup) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < warmup + iterations; i++) {
+            // 변환은 행을 직접 갱신하므로 매 반복마다 원본 복사본 사용 (복사 시간은 제외)
+            List<Map<String, Object>> batch = copy(source);
+            long start = System.nanoTime();
+            transformer.transform(batch);
+            long elapsed = System.nanoTime() - start;
+            sink = batch;
+            if (i >= warmup) {
+                best = Math.min(best, elapsed);
+            }
+        }
+        return (double) best / source.size();
+    }
+
+    private static List<Map<String, Object>> copy(List<Map<String, Object>> source) {
+        List<Map<String, Object>> copy = new ArrayList<>(source.size());
+        for (Map<String, Object> row : source) {
+            copy.add(new HashMap<>(row));
+        }
+        return copy;
+    }
+
+    private static List<Map<String, Object>> generateRows(int rows) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<String> statuses = Collections.unmodifiableList(Arrays.asList("PENDING", "SHIPPED", "DELIVERED", "CANCELLED"));
+        long baseMillis = Timestamp.valueOf("2026-01-01 00:00:00").getTime();
+        List<Map<String, Object>> source = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("order_id", (long) i + 1);
+            row.put("order_number", String.format("ORD-%08d", i + 1));
+            row.put("customer_name", random.nextInt(20) == 0 ? "  " : "  customer_" + random.nextInt(100000) + " ");
+            row.put("quantity", random.nextInt(10) == 0 ? null : random.nextInt(1, 100));
+            row.put("unit_price", BigDecimal.valueOf(random.nextInt(100, 1000000), 2));
+            row.put("order_status", statuses.get(random.nextInt(statuses.size())));
+            row.put("order_date", new Timestamp(baseMillis + random.nextLong(365L * 24 * 3600 * 1000)));
+            source.add(row);
+        }
+        return source;
+    }
+}
@@ -1,6 +1,8 @@
 package com.gims.module.dbsync.client;
 
 import com.gims.module.dbsync.dto.ManagerCallbackDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,6 +12,9 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
 import java.net.InetAddress;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 관리 시스템 API 클라이언트
@@ -23,6 +28,11 @@ public class ManagerApiClient {
 
     private final RestTemplate restTemplate = new RestTemplate();
 
+    private final MeterRegistry meterRegistry;
+
+    // 진행 상황 보고를 생략할 실행 (연속 동기화는 주기별 보고 대신 요약만 보고)
+    private final Set<Long> quietExecutions = ConcurrentHashMap.newKeySet();
+
     @Value("${manager.callback.base-url}")
     private String managerBaseUrl;
 
@@ -62,6 +72,7 @@ public class ManagerApiClient {
      */
     public Long reportExecutionStart(String execType, String execUser) {
         String url = null;
+        long callStart = System.nanoTime();
         try {
             url = getCallbackUrl() + "/execution/start";
 
@@ -101,6 +112,19 @@ public class ManagerApiClient {
         } catch (Exception e) {
             log.error("실행 시작 보고 중 예기치 않은 오류 발생", e);
             return null;
+        } finally {
+            recordCallback("start", callStart);
+        }
+    }
+
+    /**
+     * 실행의 진행 상황 보고 생략 여부 설정 (reportSummary는 항상 보고)
+     */
+    public void setProgressQuiet(Long execId, boolean quiet) {
+        if (quiet) {
+            quietExecutions.add(execId);
+        } else {
+            quietExecutions.remove(execId);
         }
     }
 
@@ -109,7 +133,24 @@ public class ManagerApiClient {
      */
     public void reportProgress(Long execId, String currentStep, Integer progressPercent,
                                 Long processedCount, Long totalCount, String message, String logLevel) {
+        if (execId != null && quietExecutions.contains(execId)) {
+            log.debug("진행 상황 보고 생략: execId={}, step={}, {}", execId, currentStep, message);
+            return;
+        }
+        sendProgress(execId, currentStep, progressPercent, processedCount, totalCount, message, logLevel);
+    }
+
+    /**
+     * 요약 보고 (진행 상황 보고 생략 중인 실행도 보고)
+     */
+    public void reportSummary(Long execId, String currentStep, Long processedCount, String message, String logLevel) {
+        sendProgress(execId, currentStep, null, processedCount, null, message, logLevel);
+    }
+
+    private void sendProgress(Long execId, String currentStep, Integer progressPercent,
+                              Long processedCount, Long totalCount, String message, String logLevel) {
         String url = null;
+        long callStart = System.nanoTime();
         try {
             url = getCallbackUrl() + "/progress";
 
@@ -138,6 +179,8 @@ public class ManagerApiClient {
         } catch (Exception e) {
             // 기타 예외도 경고만 (작업은 계속 진행)
             log.warn("진행 상황 보고 실패 (작업 계속): {}", e.getMessage());
+        } finally {
+            recordCallback("progress", callStart);
         }
     }
 
@@ -148,6 +191,7 @@ public class ManagerApiClient {
                                          long errorCount, String resultMessage, String errorMessage,
                                          long executionTimeMs) {
         String url = null;
+        long callStart = System.nanoTime();
         try {
             url = getCallbackUrl() + "/execution/complete";
 
@@ -181,9 +225,24 @@ public class ManagerApiClient {
             log.error("매니저 연결 실패: 실행 완료를 보고할 수 없습니다 ({})", url, e);
         } catch (Exception e) {
             log.error("실행 완료 보고 중 예기치 않은 오류 발생", e);
+        } finally {
+            recordCallback("complete", callStart);
         }
     }
 
+    /**
+     * 콜백 호출 시간 기록 (dbsync.callback, type 태그)
+     */
+    private void recordCallback(String type, long callStart) {
+        Timer.builder("dbsync.callback")
+                .description("관리 시스템 콜백 호출 시간")
+                .tag("type", type)
+                .publishPercentiles(0.5, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - callStart, TimeUnit.NANOSECONDS);
+    }
+
     /**
      * 호스트 정보 조회
      */
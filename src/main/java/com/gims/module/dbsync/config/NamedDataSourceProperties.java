@@ -0,0 +1,32 @@
+package com.gims.module.dbsync.config;
+
+import com.gims.module.dbsync.dto.DataSourceDefinitionDto;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Named DataSource 설정 (sync.datasources.*)
+ *
+ * 매핑 설정의 sourceConnection / targetConnection에서 이름으로 참조하는 접속 정보입니다.
+ * 풀은 처음 사용할 때 생성되어 실행 간에 공유되며, idle-timeout-ms 동안 사용되지 않으면 닫힙니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "sync.datasources")
+public class NamedDataSourceProperties {
+
+    // 마지막 실행이 끝난 뒤 이 시간 동안 사용되지 않은 풀을 닫음
+    private long idleTimeoutMs = 600000;
+
+    // 유휴 풀 정리 주기
+    private long evictIntervalMs = 60000;
+
+    // 이름 -> 접속 정보
+    private Map<String, DataSourceDefinitionDto> connections = new LinkedHashMap<>();
+}
@@ -1,68 +1,47 @@
 package com.gims.module.dbsync.config;
 
-import org.springframework.beans.factory.annotation.Qualifier;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.jdbc.DataSourceBuilder;
-import org.springframework.boot.orm.jpa.EntityManagerFactoryBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
-import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
-import org.springframework.orm.jpa.JpaTransactionManager;
-import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
-import org.springframework.transaction.PlatformTransactionManager;
-import org.springframework.transaction.annotation.EnableTransactionManagement;
 
-import javax.persistence.EntityManagerFactory;
 import javax.sql.DataSource;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Source DB DataSource 설정
  */
 @Configuration
-@EnableTransactionManagement
-@EnableJpaRepositories(
-        basePackages = "com.gims.module.dbsync.repository.source",
-        entityManagerFactoryRef = "sourceEntityManagerFactory",
-        transactionManagerRef = "sourceTransactionManager"
-)
 public class SourceDataSourceConfig {
 
+    /**
+     * Source 커넥션 풀
+     * 조회 전용(readOnly)이며 PostgreSQL 드라이버 옵션(binaryTransfer, prepareThreshold, ApplicationName)을 적용합니다.
+     * readOnlyMode=always로 autocommit 조회에도 세션을 READ ONLY로 설정해 Source 쓰기를 서버에서 거부합니다.
+     * spring.datasource.source.* 에 명시한 값이 있으면 그 값이 우선합니다.
+     */
     @Primary
     @Bean(name = "sourceDataSource")
     @ConfigurationProperties(prefix = "spring.datasource.source")
-    public DataSource sourceDataSource() {
-        return DataSourceBuilder.create()
-                .type(com.zaxxer.hikari.HikariDataSource.class)
+    public DataSource sourceDataSource(
+            SyncExecutionProperties executionProperties,
+            @Value("${sync.source.binary-transfer:true}") boolean binaryTransfer,
+            @Value("${sync.source.prepare-threshold:5}") int prepareThreshold,
+            @Value("${module.id}") String moduleId) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
                 .build();
-    }
-
-    @Primary
-    @Bean(name = "sourceEntityManagerFactory")
-    public LocalContainerEntityManagerFactoryBean sourceEntityManagerFactory(
-            EntityManagerFactoryBuilder builder,
-            @Qualifier("sourceDataSource") DataSource dataSource) {
-
-        Map<String, Object> properties = new HashMap<>();
-        properties.put("hibernate.hbm2ddl.auto", "update");
-        properties.put("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect");
-        properties.put("hibernate.show_sql", true);
-        properties.put("hibernate.format_sql", true);
-
-        return builder
-                .dataSource(dataSource)
-                .packages("com.gims.module.dbsync.entity.source")
-                .persistenceUnit("source")
-                .properties(properties)
-                .build();
-    }
-
-    @Primary
-    @Bean(name = "sourceTransactionManager")
-    public PlatformTransactionManager sourceTransactionManager(
-            @Qualifier("sourceEntityManagerFactory") EntityManagerFactory entityManagerFactory) {
-        return new JpaTransactionManager(entityManagerFactory);
+        dataSource.setPoolName("dbsync-source");
+        dataSource.setMaximumPoolSize(executionProperties.getMaximumPoolSize());
+        dataSource.setMinimumIdle(executionProperties.getMinimumIdle());
+        dataSource.setConnectionTimeout(executionProperties.getConnectionTimeoutMs());
+        dataSource.setReadOnly(true);
+        dataSource.addDataSourceProperty("readOnlyMode", "always");
+        dataSource.addDataSourceProperty("binaryTransfer", String.valueOf(binaryTransfer));
+        dataSource.addDataSourceProperty("prepareThreshold", String.valueOf(prepareThreshold));
+        dataSource.addDataSourceProperty("ApplicationName", moduleId + "-source");
+        return dataSource;
     }
 }
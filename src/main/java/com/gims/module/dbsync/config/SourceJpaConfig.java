@@ -0,0 +1,61 @@
+package com.gims.module.dbsync.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.orm.jpa.EntityManagerFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Source DB JPA 설정
+ *
+ * 동기화 엔진은 JDBC만 사용하므로 lean 프로파일에서는 로딩하지 않습니다.
+ */
+@Configuration
+@Profile("!lean")
+@EnableTransactionManagement
+@EnableJpaRepositories(
+        basePackages = "com.gims.module.dbsync.repository.source",
+        entityManagerFactoryRef = "sourceEntityManagerFactory",
+        transactionManagerRef = "sourceTransactionManager"
+)
+public class SourceJpaConfig {
+
+    @Primary
+    @Bean(name = "sourceEntityManagerFactory")
+    public LocalContainerEntityManagerFactoryBean sourceEntityManagerFactory(
+            EntityManagerFactoryBuilder builder,
+            @Qualifier("sourceDataSource") DataSource dataSource) {
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("hibernate.hbm2ddl.auto", "update");
+        properties.put("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect");
+        properties.put("hibernate.show_sql", true);
+        properties.put("hibernate.format_sql", true);
+
+        return builder
+                .dataSource(dataSource)
+                .packages("com.gims.module.dbsync.entity.source")
+                .persistenceUnit("source")
+                .properties(properties)
+                .build();
+    }
+
+    @Primary
+    @Bean(name = "sourceTransactionManager")
+    public PlatformTransactionManager sourceTransactionManager(
+            @Qualifier("sourceEntityManagerFactory") EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+}
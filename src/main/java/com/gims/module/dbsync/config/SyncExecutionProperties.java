@@ -0,0 +1,39 @@
+package com.gims.module.dbsync.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 동기화 실행 병렬도 설정
+ *
+ * Source/Target 커넥션 풀 크기는 이 설정으로부터 계산합니다.
+ * 풀 크기 = 동시 실행 수 x 실행당 커넥션 수 + 여유분(메타데이터 API 등)
+ */
+@Getter
+@Component
+public class SyncExecutionProperties {
+
+    // 동시 실행 가능한 동기화 작업 수 (실행 요청 스레드 풀 크기)
+    @Value("${sync.execution.max-concurrent:3}")
+    private int maxConcurrent;
+
+    // 실행 하나가 DataSource별로 동시에 사용할 수 있는 커넥션 수
+    @Value("${sync.execution.max-connections-per-execution:2}")
+    private int maxConnectionsPerExecution;
+
+    // 동기화 실행 외 용도(메타데이터 API, 인덱스 원복 등)의 여유 커넥션 수
+    @Value("${sync.pool.headroom:2}")
+    private int poolHeadroom;
+
+    @Value("${sync.pool.connection-timeout-ms:30000}")
+    private long connectionTimeoutMs;
+
+    public int getMaximumPoolSize() {
+        return maxConcurrent * maxConnectionsPerExecution + poolHeadroom;
+    }
+
+    public int getMinimumIdle() {
+        return Math.min(maxConnectionsPerExecution, getMaximumPoolSize());
+    }
+}
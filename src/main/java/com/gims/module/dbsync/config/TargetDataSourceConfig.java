@@ -1,64 +1,37 @@
 package com.gims.module.dbsync.config;
 
-import org.springframework.beans.factory.annotation.Qualifier;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.jdbc.DataSourceBuilder;
-import org.springframework.boot.orm.jpa.EntityManagerFactoryBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
-import org.springframework.orm.jpa.JpaTransactionManager;
-import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
-import org.springframework.transaction.PlatformTransactionManager;
-import org.springframework.transaction.annotation.EnableTransactionManagement;
 
-import javax.persistence.EntityManagerFactory;
 import javax.sql.DataSource;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Target DB DataSource 설정
  */
 @Configuration
-@EnableTransactionManagement
-@EnableJpaRepositories(
-        basePackages = "com.gims.module.dbsync.repository.target",
-        entityManagerFactoryRef = "targetEntityManagerFactory",
-        transactionManagerRef = "targetTransactionManager"
-)
 public class TargetDataSourceConfig {
 
+    /**
+     * Target 커넥션 풀
+     * spring.datasource.target.* 에 명시한 값이 있으면 그 값이 우선합니다.
+     */
     @Bean(name = "targetDataSource")
     @ConfigurationProperties(prefix = "spring.datasource.target")
-    public DataSource targetDataSource() {
-        return DataSourceBuilder.create()
-                .type(com.zaxxer.hikari.HikariDataSource.class)
+    public DataSource targetDataSource(
+            SyncExecutionProperties executionProperties,
+            @Value("${module.id}") String moduleId) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
                 .build();
-    }
-
-    @Bean(name = "targetEntityManagerFactory")
-    public LocalContainerEntityManagerFactoryBean targetEntityManagerFactory(
-            EntityManagerFactoryBuilder builder,
-            @Qualifier("targetDataSource") DataSource dataSource) {
-
-        Map<String, Object> properties = new HashMap<>();
-        properties.put("hibernate.hbm2ddl.auto", "update");
-        properties.put("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect");
-        properties.put("hibernate.show_sql", true);
-        properties.put("hibernate.format_sql", true);
-
-        return builder
-                .dataSource(dataSource)
-                .packages("com.gims.module.dbsync.entity.target")
-                .persistenceUnit("target")
-                .properties(properties)
-                .build();
-    }
-
-    @Bean(name = "targetTransactionManager")
-    public PlatformTransactionManager targetTransactionManager(
-            @Qualifier("targetEntityManagerFactory") EntityManagerFactory entityManagerFactory) {
-        return new JpaTransactionManager(entityManagerFactory);
+        dataSource.setPoolName("dbsync-target");
+        dataSource.setMaximumPoolSize(executionProperties.getMaximumPoolSize());
+        dataSource.setMinimumIdle(executionProperties.getMinimumIdle());
+        dataSource.setConnectionTimeout(executionProperties.getConnectionTimeoutMs());
+        dataSource.addDataSourceProperty("ApplicationName", moduleId + "-target");
+        return dataSource;
     }
 }
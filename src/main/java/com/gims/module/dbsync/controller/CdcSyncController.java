@@ -0,0 +1,99 @@
+package com.gims.module.dbsync.controller;
+
+import com.gims.module.dbsync.client.ManagerApiClient;
+import com.gims.module.dbsync.dto.CdcSyncRequest;
+import com.gims.module.dbsync.dto.ManagerCallbackDto;
+import com.gims.module.dbsync.service.CdcSyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CDC(논리 복제) 동기화 컨트롤러
+ *
+ * 관리 시스템이 모듈별 CDC 동기화를 시작/중지합니다.
+ * 실행 중에는 트랜잭션별 진행 상황 대신 요약만 콜백으로 보고됩니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/module/cdc")
+@RequiredArgsConstructor
+public class CdcSyncController {
+
+    private final CdcSyncService cdcSyncService;
+    private final ManagerApiClient managerApiClient;
+
+    /**
+     * CDC 시작 (복제 슬롯/발행이 없으면 생성)
+     */
+    @PostMapping("/start")
+    public ResponseEntity<ManagerCallbackDto.ApiResponse<Map<String, Object>>> start(
+            @RequestBody CdcSyncRequest request) {
+        log.info("=== CDC 동기화 시작 요청 수신 ===");
+        try {
+            Long execId = request.getExecId();
+            if (execId == null) {
+                execId = managerApiClient.reportExecutionStart("CDC", null);
+                if (execId == null) {
+                    return ResponseEntity.status(500).body(
+                            ManagerCallbackDto.ApiResponse.<Map<String, Object>>builder()
+                                    .success(false)
+                                    .message("실행 시작 보고 실패")
+                                    .build()
+                    );
+                }
+            }
+            Map<String, Object> status = cdcSyncService.start(execId, request.getMappingConfig(),
+                    request.getSlotName(), request.getPublicationName());
+            return ResponseEntity.ok(
+                    ManagerCallbackDto.ApiResponse.<Map<String, Object>>builder()
+                            .success(true)
+                            .message("CDC 동기화가 시작되었습니다")
+                            .data(status)
+                            .build()
+            );
+        } catch (Exception e) {
+            log.error("CDC 동기화 시작 실패", e);
+            return ResponseEntity.badRequest().body(
+                    ManagerCallbackDto.ApiResponse.<Map<String, Object>>builder()
+                            .success(false)
+                            .message("CDC 동기화 시작 실패: " + e.getMessage())
+                            .build()
+            );
+        }
+    }
+
+    /**
+     * CDC 중지 (모아 둔 변경 반영 후 실행 완료 보고, dropSlot=true면 복제 슬롯 삭제)
+     */
+    @PostMapping("/{moduleId}/stop")
+    public ResponseEntity<ManagerCallbackDto.ApiResponse<Map<String, Object>>> stop(
+            @PathVariable String moduleId,
+            @RequestParam(defaultValue = "false") boolean dropSlot) {
+        Map<String, Object> status = cdcSyncService.stop(moduleId, dropSlot);
+        return ResponseEntity.ok(
+                ManagerCallbackDto.ApiResponse.<Map<String, Object>>builder()
+                        .success(status != null)
+                        .message(status != null ? "CDC 동기화가 중지되었습니다" : "CDC 동기화 중이 아닙니다: " + moduleId)
+                        .data(status)
+                        .build()
+        );
+    }
+
+    /**
+     * CDC 상태 (반영 건수, 지연, 확인 LSN)
+     */
+    @GetMapping
+    public ResponseEntity<ManagerCallbackDto.ApiResponse<List<Map<String, Object>>>> status() {
+        return ResponseEntity.ok(
+                ManagerCallbackDto.ApiResponse.<List<Map<String, Object>>>builder()
+                        .success(true)
+                        .data(cdcSyncService.status())
+                        .build()
+        );
+    }
+}
@@ -0,0 +1,112 @@
+package com.gims.module.dbsync.controller;
+
+import com.gims.module.dbsync.client.ManagerApiClient;
+import com.gims.module.dbsync.dto.ContinuousSyncRequest;
+import com.gims.module.dbsync.dto.ManagerCallbackDto;
+import com.gims.module.dbsync.service.ContinuousSyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 연속 동기화 컨트롤러
+ *
+ * 관리 시스템이 모듈별 연속(마이크로 배치) 동기화를 시작/중지합니다.
+ * 실행 중에는 주기별 진행 상황 대신 요약만 콜백으로 보고됩니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/module/continuous")
+@RequiredArgsConstructor
+public class ContinuousSyncController {
+
+    private final ContinuousSyncService continuousSyncService;
+    private final ManagerApiClient managerApiClient;
+
+    /**
+     * 연속 동기화 시작
+     */
+    @PostMapping("/start")
+    public ResponseEntity<ManagerCallbackDto.ApiResponse<Map<String, Object>>> start(
+            @RequestBody ContinuousSyncRequest request) {
+        log.info("=== 연속 동기화 시작 요청 수신 ===");
+        try {
+            Long execId = request.getExecId();
+            if (execId == null) {
+                execId = managerApiClient.reportExecutionStart("CONTINUOUS", null);
+                if (execId == null) {
+                    return ResponseEntity.status(500).body(
+                            ManagerCallbackDto.ApiResponse.<Map<String, Object>>builder()
+                                    .success(false)
+                                    .message("실행 시작 보고 실패")
+                                    .build()
+                    );
+                }
+            }
+            Map<String, Object> status = continuousSyncService.start(execId, request.getMappingConfig(),
+                    request.getIntervalMs(), request.getJitterMs());
+            return ResponseEntity.ok(
+                    ManagerCallbackDto.ApiResponse.<Map<String, Object>>builder()
+                            .success(true)
+                            .message("연속 동기화가 시작되었습니다")
+                            .data(status)
+                            .build()
+            );
+        } catch (Exception e) {
+            log.error("연속 동기화 시작 실패", e);
+            return ResponseEntity.badRequest().body(
+                    ManagerCallbackDto.ApiResponse.<Map<String, Object>>builder()
+                            .success(false)
+                            .message("연속 동기화 시작 실패: " + e.getMessage())
+                            .build()
+            );
+        }
+    }
+
+    /**
+     * 연속 동기화 중지 (실행 중인 주기는 끝까지 수행 후 실행 완료 보고)
+     */
+    @PostMapping("/{moduleId}/stop")
+    public ResponseEntity<ManagerCallbackDto.ApiResponse<Map<String, Object>>> stop(@PathVariable String moduleId) {
+        Map<String, Object> status = continuousSyncService.stop(moduleId);
+        return ResponseEntity.ok(
+                ManagerCallbackDto.ApiResponse.<Map<String, Object>>builder()
+                        .success(status != null)
+                        .message(status != null ? "연속 동기화가 중지되었습니다" : "연속 동기화 중이 아닙니다: " + moduleId)
+                        .data(status)
+                        .build()
+        );
+    }
+
+    /**
+     * 다음 주기 즉시 실행 (실행 중이면 직후 한 번 더 실행)
+     */
+    @PostMapping("/{moduleId}/trigger")
+    public ResponseEntity<ManagerCallbackDto.ApiResponse<String>> trigger(@PathVariable String moduleId) {
+        boolean triggered = continuousSyncService.trigger(moduleId);
+        return ResponseEntity.ok(
+                ManagerCallbackDto.ApiResponse.<String>builder()
+                        .success(triggered)
+                        .message(triggered ? "다음 주기를 즉시 실행합니다" : "연속 동기화 중이 아닙니다: " + moduleId)
+                        .data(moduleId)
+                        .build()
+        );
+    }
+
+    /**
+     * 연속 동기화 상태 (워터마크, 지연, 주기/건수/오류)
+     */
+    @GetMapping
+    public ResponseEntity<ManagerCallbackDto.ApiResponse<List<Map<String, Object>>>> status() {
+        return ResponseEntity.ok(
+                ManagerCallbackDto.ApiResponse.<List<Map<String, Object>>>builder()
+                        .success(true)
+                        .data(continuousSyncService.status())
+                        .build()
+        );
+    }
+}
@@ -0,0 +1,74 @@
+package com.gims.module.dbsync.controller;
+
+import com.gims.module.dbsync.dto.DataGenerationRequest;
+import com.gims.module.dbsync.dto.ManagerCallbackDto;
+import com.gims.module.dbsync.initializer.SyntheticDataGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import javax.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 합성 데이터 생성 컨트롤러
+ *
+ * 성능 테스트용 Source 데이터를 필요할 때 생성합니다 (기동 시 자동 실행되지 않음)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/module/generator")
+@RequiredArgsConstructor
+public class DataGeneratorController {
+
+    private final SyntheticDataGenerator generator;
+
+    // 생성 작업은 오래 걸리므로 비동기로 하나씩 실행
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+    /**
+     * 데이터 생성 요청
+     */
+    @PostMapping
+    public ResponseEntity<ManagerCallbackDto.ApiResponse<String>> generate(@RequestBody DataGenerationRequest request) {
+        if (generator.isRunning()) {
+            return ResponseEntity.status(409).body(
+                    ManagerCallbackDto.ApiResponse.<String>builder()
+                            .success(false)
+                            .message("이미 데이터 생성이 진행 중입니다")
+                            .build()
+            );
+        }
+
+        executorService.submit(() -> {
+            try {
+                generator.generate(request);
+            } catch (Exception e) {
+                log.error("합성 데이터 생성 실패", e);
+            }
+        });
+
+        return ResponseEntity.ok(
+                ManagerCallbackDto.ApiResponse.<String>builder()
+                        .success(true)
+                        .message("데이터 생성이 시작되었습니다")
+                        .build()
+        );
+    }
+
+    /**
+     * 생성 진행 상태 조회
+     */
+    @GetMapping("/status")
+    public ResponseEntity<Map<String, Object>> getStatus() {
+        return ResponseEntity.ok(generator.getStatus());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+}
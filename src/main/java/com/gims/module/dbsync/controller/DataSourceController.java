@@ -0,0 +1,92 @@
+package com.gims.module.dbsync.controller;
+
+import com.gims.module.dbsync.dto.DataSourceDefinitionDto;
+import com.gims.module.dbsync.dto.ManagerCallbackDto;
+import com.gims.module.dbsync.service.DataSourceRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Named DataSource 관리 컨트롤러
+ *
+ * 관리 시스템이 동기화 대상 DB 접속 정보를 이름으로 등록하면,
+ * 매핑 설정의 sourceConnection / targetConnection으로 참조할 수 있습니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/module/datasources")
+@RequiredArgsConstructor
+public class DataSourceController {
+
+    private final DataSourceRegistry dataSourceRegistry;
+
+    /**
+     * 등록된 DataSource 및 풀 상태 조회
+     */
+    @GetMapping
+    public ResponseEntity<ManagerCallbackDto.ApiResponse<List<Map<String, Object>>>> getDataSources() {
+        return ResponseEntity.ok(
+                ManagerCallbackDto.ApiResponse.<List<Map<String, Object>>>builder()
+                        .success(true)
+                        .data(dataSourceRegistry.describe())
+                        .build()
+        );
+    }
+
+    /**
+     * DataSource 등록/변경 (username/password는 ENC(...) 암호문 사용 가능)
+     */
+    @PutMapping("/{name}")
+    public ResponseEntity<ManagerCallbackDto.ApiResponse<String>> registerDataSource(
+            @PathVariable String name,
+            @RequestBody DataSourceDefinitionDto definition) {
+        try {
+            dataSourceRegistry.register(name, definition);
+            return ResponseEntity.ok(
+                    ManagerCallbackDto.ApiResponse.<String>builder()
+                            .success(true)
+                            .message("DataSource 등록 완료")
+                            .data(name)
+                            .build()
+            );
+        } catch (Exception e) {
+            log.error("DataSource 등록 실패: {}", name, e);
+            return ResponseEntity.badRequest().body(
+                    ManagerCallbackDto.ApiResponse.<String>builder()
+                            .success(false)
+                            .message("DataSource 등록 실패: " + e.getMessage())
+                            .build()
+            );
+        }
+    }
+
+    /**
+     * DataSource 삭제 (사용 중인 실행이 있으면 실패)
+     */
+    @DeleteMapping("/{name}")
+    public ResponseEntity<ManagerCallbackDto.ApiResponse<String>> deleteDataSource(@PathVariable String name) {
+        try {
+            boolean removed = dataSourceRegistry.unregister(name);
+            return ResponseEntity.ok(
+                    ManagerCallbackDto.ApiResponse.<String>builder()
+                            .success(removed)
+                            .message(removed ? "DataSource 삭제 완료" : "등록되지 않은 DataSource입니다")
+                            .data(name)
+                            .build()
+            );
+        } catch (Exception e) {
+            log.error("DataSource 삭제 실패: {}", name, e);
+            return ResponseEntity.badRequest().body(
+                    ManagerCallbackDto.ApiResponse.<String>builder()
+                            .success(false)
+                            .message("DataSource 삭제 실패: " + e.getMessage())
+                            .build()
+            );
+        }
+    }
+}
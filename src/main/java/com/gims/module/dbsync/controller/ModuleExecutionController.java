@@ -6,12 +6,16 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.gims.module.dbsync.client.ManagerApiClient;
 import com.gims.module.dbsync.dto.ManagerCallbackDto;
 import com.gims.module.dbsync.dto.MappingConfigDto;
+import com.gims.module.dbsync.config.SyncExecutionProperties;
 import com.gims.module.dbsync.service.DbSyncService;
+import com.gims.module.dbsync.service.SourceThrottle;
+import com.gims.module.dbsync.service.SyncConnectionManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import javax.annotation.PostConstruct;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -29,9 +33,17 @@ public class ModuleExecutionController {
 
     private final ManagerApiClient managerApiClient;
     private final DbSyncService dbSyncService;
+    private final SyncConnectionManager connectionManager;
+    private final SyncExecutionProperties executionProperties;
+    private final SourceThrottle sourceThrottle;
 
-    // 비동기 실행을 위한 스레드 풀
-    private final ExecutorService executorService = Executors.newFixedThreadPool(3);
+    // 비동기 실행을 위한 스레드 풀 (크기: sync.execution.max-concurrent)
+    private ExecutorService executorService;
+
+    @PostConstruct
+    public void initExecutor() {
+        executorService = Executors.newFixedThreadPool(executionProperties.getMaxConcurrent());
+    }
 
     private final ObjectMapper objectMapper = createObjectMapper();
 
@@ -116,8 +128,17 @@ public class ModuleExecutionController {
             MappingConfigDto finalMappingConfig = mappingConfig;
             executorService.submit(() -> {
                 try {
-                    log.info("동기화 작업 시작: execId={}", finalExecId);
-                    dbSyncService.executeSync(finalExecId, configJson, finalMappingConfig);
+                    // 연속 / CDC 실행과 실행 슬롯 공유 (빈 슬롯이 생길 때까지 대기)
+                    connectionManager.acquireExecutionSlot(finalExecId);
+                    try {
+                        log.info("동기화 작업 시작: execId={}", finalExecId);
+                        dbSyncService.executeSync(finalExecId, configJson, finalMappingConfig);
+                    } finally {
+                        connectionManager.releaseExecutionSlot(finalExecId);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    log.error("실행 슬롯 대기 중 인터럽트 발생: execId={}", finalExecId);
                 } catch (Exception e) {
                     log.error("동기화 작업 중 예외 발생", e);
                 } finally {
@@ -154,6 +175,8 @@ public class ModuleExecutionController {
         status.put("status", "RUNNING");
         status.put("activeThreads", ((java.util.concurrent.ThreadPoolExecutor) executorService).getActiveCount());
         status.put("queueSize", ((java.util.concurrent.ThreadPoolExecutor) executorService).getQueue().size());
+        status.put("connectionPools", connectionManager.getPoolStatus());
+        status.put("sourceThrottle", sourceThrottle.getStatus());
 
         return ResponseEntity.ok(status);
     }
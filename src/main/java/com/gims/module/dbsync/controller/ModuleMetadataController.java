@@ -1,5 +1,7 @@
 package com.gims.module.dbsync.controller;
 
+import com.gims.module.dbsync.dto.SourceQueryRequest;
+import com.gims.module.dbsync.service.SourceQuery;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
@@ -13,6 +15,7 @@ import java.util.*;
  * 모듈 메타데이터 API 컨트롤러
  *
  * 관리 시스템에서 이 모듈의 Source/Target DB 테이블 및 컬럼 정보를 조회할 수 있습니다.
+ * Source 테이블 목록에는 뷰가 포함되며, Source 조회 SQL(sourceQuery)의 결과 컬럼도 조회할 수 있습니다.
  */
 @Slf4j
 @RestController
@@ -36,7 +39,7 @@ public class ModuleMetadataController {
      */
     @GetMapping("/tables/source")
     public ResponseEntity<Map<String, Object>> getSourceTables() {
-        return getTableList(sourceDataSource, "source");
+        return getTableList(sourceDataSource, "source", new String[]{"TABLE", "VIEW"});
     }
 
     /**
@@ -44,7 +47,7 @@ public class ModuleMetadataController {
      */
     @GetMapping("/tables/target")
     public ResponseEntity<Map<String, Object>> getTargetTables() {
-        return getTableList(targetDataSource, "target");
+        return getTableList(targetDataSource, "target", new String[]{"TABLE"});
     }
 
     /**
@@ -55,6 +58,41 @@ public class ModuleMetadataController {
         return getColumnList(sourceDataSource, tableName, "source");
     }
 
+    /**
+     * Source 조회 SQL 결과 컬럼 목록 조회 (행은 조회하지 않음)
+     */
+    @PostMapping("/columns/source-query")
+    public ResponseEntity<Map<String, Object>> getSourceQueryColumns(@RequestBody SourceQueryRequest request) {
+        Map<String, Object> result = new HashMap<>();
+        try (Connection conn = sourceDataSource.getConnection()) {
+            String sourceQuery = SourceQuery.validate(request.getSourceQuery());
+            List<Map<String, Object>> columns = new ArrayList<>();
+            for (SourceQuery.ResultColumn rc : SourceQuery.describe(conn, sourceQuery, request.getSourceQueryParams()).values()) {
+                Map<String, Object> column = new HashMap<>();
+                column.put("columnName", rc.getName());
+                column.put("dataType", rc.getTypeName());
+                column.put("columnLength", rc.getPrecision());
+                column.put("columnScale", rc.getScale());
+                column.put("nullable", rc.isNullable());
+                column.put("primaryKey", false);
+                column.put("columnComment", null);
+                column.put("ordinalPosition", rc.getOrdinal());
+                column.put("autoGenerated", false);
+                column.put("typeGroup", getTypeGroup(rc.getTypeName()));
+                columns.add(column);
+            }
+            result.put("success", true);
+            result.put("dbType", "source");
+            result.put("data", columns);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            log.error("Source 조회 SQL 컬럼 조회 오류", e);
+            result.put("success", false);
+            result.put("message", e.getMessage());
+            return ResponseEntity.internalServerError().body(result);
+        }
+    }
+
     /**
      * Target DB 테이블 컬럼 목록 조회
      */
@@ -118,7 +156,7 @@ public class ModuleMetadataController {
 
     // ==================== Private Methods ====================
 
-    private ResponseEntity<Map<String, Object>> getTableList(DataSource dataSource, String dbType) {
+    private ResponseEntity<Map<String, Object>> getTableList(DataSource dataSource, String dbType, String[] tableTypes) {
         Map<String, Object> result = new HashMap<>();
         try (Connection conn = dataSource.getConnection()) {
             DatabaseMetaData metaData = conn.getMetaData();
@@ -126,7 +164,7 @@ public class ModuleMetadataController {
 
             List<Map<String, Object>> tables = new ArrayList<>();
 
-            try (ResultSet rs = metaData.getTables(null, schema, "%", new String[]{"TABLE"})) {
+            try (ResultSet rs = metaData.getTables(null, schema, "%", tableTypes)) {
                 while (rs.next()) {
                     Map<String, Object> table = new HashMap<>();
                     table.put("tableName", rs.getString("TABLE_NAME"));
@@ -0,0 +1,23 @@
+package com.gims.module.dbsync.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * CDC(논리 복제) 동기화 시작 요청 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CdcSyncRequest {
+
+    private Long execId;                    // 관리 시스템 실행 ID (없으면 실행 시작 보고로 발급)
+    private MappingConfigDto mappingConfig; // 매핑 설정 (sourceTable 매핑만, sourceQuery/filters 미지원)
+    private String slotName;                // 복제 슬롯 이름 (null이면 dbsync_{moduleId})
+    private String publicationName;         // 발행 이름 (null이면 슬롯 이름)
+}
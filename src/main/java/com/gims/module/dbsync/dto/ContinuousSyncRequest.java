@@ -0,0 +1,23 @@
+package com.gims.module.dbsync.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 연속 동기화 시작 요청 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ContinuousSyncRequest {
+
+    private Long execId;                    // 관리 시스템 실행 ID (없으면 실행 시작 보고로 발급)
+    private MappingConfigDto mappingConfig; // 매핑 설정 (모든 테이블 매핑에 sourceDateColumn 필요)
+    private Long intervalMs;                // 주기 (null이면 sync.continuous.interval-ms)
+    private Long jitterMs;                  // 주기 흔들림 (null이면 sync.continuous.jitter-ms)
+}
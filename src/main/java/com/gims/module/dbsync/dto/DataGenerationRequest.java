@@ -0,0 +1,49 @@
+package com.gims.module.dbsync.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 합성 데이터 생성 요청 DTO
+ *
+ * 값이 null인 항목은 generator.* 설정의 기본값을 사용합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class DataGenerationRequest {
+
+    private List<TableRequest> tables;
+
+    private Long seed;                  // 난수 시드 (같은 시드/건수면 같은 데이터 생성)
+    private Integer parallelism;        // 병렬 COPY 작업 수
+    private Integer chunkRows;          // 작업(트랜잭션) 하나가 적재하는 행 수
+    private Boolean truncate;           // 적재 전 TRUNCATE 여부 (false면 기존 데이터 뒤에 추가)
+
+    private Double nullRatio;           // NULL 허용 컬럼의 NULL 비율 (0 ~ 1)
+    private Double skew;                // 범주/참조 값 분포의 Zipf 지수 (0이면 균등 분포)
+    private Integer minStringLength;    // 임의 문자열 최소 길이
+    private Integer maxStringLength;    // 임의 문자열 최대 길이
+    private Integer dateRangeDays;      // 날짜 컬럼 범위 (오늘 기준 과거 N일)
+    private String dateDistribution;    // UNIFORM(균등) / RECENT(최근 날짜 편중)
+    private Integer lobSizeBytes;       // LOB 컬럼 값 크기
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class TableRequest {
+        private String table;           // source_data / source_users / source_orders 또는 임의 wide 테이블명
+        private Long rows;              // 생성 건수
+        private Integer columns;        // wide 테이블 일반 컬럼 수
+        private Integer lobColumns;     // wide 테이블 LOB 컬럼 수
+    }
+}
@@ -0,0 +1,27 @@
+package com.gims.module.dbsync.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Named DataSource 접속 정보
+ * (sync.datasources.connections.{이름}.* 설정 또는 PUT /api/module/datasources/{이름} 요청 본문)
+ *
+ * username/password는 ENC(...) 형식의 Jasypt 암호문을 사용할 수 있습니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class DataSourceDefinitionDto {
+    private String jdbcUrl;
+    private String driverClassName;
+    private String username;
+    private String password;
+    // 풀 최대 크기 (null이면 기본 Source/Target 풀과 같은 계산값)
+    private Integer maximumPoolSize;
+}
@@ -23,12 +23,25 @@ public class MappingConfigDto {
     private String moduleName;
     private List<TableMappingDto> tableMappings;
 
+    // Named DataSource (sync.datasources.connections 또는 /api/module/datasources로 등록한 이름, 미지정 시 기본 Source/Target)
+    private String sourceConnection;
+    private String targetConnection;
+
+    // 모든 테이블을 같은 Source 시점(pg_export_snapshot)으로 조회 (null이면 sync.source.consistent-snapshot 설정 사용)
+    private Boolean consistentSnapshot;
+
+    // 여러 모듈 인스턴스가 같은 실행(execId)을 작업 단위 리스로 나누어 처리 (null이면 sync.distributed.enabled 설정 사용)
+    private Boolean distributed;
+
+    // 실행의 Source 조회 속도 제한 (null이면 sync.throttle.execution.* 설정 사용)
+    private SourceThrottleDto sourceThrottle;
+
     // 동기화 기간 정보
     private LocalDateTime syncStartDt;  // 동기화 시작 일시
     private LocalDateTime syncEndDt;    // 동기화 종료 일시
 
     @Data
-    @Builder
+    @Builder(toBuilder = true)
     @NoArgsConstructor
     @AllArgsConstructor
     @JsonIgnoreProperties(ignoreUnknown = true)
@@ -39,6 +52,12 @@ public class MappingConfigDto {
         private String sourceTable;
         private String targetTable;
 
+        // Source 조회 SQL (지정 시 sourceTable 대신 조회, 결과 컬럼명을 columnMappings의 sourceColumn으로 사용)
+        // 예: SELECT o.order_id, o.order_date, u.user_name FROM source_orders o JOIN source_users u ON u.id = o.user_id
+        private String sourceQuery;
+        // sourceQuery의 ? 바인딩 값 (순서대로)
+        private List<Object> sourceQueryParams;
+
         // PK 컬럼 정보 (자동 매핑 및 검증용)
         private String pkColumn;        // Source PK 컬럼
         private String targetPkColumn;  // Target에서 Source PK를 저장하는 컬럼
@@ -46,9 +65,102 @@ public class MappingConfigDto {
         // 기간 필터링용 날짜 컬럼 (Source 테이블의 날짜 컬럼명)
         private String sourceDateColumn;
 
+        // 변경 추적 방식: XMIN(기간 컬럼 없이 직전 동기화 이후 변경된 행만 조회, UPSERT 전용), null이면 미사용
+        private String changeTracking;
+
+        // 동기화 방식: UPSERT(기본, PK 단위 반영) / FULL_REFRESH(Shadow 테이블 적재 후 교체)
+        //             / WINDOW_REPLACE(sourceDateColumn 기간 삭제 후 일괄 적재) / FILE_EXPORT(압축 CSV 파일로 추출)
+        private String syncMode;
+
+        // 분산 실행 시 PK 범위로 나눌 작업 단위 수 (UPSERT 전용, null이면 sync.distributed.chunks-per-table 설정 사용)
+        private Integer distributedChunks;
+
+        // 큰 컬럼(bytea / text / jsonb 등)을 스트림으로 조회해 한 행씩 반영 (null이면 sync.lob.streaming 설정 사용)
+        private Boolean streamLargeValues;
+
+        // UPSERT 모드에서 Target이 RANGE 파티션 테이블이면 파티션별로 나누어 하위 파티션에 직접 병렬 반영
+        // (null이면 sync.partition.upsert-routing 설정 사용, FULL_REFRESH는 파티션 테이블이면 항상 파티션 단위로 교체)
+        private Boolean partitionRouting;
+
+        // Source를 PK 순서 keyset 페이지(WHERE (pk...) > (마지막 PK) ORDER BY pk LIMIT n)로 나누어 조회할 행 수
+        // (null이면 sync.source.keyset-page-rows 설정 사용, 0이면 커서 하나로 조회)
+        private Integer keysetPageRows;
+
+        // FILE_EXPORT 파일 설정 (null이면 sync.file-export.* 설정 사용)
+        private FileExportDto fileExport;
+
+        // 대량 적재 시 보조 인덱스/트리거 지연 처리 여부 (null이면 sync.bulk-load.defer-indexes 설정 사용)
+        private Boolean deferIndexes;
+
+        // Source 조회 결과를 로컬 디스크에 기록한 뒤 반영 여부 (null이면 sync.spill.enabled 설정 사용)
+        private Boolean spillToDisk;
+
+        // 같은 Source 조회 결과를 함께 반영할 추가 대상 (UPSERT 전용, Source는 한 번만 조회)
+        private List<TargetSinkDto> additionalTargets;
+
+        // Source 조회 필터 조건 (모두 AND 결합, sourceDateColumn 기간 조건과 함께 Source DB에서 적용)
+        private List<FilterDto> filters;
+
         private List<ColumnMappingDto> columnMappings;
     }
 
+    // FILE_EXPORT 파일 설정 (파일명은 targetTable 기준)
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class FileExportDto {
+        // 저장 디렉터리 (하위에 {targetTable}/{execId} 디렉터리 생성)
+        private String directory;
+        // 파일 형식: CSV
+        private String format;
+        // 압축: GZIP(기본) / NONE
+        private String compression;
+        // 파일 분할 기준 (0이면 미적용)
+        private Long maxFileBytes;
+        private Long maxFileRows;
+    }
+
+    // Source 조회 속도 제한 (0이면 제한 없음)
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class SourceThrottleDto {
+        // 초당 조회 행 수 / 바이트 수 (실행 전체 합계)
+        private Long rowsPerSecond;
+        private Long bytesPerSecond;
+        // Source 조회 지연 / 활성 세션 수에 따라 속도를 자동으로 낮춤 (null이면 sync.throttle.adaptive.enabled 설정 사용)
+        private Boolean adaptive;
+    }
+
+    // 팬아웃 추가 대상 (컬럼 매핑과 PK 컬럼은 테이블 매핑과 같음)
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class TargetSinkDto {
+        // Named DataSource (미지정 시 실행의 Target)
+        private String targetConnection;
+        // Target 테이블 (미지정 시 테이블 매핑의 targetTable)
+        private String targetTable;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class FilterDto {
+        private String column;          // Source 컬럼
+        private String operator;        // EQ(기본) / NE / GT / GE / LT / LE / IN / NOT_IN / BETWEEN / IS_NULL / IS_NOT_NULL
+        private Object value;           // 비교 연산 값
+        private List<Object> values;    // IN / NOT_IN 목록, BETWEEN [시작, 종료]
+    }
+
     @Data
     @Builder
     @NoArgsConstructor
@@ -61,6 +173,26 @@ public class MappingConfigDto {
         private String sourceColumn;
         private String targetTable;
         private String targetColumn;
-        private String isPrimaryKey;  // Y/N - PK 매핑 여부
+        private String isPrimaryKey;  // Y/N - PK 매핑 여부 (Y인 컬럼은 pkColumn 뒤에 이어 복합 PK를 구성)
+
+        // 컬럼 변환식 (예: "trim | upper", "mask(4)", "concat(first_name, ' ', last_name)"), null이면 값 그대로 복사
+        private String transform;
+
+        // 참조 테이블 값 조회 (예: 고객명 -> 고객 ID), 변환식 적용 후의 값을 키로 사용
+        private LookupDto lookup;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class LookupDto {
+        private String database;        // TARGET(기본) / SOURCE - 참조 테이블 위치
+        private String table;           // 참조 테이블
+        private String keyColumn;       // Source 값과 비교할 키 컬럼
+        private String valueColumn;     // 저장할 값 컬럼
+        private String onMissing;       // NULL(기본, NULL 저장) / FAIL(테이블 동기화 실패)
+        private Integer cacheSize;      // LRU 캐시 건수 (null이면 sync.lookup.cache-size)
     }
 }
@@ -0,0 +1,23 @@
+package com.gims.module.dbsync.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Source 조회 SQL 컬럼 메타데이터 조회 요청 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class SourceQueryRequest {
+
+    private String sourceQuery;             // 테이블 매핑의 sourceQuery
+    private List<Object> sourceQueryParams; // sourceQuery의 ? 바인딩 값 (순서대로)
+}
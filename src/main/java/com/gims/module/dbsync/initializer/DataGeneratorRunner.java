@@ -0,0 +1,81 @@
+package com.gims.module.dbsync.initializer;
+
+import com.gims.module.dbsync.dto.DataGenerationRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 합성 데이터 생성 CLI 실행기
+ *
+ * generate 프로파일로 기동하면 generator.tables 설정대로 데이터를 생성한 뒤 종료합니다.
+ *
+ * 예) java -jar app.jar --spring.profiles.active=dev,lean,generate \
+ *         --generator.tables=source_orders:10000000,wide_events:1000000:40:2 --generator.seed=7
+ *
+ * generator.tables 형식: 테이블명:건수[:wide 컬럼 수[:LOB 컬럼 수]] (쉼표로 구분)
+ */
+@Slf4j
+@Component
+@Profile("generate")
+public class DataGeneratorRunner implements ApplicationRunner {
+
+    private final SyntheticDataGenerator generator;
+    private final ApplicationContext applicationContext;
+
+    @Value("${generator.tables:}")
+    private String tables;
+
+    @Value("${generator.truncate:false}")
+    private boolean truncate;
+
+    public DataGeneratorRunner(SyntheticDataGenerator generator, ApplicationContext applicationContext) {
+        this.generator = generator;
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        int exitCode = 0;
+        try {
+            DataGenerationRequest request = DataGenerationRequest.builder()
+                    .tables(parseTables(tables))
+                    .truncate(truncate)
+                    .build();
+            log.info("=== 합성 데이터 생성 결과: {} ===", generator.generate(request));
+        } catch (Exception e) {
+            log.error("합성 데이터 생성 실패", e);
+            exitCode = 1;
+        }
+        int finalExitCode = exitCode;
+        System.exit(SpringApplication.exit(applicationContext, () -> finalExitCode));
+    }
+
+    private List<DataGenerationRequest.TableRequest> parseTables(String value) {
+        List<DataGenerationRequest.TableRequest> result = new ArrayList<>();
+        for (String entry : value.split(",")) {
+            if (entry.trim().isEmpty()) {
+                continue;
+            }
+            String[] parts = entry.trim().split(":");
+            if (parts.length < 2) {
+                throw new RuntimeException("generator.tables 형식이 올바르지 않습니다 (테이블명:건수): " + entry);
+            }
+            result.add(DataGenerationRequest.TableRequest.builder()
+                    .table(parts[0])
+                    .rows(Long.parseLong(parts[1]))
+                    .columns(parts.length > 2 ? Integer.valueOf(parts[2]) : null)
+                    .lobColumns(parts.length > 3 ? Integer.valueOf(parts[3]) : null)
+                    .build());
+        }
+        return result;
+    }
+}
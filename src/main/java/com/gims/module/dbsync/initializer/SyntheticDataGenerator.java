@@ -0,0 +1,324 @@
+package com.gims.module.dbsync.initializer;
+
+import com.gims.module.dbsync.config.SyncExecutionProperties;
+import com.gims.module.dbsync.dto.DataGenerationRequest;
+import com.gims.module.dbsync.service.PgCopyWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 합성 데이터 생성기
+ *
+ * Source DB 테이블에 대량의 테스트 데이터를 COPY로 적재합니다.
+ * 생성 건수를 chunkRows 단위 작업으로 나누어 병렬로 적재하며, 작업별 난수 시드는
+ * (seed, 테이블, 작업 번호)로 정해지므로 병렬도와 무관하게 같은 시드면 같은 데이터가 생성됩니다.
+ *
+ * 실행 방법: POST /api/module/generator 또는 generate 프로파일(CLI)
+ */
+@Slf4j
+@Component
+public class SyntheticDataGenerator {
+
+    private static final int COPY_BATCH_ROWS = 1000;
+
+    private final DataSource sourceDataSource;
+    private final SyncExecutionProperties executionProperties;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final Map<String, Object> status = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> progress = new ConcurrentHashMap<>();
+
+    @Value("${generator.seed:42}")
+    private long defaultSeed;
+
+    @Value("${generator.parallelism:4}")
+    private int defaultParallelism;
+
+    @Value("${generator.chunk-rows:100000}")
+    private int defaultChunkRows;
+
+    @Value("${generator.null-ratio:0.05}")
+    private double defaultNullRatio;
+
+    @Value("${generator.skew:0}")
+    private double defaultSkew;
+
+    @Value("${generator.min-string-length:8}")
+    private int defaultMinStringLength;
+
+    @Value("${generator.max-string-length:32}")
+    private int defaultMaxStringLength;
+
+    @Value("${generator.date-range-days:90}")
+    private int defaultDateRangeDays;
+
+    @Value("${generator.date-distribution:UNIFORM}")
+    private String defaultDateDistribution;
+
+    @Value("${generator.lob-size-bytes:4096}")
+    private int defaultLobSizeBytes;
+
+    public SyntheticDataGenerator(
+            @Qualifier("sourceDataSource") DataSource sourceDataSource,
+            SyncExecutionProperties executionProperties) {
+        this.sourceDataSource = sourceDataSource;
+        this.executionProperties = executionProperties;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * 진행 상태 (/api/module/generator/status 응답용)
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> result = new LinkedHashMap<>(status);
+        result.put("running", running.get());
+        Map<String, Long> generated = new LinkedHashMap<>();
+        progress.forEach((table, count) -> generated.put(table, count.get()));
+        result.put("generatedRows", generated);
+        return result;
+    }
+
+    /**
+     * 요청한 테이블들에 합성 데이터 생성 (동기 실행)
+     *
+     * @return 테이블별 생성 결과
+     */
+    public Map<String, Object> generate(DataGenerationRequest request) throws SQLException {
+        if (!running.compareAndSet(false, true)) {
+            throw new RuntimeException("이미 데이터 생성이 진행 중입니다");
+        }
+        try {
+            DataGenerationRequest options = applyDefaults(request);
+            status.clear();
+            progress.clear();
+            status.put("startedAt", LocalDateTime.now().toString());
+            status.put("seed", options.getSeed());
+
+            Map<String, Object> results = new LinkedHashMap<>();
+            for (DataGenerationRequest.TableRequest tableRequest : options.getTables()) {
+                SyntheticTableSpec spec = SyntheticTableSpec.of(tableRequest);
+                long rows = tableRequest.getRows() != null ? tableRequest.getRows() : 0;
+                results.put(spec.getTable(), generateTable(spec, rows, options));
+                status.put("results", new LinkedHashMap<>(results));
+            }
+            status.put("finishedAt", LocalDateTime.now().toString());
+            return results;
+        } catch (SQLException | RuntimeException e) {
+            status.put("error", e.getMessage());
+            throw e;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private Map<String, Object> generateTable(SyntheticTableSpec spec, long rows,
+                                              DataGenerationRequest options) throws SQLException {
+        long startTime = System.currentTimeMillis();
+        AtomicLong generated = new AtomicLong();
+        progress.put(spec.getTable(), generated);
+
+        long baseId = prepareTable(spec, options.getTruncate());
+        List<String> copyColumns = resolveCopyColumns(spec);
+
+        int chunkRows = options.getChunkRows();
+        long chunkCount = (rows + chunkRows - 1) / chunkRows;
+        // Source 풀을 동기화 실행과 나눠 쓰므로 풀 크기를 넘지 않도록 제한
+        int parallelism = (int) Math.max(1, Math.min(chunkCount,
+                Math.min(options.getParallelism(), executionProperties.getMaximumPoolSize() - 1)));
+        log.info("합성 데이터 생성 시작: {} {}건 (작업 {}개, 병렬 {}, 시작 id {})",
+                spec.getTable(), rows, chunkCount, parallelism, baseId + 1);
+
+        Map<Integer, double[]> zipfCache = new ConcurrentHashMap<>();
+        LocalDate today = LocalDate.now();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (long chunk = 0; chunk < chunkCount; chunk++) {
+                long chunkStart = chunk * chunkRows;
+                long chunkEnd = Math.min(rows, chunkStart + chunkRows);
+                long chunkSeed = chunkSeed(options.getSeed(), spec.getTable(), chunk);
+                futures.add(executor.submit(() -> {
+                    SyntheticTableSpec.RowContext ctx = new SyntheticTableSpec.RowContext(
+                            options, new SplittableRandom(chunkSeed), zipfCache, today, rows);
+                    return copyChunk(spec, copyColumns, ctx, baseId + chunkStart, baseId + chunkEnd, generated);
+                }));
+            }
+            for (Future<Long> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("데이터 생성 중 인터럽트 발생", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            throw new RuntimeException("데이터 생성 실패: " + spec.getTable(), cause);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        finishTable(spec);
+
+        long elapsed = System.currentTimeMillis() - startTime;
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("rows", generated.get());
+        result.put("elapsedMs", elapsed);
+        result.put("rowsPerSec", elapsed > 0 ? generated.get() * 1000 / elapsed : generated.get());
+        log.info("합성 데이터 생성 완료: {} {}건, {}ms", spec.getTable(), generated.get(), elapsed);
+        return result;
+    }
+
+    /**
+     * 테이블 생성/비우기, 추가 적재 시 시작 id(현재 최대 id) 반환
+     */
+    private long prepareTable(SyntheticTableSpec spec, boolean truncate) throws SQLException {
+        try (Connection conn = openWritableConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute(spec.buildCreateSql());
+            if (truncate) {
+                stmt.execute("TRUNCATE TABLE " + spec.getTable() + " RESTART IDENTITY");
+                return 0;
+            }
+            try (ResultSet rs = stmt.executeQuery(String.format(
+                    "SELECT COALESCE(MAX(%s), 0) FROM %s", spec.getIdColumn(), spec.getTable()))) {
+                return rs.next() ? rs.getLong(1) : 0;
+            }
+        }
+    }
+
+    /**
+     * 실제 테이블에 있는 컬럼만 COPY 대상으로 사용
+     * (JPA 엔티티로 먼저 만들어진 테이블처럼 정의와 구조가 다른 기존 테이블에도 추가 적재 가능)
+     */
+    private List<String> resolveCopyColumns(SyntheticTableSpec spec) throws SQLException {
+        Set<String> existing = new HashSet<>();
+        try (Connection conn = openWritableConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT * FROM " + spec.getTable() + " WHERE 1 = 0")) {
+            ResultSetMetaData metaData = rs.getMetaData();
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                existing.add(metaData.getColumnName(i).toLowerCase());
+            }
+        }
+        List<String> columns = new ArrayList<>();
+        for (String column : spec.getColumnNames()) {
+            if (existing.contains(column.toLowerCase())) {
+                columns.add(column);
+            } else {
+                log.warn("{} 테이블에 {} 컬럼이 없어 생성 대상에서 제외합니다", spec.getTable(), column);
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * 작업 하나(id 범위)를 COPY 한 번, 트랜잭션 하나로 적재
+     */
+    private long copyChunk(SyntheticTableSpec spec, List<String> copyColumns, SyntheticTableSpec.RowContext ctx,
+                           long fromId, long toId, AtomicLong generated) throws SQLException {
+        try (Connection conn = openWritableConnection()) {
+            conn.setAutoCommit(false);
+            try (PgCopyWriter writer = PgCopyWriter.open(conn, spec.getTable(), copyColumns, copyColumns)) {
+                List<Map<String, Object>> batch = new ArrayList<>(COPY_BATCH_ROWS);
+                for (long id = fromId + 1; id <= toId; id++) {
+                    ctx.setRowId(id);
+                    batch.add(nextRow(spec, ctx));
+                    if (batch.size() >= COPY_BATCH_ROWS) {
+                        writer.write(batch);
+                        generated.addAndGet(batch.size());
+                        batch = new ArrayList<>(COPY_BATCH_ROWS);
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    writer.write(batch);
+                    generated.addAndGet(batch.size());
+                }
+                long copied = writer.finish();
+                conn.commit();
+                return copied;
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
+    }
+
+    private Map<String, Object> nextRow(SyntheticTableSpec spec, SyntheticTableSpec.RowContext ctx) {
+        Map<String, Object> row = new HashMap<>();
+        for (SyntheticTableSpec.Column column : spec.getColumns()) {
+            Object value = column.isNullable() && ctx.nextNull()
+                    ? null
+                    : column.getGenerator().next(ctx, row);
+            row.put(column.getName(), value);
+        }
+        return row;
+    }
+
+    /**
+     * id 시퀀스를 적재한 최대 id로 맞추고 통계 갱신
+     */
+    private void finishTable(SyntheticTableSpec spec) throws SQLException {
+        try (Connection conn = openWritableConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute(String.format(
+                    "SELECT setval(pg_get_serial_sequence('%s', '%s'), GREATEST(MAX(%s), 1), MAX(%s) IS NOT NULL) FROM %s",
+                    spec.getTable(), spec.getIdColumn(), spec.getIdColumn(), spec.getIdColumn(), spec.getTable()));
+            stmt.execute("ANALYZE " + spec.getTable());
+        }
+    }
+
+    private Connection openWritableConnection() throws SQLException {
+        Connection conn = sourceDataSource.getConnection();
+        // Source 풀은 조회 전용(readOnly)이므로 생성 작업에서만 쓰기 허용
+        conn.setReadOnly(false);
+        return conn;
+    }
+
+    private long chunkSeed(long seed, String table, long chunk) {
+        long h = seed * 0x9E3779B97F4A7C15L + table.toLowerCase().hashCode();
+        return h * 31 + chunk;
+    }
+
+    private DataGenerationRequest applyDefaults(DataGenerationRequest request) {
+        if (request == null || request.getTables() == null || request.getTables().isEmpty()) {
+            throw new RuntimeException("생성할 테이블(tables)이 지정되지 않았습니다");
+        }
+        DataGenerationRequest options = DataGenerationRequest.builder()
+                .tables(request.getTables())
+                .seed(request.getSeed() != null ? request.getSeed() : defaultSeed)
+                .parallelism(request.getParallelism() != null ? request.getParallelism() : defaultParallelism)
+                .chunkRows(request.getChunkRows() != null ? request.getChunkRows() : defaultChunkRows)
+                .truncate(request.getTruncate() != null ? request.getTruncate() : false)
+                .nullRatio(request.getNullRatio() != null ? request.getNullRatio() : defaultNullRatio)
+                .skew(request.getSkew() != null ? request.getSkew() : defaultSkew)
+                .minStringLength(request.getMinStringLength() != null ? request.getMinStringLength() : defaultMinStringLength)
+                .maxStringLength(request.getMaxStringLength() != null ? request.getMaxStringLength() : defaultMaxStringLength)
+                .dateRangeDays(request.getDateRangeDays() != null ? request.getDateRangeDays() : defaultDateRangeDays)
+                .dateDistribution(request.getDateDistribution() != null ? request.getDateDistribution() : defaultDateDistribution)
+                .lobSizeBytes(request.getLobSizeBytes() != null ? request.getLobSizeBytes() : defaultLobSizeBytes)
+                .build();
+        if (options.getChunkRows() <= 0 || options.getParallelism() <= 0) {
+            throw new RuntimeException("chunkRows와 parallelism은 1 이상이어야 합니다");
+        }
+        if (options.getNullRatio() < 0 || options.getNullRatio() > 1) {
+            throw new RuntimeException("nullRatio는 0 ~ 1 사이여야 합니다: " + options.getNullRatio());
+        }
+        return options;
+    }
+}
@@ -0,0 +1,311 @@
+package com.gims.module.dbsync.initializer;
+
+import com.gims.module.dbsync.dto.DataGenerationRequest;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 합성 데이터 테이블 정의
+ *
+ * 기본 제공 테이블(source_data / source_users / source_orders)은 기존 샘플 테이블과 같은 구조이며,
+ * 그 외 테이블명은 지정한 컬럼 수만큼 숫자/문자열/날짜/LOB 컬럼을 순환 배치한 wide 테이블로 생성합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SyntheticTableSpec {
+
+    private static final Pattern TABLE_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?");
+
+    private static final String[] USER_STATUSES = {"ACTIVE", "INACTIVE", "PENDING", "SUSPENDED"};
+    private static final String[] PRODUCTS = {"노트북", "모니터", "키보드", "마우스", "헤드셋", "웹캠", "USB허브", "외장하드"};
+    private static final String[] ORDER_STATUSES = {"PENDING", "CONFIRMED", "SHIPPED", "DELIVERED", "CANCELLED"};
+
+    private final String table;
+    private final String idColumn;
+    private final List<Column> columns;
+
+    public List<String> getColumnNames() {
+        return columns.stream().map(Column::getName).collect(Collectors.toList());
+    }
+
+    public String buildCreateSql() {
+        String columnDefs = columns.stream()
+                .map(col -> col.getName() + " " + col.getDdl())
+                .collect(Collectors.joining(", "));
+        return String.format("CREATE TABLE IF NOT EXISTS %s (%s)", table, columnDefs);
+    }
+
+    /**
+     * 요청 테이블에 해당하는 정의 생성
+     */
+    public static SyntheticTableSpec of(DataGenerationRequest.TableRequest tableRequest) {
+        String table = tableRequest.getTable();
+        if (table == null || !TABLE_NAME.matcher(table).matches()) {
+            throw new RuntimeException("생성할 테이블명이 올바르지 않습니다: " + table);
+        }
+        switch (table.toLowerCase()) {
+            case "source_data":
+                return sourceData();
+            case "source_users":
+                return sourceUsers();
+            case "source_orders":
+                return sourceOrders();
+            default:
+                return wide(table,
+                        tableRequest.getColumns() != null ? tableRequest.getColumns() : 20,
+                        tableRequest.getLobColumns() != null ? tableRequest.getLobColumns() : 0);
+        }
+    }
+
+    private static SyntheticTableSpec sourceData() {
+        return new SyntheticTableSpec("source_data", "id", Arrays.asList(
+                idColumn("id"),
+                new Column("name", "VARCHAR(255)", false, (ctx, row) -> "Sample_Data_" + ctx.getRowId()),
+                new Column("value1", "DOUBLE PRECISION", true, (ctx, row) -> ctx.nextDouble(100)),
+                new Column("value2", "DOUBLE PRECISION", true, (ctx, row) -> ctx.nextDouble(200)),
+                new Column("value3", "DOUBLE PRECISION", true, (ctx, row) -> ctx.nextDouble(300)),
+                new Column("created_at", "TIMESTAMP DEFAULT CURRENT_TIMESTAMP", false, (ctx, row) -> ctx.nextTimestamp())
+        ));
+    }
+
+    private static SyntheticTableSpec sourceUsers() {
+        return new SyntheticTableSpec("source_users", "user_id", Arrays.asList(
+                idColumn("user_id"),
+                new Column("username", "VARCHAR(100) NOT NULL", false, (ctx, row) -> "user_" + ctx.getRowId()),
+                new Column("email", "VARCHAR(255)", true, (ctx, row) -> "user" + ctx.getRowId() + "@example.com"),
+                new Column("phone", "VARCHAR(50)", true,
+                        (ctx, row) -> String.format("010-%04d-%04d", ctx.nextInt(10000), ctx.nextInt(10000))),
+                new Column("status", "VARCHAR(20)", false, (ctx, row) -> ctx.pick(USER_STATUSES)),
+                new Column("created_date", "DATE", false, (ctx, row) -> Date.valueOf(ctx.nextDate())),
+                new Column("updated_at", "TIMESTAMP DEFAULT CURRENT_TIMESTAMP", false, (ctx, row) -> ctx.nextTimestamp())
+        ));
+    }
+
+    private static SyntheticTableSpec sourceOrders() {
+        return new SyntheticTableSpec("source_orders", "order_id", Arrays.asList(
+                idColumn("order_id"),
+                new Column("order_number", "VARCHAR(50) NOT NULL", false,
+                        (ctx, row) -> String.format("ORD-%06d", ctx.getRowId())),
+                // 고객 수는 생성 건수에 비례 (건수 / 10, 최소 100명), 주문이 일부 고객에게 몰리도록 skew 적용
+                new Column("customer_name", "VARCHAR(100)", true,
+                        (ctx, row) -> "고객_" + ctx.nextSkewed(Math.max(100, (int) Math.min(Integer.MAX_VALUE, ctx.getTotalRows() / 10)))),
+                new Column("product_name", "VARCHAR(200)", true, (ctx, row) -> ctx.pick(PRODUCTS)),
+                new Column("quantity", "INTEGER", false, (ctx, row) -> ctx.nextInt(10) + 1),
+                new Column("unit_price", "DECIMAL(10,2)", false,
+                        (ctx, row) -> BigDecimal.valueOf((ctx.nextInt(50) + 1) * 10000L).setScale(2, RoundingMode.UNNECESSARY)),
+                new Column("total_amount", "DECIMAL(12,2)", false,
+                        (ctx, row) -> ((BigDecimal) row.get("unit_price")).multiply(BigDecimal.valueOf((Integer) row.get("quantity")))),
+                new Column("order_status", "VARCHAR(30)", false, (ctx, row) -> ctx.pick(ORDER_STATUSES)),
+                new Column("order_date", "DATE", false, (ctx, row) -> Date.valueOf(ctx.nextDate())),
+                new Column("created_at", "TIMESTAMP DEFAULT CURRENT_TIMESTAMP", false, (ctx, row) -> ctx.nextTimestamp())
+        ));
+    }
+
+    /**
+     * wide 테이블: id + updated_at(기간 필터용) + col_NNN(BIGINT/DOUBLE/TEXT/TIMESTAMP/INTEGER 순환) + lob_NN(TEXT/BYTEA 교대)
+     */
+    private static SyntheticTableSpec wide(String table, int columnCount, int lobColumnCount) {
+        List<Column> columns = new ArrayList<>();
+        columns.add(idColumn("id"));
+        columns.add(new Column("updated_at", "TIMESTAMP", false, (ctx, row) -> ctx.nextTimestamp()));
+        for (int i = 1; i <= columnCount; i++) {
+            String name = String.format("col_%03d", i);
+            switch (i % 5) {
+                case 1:
+                    // 다른 테이블 id 참조를 흉내내는 편중 키
+                    columns.add(new Column(name, "BIGINT", true,
+                            (ctx, row) -> (long) ctx.nextSkewed((int) Math.min(Integer.MAX_VALUE, Math.max(1, ctx.getTotalRows())))));
+                    break;
+                case 2:
+                    columns.add(new Column(name, "DOUBLE PRECISION", true, (ctx, row) -> ctx.nextDouble(1000000)));
+                    break;
+                case 3:
+                    columns.add(new Column(name, "TEXT", true, (ctx, row) -> ctx.nextString()));
+                    break;
+                case 4:
+                    columns.add(new Column(name, "TIMESTAMP", true, (ctx, row) -> ctx.nextTimestamp()));
+                    break;
+                default:
+                    columns.add(new Column(name, "INTEGER", true, (ctx, row) -> ctx.nextSkewed(100)));
+                    break;
+            }
+        }
+        for (int i = 1; i <= lobColumnCount; i++) {
+            String name = String.format("lob_%02d", i);
+            if (i % 2 == 1) {
+                columns.add(new Column(name, "TEXT", true, (ctx, row) -> ctx.nextLobText()));
+            } else {
+                columns.add(new Column(name, "BYTEA", true, (ctx, row) -> ctx.nextLobBytes()));
+            }
+        }
+        return new SyntheticTableSpec(table, "id", columns);
+    }
+
+    private static Column idColumn(String name) {
+        return new Column(name, "BIGSERIAL PRIMARY KEY", false, (ctx, row) -> ctx.getRowId());
+    }
+
+    /**
+     * 컬럼 정의
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Column {
+        private final String name;
+        private final String ddl;
+        private final boolean nullable;     // nullRatio 적용 대상 여부
+        private final ValueGenerator generator;
+    }
+
+    /**
+     * 컬럼 값 생성 함수 (row에는 앞선 컬럼 값이 채워져 있음)
+     */
+    @FunctionalInterface
+    public interface ValueGenerator {
+        Object next(RowContext ctx, Map<String, Object> row);
+    }
+
+    /**
+     * 행 생성 컨텍스트
+     *
+     * 작업(chunk) 단위로 시드를 고정한 난수를 사용하므로 병렬도와 무관하게 같은 데이터가 생성됩니다.
+     */
+    public static class RowContext {
+
+        private static final char[] ALPHANUMERIC =
+                "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789".toCharArray();
+
+        // 이 크기까지는 Zipf 누적 분포표를 만들어 사용
+        private static final int ZIPF_TABLE_LIMIT = 1_000_000;
+
+        private final DataGenerationRequest options;
+        private final SplittableRandom random;
+        private final Map<Integer, double[]> zipfCache;
+        private final LocalDate today;
+        private final long totalRows;
+        private long rowId;
+
+        public RowContext(DataGenerationRequest options, SplittableRandom random,
+                          Map<Integer, double[]> zipfCache, LocalDate today, long totalRows) {
+            this.options = options;
+            this.random = random;
+            this.zipfCache = zipfCache;
+            this.today = today;
+            this.totalRows = totalRows;
+        }
+
+        public long getRowId() {
+            return rowId;
+        }
+
+        public void setRowId(long rowId) {
+            this.rowId = rowId;
+        }
+
+        public long getTotalRows() {
+            return totalRows;
+        }
+
+        public boolean nextNull() {
+            return options.getNullRatio() > 0 && random.nextDouble() < options.getNullRatio();
+        }
+
+        public int nextInt(int bound) {
+            return random.nextInt(bound);
+        }
+
+        public double nextDouble(double bound) {
+            return random.nextDouble() * bound;
+        }
+
+        public <T> T pick(T[] values) {
+            return values[nextSkewed(values.length) - 1];
+        }
+
+        /**
+         * 1 ~ n 사이 값 (skew > 0이면 Zipf 분포로 작은 값에 편중)
+         */
+        public int nextSkewed(int n) {
+            double skew = options.getSkew();
+            if (skew <= 0 || n <= 1) {
+                return random.nextInt(n) + 1;
+            }
+            if (n > ZIPF_TABLE_LIMIT) {
+                // 큰 범위는 누적 분포표 대신 근사식 사용 (순위 = n^u 형태의 로그 균등 분포에 skew 반영)
+                double u = Math.pow(random.nextDouble(), skew);
+                return (int) Math.min(n, Math.max(1, Math.round(Math.exp(u * Math.log(n)))));
+            }
+            double[] cdf = zipfCache.computeIfAbsent(n, size -> buildZipfCdf(size, skew));
+            int idx = Arrays.binarySearch(cdf, random.nextDouble());
+            return (idx >= 0 ? idx : -idx - 1) + 1;
+        }
+
+        public String nextString() {
+            int min = options.getMinStringLength();
+            int max = Math.max(min, options.getMaxStringLength());
+            return randomString(min + random.nextInt(max - min + 1));
+        }
+
+        public LocalDate nextDate() {
+            int range = Math.max(1, options.getDateRangeDays());
+            int daysAgo;
+            if ("RECENT".equalsIgnoreCase(options.getDateDistribution())) {
+                // 지수 분포: 평균이 범위의 1/5 정도로 최근 날짜에 몰림
+                daysAgo = (int) Math.min(range - 1, -Math.log(1 - random.nextDouble()) * range / 5);
+            } else {
+                daysAgo = random.nextInt(range);
+            }
+            return today.minusDays(daysAgo);
+        }
+
+        public Timestamp nextTimestamp() {
+            return Timestamp.valueOf(nextDate().atStartOfDay().plusSeconds(random.nextInt(86400)));
+        }
+
+        public String nextLobText() {
+            return randomString(options.getLobSizeBytes());
+        }
+
+        public byte[] nextLobBytes() {
+            byte[] bytes = new byte[options.getLobSizeBytes()];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = (byte) random.nextInt(256);
+            }
+            return bytes;
+        }
+
+        private String randomString(int length) {
+            char[] chars = new char[length];
+            for (int i = 0; i < length; i++) {
+                chars[i] = ALPHANUMERIC[random.nextInt(ALPHANUMERIC.length)];
+            }
+            return new String(chars);
+        }
+
+        private static double[] buildZipfCdf(int n, double skew) {
+            double[] cdf = new double[n];
+            double sum = 0;
+            for (int k = 1; k <= n; k++) {
+                sum += 1.0 / Math.pow(k, skew);
+                cdf[k - 1] = sum;
+            }
+            for (int k = 0; k < n; k++) {
+                cdf[k] /= sum;
+            }
+            return cdf;
+        }
+    }
+}
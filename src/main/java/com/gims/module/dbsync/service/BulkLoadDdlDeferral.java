@@ -0,0 +1,456 @@
+package com.gims.module.dbsync.service;
+
+import com.gims.module.dbsync.dto.MappingConfigDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대량 적재 시 Target 보조 인덱스/트리거 지연 처리
+ *
+ * 적재 건수가 임계치 이상이면 PK/UNIQUE 제약조건과 UNIQUE 인덱스를 제외한 보조 인덱스를 삭제하고 사용자 트리거를 비활성화한 뒤,
+ * 적재 후 인덱스를 재생성(가능하면 CONCURRENTLY)하고 트리거를 원복하여 ANALYZE 합니다.
+ *
+ * 원복 DDL은 삭제/비활성화와 같은 트랜잭션에서 Target DB의 dbsync_deferred_ddl 테이블에 기록되므로,
+ * 적재 실패는 물론 모듈 프로세스가 비정상 종료된 경우에도 원복됩니다.
+ * 기동 시에는 기본 Target과 sync.datasources.connections에 설정된 Named DataSource를, 이후 lease-ms 주기로
+ * 기본 Target과 실행이 사용 중인 Named Target을 확인해 남은 기록을 원복합니다. (원복 실패 / 재기동 직전 기록 재시도)
+ *
+ * 각 기록에는 지연 처리한 인스턴스와 실행 ID, 리스 만료 시각이 남으며 적재 중에는 리스를 주기적으로 연장합니다.
+ * 리스가 만료된(소유 인스턴스가 종료된) 기록과 이 인스턴스가 적재를 마친 기록만 가져와 원복하므로
+ * 다른 인스턴스가 적재 중인 테이블의 인덱스/트리거를 원복하지 않습니다.
+ */
+@Slf4j
+@Component
+public class BulkLoadDdlDeferral {
+
+    private static final String DDL_TABLE = "dbsync_deferred_ddl";
+    private static final String TYPE_INDEX = "INDEX";
+    private static final String TYPE_TRIGGER = "TRIGGER";
+
+    private final SyncConnectionManager connectionManager;
+    private final DataSourceRegistry dataSourceRegistry;
+    private final DistributedWorkCoordinator workCoordinator;
+
+    @Value("${sync.bulk-load.defer-indexes:false}")
+    private boolean deferIndexesEnabled;
+
+    @Value("${sync.bulk-load.defer-threshold-rows:100000}")
+    private long deferThresholdRows;
+
+    @Value("${sync.bulk-load.lease-ms:60000}")
+    private long leaseMs;
+
+    // 원복 DDL 테이블을 확인한 Target 풀
+    private final Set<String> ddlTableReady = ConcurrentHashMap.newKeySet();
+    // 적재 중(원복 전)인 지연 처리 (리스 연장 대상)
+    private final Set<DeferredDdl> activeDeferrals = ConcurrentHashMap.newKeySet();
+    // 이 인스턴스에서 원복 중인 테이블 (적재 후 원복과 주기 복구가 겹치지 않도록)
+    private final Set<String> restoringTables = ConcurrentHashMap.newKeySet();
+    private ScheduledExecutorService leaseRenewer;
+
+    public BulkLoadDdlDeferral(SyncConnectionManager connectionManager, DataSourceRegistry dataSourceRegistry,
+                               DistributedWorkCoordinator workCoordinator) {
+        this.connectionManager = connectionManager;
+        this.dataSourceRegistry = dataSourceRegistry;
+        this.workCoordinator = workCoordinator;
+    }
+
+    @PostConstruct
+    public void start() {
+        long renewMs = Math.max(1000L, leaseMs / 4);
+        leaseRenewer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "dbsync-deferred-ddl-lease");
+            thread.setDaemon(true);
+            return thread;
+        });
+        leaseRenewer.scheduleWithFixedDelay(this::renewLeases, renewMs, renewMs, TimeUnit.MILLISECONDS);
+        long sweepMs = Math.max(1000L, leaseMs);
+        leaseRenewer.scheduleWithFixedDelay(() -> sweep(false), sweepMs, sweepMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        leaseRenewer.shutdownNow();
+    }
+
+    /**
+     * 지연 처리 적용 여부 (테이블 매핑의 deferIndexes가 전역 설정보다 우선)
+     */
+    public boolean shouldDefer(MappingConfigDto.TableMappingDto tableMapping, long expectedRows) {
+        boolean enabled = tableMapping.getDeferIndexes() != null
+                ? tableMapping.getDeferIndexes()
+                : deferIndexesEnabled;
+        return enabled && expectedRows >= deferThresholdRows;
+    }
+
+    /**
+     * 보조 인덱스 삭제 및 사용자 트리거 비활성화
+     *
+     * @return 원복 대상 (다른 실행이 이미 지연 처리 중이면 null)
+     */
+    public DeferredDdl suspend(Long execId, String targetTable) throws SQLException {
+        try (Connection conn = connectionManager.getTargetConnection(execId)) {
+            ensureDdlTable(conn, connectionManager.getTargetPoolName(execId));
+            conn.setAutoCommit(false);
+            DeferredDdl deferred = null;
+            try {
+                if (hasPending(conn, targetTable)) {
+                    log.warn("인덱스/트리거 지연 처리 생략: {} 테이블에 원복 대기 중인 DDL이 있습니다", targetTable);
+                    conn.rollback();
+                    return null;
+                }
+
+                // 커밋 직후 주기 복구가 적재 중인 기록을 가져가지 않도록 먼저 등록
+                deferred = new DeferredDdl(execId, targetTable);
+                activeDeferrals.add(deferred);
+
+                // 제약조건(PK/UNIQUE/EXCLUDE)에 속하지 않는 유효한 비고유 인덱스
+                // (UNIQUE 인덱스는 upsert ON CONFLICT 대상 / 중복 방지에 필요하므로 유지)
+                try (PreparedStatement pstmt = conn.prepareStatement(
+                        "SELECT i.oid::regclass::text, pg_get_indexdef(i.oid) FROM pg_index x " +
+                        "JOIN pg_class i ON i.oid = x.indexrelid " +
+                        "WHERE x.indrelid = ?::regclass AND x.indisvalid " +
+                        "AND NOT x.indisunique AND NOT x.indisprimary AND NOT x.indisexclusion " +
+                        "AND NOT EXISTS (SELECT 1 FROM pg_constraint c WHERE c.conindid = x.indexrelid)")) {
+                    pstmt.setString(1, targetTable);
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        while (rs.next()) {
+                            deferred.indexes.add(new String[]{rs.getString(1), rs.getString(2)});
+                        }
+                    }
+                }
+
+                // 활성 상태의 사용자 트리거 (원래 활성 방식대로 원복)
+                try (PreparedStatement pstmt = conn.prepareStatement(
+                        "SELECT tgname, tgenabled FROM pg_trigger " +
+                        "WHERE tgrelid = ?::regclass AND NOT tgisinternal AND tgenabled <> 'D'")) {
+                    pstmt.setString(1, targetTable);
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        while (rs.next()) {
+                            deferred.triggers.add(new String[]{rs.getString(1), enableTriggerDdl(targetTable,
+                                    rs.getString(1), rs.getString(2))});
+                        }
+                    }
+                }
+
+                for (String[] index : deferred.indexes) {
+                    record(conn, deferred, TYPE_INDEX, index[0], index[1]);
+                    execute(conn, String.format("DROP INDEX %s", index[0]));
+                }
+                for (String[] trigger : deferred.triggers) {
+                    record(conn, deferred, TYPE_TRIGGER, trigger[0], trigger[1]);
+                    execute(conn, String.format("ALTER TABLE %s DISABLE TRIGGER %s", targetTable, trigger[0]));
+                }
+
+                conn.commit();
+                log.info("인덱스/트리거 지연 처리: {} (인덱스 {}개 삭제, 트리거 {}개 비활성화)",
+                        targetTable, deferred.indexes.size(), deferred.triggers.size());
+                return deferred;
+            } catch (SQLException | RuntimeException e) {
+                if (deferred != null) {
+                    activeDeferrals.remove(deferred);
+                }
+                conn.rollback();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 인덱스 재생성, 트리거 원복 후 ANALYZE
+     * 예외를 던지지 않으며, 원복하지 못한 DDL은 기록이 남아 주기 복구(lease-ms 주기)에서 재시도됩니다.
+     *
+     * @return 전체 원복 성공 여부
+     */
+    public boolean restore(DeferredDdl deferred) {
+        if (deferred == null) {
+            return true;
+        }
+        // 원복이 끝날 때까지 리스를 연장하고, 주기 복구는 원복 중인 테이블을 건너뜀
+        restoringTables.add(deferred.targetTable);
+        long restoreStart = System.currentTimeMillis();
+        try (Connection conn = connectionManager.getTargetConnection(deferred.execId)) {
+            conn.setAutoCommit(true);
+            boolean restored = restorePending(conn, deferred.targetTable);
+            execute(conn, String.format("ANALYZE %s", deferred.targetTable));
+            log.info("인덱스/트리거 원복 완료: {} ({}ms)", deferred.targetTable, System.currentTimeMillis() - restoreStart);
+            return restored;
+        } catch (SQLException e) {
+            log.error("인덱스/트리거 원복 실패 (주기 복구에서 재시도): {}", deferred.targetTable, e);
+            return false;
+        } finally {
+            activeDeferrals.remove(deferred);
+            restoringTables.remove(deferred.targetTable);
+        }
+    }
+
+    /**
+     * 기동 시 이전 실행에서 원복되지 않은 DDL 복구 (설정된 모든 Named Target 포함)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverPending() {
+        sweep(true);
+    }
+
+    /**
+     * 원복 대기 DDL 복구
+     *
+     * @param allNamedTargets 설정된 모든 Named Target 확인 (false면 실행이 사용 중인 Named Target만 확인해 유휴 풀을 열지 않음)
+     */
+    private void sweep(boolean allNamedTargets) {
+        try (Connection conn = connectionManager.getTargetConnection(null)) {
+            recoverPending(conn, SyncConnectionManager.POOL_TARGET);
+        } catch (SQLException | RuntimeException e) {
+            log.error("원복 대기 DDL 복구 실패", e);
+        }
+        for (String name : dataSourceRegistry.getNames()) {
+            if (!allNamedTargets && !dataSourceRegistry.isInUse(SyncConnectionManager.POOL_TARGET, name)) {
+                continue;
+            }
+            try (Connection conn = connectionManager.getNamedTargetConnection(name)) {
+                recoverPending(conn, DataSourceRegistry.poolLabel(SyncConnectionManager.POOL_TARGET, name));
+            } catch (SQLException | RuntimeException e) {
+                log.error("원복 대기 DDL 복구 실패: DataSource {}", name, e);
+            }
+        }
+    }
+
+    private void recoverPending(Connection conn, String targetPool) throws SQLException {
+        conn.setAutoCommit(true);
+        if (!ddlTableReady.contains(targetPool)) {
+            if (!ddlTableExists(conn)) {
+                return;
+            }
+            ensureDdlColumns(conn);
+            ddlTableReady.add(targetPool);
+        }
+        // 적재 / 원복 중인 테이블은 제외
+        Set<String> busy = new HashSet<>(restoringTables);
+        for (DeferredDdl deferred : activeDeferrals) {
+            busy.add(deferred.targetTable);
+        }
+        // 소유 인스턴스가 리스를 연장하지 않는(종료된) 기록과 이 인스턴스가 원복하지 못한 기록을 가져온 뒤 원복
+        List<String> tables = new ArrayList<>();
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "UPDATE " + DDL_TABLE + " SET owner_instance = ?, lease_until = now() + ? * interval '1 millisecond' " +
+                "WHERE (owner_instance IS NULL OR owner_instance = ? OR lease_until IS NULL OR lease_until < now()) " +
+                "AND table_name <> ALL (?) RETURNING table_name")) {
+            pstmt.setString(1, workCoordinator.getInstanceId());
+            pstmt.setLong(2, leaseMs);
+            pstmt.setString(3, workCoordinator.getInstanceId());
+            pstmt.setArray(4, conn.createArrayOf("varchar", busy.toArray()));
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    if (!tables.contains(rs.getString(1))) {
+                        tables.add(rs.getString(1));
+                    }
+                }
+            }
+        }
+        for (String table : tables) {
+            if (!restoringTables.add(table)) {
+                continue;
+            }
+            try {
+                log.warn("원복되지 않은 인덱스/트리거 복구: {}", table);
+                restorePending(conn, table);
+                execute(conn, String.format("ANALYZE %s", table));
+            } finally {
+                restoringTables.remove(table);
+            }
+        }
+    }
+
+    private boolean restorePending(Connection conn, String targetTable) throws SQLException {
+        List<Object[]> pending = new ArrayList<>();
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "SELECT id, object_type, object_name, restore_ddl FROM " + DDL_TABLE +
+                " WHERE table_name = ? AND owner_instance = ? ORDER BY id")) {
+            pstmt.setString(1, targetTable);
+            pstmt.setString(2, workCoordinator.getInstanceId());
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    pending.add(new Object[]{rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4)});
+                }
+            }
+        }
+
+        boolean allRestored = true;
+        for (Object[] item : pending) {
+            long id = (Long) item[0];
+            String objectType = (String) item[1];
+            String objectName = (String) item[2];
+            String ddl = (String) item[3];
+            try {
+                if (TYPE_INDEX.equals(objectType)) {
+                    restoreIndex(conn, objectName, ddl);
+                } else {
+                    execute(conn, ddl);
+                }
+                try (PreparedStatement pstmt = conn.prepareStatement("DELETE FROM " + DDL_TABLE + " WHERE id = ?")) {
+                    pstmt.setLong(1, id);
+                    pstmt.executeUpdate();
+                }
+            } catch (SQLException e) {
+                allRestored = false;
+                log.error("원복 실패: {} {} ({})", objectType, objectName, e.getMessage());
+            }
+        }
+        return allRestored;
+    }
+
+    /**
+     * CONCURRENTLY로 재생성, 실패 시 남은 INVALID 인덱스를 정리하고 일반 생성으로 재시도
+     */
+    private void restoreIndex(Connection conn, String indexName, String indexDef) throws SQLException {
+        if (indexExists(conn, indexName)) {
+            return;
+        }
+        String concurrentDef = indexDef.replaceFirst("^CREATE (UNIQUE )?INDEX ", "CREATE $1INDEX CONCURRENTLY ");
+        try {
+            execute(conn, concurrentDef);
+        } catch (SQLException e) {
+            log.warn("CONCURRENTLY 인덱스 생성 실패, 일반 생성으로 재시도: {} ({})", indexName, e.getMessage());
+            execute(conn, String.format("DROP INDEX IF EXISTS %s", indexName));
+            execute(conn, indexDef);
+        }
+    }
+
+    private String enableTriggerDdl(String table, String trigger, String tgenabled) {
+        String mode = "A".equals(tgenabled) ? "ALWAYS " : "R".equals(tgenabled) ? "REPLICA " : "";
+        return String.format("ALTER TABLE %s ENABLE %sTRIGGER %s", table, mode, trigger);
+    }
+
+    private void ensureDdlTable(Connection conn, String targetPool) throws SQLException {
+        if (ddlTableReady.contains(targetPool)) {
+            return;
+        }
+        execute(conn, "CREATE TABLE IF NOT EXISTS " + DDL_TABLE + " (" +
+                "id BIGSERIAL PRIMARY KEY, " +
+                "table_name VARCHAR(255) NOT NULL, " +
+                "object_type VARCHAR(20) NOT NULL, " +
+                "object_name VARCHAR(255) NOT NULL, " +
+                "restore_ddl TEXT NOT NULL, " +
+                "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)");
+        ensureDdlColumns(conn);
+        ddlTableReady.add(targetPool);
+    }
+
+    /**
+     * 소유 인스턴스/실행/리스 컬럼 (이전 버전에서 만든 테이블 포함)
+     * 소유 정보가 없는 기존 기록은 복구 대상입니다.
+     */
+    private void ensureDdlColumns(Connection conn) throws SQLException {
+        execute(conn, "ALTER TABLE " + DDL_TABLE + " ADD COLUMN IF NOT EXISTS owner_instance VARCHAR(255)");
+        execute(conn, "ALTER TABLE " + DDL_TABLE + " ADD COLUMN IF NOT EXISTS exec_id BIGINT");
+        execute(conn, "ALTER TABLE " + DDL_TABLE + " ADD COLUMN IF NOT EXISTS lease_until TIMESTAMPTZ");
+    }
+
+    /**
+     * 적재 중인 지연 처리의 리스 연장
+     */
+    private void renewLeases() {
+        for (DeferredDdl deferred : activeDeferrals) {
+            try (Connection conn = connectionManager.getTargetCoordinationConnection(deferred.execId);
+                 PreparedStatement pstmt = conn.prepareStatement(
+                         "UPDATE " + DDL_TABLE + " SET lease_until = now() + ? * interval '1 millisecond' " +
+                         "WHERE table_name = ? AND owner_instance = ?")) {
+                conn.setAutoCommit(true);
+                pstmt.setLong(1, leaseMs);
+                pstmt.setString(2, deferred.targetTable);
+                pstmt.setString(3, workCoordinator.getInstanceId());
+                if (pstmt.executeUpdate() == 0) {
+                    log.warn("원복 대기 DDL 리스 연장 실패 (다른 인스턴스가 복구함): {}", deferred.targetTable);
+                }
+            } catch (Exception e) {
+                log.warn("원복 대기 DDL 리스 연장 오류: {} ({})", deferred.targetTable, e.getMessage());
+            }
+        }
+    }
+
+    private boolean ddlTableExists(Connection conn) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement("SELECT to_regclass(?) IS NOT NULL")) {
+            pstmt.setString(1, DDL_TABLE);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private boolean hasPending(Connection conn, String targetTable) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "SELECT 1 FROM " + DDL_TABLE + " WHERE table_name = ? LIMIT 1")) {
+            pstmt.setString(1, targetTable);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    private boolean indexExists(Connection conn, String indexName) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "SELECT x.indisvalid FROM pg_index x WHERE x.indexrelid = to_regclass(?)")) {
+            pstmt.setString(1, indexName);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private void record(Connection conn, DeferredDdl deferred, String objectType,
+                        String objectName, String restoreDdl) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "INSERT INTO " + DDL_TABLE + " (table_name, object_type, object_name, restore_ddl, " +
+                "owner_instance, exec_id, lease_until) VALUES (?, ?, ?, ?, ?, ?, now() + ? * interval '1 millisecond')")) {
+            pstmt.setString(1, deferred.targetTable);
+            pstmt.setString(2, objectType);
+            pstmt.setString(3, objectName);
+            pstmt.setString(4, restoreDdl);
+            pstmt.setString(5, workCoordinator.getInstanceId());
+            pstmt.setObject(6, deferred.execId, Types.BIGINT);
+            pstmt.setLong(7, leaseMs);
+            pstmt.executeUpdate();
+        }
+    }
+
+    private void execute(Connection conn, String sql) throws SQLException {
+        log.debug("DDL: {}", sql);
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+
+    /**
+     * 지연 처리된 Target 테이블 DDL
+     */
+    public static class DeferredDdl {
+        private final Long execId;
+        private final String targetTable;
+        private final List<String[]> indexes = new ArrayList<>();
+        private final List<String[]> triggers = new ArrayList<>();
+
+        private DeferredDdl(Long execId, String targetTable) {
+            this.execId = execId;
+            this.targetTable = targetTable;
+        }
+
+        public String getTargetTable() {
+            return targetTable;
+        }
+    }
+}
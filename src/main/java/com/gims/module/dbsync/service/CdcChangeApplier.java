@@ -0,0 +1,393 @@
+package com.gims.module.dbsync.service;
+
+import com.gims.module.dbsync.dto.MappingConfigDto;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * CDC 변경 반영기
+ *
+ * 논리 복제로 받은 행 변경을 테이블 매핑에 따라 Target 변경으로 바꾸고, 변경 목록을 하나의 Target 트랜잭션으로 반영합니다.
+ * INSERT / UPDATE는 "INSERT ... ON CONFLICT (targetPk, ...) DO UPDATE"로, DELETE는 PK 조건 삭제로 반영하므로
+ * 같은 변경을 다시 받아도(재연결 후 마지막 확인 LSN부터 재전송) 결과가 같습니다.
+ * 연속된 같은 SQL의 변경은 JDBC 배치로 묶어 전송하되 변경 순서는 그대로 유지합니다.
+ * 행 단위 오류(잘못된 값, 제약조건 위반, 트리거 RAISE)로 배치가 실패하면 변경을 하나씩 다시 반영하고,
+ * 실패한 변경은 DeadLetterStore에 기록해 건너뜁니다. (같은 변경을 계속 재전송받아 확인 LSN이 멈추지 않도록)
+ */
+@Slf4j
+@Component
+public class CdcChangeApplier {
+
+    static final String OP_UPSERT = "UPSERT";
+    static final String OP_DELETE = "DELETE";
+
+    private final SyncConnectionManager connectionManager;
+    private final ColumnLookupResolver columnLookupResolver;
+    private final SyncMetrics syncMetrics;
+    private final DeadLetterStore deadLetterStore;
+
+    @Value("${sync.transform.parallel-threshold:2000}")
+    private int transformParallelThreshold;
+
+    public CdcChangeApplier(SyncConnectionManager connectionManager,
+                            ColumnLookupResolver columnLookupResolver,
+                            SyncMetrics syncMetrics,
+                            DeadLetterStore deadLetterStore) {
+        this.connectionManager = connectionManager;
+        this.columnLookupResolver = columnLookupResolver;
+        this.syncMetrics = syncMetrics;
+        this.deadLetterStore = deadLetterStore;
+    }
+
+    /**
+     * 테이블 매핑 검증 및 반영 준비 (변환식 컴파일, lookup 준비)
+     */
+    public TableBinding bind(Long execId, MappingConfigDto.TableMappingDto tm) throws SQLException {
+        String target = tm.getTargetTable();
+        if (tm.getSourceQuery() != null && !tm.getSourceQuery().trim().isEmpty()) {
+            throw new RuntimeException("CDC는 sourceQuery 매핑을 지원하지 않습니다: " + target);
+        }
+        if (tm.getFilters() != null && !tm.getFilters().isEmpty()) {
+            throw new RuntimeException("CDC는 조회 필터(filters)를 지원하지 않습니다: " + target);
+        }
+        if (isBlank(tm.getSourceTable()) || isBlank(target)) {
+            throw new RuntimeException("CDC 테이블 매핑에는 sourceTable / targetTable이 필요합니다");
+        }
+        PrimaryKeyMapping primaryKey = PrimaryKeyMapping.of(tm);
+
+        Map<String, String> columnMap = new LinkedHashMap<>();
+        for (int i = 0; i < primaryKey.size(); i++) {
+            columnMap.put(primaryKey.getSourceColumns().get(i), primaryKey.getTargetColumns().get(i));
+        }
+        if (tm.getColumnMappings() != null) {
+            for (MappingConfigDto.ColumnMappingDto cm : tm.getColumnMappings()) {
+                if (!primaryKey.isSourceColumn(cm.getSourceColumn())) {
+                    columnMap.put(cm.getSourceColumn(), cm.getTargetColumn());
+                }
+            }
+        }
+        RowTransformer rowTransformer = RowTransformer.compile(tm.getColumnMappings(), transformParallelThreshold);
+        ColumnLookupResolver.LookupStage lookupStage = columnLookupResolver.prepare(execId, tm.getColumnMappings());
+        // dead letter 기록용 계획 (테이블 / PK 정보만 사용)
+        TableSyncPlan deadLetterPlan = TableSyncPlan.builder()
+                .execId(execId)
+                .tableMapping(tm)
+                .sourceTable(tm.getSourceTable())
+                .targetTable(target)
+                .primaryKey(primaryKey)
+                .build();
+        return new TableBinding(tm, primaryKey, columnMap, rowTransformer, lookupStage, deadLetterPlan);
+    }
+
+    /**
+     * 변경 목록의 컬럼 변환식 / lookup 적용 (테이블별 배치 단위, 반영 전에 호출)
+     */
+    public void prepareRows(List<Change> changes) throws SQLException {
+        Map<TableBinding, List<Map<String, Object>>> rowsByTable = new LinkedHashMap<>();
+        for (Change change : changes) {
+            if (OP_UPSERT.equals(change.op)) {
+                rowsByTable.computeIfAbsent(change.table, k -> new ArrayList<>()).add(change.row);
+            }
+        }
+        for (Map.Entry<TableBinding, List<Map<String, Object>>> entry : rowsByTable.entrySet()) {
+            TableBinding table = entry.getKey();
+            if (table.rowTransformer != null) {
+                table.rowTransformer.transform(entry.getValue());
+            }
+            if (table.lookupStage != null) {
+                table.lookupStage.resolve(entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * 변경 목록을 하나의 Target 트랜잭션으로 반영
+     * 행 단위 오류로 실패하면 변경별 트랜잭션으로 다시 반영하며 실패한 변경은 dead letter로 기록합니다.
+     *
+     * @return 반영한 변경 수 (dead letter로 기록한 변경 제외)
+     */
+    public int apply(Long execId, List<Change> changes) throws SQLException {
+        if (changes.isEmpty()) {
+            return 0;
+        }
+        long batchStart = System.nanoTime();
+        try (Connection conn = connectionManager.getTargetConnection(execId)) {
+            conn.setAutoCommit(false);
+            try {
+                PreparedStatement pstmt = null;
+                String currentSql = null;
+                try {
+                    for (Change change : changes) {
+                        String sql = change.sql();
+                        if (!sql.equals(currentSql)) {
+                            if (pstmt != null) {
+                                pstmt.executeBatch();
+                                pstmt.close();
+                            }
+                            pstmt = conn.prepareStatement(sql);
+                            currentSql = sql;
+                        }
+                        change.bind(pstmt);
+                        pstmt.addBatch();
+                    }
+                    if (pstmt != null) {
+                        pstmt.executeBatch();
+                    }
+                } finally {
+                    if (pstmt != null) {
+                        pstmt.close();
+                    }
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                if (!UpsertBatchApplier.isRowError(e)) {
+                    throw e;
+                }
+                log.warn("CDC 배치 반영 실패, 변경별로 다시 반영: {}건 [{}] {}", changes.size(), e.getSQLState(), e.getMessage());
+                int applied = applyEach(execId, conn, changes);
+                syncMetrics.recordBatch("CDC", System.nanoTime() - batchStart);
+                return applied;
+            } catch (RuntimeException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
+        syncMetrics.recordBatch("CDC", System.nanoTime() - batchStart);
+        return changes.size();
+    }
+
+    /**
+     * 변경을 하나씩 커밋하며 반영 (순서 유지, 행 단위 오류는 dead letter로 기록 후 다음 변경 반영)
+     */
+    private int applyEach(Long execId, Connection conn, List<Change> changes) throws SQLException {
+        String targetPool = connectionManager.getTargetPoolName(execId);
+        int applied = 0;
+        for (Change change : changes) {
+            try (PreparedStatement pstmt = conn.prepareStatement(change.sql())) {
+                change.bind(pstmt);
+                pstmt.executeUpdate();
+                conn.commit();
+                applied++;
+            } catch (SQLException e) {
+                conn.rollback();
+                if (!UpsertBatchApplier.isRowError(e)) {
+                    throw e;
+                }
+                deadLetterStore.save(conn, targetPool, change.table.deadLetterPlan, change.deadLetterRow(), e);
+                conn.commit();
+                change.deadLettered = true;
+            }
+        }
+        return applied;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    /**
+     * 복제 대상 테이블 하나의 반영 정보
+     */
+    public static class TableBinding {
+        @Getter
+        private final MappingConfigDto.TableMappingDto tableMapping;
+        private final PrimaryKeyMapping primaryKey;
+        // Source 컬럼 -> Target 컬럼 (PK가 앞쪽)
+        private final Map<String, String> columnMap;
+        private final RowTransformer rowTransformer;
+        private final ColumnLookupResolver.LookupStage lookupStage;
+        private final TableSyncPlan deadLetterPlan;
+        // 소문자 컬럼명 -> 매핑에 지정된 Source 컬럼명 (복제 메시지 컬럼명과 대소문자 차이 보정)
+        private final Map<String, String> mappedNames = new HashMap<>();
+        // 제외 컬럼(변경되지 않은 TOAST) 조합 -> UPSERT SQL
+        private final Map<Set<String>, String> upsertSql = new HashMap<>();
+        private final String deleteSql;
+
+        TableBinding(MappingConfigDto.TableMappingDto tableMapping, PrimaryKeyMapping primaryKey,
+                     Map<String, String> columnMap, RowTransformer rowTransformer,
+                     ColumnLookupResolver.LookupStage lookupStage, TableSyncPlan deadLetterPlan) {
+            this.tableMapping = tableMapping;
+            this.primaryKey = primaryKey;
+            this.columnMap = columnMap;
+            this.rowTransformer = rowTransformer;
+            this.lookupStage = lookupStage;
+            this.deadLetterPlan = deadLetterPlan;
+            for (String sourceColumn : columnMap.keySet()) {
+                mappedNames.put(sourceColumn.toLowerCase(), sourceColumn);
+            }
+            if (rowTransformer != null) {
+                for (String column : rowTransformer.getReferencedColumns()) {
+                    mappedNames.putIfAbsent(column.toLowerCase(), column);
+                }
+            }
+            this.deleteSql = String.format("DELETE FROM %s WHERE %s",
+                    tableMapping.getTargetTable(), primaryKey.targetCondition());
+        }
+
+        /**
+         * 복제 메시지의 테이블이 이 매핑의 sourceTable인지 (table 또는 schema.table, 대소문자 무시)
+         */
+        public boolean matches(PgOutputDecoder.Relation relation) {
+            String sourceTable = tableMapping.getSourceTable();
+            return sourceTable.equalsIgnoreCase(relation.getName())
+                    || sourceTable.equalsIgnoreCase(relation.qualifiedName());
+        }
+
+        public String getTargetTable() {
+            return tableMapping.getTargetTable();
+        }
+
+        /**
+         * 행 변경 메시지를 Target 변경으로 변환
+         * PK가 바뀐 UPDATE는 이전 PK 삭제 후 새 PK UPSERT로 나눕니다.
+         */
+        public List<Change> toChanges(PgOutputDecoder.Message message) {
+            List<Change> changes = new ArrayList<>(1);
+            if (message.getType() == PgOutputDecoder.Type.DELETE) {
+                RowKey key = primaryKey.keyOf(normalize(message.getOldTuple().getValues()));
+                changes.add(new Change(this, OP_DELETE, requireKey(key), null, Collections.emptySet()));
+                return changes;
+            }
+            Map<String, Object> row = normalize(message.getNewTuple().getValues());
+            RowKey key = requireKey(primaryKey.keyOf(row));
+            if (message.getOldTuple() != null) {
+                // 이전 PK 값이 모두 있을 때만 비교 (REPLICA IDENTITY FULL / PK 변경)
+                RowKey oldKey = primaryKey.keyOf(normalize(message.getOldTuple().getValues()));
+                if (!oldKey.hasNull() && !oldKey.equals(key)) {
+                    changes.add(new Change(this, OP_DELETE, oldKey, null, Collections.emptySet()));
+                }
+            }
+            Set<String> skipColumns = Collections.emptySet();
+            if (!message.getNewTuple().getUnchangedToast().isEmpty()) {
+                skipColumns = new HashSet<>();
+                for (String column : message.getNewTuple().getUnchangedToast()) {
+                    skipColumns.add(mappedNames.getOrDefault(column.toLowerCase(), column));
+                }
+            }
+            changes.add(new Change(this, OP_UPSERT, key, row, skipColumns));
+            return changes;
+        }
+
+        private Map<String, Object> normalize(Map<String, Object> values) {
+            Map<String, Object> row = new HashMap<>(values.size() * 2);
+            for (Map.Entry<String, Object> entry : values.entrySet()) {
+                row.put(mappedNames.getOrDefault(entry.getKey().toLowerCase(), entry.getKey()), entry.getValue());
+            }
+            return row;
+        }
+
+        private RowKey requireKey(RowKey key) {
+            if (key.hasNull()) {
+                throw new RuntimeException(String.format(
+                        "복제 메시지에 Source PK(%s) 값이 없습니다. REPLICA IDENTITY가 PK를 포함하는지 확인하세요: %s",
+                        String.join(", ", primaryKey.getSourceColumns()), tableMapping.getSourceTable()));
+            }
+            return key;
+        }
+
+        private synchronized String upsertSql(Set<String> skipColumns) {
+            return upsertSql.computeIfAbsent(skipColumns, skip -> {
+                List<String> targetColumns = new ArrayList<>();
+                for (Map.Entry<String, String> entry : columnMap.entrySet()) {
+                    if (!skip.contains(entry.getKey())) {
+                        targetColumns.add(entry.getValue());
+                    }
+                }
+                List<String> updates = targetColumns.stream()
+                        .filter(c -> !primaryKey.isTargetColumn(c))
+                        .map(c -> c + " = EXCLUDED." + c)
+                        .collect(Collectors.toList());
+                return String.format("INSERT INTO %s (%s) VALUES (%s) ON CONFLICT (%s) DO %s",
+                        tableMapping.getTargetTable(),
+                        String.join(", ", targetColumns),
+                        targetColumns.stream().map(c -> "?").collect(Collectors.joining(", ")),
+                        primaryKey.targetColumnList(),
+                        updates.isEmpty() ? "NOTHING" : "UPDATE SET " + String.join(", ", updates));
+            });
+        }
+    }
+
+    /**
+     * Target에 반영할 변경 하나 (UPSERT 또는 PK 삭제)
+     */
+    @Getter
+    public static class Change {
+        private final TableBinding table;
+        private final String op;
+        private final RowKey key;
+        // Source 컬럼명 -> 값 (UPSERT만)
+        private final Map<String, Object> row;
+        // 값이 전송되지 않아 반영하지 않을 Source 컬럼 (변경되지 않은 TOAST)
+        private final Set<String> skipColumns;
+        // 반영하지 못해 dead letter로 기록됨
+        private volatile boolean deadLettered;
+
+        Change(TableBinding table, String op, RowKey key, Map<String, Object> row, Set<String> skipColumns) {
+            this.table = table;
+            this.op = op;
+            this.key = key;
+            this.row = row;
+            this.skipColumns = skipColumns;
+        }
+
+        /**
+         * 병렬 반영 분배 키 (같은 테이블/PK의 변경은 같은 반영 스레드로 가서 순서가 유지됨)
+         * 변경마다 호출되므로 미리 계산해 둔 PK 해시를 그대로 사용합니다.
+         */
+        public int partitionHash() {
+            return 31 * table.getTargetTable().hashCode() + key.hashCode();
+        }
+
+        /**
+         * dead letter에 기록할 행 값 (DELETE는 Source PK 값만)
+         */
+        Map<String, Object> deadLetterRow() {
+            if (row != null) {
+                return row;
+            }
+            Map<String, Object> keyRow = new LinkedHashMap<>();
+            for (int i = 0; i < key.size(); i++) {
+                keyRow.put(table.primaryKey.getSourceColumns().get(i), key.get(i));
+            }
+            return keyRow;
+        }
+
+        String sql() {
+            return OP_DELETE.equals(op) ? table.deleteSql : table.upsertSql(skipColumns);
+        }
+
+        void bind(PreparedStatement pstmt) throws SQLException {
+            if (OP_DELETE.equals(op)) {
+                for (int i = 0; i < key.size(); i++) {
+                    setValue(pstmt, i + 1, key.get(i));
+                }
+                return;
+            }
+            int idx = 1;
+            for (String sourceColumn : table.columnMap.keySet()) {
+                if (!skipColumns.contains(sourceColumn)) {
+                    setValue(pstmt, idx++, row.get(sourceColumn));
+                }
+            }
+        }
+
+        private static void setValue(PreparedStatement pstmt, int idx, Object value) throws SQLException {
+            if (value instanceof String) {
+                // 타입을 알 수 없는 텍스트 값(timestamptz, uuid, json 등)은 서버에서 컬럼 타입으로 변환
+                pstmt.setObject(idx, value, Types.OTHER);
+            } else {
+                pstmt.setObject(idx, value);
+            }
+        }
+    }
+}
@@ -0,0 +1,637 @@
+package com.gims.module.dbsync.service;
+
+import com.gims.module.dbsync.client.ManagerApiClient;
+import com.gims.module.dbsync.config.SyncExecutionProperties;
+import com.gims.module.dbsync.dto.MappingConfigDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.replication.LogSequenceNumber;
+import org.postgresql.replication.PGReplicationStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.nio.ByteBuffer;
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * PostgreSQL 논리 복제 기반 CDC 동기화
+ *
+ * Source DB의 논리 복제 슬롯(pgoutput)을 구독해 매핑된 테이블의 INSERT / UPDATE / DELETE를 Target에 반영합니다.
+ * 기간 컬럼 폴링과 달리 Source 조회 부하가 없고 물리 삭제도 반영됩니다. (Source에 wal_level=logical 필요)
+ *
+ * - 커밋된 트랜잭션의 변경을 batch-size건 또는 flush-interval-ms 단위로 모아 Target 트랜잭션으로 반영합니다
+ * - 모은 변경은 (Target 테이블, PK) 해시로 appliers개의 반영 스레드에 나누어 병렬 반영하며, 같은 키의 변경 순서는 유지됩니다
+ * - 슬롯의 확인 LSN은 Target 커밋이 끝난 트랜잭션까지만 전송하므로, 재연결/재기동 시 반영하지 못한 변경부터 다시 받습니다
+ * - 반영은 PK 기준 UPSERT / DELETE라 같은 변경을 다시 받아도 결과가 같습니다
+ * - 행 단위 오류로 반영할 수 없는 변경은 dead letter로 기록하고 건너뛰어 확인 LSN이 계속 진행됩니다
+ *
+ * 슬롯을 만든 이후의 변경만 반영하므로 기존 데이터는 일반 동기화로 먼저 적재해야 합니다.
+ */
+@Slf4j
+@Service
+public class CdcSyncService {
+
+    private static final Pattern SLOT_NAME = Pattern.compile("[a-z0-9_]{1,63}");
+    private static final String OUTPUT_PLUGIN = "pgoutput";
+
+    private final CdcChangeApplier changeApplier;
+    private final DeadLetterStore deadLetterStore;
+    private final SyncConnectionManager connectionManager;
+    private final ManagerApiClient managerApiClient;
+    private final SyncExecutionProperties executionProperties;
+    private final MeterRegistry meterRegistry;
+
+    // moduleId -> CDC 작업
+    private final Map<String, CdcJob> jobs = new ConcurrentHashMap<>();
+
+    @Value("${sync.cdc.appliers:2}")
+    private int appliers;
+
+    @Value("${sync.cdc.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${sync.cdc.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    @Value("${sync.cdc.status-interval-ms:10000}")
+    private long statusIntervalMs;
+
+    @Value("${sync.cdc.retry-interval-ms:5000}")
+    private long retryIntervalMs;
+
+    @Value("${sync.cdc.create-publication:true}")
+    private boolean createPublication;
+
+    @Value("${sync.cdc.summary-interval-ms:60000}")
+    private long summaryIntervalMs;
+
+    @Value("${module.id}")
+    private String defaultModuleId;
+
+    public CdcSyncService(
+            CdcChangeApplier changeApplier,
+            DeadLetterStore deadLetterStore,
+            SyncConnectionManager connectionManager,
+            ManagerApiClient managerApiClient,
+            SyncExecutionProperties executionProperties,
+            MeterRegistry meterRegistry) {
+        this.changeApplier = changeApplier;
+        this.deadLetterStore = deadLetterStore;
+        this.connectionManager = connectionManager;
+        this.managerApiClient = managerApiClient;
+        this.executionProperties = executionProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (String moduleId : new ArrayList<>(jobs.keySet())) {
+            stop(moduleId, false);
+        }
+    }
+
+    /**
+     * CDC 시작
+     *
+     * @param slotName        복제 슬롯 이름 (null이면 dbsync_{moduleId}, 없으면 생성)
+     * @param publicationName 발행 이름 (null이면 슬롯 이름, 없으면 매핑 테이블로 생성)
+     * @return 작업 상태
+     */
+    public synchronized Map<String, Object> start(Long execId, MappingConfigDto config,
+                                                  String slotName, String publicationName) throws SQLException {
+        if (config == null || config.getTableMappings() == null || config.getTableMappings().isEmpty()) {
+            throw new RuntimeException("테이블 매핑 설정이 없습니다.");
+        }
+        String moduleId = config.getModuleId() != null ? config.getModuleId() : defaultModuleId;
+        if (jobs.containsKey(moduleId)) {
+            throw new RuntimeException("이미 CDC 동기화 중인 모듈입니다: " + moduleId);
+        }
+        String slot = slotName != null ? slotName : "dbsync_" + moduleId.toLowerCase().replaceAll("[^a-z0-9_]", "_");
+        String publication = publicationName != null ? publicationName : slot;
+        if (!SLOT_NAME.matcher(slot).matches() || !SLOT_NAME.matcher(publication).matches()) {
+            throw new RuntimeException(String.format(
+                    "슬롯/발행 이름은 영문 소문자, 숫자, _ 63자 이하만 사용할 수 있습니다: slot=%s, publication=%s",
+                    slot, publication));
+        }
+
+        // 일괄 / 연속 실행과 실행 슬롯 공유 (풀 크기가 동시 실행 수 기준)
+        connectionManager.tryAcquireExecutionSlot(execId);
+        CdcJob job;
+        try {
+            connectionManager.bindExecution(execId, config.getSourceConnection(), config.getTargetConnection());
+            List<CdcChangeApplier.TableBinding> tables = new ArrayList<>();
+            for (MappingConfigDto.TableMappingDto tm : config.getTableMappings()) {
+                tables.add(changeApplier.bind(execId, tm));
+            }
+            // 반영 스레드는 실행별 Target 커넥션 허용량을 넘지 않음
+            int applierCount = Math.max(1, Math.min(appliers, executionProperties.getMaxConnectionsPerExecution()));
+            job = new CdcJob(moduleId, execId, slot, publication, tables, applierCount);
+        } catch (SQLException | RuntimeException e) {
+            connectionManager.releaseExecution(execId);
+            connectionManager.releaseExecutionSlot(execId);
+            throw e;
+        }
+        managerApiClient.setProgressQuiet(execId, true);
+
+        job.meters.add(Gauge.builder("dbsync.cdc.lag", job, j -> j.lagSeconds)
+                .description("CDC 반영 지연 (마지막으로 반영한 트랜잭션의 Source 커밋 시각 기준)")
+                .baseUnit("seconds")
+                .tag("module", moduleId)
+                .register(meterRegistry));
+        for (String op : Arrays.asList(CdcChangeApplier.OP_UPSERT, CdcChangeApplier.OP_DELETE)) {
+            job.meters.add(job.counter(op, Counter.builder("dbsync.cdc.changes")
+                    .description("CDC로 반영한 변경 수")
+                    .tag("module", moduleId)
+                    .tag("op", op)
+                    .register(meterRegistry)));
+        }
+        jobs.put(moduleId, job);
+
+        log.info("CDC 시작: module={}, execId={}, slot={}, publication={}, 테이블 {}개, 반영 스레드 {}개",
+                moduleId, execId, slot, publication, job.tables.size(), job.applierCount);
+        managerApiClient.reportSummary(execId, "CDC 시작", 0L,
+                String.format("CDC 동기화를 시작합니다: slot=%s, publication=%s, 테이블 %d개",
+                        slot, publication, job.tables.size()), "INFO");
+        job.reader.start();
+        return describe(job);
+    }
+
+    /**
+     * CDC 중지 (모아 둔 변경은 반영 후 종료)
+     *
+     * @param dropSlot 복제 슬롯 삭제 여부 (삭제하지 않으면 다음 시작 시 이어서 반영하며, 중지 중에도 Source WAL이 보존됨)
+     * @return 최종 상태, CDC 동기화 중이 아니면 null
+     */
+    public Map<String, Object> stop(String moduleId, boolean dropSlot) {
+        CdcJob job = jobs.remove(moduleId);
+        if (job == null) {
+            return null;
+        }
+        job.stopped = true;
+        if (!awaitReader(job)) {
+            log.warn("CDC 수신 스레드가 종료되지 않아 인터럽트합니다: module={}", moduleId);
+            job.reader.interrupt();
+            awaitReader(job);
+        }
+        job.applierPool.shutdownNow();
+        job.meters.forEach(meterRegistry::remove);
+
+        if (dropSlot) {
+            try {
+                dropSlot(job);
+            } catch (SQLException e) {
+                log.error("복제 슬롯 삭제 실패: {}", job.slotName, e);
+                job.lastError = "복제 슬롯 삭제 실패: " + e.getMessage();
+            }
+        }
+        reportSummary(job, true);
+        deadLetterStore.drainCount(job.execId);
+        // 수신 스레드가 아직 커넥션을 쓰고 있으면 종료 시 반납
+        synchronized (job) {
+            if (job.readerEnded) {
+                releaseExecution(job);
+            } else {
+                log.error("CDC 수신 스레드가 종료되지 않았습니다. 스레드 종료 시 커넥션/실행 슬롯을 반납합니다: module={}", moduleId);
+                job.releaseOnReaderExit = true;
+            }
+        }
+        managerApiClient.setProgressQuiet(job.execId, false);
+
+        long elapsedMs = System.currentTimeMillis() - job.startedAt;
+        managerApiClient.reportExecutionComplete(job.execId, job.errors == 0 && job.deadLettered == 0, job.applied,
+                job.errors + job.deadLettered,
+                String.format("CDC 동기화 종료: 트랜잭션 %d건, 변경 %d건 반영, dead letter %d건, 오류 %d건",
+                        job.transactions, job.applied, job.deadLettered, job.errors),
+                job.lastError, elapsedMs);
+        log.info("CDC 중지: module={}, 변경 {}건, dead letter {}건, 오류 {}건, 확인 LSN {}", moduleId, job.applied,
+                job.deadLettered, job.errors, LogSequenceNumber.valueOf(job.ackedLsn).asString());
+        return describe(job);
+    }
+
+    /**
+     * CDC 작업 상태 목록
+     */
+    public List<Map<String, Object>> status() {
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (CdcJob job : jobs.values()) {
+            result.add(describe(job));
+        }
+        return result;
+    }
+
+    /**
+     * 수신 스레드 종료 대기 (최대 connection-timeout-ms x 2)
+     *
+     * @return 종료 여부
+     */
+    private boolean awaitReader(CdcJob job) {
+        try {
+            job.reader.join(executionProperties.getConnectionTimeoutMs() * 2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return !job.reader.isAlive();
+    }
+
+    private void releaseExecution(CdcJob job) {
+        connectionManager.releaseExecution(job.execId);
+        connectionManager.releaseExecutionSlot(job.execId);
+    }
+
+    /**
+     * 복제 스트림 수신 루프 (오류 시 retry-interval-ms 후 마지막 확인 LSN부터 재연결)
+     */
+    private void run(CdcJob job) {
+        try {
+            receiveUntilStopped(job);
+        } finally {
+            synchronized (job) {
+                job.readerEnded = true;
+                if (job.releaseOnReaderExit) {
+                    releaseExecution(job);
+                    log.info("CDC 수신 스레드 종료, 커넥션/실행 슬롯 반납: module={}", job.moduleId);
+                }
+            }
+        }
+    }
+
+    private void receiveUntilStopped(CdcJob job) {
+        while (!job.stopped) {
+            try {
+                stream(job);
+            } catch (Exception e) {
+                if (job.stopped) {
+                    break;
+                }
+                job.errors++;
+                job.errorsSinceSummary++;
+                job.lastError = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+                log.error("CDC 오류, {}ms 후 재연결: module={}", retryIntervalMs, job.moduleId, e);
+                managerApiClient.reportSummary(job.execId, "CDC 오류", job.applied,
+                        String.format("CDC 반영 오류 (%dms 후 마지막 확인 LSN부터 재연결): %s", retryIntervalMs, job.lastError),
+                        "ERROR");
+                sleepUntilStopped(job, retryIntervalMs);
+            }
+        }
+    }
+
+    private void stream(CdcJob job) throws Exception {
+        try (Connection conn = connectionManager.openSourceReplicationConnection(job.execId)) {
+            PGConnection pgConnection = conn.unwrap(PGConnection.class);
+            ensurePublication(conn, job);
+            ensureSlot(conn, pgConnection, job);
+
+            PGReplicationStream stream = pgConnection.getReplicationAPI()
+                    .replicationStream()
+                    .logical()
+                    .withSlotName(job.slotName)
+                    .withSlotOption("proto_version", "1")
+                    .withSlotOption("publication_names", job.publicationName)
+                    .withStatusInterval((int) statusIntervalMs, TimeUnit.MILLISECONDS)
+                    .start();
+            log.info("CDC 복제 스트림 연결: module={}, slot={}", job.moduleId, job.slotName);
+            try {
+                receive(job, stream);
+            } finally {
+                stream.close();
+            }
+        }
+    }
+
+    private void receive(CdcJob job, PGReplicationStream stream) throws Exception {
+        PgOutputDecoder decoder = new PgOutputDecoder();
+        // relation OID -> 테이블 매핑 (매핑되지 않은 테이블은 null)
+        Map<Integer, Optional<CdcChangeApplier.TableBinding>> bindings = new HashMap<>();
+        PendingBatch batch = new PendingBatch();
+        boolean inTransaction = false;
+        Timestamp transactionCommitTime = null;
+
+        while (!job.stopped) {
+            ByteBuffer buffer = stream.readPending();
+            if (buffer == null) {
+                if (!batch.changes.isEmpty() && System.currentTimeMillis() - batch.firstAt >= flushIntervalMs) {
+                    flush(job, stream, batch);
+                } else if (batch.changes.isEmpty() && !inTransaction) {
+                    // 반영할 변경이 없으면 수신 위치까지 확인 (Source WAL 보존 최소화)
+                    acknowledge(job, stream, Math.max(batch.ackableLsn, stream.getLastReceiveLSN().asLong()), false);
+                    job.lagSeconds = 0;
+                }
+                reportSummaryIfDue(job);
+                Thread.sleep(10);
+                continue;
+            }
+
+            PgOutputDecoder.Message message = decoder.decode(buffer);
+            if (message == null) {
+                continue;
+            }
+            switch (message.getType()) {
+                case BEGIN:
+                    inTransaction = true;
+                    transactionCommitTime = message.getCommitTime();
+                    break;
+                case COMMIT:
+                    inTransaction = false;
+                    job.transactions++;
+                    batch.ackableLsn = message.getEndLsn();
+                    batch.lastCommitTime = message.getCommitTime();
+                    if (batch.changes.isEmpty()) {
+                        acknowledge(job, stream, batch.ackableLsn, false);
+                    }
+                    break;
+                case TRUNCATE:
+                    for (PgOutputDecoder.Relation relation : message.getTruncated()) {
+                        if (resolve(job, bindings, relation) != null) {
+                            log.warn("CDC: Source TRUNCATE는 반영하지 않습니다: {}", relation.qualifiedName());
+                            managerApiClient.reportSummary(job.execId, "CDC 경고", job.applied,
+                                    String.format("Source 테이블 %s TRUNCATE는 반영하지 않습니다 (일반 동기화로 재적재 필요)",
+                                            relation.qualifiedName()), "WARN");
+                        }
+                    }
+                    break;
+                default:
+                    CdcChangeApplier.TableBinding table = resolve(job, bindings, message.getRelation());
+                    if (table != null) {
+                        if (batch.changes.isEmpty()) {
+                            batch.firstAt = System.currentTimeMillis();
+                        }
+                        batch.changes.addAll(table.toChanges(message));
+                        batch.lastCommitTime = transactionCommitTime;
+                    }
+                    break;
+            }
+            // 큰 트랜잭션은 커밋 전에도 나누어 반영 (확인 LSN은 이전 커밋까지만)
+            if (batch.changes.size() >= batchSize) {
+                flush(job, stream, batch);
+            }
+        }
+        flush(job, stream, batch);
+    }
+
+    private CdcChangeApplier.TableBinding resolve(CdcJob job, Map<Integer, Optional<CdcChangeApplier.TableBinding>> bindings,
+                                                  PgOutputDecoder.Relation relation) {
+        return bindings.computeIfAbsent(relation.getOid(), oid -> job.tables.stream()
+                .filter(table -> table.matches(relation))
+                .findFirst()).orElse(null);
+    }
+
+    /**
+     * 모아 둔 변경을 반영 스레드별로 나누어 병렬 반영 후 확인 LSN 전송
+     */
+    private void flush(CdcJob job, PGReplicationStream stream, PendingBatch batch) throws Exception {
+        List<CdcChangeApplier.Change> changes = batch.changes;
+        if (!changes.isEmpty()) {
+            changeApplier.prepareRows(changes);
+
+            List<List<CdcChangeApplier.Change>> partitions = new ArrayList<>();
+            for (int i = 0; i < job.applierCount; i++) {
+                partitions.add(new ArrayList<>());
+            }
+            for (CdcChangeApplier.Change change : changes) {
+                partitions.get(Math.floorMod(change.partitionHash(), job.applierCount)).add(change);
+            }
+            List<Callable<Integer>> tasks = new ArrayList<>();
+            for (List<CdcChangeApplier.Change> partition : partitions) {
+                if (!partition.isEmpty()) {
+                    tasks.add(() -> changeApplier.apply(job.execId, partition));
+                }
+            }
+            if (tasks.size() == 1) {
+                tasks.get(0).call();
+            } else {
+                for (Future<Integer> future : job.applierPool.invokeAll(tasks)) {
+                    try {
+                        future.get();
+                    } catch (ExecutionException e) {
+                        throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                    }
+                }
+            }
+
+            int applied = 0;
+            for (CdcChangeApplier.Change change : changes) {
+                if (change.isDeadLettered()) {
+                    job.deadLettered++;
+                    job.deadLetteredSinceSummary++;
+                } else {
+                    job.opCounters.get(change.getOp()).increment();
+                    applied++;
+                }
+            }
+            job.applied += applied;
+            job.appliedSinceSummary += applied;
+            if (batch.lastCommitTime != null) {
+                job.lagSeconds = (System.currentTimeMillis() - batch.lastCommitTime.getTime()) / 1000.0;
+            }
+            changes.clear();
+        }
+        acknowledge(job, stream, batch.ackableLsn, true);
+    }
+
+    /**
+     * 반영이 끝난 위치를 슬롯 확인 LSN으로 전송
+     */
+    private void acknowledge(CdcJob job, PGReplicationStream stream, long lsn, boolean force) throws SQLException {
+        if (lsn <= job.ackedLsn) {
+            return;
+        }
+        LogSequenceNumber position = LogSequenceNumber.valueOf(lsn);
+        stream.setAppliedLSN(position);
+        stream.setFlushedLSN(position);
+        if (force) {
+            stream.forceUpdateStatus();
+        }
+        job.ackedLsn = lsn;
+    }
+
+    private void ensurePublication(Connection conn, CdcJob job) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement("SELECT 1 FROM pg_publication WHERE pubname = ?")) {
+            pstmt.setString(1, job.publicationName);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return;
+                }
+            }
+        }
+        if (!createPublication) {
+            throw new RuntimeException("Source DB에 발행(publication)이 없습니다: " + job.publicationName);
+        }
+        StringJoiner tables = new StringJoiner(", ");
+        for (CdcChangeApplier.TableBinding table : job.tables) {
+            tables.add(table.getTableMapping().getSourceTable());
+        }
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE PUBLICATION " + job.publicationName + " FOR TABLE " + tables);
+        }
+        log.info("CDC 발행 생성: {} ({})", job.publicationName, tables);
+    }
+
+    private void ensureSlot(Connection conn, PGConnection pgConnection, CdcJob job) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "SELECT plugin FROM pg_replication_slots WHERE slot_name = ?")) {
+            pstmt.setString(1, job.slotName);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    if (!OUTPUT_PLUGIN.equals(rs.getString(1))) {
+                        throw new RuntimeException(String.format("복제 슬롯 %s의 출력 플러그인이 %s가 아닙니다: %s",
+                                job.slotName, OUTPUT_PLUGIN, rs.getString(1)));
+                    }
+                    return;
+                }
+            }
+        }
+        pgConnection.getReplicationAPI()
+                .createReplicationSlot()
+                .logical()
+                .withSlotName(job.slotName)
+                .withOutputPlugin(OUTPUT_PLUGIN)
+                .make();
+        log.info("CDC 복제 슬롯 생성: {} (이후 커밋된 변경부터 반영)", job.slotName);
+    }
+
+    private void dropSlot(CdcJob job) throws SQLException {
+        try (Connection conn = connectionManager.openSourceReplicationConnection(job.execId);
+             PreparedStatement pstmt = conn.prepareStatement(
+                     "SELECT pg_drop_replication_slot(slot_name) FROM pg_replication_slots WHERE slot_name = ?")) {
+            pstmt.setString(1, job.slotName);
+            pstmt.execute();
+        }
+        log.info("CDC 복제 슬롯 삭제: {}", job.slotName);
+    }
+
+    private void reportSummaryIfDue(CdcJob job) {
+        if (System.currentTimeMillis() - job.lastSummaryAt >= summaryIntervalMs) {
+            reportSummary(job, false);
+        }
+    }
+
+    /**
+     * 관리 시스템에 요약 보고 (트랜잭션별 진행 상황은 보고하지 않음)
+     */
+    private void reportSummary(CdcJob job, boolean finalReport) {
+        String message = String.format(
+                "CDC%s: 변경 %d건 반영 (누적 %d건), dead letter %d건, 오류 %d건, 지연 %.1f초, 확인 LSN %s",
+                finalReport ? " 종료" : "", job.appliedSinceSummary, job.applied, job.deadLetteredSinceSummary,
+                job.errorsSinceSummary, job.lagSeconds, LogSequenceNumber.valueOf(job.ackedLsn).asString());
+        String logLevel = job.errorsSinceSummary > 0 || job.deadLetteredSinceSummary > 0 ? "WARN" : "INFO";
+        log.info("[{}] {}", job.moduleId, message);
+        managerApiClient.reportSummary(job.execId, "CDC 요약", job.applied,
+                job.errorsSinceSummary > 0 ? message + " (마지막 오류: " + job.lastError + ")" : message, logLevel);
+        job.appliedSinceSummary = 0;
+        job.errorsSinceSummary = 0;
+        job.deadLetteredSinceSummary = 0;
+        job.lastSummaryAt = System.currentTimeMillis();
+    }
+
+    private void sleepUntilStopped(CdcJob job, long millis) {
+        long until = System.currentTimeMillis() + millis;
+        while (!job.stopped && System.currentTimeMillis() < until) {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private Map<String, Object> describe(CdcJob job) {
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("moduleId", job.moduleId);
+        info.put("execId", job.execId);
+        info.put("slot", job.slotName);
+        info.put("publication", job.publicationName);
+        info.put("appliers", job.applierCount);
+        info.put("stopped", job.stopped);
+        info.put("startedAt", job.startedAtTime);
+        info.put("transactions", job.transactions);
+        info.put("applied", job.applied);
+        info.put("deadLettered", job.deadLettered);
+        info.put("errors", job.errors);
+        info.put("lagSeconds", job.lagSeconds);
+        info.put("confirmedLsn", LogSequenceNumber.valueOf(job.ackedLsn).asString());
+        info.put("lastError", job.lastError);
+        List<String> tables = new ArrayList<>();
+        for (CdcChangeApplier.TableBinding table : job.tables) {
+            tables.add(table.getTableMapping().getSourceTable() + "->" + table.getTargetTable());
+        }
+        info.put("tables", tables);
+        return info;
+    }
+
+    /**
+     * 반영 대기 중인 변경과 확인 가능한 위치
+     */
+    private static class PendingBatch {
+        private final List<CdcChangeApplier.Change> changes = new ArrayList<>();
+        // 마지막으로 수신한 커밋의 종료 LSN (changes 반영 후 확인 가능)
+        private long ackableLsn;
+        private Timestamp lastCommitTime;
+        private long firstAt;
+    }
+
+    private class CdcJob {
+        private final String moduleId;
+        private final Long execId;
+        private final String slotName;
+        private final String publicationName;
+        private final List<CdcChangeApplier.TableBinding> tables;
+        private final int applierCount;
+        private final ExecutorService applierPool;
+        private final Thread reader;
+        private final long startedAt = System.currentTimeMillis();
+        private final LocalDateTime startedAtTime = LocalDateTime.now();
+        private final List<Meter> meters = new ArrayList<>();
+        private final Map<String, Counter> opCounters = new HashMap<>();
+
+        private volatile boolean stopped;
+        // 수신 스레드 종료 여부 / 중지 후 수신 스레드가 종료할 때 실행 정리 (job 잠금으로 보호)
+        private boolean readerEnded;
+        private boolean releaseOnReaderExit;
+        private volatile long transactions;
+        private volatile long applied;
+        private volatile long errors;
+        private volatile long deadLettered;
+        private volatile double lagSeconds;
+        private volatile long ackedLsn;
+        private volatile String lastError;
+
+        private long appliedSinceSummary;
+        private long errorsSinceSummary;
+        private long deadLetteredSinceSummary;
+        private long lastSummaryAt = System.currentTimeMillis();
+
+        CdcJob(String moduleId, Long execId, String slotName, String publicationName,
+               List<CdcChangeApplier.TableBinding> tables, int applierCount) {
+            this.moduleId = moduleId;
+            this.execId = execId;
+            this.slotName = slotName;
+            this.publicationName = publicationName;
+            this.tables = tables;
+            this.applierCount = applierCount;
+            AtomicInteger threadNumber = new AtomicInteger();
+            this.applierPool = Executors.newFixedThreadPool(applierCount, r -> {
+                Thread thread = new Thread(r, "dbsync-cdc-apply-" + moduleId + "-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.reader = new Thread(() -> run(this), "dbsync-cdc-" + moduleId);
+            this.reader.setDaemon(true);
+        }
+
+        Counter counter(String op, Counter counter) {
+            opCounters.put(op, counter);
+            return counter;
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package com.gims.module.dbsync.service;
+
+import com.gims.module.dbsync.dto.MappingConfigDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.*;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * 컬럼 참조 값 조회(lookup) 처리기
+ *
+ * 컬럼 매핑에 lookup이 지정되면 Source 값(자연 키)을 참조 테이블에서 찾아 대리 키 등 다른 컬럼 값으로 바꿔 저장합니다.
+ * 행 단위로 조회하지 않고, 조회 배치마다 캐시에 없는 키만 모아 "WHERE key = ANY(?)" 한 번으로 조회합니다.
+ *
+ * - 조회 결과는 크기 제한 LRU 캐시(LookupCache)에 보관되며, 참조 테이블에 없는 키도 캐시됩니다
+ * - 참조 테이블이 sync.lookup.preload-max-rows 이하이면 시작 시 전체를 적재하고 이후 DB를 조회하지 않습니다
+ * - 캐시 적중/미적중은 dbsync.lookup 카운터(lookup, result 태그)와 테이블 동기화 종료 시 진행 상황으로 보고됩니다
+ */
+@Slf4j
+@Component
+public class ColumnLookupResolver {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?");
+    private static final String DB_TARGET = "TARGET";
+    private static final String DB_SOURCE = "SOURCE";
+    private static final String ON_MISSING_NULL = "NULL";
+    private static final String ON_MISSING_FAIL = "FAIL";
+
+    // 키 컬럼의 배열 요소 타입명 (createArrayOf 용)
+    private static final String KEY_TYPE_SQL =
+            "SELECT t.typname FROM pg_attribute a JOIN pg_type t ON t.oid = a.atttypid " +
+            "WHERE a.attrelid = ?::regclass AND a.attname = ? AND NOT a.attisdropped";
+
+    private final SyncConnectionManager connectionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${sync.lookup.cache-size:100000}")
+    private int defaultCacheSize;
+
+    @Value("${sync.lookup.preload-max-rows:50000}")
+    private int preloadMaxRows;
+
+    public ColumnLookupResolver(SyncConnectionManager connectionManager, MeterRegistry meterRegistry) {
+        this.connectionManager = connectionManager;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 컬럼 매핑의 lookup 준비 (참조 테이블 확인 및 작은 테이블 선적재)
+     *
+     * @return lookup이 하나도 없으면 null
+     */
+    public LookupStage prepare(Long execId, List<MappingConfigDto.ColumnMappingDto> columnMappings) throws SQLException {
+        if (columnMappings == null) {
+            return null;
+        }
+        List<ColumnLookup> lookups = new ArrayList<>();
+        for (MappingConfigDto.ColumnMappingDto cm : columnMappings) {
+            if (cm.getLookup() != null) {
+                lookups.add(prepareLookup(execId, cm));
+            }
+        }
+        return lookups.isEmpty() ? null : new LookupStage(execId, lookups);
+    }
+
+    private ColumnLookup prepareLookup(Long execId, MappingConfigDto.ColumnMappingDto cm) throws SQLException {
+        MappingConfigDto.LookupDto lookup = cm.getLookup();
+        String database = lookup.getDatabase() == null ? DB_TARGET : lookup.getDatabase().toUpperCase();
+        String onMissing = lookup.getOnMissing() == null ? ON_MISSING_NULL : lookup.getOnMissing().toUpperCase();
+        if (!DB_TARGET.equals(database) && !DB_SOURCE.equals(database)) {
+            throw new RuntimeException(String.format("lookup database는 TARGET 또는 SOURCE만 지정할 수 있습니다: %s (%s)",
+                    lookup.getDatabase(), cm.getSourceColumn()));
+        }
+        if (!ON_MISSING_NULL.equals(onMissing) && !ON_MISSING_FAIL.equals(onMissing)) {
+            throw new RuntimeException(String.format("lookup onMissing은 NULL 또는 FAIL만 지정할 수 있습니다: %s (%s)",
+                    lookup.getOnMissing(), cm.getSourceColumn()));
+        }
+        for (String identifier : new String[]{lookup.getTable(), lookup.getKeyColumn(), lookup.getValueColumn()}) {
+            if (identifier == null || !IDENTIFIER.matcher(identifier).matches()) {
+                throw new RuntimeException(String.format("lookup 테이블/컬럼명이 올바르지 않습니다: %s (%s)",
+                        identifier, cm.getSourceColumn()));
+            }
+        }
+
+        ColumnLookup columnLookup = new ColumnLookup(cm.getSourceColumn(), lookup, DB_SOURCE.equals(database),
+                ON_MISSING_FAIL.equals(onMissing));
+
+        try (Connection conn = connection(execId, columnLookup)) {
+            columnLookup.keyType = resolveKeyType(conn, lookup);
+            int cacheSize = lookup.getCacheSize() != null ? lookup.getCacheSize() : defaultCacheSize;
+            long rowCount = boundedCount(conn, lookup.getTable(), preloadMaxRows);
+            if (rowCount <= preloadMaxRows) {
+                columnLookup.cache = new LookupCache(Math.max(cacheSize, (int) rowCount));
+                preload(conn, columnLookup);
+            } else {
+                columnLookup.cache = new LookupCache(cacheSize);
+            }
+        }
+
+        log.info("  lookup 준비: {} -> {}.{}({}) [{}], {}", cm.getSourceColumn(), lookup.getTable(),
+                lookup.getValueColumn(), lookup.getKeyColumn(), database,
+                columnLookup.preloaded ? "전체 선적재 " + columnLookup.cache.size() + "건"
+                        : "캐시 " + columnLookup.cache.getMaxSize() + "건");
+        return columnLookup;
+    }
+
+    private String resolveKeyType(Connection conn, MappingConfigDto.LookupDto lookup) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(KEY_TYPE_SQL)) {
+            pstmt.setString(1, lookup.getTable());
+            pstmt.setString(2, lookup.getKeyColumn().toLowerCase());
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (!rs.next()) {
+                    throw new RuntimeException(String.format("lookup 키 컬럼이 없습니다: %s.%s",
+                            lookup.getTable(), lookup.getKeyColumn()));
+                }
+                return rs.getString(1);
+            }
+        }
+    }
+
+    /**
+     * limit + 1 건까지만 세어 선적재 대상 여부 판단
+     */
+    private long boundedCount(Connection conn, String table, int limit) throws SQLException {
+        String sql = String.format("SELECT count(*) FROM (SELECT 1 FROM %s LIMIT %d) t", table, limit + 1);
+        try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private void preload(Connection conn, ColumnLookup lookup) throws SQLException {
+        String sql = String.format("SELECT %s, %s FROM %s",
+                lookup.definition.getKeyColumn(), lookup.definition.getValueColumn(), lookup.definition.getTable());
+        try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(sql)) {
+            while (rs.next()) {
+                lookup.cache.put(LookupCache.normalizeKey(rs.getObject(1)), rs.getObject(2));
+            }
+        }
+        lookup.preloaded = true;
+    }
+
+    private Connection connection(Long execId, ColumnLookup lookup) throws SQLException {
+        return lookup.sourceDatabase
+                ? connectionManager.getSourceConnection(execId)
+                : connectionManager.getTargetConnection(execId);
+    }
+
+    /**
+     * 컬럼 하나의 lookup 설정과 캐시
+     */
+    private static class ColumnLookup {
+        private final String sourceColumn;
+        private final MappingConfigDto.LookupDto definition;
+        private final boolean sourceDatabase;
+        private final boolean failOnMissing;
+        private String keyType;
+        private LookupCache cache;
+        private boolean preloaded;
+        private long queries;
+        private long notFound;
+
+        ColumnLookup(String sourceColumn, MappingConfigDto.LookupDto definition,
+                     boolean sourceDatabase, boolean failOnMissing) {
+            this.sourceColumn = sourceColumn;
+            this.definition = definition;
+            this.sourceDatabase = sourceDatabase;
+            this.failOnMissing = failOnMissing;
+        }
+
+        String name() {
+            return definition.getTable() + "." + definition.getKeyColumn();
+        }
+    }
+
+    /**
+     * 테이블 동기화 하나의 lookup 단계 (조회 배치마다 적용)
+     */
+    public class LookupStage {
+        private final Long execId;
+        private final List<ColumnLookup> lookups;
+
+        private LookupStage(Long execId, List<ColumnLookup> lookups) {
+            this.execId = execId;
+            this.lookups = lookups;
+        }
+
+        /**
+         * 조회 중 실행의 Target 커넥션을 사용하는지 여부 (선적재하지 않은 TARGET lookup이 있으면 true)
+         */
+        public boolean queriesTarget() {
+            for (ColumnLookup lookup : lookups) {
+                if (!lookup.sourceDatabase && !lookup.preloaded) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 배치의 lookup 컬럼 값을 참조 테이블 값으로 교체
+         */
+        public void resolve(List<Map<String, Object>> batch) throws SQLException {
+            for (ColumnLookup lookup : lookups) {
+                resolveColumn(lookup, batch);
+            }
+        }
+
+        private void resolveColumn(ColumnLookup lookup, List<Map<String, Object>> batch) throws SQLException {
+            LookupCache cache = lookup.cache;
+            long hitsBefore = cache.getHits();
+            long missesBefore = cache.getMisses();
+
+            // 1. 캐시 조회, 캐시에 없는 키 수집 (배치 안의 중복 키는 한 번만)
+            Object[] resolved = new Object[batch.size()];
+            Map<Object, Object> pending = new LinkedHashMap<>();
+            for (int i = 0; i < batch.size(); i++) {
+                Object key = batch.get(i).get(lookup.sourceColumn);
+                if (key == null) {
+                    continue;
+                }
+                Object normalized = LookupCache.normalizeKey(key);
+                if (pending.containsKey(normalized)) {
+                    resolved[i] = LookupCache.ABSENT;
+                    continue;
+                }
+                resolved[i] = cache.get(normalized);
+                if (resolved[i] == LookupCache.ABSENT) {
+                    pending.put(normalized, key);
+                }
+            }
+
+            // 2. 캐시에 없는 키를 한 번에 조회 (선적재된 경우 캐시에 없으면 참조 테이블에도 없음)
+            Map<Object, Object> found = pending.isEmpty() || lookup.preloaded
+                    ? Collections.emptyMap()
+                    : query(lookup, pending.values());
+            if (!lookup.preloaded) {
+                // 선적재 캐시에는 미존재 키를 넣지 않음 (용량 초과로 선적재 값이 제거되지 않도록)
+                for (Object normalized : pending.keySet()) {
+                    if (found.containsKey(normalized)) {
+                        cache.put(normalized, found.get(normalized));
+                    } else {
+                        cache.putNotFound(normalized);
+                    }
+                }
+            }
+
+            // 3. 값 교체 (캐시 용량보다 배치의 키가 많아 이미 제거된 경우를 위해 조회 결과를 직접 사용)
+            for (int i = 0; i < batch.size(); i++) {
+                Map<String, Object> row = batch.get(i);
+                Object value = resolved[i];
+                if (value == null) {
+                    continue;
+                }
+                if (value == LookupCache.ABSENT) {
+                    Object normalized = LookupCache.normalizeKey(row.get(lookup.sourceColumn));
+                    value = found.containsKey(normalized) ? found.get(normalized) : LookupCache.NOT_FOUND;
+                }
+                if (value == LookupCache.NOT_FOUND) {
+                    lookup.notFound++;
+                    if (lookup.failOnMissing) {
+                        throw new RuntimeException(String.format("lookup 대상이 없습니다: %s = %s (%s)",
+                                lookup.name(), row.get(lookup.sourceColumn), lookup.sourceColumn));
+                    }
+                    value = null;
+                } else if (value == LookupCache.NULL_VALUE) {
+                    value = null;
+                }
+                row.put(lookup.sourceColumn, value);
+            }
+
+            counter(lookup, "hit").increment(cache.getHits() - hitsBefore);
+            counter(lookup, "miss").increment(cache.getMisses() - missesBefore);
+        }
+
+        private Map<Object, Object> query(ColumnLookup lookup, Collection<Object> keys) throws SQLException {
+            MappingConfigDto.LookupDto definition = lookup.definition;
+            String sql = String.format("SELECT %s, %s FROM %s WHERE %s = ANY(?)",
+                    definition.getKeyColumn(), definition.getValueColumn(), definition.getTable(),
+                    definition.getKeyColumn());
+            Map<Object, Object> found = new HashMap<>();
+            try (Connection conn = connection(execId, lookup);
+                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                pstmt.setArray(1, conn.createArrayOf(lookup.keyType, keys.toArray()));
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        found.put(LookupCache.normalizeKey(rs.getObject(1)), rs.getObject(2));
+                    }
+                }
+            }
+            lookup.queries++;
+            return found;
+        }
+
+        /**
+         * lookup별 캐시 통계 (진행 상황 보고용)
+         */
+        public List<String> summaries() {
+            List<String> summaries = new ArrayList<>();
+            for (ColumnLookup lookup : lookups) {
+                LookupCache cache = lookup.cache;
+                summaries.add(String.format("%s -> %s: 캐시 적중률 %.1f%% (적중 %d, 미적중 %d), DB 조회 %d회, 미존재 %d건%s",
+                        lookup.sourceColumn, lookup.definition.getTable() + "." + lookup.definition.getValueColumn(),
+                        cache.getHitRate() * 100, cache.getHits(), cache.getMisses(),
+                        lookup.queries, lookup.notFound, lookup.preloaded ? ", 전체 선적재" : ""));
+            }
+            return summaries;
+        }
+    }
+
+    private Counter counter(ColumnLookup lookup, String result) {
+        return Counter.builder("dbsync.lookup")
+                .description("lookup 캐시 적중/미적중 건수")
+                .tag("lookup", lookup.name())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
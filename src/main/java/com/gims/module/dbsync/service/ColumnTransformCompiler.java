@@ -0,0 +1,556 @@
+package com.gims.module.dbsync.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 컬럼 변환식 컴파일러
+ *
+ * 컬럼 매핑의 transform 변환식을 한 번만 파싱하여 람다 체인으로 컴파일합니다.
+ * 변환식은 '|'로 연결한 함수 목록이며 왼쪽부터 순서대로 적용됩니다.
+ *
+ * <pre>
+ *   trim | upper
+ *   emptytonull | default('N/A')
+ *   cast(int)
+ *   mask(4)                               마지막 4자리만 남기고 '*' 처리
+ *   sha256
+ *   concat(first_name, ' ', last_name)
+ * </pre>
+ *
+ * 함수 인자 중 따옴표 문자열과 숫자는 상수, 따옴표 없는 이름은 같은 행의 Source 컬럼 값(변환 전 원본),
+ * '$'는 앞 단계까지 변환된 현재 값입니다.
+ */
+public final class ColumnTransformCompiler {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /**
+     * 컴파일된 컬럼 변환 (value: 현재 값, row: 변환 전 원본 행)
+     */
+    @FunctionalInterface
+    public interface ColumnTransform {
+        Object apply(Object value, Map<String, Object> row);
+    }
+
+    /**
+     * 컴파일 결과
+     */
+    public static final class CompiledTransform {
+        private final String expression;
+        private final ColumnTransform transform;
+        private final Set<String> referencedColumns;
+
+        private CompiledTransform(String expression, ColumnTransform transform, Set<String> referencedColumns) {
+            this.expression = expression;
+            this.transform = transform;
+            this.referencedColumns = referencedColumns;
+        }
+
+        public String getExpression() {
+            return expression;
+        }
+
+        public ColumnTransform getTransform() {
+            return transform;
+        }
+
+        /**
+         * 변환식에서 참조하는 Source 컬럼 (조회 대상에 포함되어야 함)
+         */
+        public Set<String> getReferencedColumns() {
+            return referencedColumns;
+        }
+    }
+
+    // 함수 인자: 상수 / 컬럼 참조 / 현재 값
+    @FunctionalInterface
+    private interface Arg {
+        Object get(Object value, Map<String, Object> row);
+    }
+
+    // 따옴표 없는 이름 인자 (컬럼 참조, cast 에서는 타입명)
+    private static final class ColumnName {
+        private final String name;
+
+        ColumnName(String name) {
+            this.name = name;
+        }
+    }
+
+    private ColumnTransformCompiler() {
+    }
+
+    /**
+     * 변환식 컴파일
+     *
+     * @throws IllegalArgumentException 문법 오류 또는 지원하지 않는 함수
+     */
+    public static CompiledTransform compile(String expression) {
+        if (expression == null || expression.trim().isEmpty()) {
+            throw new IllegalArgumentException("변환식이 비어 있습니다.");
+        }
+        Parser parser = new Parser(expression);
+        ColumnTransform chain = null;
+        do {
+            ColumnTransform step = parser.parseStep();
+            chain = chain == null ? step : andThen(chain, step);
+        } while (parser.consume('|'));
+        parser.expectEnd();
+        return new CompiledTransform(expression.trim(), chain, parser.referencedColumns);
+    }
+
+    private static ColumnTransform andThen(ColumnTransform first, ColumnTransform second) {
+        return (value, row) -> second.apply(first.apply(value, row), row);
+    }
+
+    // ===== 함수 =====
+
+    private static ColumnTransform function(String name, List<Arg> args, List<Object> literals) {
+        switch (name) {
+            case "trim":
+                checkArgs(name, args, 0, 0);
+                return (value, row) -> value == null ? null : value.toString().trim();
+            case "ltrim":
+                checkArgs(name, args, 0, 0);
+                return (value, row) -> value == null ? null : trimLeading(value.toString());
+            case "rtrim":
+                checkArgs(name, args, 0, 0);
+                return (value, row) -> value == null ? null : trimTrailing(value.toString());
+            case "upper":
+                checkArgs(name, args, 0, 0);
+                return (value, row) -> value == null ? null : value.toString().toUpperCase();
+            case "lower":
+                checkArgs(name, args, 0, 0);
+                return (value, row) -> value == null ? null : value.toString().toLowerCase();
+            case "emptytonull":
+                checkArgs(name, args, 0, 0);
+                return (value, row) -> value == null || value.toString().trim().isEmpty() ? null : value;
+            case "nullif": {
+                checkArgs(name, args, 1, 1);
+                String target = String.valueOf(literal(name, literals, 0));
+                return (value, row) -> value != null && target.equals(value.toString()) ? null : value;
+            }
+            case "default":
+            case "coalesce": {
+                checkArgs(name, args, 1, Integer.MAX_VALUE);
+                Arg[] fallbacks = args.toArray(new Arg[0]);
+                return (value, row) -> {
+                    if (value != null) {
+                        return value;
+                    }
+                    for (Arg fallback : fallbacks) {
+                        Object candidate = fallback.get(null, row);
+                        if (candidate != null) {
+                            return candidate;
+                        }
+                    }
+                    return null;
+                };
+            }
+            case "cast": {
+                checkArgs(name, args, 1, 1);
+                Object type = literals.get(0);
+                return cast(String.valueOf(type instanceof ColumnName ? ((ColumnName) type).name : type).toLowerCase());
+            }
+            case "substr": {
+                checkArgs(name, args, 1, 2);
+                int start = intLiteral(name, literals, 0);
+                int length = args.size() > 1 ? intLiteral(name, literals, 1) : -1;
+                if (start < 1 || (args.size() > 1 && length < 0)) {
+                    throw new IllegalArgumentException("substr 인자가 올바르지 않습니다: start는 1 이상, length는 0 이상");
+                }
+                return (value, row) -> value == null ? null : substr(value.toString(), start - 1, length);
+            }
+            case "replace": {
+                checkArgs(name, args, 2, 2);
+                String from = String.valueOf(literal(name, literals, 0));
+                String to = String.valueOf(literal(name, literals, 1));
+                if (from.isEmpty()) {
+                    throw new IllegalArgumentException("replace 대상 문자열이 비어 있습니다.");
+                }
+                return (value, row) -> value == null ? null : value.toString().replace(from, to);
+            }
+            case "mask": {
+                checkArgs(name, args, 0, 2);
+                int keepLast = args.isEmpty() ? 0 : intLiteral(name, literals, 0);
+                String maskText = args.size() > 1 ? String.valueOf(literal(name, literals, 1)) : "*";
+                if (keepLast < 0 || maskText.length() != 1) {
+                    throw new IllegalArgumentException("mask 인자가 올바르지 않습니다: 남길 자릿수는 0 이상, 마스킹 문자는 한 글자");
+                }
+                char maskChar = maskText.charAt(0);
+                return (value, row) -> value == null ? null : mask(value.toString(), keepLast, maskChar);
+            }
+            case "md5":
+                checkArgs(name, args, 0, 0);
+                return digest("MD5");
+            case "sha256":
+                checkArgs(name, args, 0, 0);
+                return digest("SHA-256");
+            case "concat": {
+                checkArgs(name, args, 1, Integer.MAX_VALUE);
+                Arg[] parts = args.toArray(new Arg[0]);
+                return (value, row) -> {
+                    // PostgreSQL concat()과 같이 NULL 인자는 무시
+                    StringBuilder sb = new StringBuilder();
+                    for (Arg part : parts) {
+                        Object partValue = part.get(value, row);
+                        if (partValue != null) {
+                            sb.append(partValue);
+                        }
+                    }
+                    return sb.toString();
+                };
+            }
+            case "round": {
+                checkArgs(name, args, 0, 1);
+                int scale = args.isEmpty() ? 0 : intLiteral(name, literals, 0);
+                return (value, row) -> value == null ? null : toDecimal(value).setScale(scale, RoundingMode.HALF_UP);
+            }
+            default:
+                throw new IllegalArgumentException("지원하지 않는 변환 함수입니다: " + name);
+        }
+    }
+
+    private static ColumnTransform cast(String type) {
+        switch (type) {
+            case "int":
+            case "integer":
+                return (value, row) -> value == null ? null : Integer.valueOf(toDecimal(value).intValueExact());
+            case "long":
+            case "bigint":
+                return (value, row) -> value == null ? null : Long.valueOf(toDecimal(value).longValueExact());
+            case "decimal":
+            case "numeric":
+                return (value, row) -> value == null ? null : toDecimal(value);
+            case "double":
+                return (value, row) -> value == null ? null
+                        : value instanceof Number ? ((Number) value).doubleValue() : Double.valueOf(value.toString().trim());
+            case "string":
+            case "text":
+                return (value, row) -> value == null ? null : value.toString();
+            case "boolean":
+                return (value, row) -> value == null ? null : toBoolean(value);
+            case "date":
+                return (value, row) -> value == null ? null : toDate(value);
+            case "timestamp":
+                return (value, row) -> value == null ? null : toTimestamp(value);
+            default:
+                throw new IllegalArgumentException("지원하지 않는 cast 타입입니다: " + type
+                        + " (int, long, decimal, double, string, boolean, date, timestamp)");
+        }
+    }
+
+    private static ColumnTransform digest(String algorithm) {
+        // MessageDigest는 스레드 안전하지 않으므로 병렬 변환 시 스레드별 인스턴스 사용
+        ThreadLocal<MessageDigest> digests = ThreadLocal.withInitial(() -> {
+            try {
+                return MessageDigest.getInstance(algorithm);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(algorithm + " 알고리즘을 사용할 수 없습니다.", e);
+            }
+        });
+        return (value, row) -> {
+            if (value == null) {
+                return null;
+            }
+            byte[] input = value instanceof byte[] ? (byte[]) value : value.toString().getBytes(StandardCharsets.UTF_8);
+            byte[] hash = digests.get().digest(input);
+            char[] hex = new char[hash.length * 2];
+            for (int i = 0; i < hash.length; i++) {
+                hex[i * 2] = HEX[(hash[i] >> 4) & 0x0F];
+                hex[i * 2 + 1] = HEX[hash[i] & 0x0F];
+            }
+            return new String(hex);
+        };
+    }
+
+    private static void checkArgs(String name, List<Arg> args, int min, int max) {
+        if (args.size() < min || args.size() > max) {
+            String expected = min == max ? String.valueOf(min)
+                    : max == Integer.MAX_VALUE ? min + "개 이상" : min + "~" + max;
+            throw new IllegalArgumentException(String.format("%s 함수의 인자 수가 올바르지 않습니다: %d (필요: %s)",
+                    name, args.size(), expected));
+        }
+    }
+
+    private static Object literal(String name, List<Object> literals, int index) {
+        Object literal = literals.get(index);
+        if (literal == null || literal instanceof ColumnName) {
+            throw new IllegalArgumentException(String.format("%s 함수의 %d번째 인자는 상수여야 합니다.", name, index + 1));
+        }
+        return literal;
+    }
+
+    private static int intLiteral(String name, List<Object> literals, int index) {
+        Object literal = literal(name, literals, index);
+        if (!(literal instanceof Long)) {
+            throw new IllegalArgumentException(String.format("%s 함수의 %d번째 인자는 정수여야 합니다.", name, index + 1));
+        }
+        return ((Long) literal).intValue();
+    }
+
+    // ===== 값 변환 =====
+
+    private static String trimLeading(String text) {
+        int start = 0;
+        while (start < text.length() && text.charAt(start) <= ' ') {
+            start++;
+        }
+        return text.substring(start);
+    }
+
+    private static String trimTrailing(String text) {
+        int end = text.length();
+        while (end > 0 && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return text.substring(0, end);
+    }
+
+    private static String substr(String text, int begin, int length) {
+        if (begin >= text.length()) {
+            return "";
+        }
+        int end = length < 0 ? text.length() : (int) Math.min((long) begin + length, text.length());
+        return text.substring(begin, end);
+    }
+
+    private static String mask(String text, int keepLast, char maskChar) {
+        int maskLength = Math.max(0, text.length() - keepLast);
+        char[] chars = text.toCharArray();
+        Arrays.fill(chars, 0, maskLength, maskChar);
+        return new String(chars);
+    }
+
+    private static BigDecimal toDecimal(Object value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        }
+        if (value instanceof Number) {
+            return BigDecimal.valueOf(((Number) value).doubleValue());
+        }
+        return new BigDecimal(value.toString().trim());
+    }
+
+    private static Boolean toBoolean(Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).intValue() != 0;
+        }
+        String text = value.toString().trim().toLowerCase();
+        switch (text) {
+            case "true": case "t": case "y": case "yes": case "1":
+                return Boolean.TRUE;
+            case "false": case "f": case "n": case "no": case "0":
+                return Boolean.FALSE;
+            default:
+                throw new IllegalArgumentException("boolean으로 변환할 수 없는 값입니다: " + value);
+        }
+    }
+
+    private static Date toDate(Object value) {
+        if (value instanceof Date) {
+            return (Date) value;
+        }
+        if (value instanceof Timestamp) {
+            return Date.valueOf(((Timestamp) value).toLocalDateTime().toLocalDate());
+        }
+        if (value instanceof java.util.Date) {
+            return new Date(((java.util.Date) value).getTime());
+        }
+        String text = value.toString().trim();
+        return Date.valueOf(LocalDate.parse(text.length() > 10 ? text.substring(0, 10) : text));
+    }
+
+    private static Timestamp toTimestamp(Object value) {
+        if (value instanceof Timestamp) {
+            return (Timestamp) value;
+        }
+        if (value instanceof Date) {
+            return Timestamp.valueOf(((Date) value).toLocalDate().atStartOfDay());
+        }
+        if (value instanceof java.util.Date) {
+            return new Timestamp(((java.util.Date) value).getTime());
+        }
+        String text = value.toString().trim();
+        if (text.length() == 10) {
+            return Timestamp.valueOf(LocalDate.parse(text).atStartOfDay());
+        }
+        return Timestamp.valueOf(LocalDateTime.parse(text.replace(' ', 'T')));
+    }
+
+    // ===== 파서 =====
+
+    /**
+     * step   := name [ '(' arg { ',' arg } ')' ]
+     * arg    := 'text' | number | identifier | '$'
+     */
+    private static final class Parser {
+        private final String text;
+        private final Set<String> referencedColumns = new LinkedHashSet<>();
+        private int pos;
+
+        Parser(String text) {
+            this.text = text;
+        }
+
+        ColumnTransform parseStep() {
+            String name = identifier().toLowerCase();
+            List<Arg> args = new ArrayList<>();
+            List<Object> literals = new ArrayList<>();
+            if (consume('(')) {
+                if (!consume(')')) {
+                    do {
+                        parseArg(args, literals);
+                    } while (consume(','));
+                    expect(')');
+                }
+            }
+            ColumnTransform step;
+            try {
+                step = function(name, args, literals);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(e.getMessage() + " [" + text + "]", e);
+            }
+            if (!"cast".equals(name)) {
+                for (Object literal : literals) {
+                    if (literal instanceof ColumnName) {
+                        referencedColumns.add(((ColumnName) literal).name);
+                    }
+                }
+            }
+            return step;
+        }
+
+        private void parseArg(List<Arg> args, List<Object> literals) {
+            skipSpaces();
+            char c = peek();
+            if (c == '\'') {
+                String literal = quoted();
+                args.add((value, row) -> literal);
+                literals.add(literal);
+            } else if (c == '$') {
+                pos++;
+                args.add((value, row) -> value);
+                literals.add(null);
+            } else if (c == '-' || Character.isDigit(c)) {
+                Object number = number();
+                args.add((value, row) -> number);
+                literals.add(number);
+            } else {
+                String column = identifier();
+                args.add((value, row) -> row.get(column));
+                literals.add(new ColumnName(column));
+            }
+        }
+
+        private String identifier() {
+            skipSpaces();
+            int start = pos;
+            if (pos < text.length() && (Character.isLetter(text.charAt(pos)) || text.charAt(pos) == '_')) {
+                pos++;
+                while (pos < text.length()
+                        && (Character.isLetterOrDigit(text.charAt(pos)) || text.charAt(pos) == '_')) {
+                    pos++;
+                }
+            }
+            if (start == pos) {
+                throw error("이름이 필요합니다");
+            }
+            return text.substring(start, pos);
+        }
+
+        private String quoted() {
+            pos++;
+            StringBuilder sb = new StringBuilder();
+            while (pos < text.length()) {
+                char c = text.charAt(pos++);
+                if (c == '\'') {
+                    // '' 는 작은따옴표 한 글자
+                    if (pos < text.length() && text.charAt(pos) == '\'') {
+                        sb.append('\'');
+                        pos++;
+                        continue;
+                    }
+                    return sb.toString();
+                }
+                sb.append(c);
+            }
+            throw error("닫는 따옴표가 없습니다");
+        }
+
+        private Object number() {
+            int start = pos;
+            if (text.charAt(pos) == '-') {
+                pos++;
+            }
+            while (pos < text.length() && (Character.isDigit(text.charAt(pos)) || text.charAt(pos) == '.')) {
+                pos++;
+            }
+            String token = text.substring(start, pos);
+            try {
+                return token.indexOf('.') >= 0 ? new BigDecimal(token) : (Object) Long.valueOf(token);
+            } catch (NumberFormatException e) {
+                throw error("숫자 형식이 올바르지 않습니다: " + token);
+            }
+        }
+
+        boolean consume(char expected) {
+            skipSpaces();
+            if (pos < text.length() && text.charAt(pos) == expected) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char expected) {
+            if (!consume(expected)) {
+                throw error("'" + expected + "'이(가) 필요합니다");
+            }
+        }
+
+        void expectEnd() {
+            skipSpaces();
+            if (pos < text.length()) {
+                throw error("해석할 수 없는 문자입니다");
+            }
+        }
+
+        private char peek() {
+            if (pos >= text.length()) {
+                throw error("인자가 필요합니다");
+            }
+            return text.charAt(pos);
+        }
+
+        private void skipSpaces() {
+            while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(String.format("변환식 오류 (%d번째 문자): %s [%s]", pos + 1, message, text));
+        }
+    }
+}
@@ -0,0 +1,461 @@
+package com.gims.module.dbsync.service;
+
+import com.gims.module.dbsync.client.ManagerApiClient;
+import com.gims.module.dbsync.config.SyncExecutionProperties;
+import com.gims.module.dbsync.dto.MappingConfigDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 연속(마이크로 배치) 동기화
+ *
+ * 모듈(moduleId)별로 interval-ms(± jitter-ms)마다 증분 동기화 주기를 실행합니다.
+ * 각 주기는 테이블 매핑별로 저장된 워터마크(dbsync_watermark)부터 현재 시각까지를
+ * sourceDateColumn 기간 조건으로 조회해 반영하며, 조회 직후 커밋된 행을 놓치지 않도록 overlap-ms만큼 겹쳐 읽습니다.
+ *
+ * 주기가 interval보다 오래 걸리면 밀린 주기는 하나로 병합되어 바로 다음 주기가 실행됩니다.
+ * 지연(현재 시각 - 반영한 sourceDateColumn 최댓값)은 dbsync.continuous.lag 메트릭으로 노출하며,
+ * 관리 시스템에는 주기별 진행 상황 대신 summary-interval-ms마다 요약만 보고합니다.
+ */
+@Slf4j
+@Service
+public class ContinuousSyncService {
+
+    // 워터마크가 없고 syncStartDt도 지정되지 않은 첫 주기의 조회 시작 시각 (전체 적재)
+    private static final LocalDateTime INITIAL_START = LocalDateTime.of(1900, 1, 1, 0, 0);
+
+    private final DbSyncService dbSyncService;
+    private final SyncConnectionManager connectionManager;
+    private final SyncWatermarkStore watermarkStore;
+    private final ManagerApiClient managerApiClient;
+    private final SyncExecutionProperties executionProperties;
+    private final MeterRegistry meterRegistry;
+    private final DeadLetterStore deadLetterStore;
+    private final SourceThrottle sourceThrottle;
+
+    // moduleId -> 연속 동기화 작업
+    private final Map<String, ContinuousJob> jobs = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+
+    @Value("${sync.continuous.interval-ms:10000}")
+    private long defaultIntervalMs;
+
+    @Value("${sync.continuous.jitter-ms:1000}")
+    private long defaultJitterMs;
+
+    @Value("${sync.continuous.overlap-ms:5000}")
+    private long overlapMs;
+
+    @Value("${sync.continuous.summary-interval-ms:60000}")
+    private long summaryIntervalMs;
+
+    @Value("${module.id}")
+    private String defaultModuleId;
+
+    public ContinuousSyncService(
+            DbSyncService dbSyncService,
+            SyncConnectionManager connectionManager,
+            SyncWatermarkStore watermarkStore,
+            ManagerApiClient managerApiClient,
+            SyncExecutionProperties executionProperties,
+            MeterRegistry meterRegistry,
+            DeadLetterStore deadLetterStore,
+            SourceThrottle sourceThrottle) {
+        this.dbSyncService = dbSyncService;
+        this.connectionManager = connectionManager;
+        this.watermarkStore = watermarkStore;
+        this.managerApiClient = managerApiClient;
+        this.executionProperties = executionProperties;
+        this.meterRegistry = meterRegistry;
+        this.deadLetterStore = deadLetterStore;
+        this.sourceThrottle = sourceThrottle;
+    }
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        scheduler = Executors.newScheduledThreadPool(executionProperties.getMaxConcurrent(), r -> {
+            Thread thread = new Thread(r, "dbsync-continuous-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (String moduleId : new ArrayList<>(jobs.keySet())) {
+            stop(moduleId);
+        }
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 연속 동기화 시작
+     *
+     * @param intervalMs 주기 (null이면 sync.continuous.interval-ms)
+     * @param jitterMs   주기 흔들림 (null이면 sync.continuous.jitter-ms)
+     * @return 작업 상태
+     */
+    public synchronized Map<String, Object> start(Long execId, MappingConfigDto config, Long intervalMs, Long jitterMs) {
+        if (config == null || config.getTableMappings() == null || config.getTableMappings().isEmpty()) {
+            throw new RuntimeException("테이블 매핑 설정이 없습니다.");
+        }
+        String moduleId = config.getModuleId() != null ? config.getModuleId() : defaultModuleId;
+        if (jobs.containsKey(moduleId)) {
+            throw new RuntimeException("이미 연속 동기화 중인 모듈입니다: " + moduleId);
+        }
+        for (MappingConfigDto.TableMappingDto tm : config.getTableMappings()) {
+            String target = tm.getTargetTable();
+            if (tm.getSourceDateColumn() == null || tm.getSourceDateColumn().trim().isEmpty()) {
+                throw new RuntimeException("연속 동기화에는 sourceDateColumn이 필요합니다: " + target);
+            }
+            String syncMode = dbSyncService.resolveSyncMode(tm);
+            if (!DbSyncService.SYNC_MODE_UPSERT.equals(syncMode) && !DbSyncService.SYNC_MODE_WINDOW_REPLACE.equals(syncMode)) {
+                throw new RuntimeException(String.format(
+                        "연속 동기화는 UPSERT / WINDOW_REPLACE만 지원합니다: %s (%s)", syncMode, target));
+            }
+        }
+        long interval = intervalMs != null ? intervalMs : defaultIntervalMs;
+        long jitter = jitterMs != null ? jitterMs : defaultJitterMs;
+        if (interval <= 0 || jitter < 0) {
+            throw new RuntimeException("연속 동기화 주기가 올바르지 않습니다: intervalMs=" + interval + ", jitterMs=" + jitter);
+        }
+
+        // 일괄 / CDC 실행과 실행 슬롯 공유 (풀 크기가 동시 실행 수 기준)
+        connectionManager.tryAcquireExecutionSlot(execId);
+        try {
+            connectionManager.bindExecution(execId, config.getSourceConnection(), config.getTargetConnection());
+        } catch (RuntimeException e) {
+            connectionManager.releaseExecutionSlot(execId);
+            throw e;
+        }
+        sourceThrottle.bind(execId, config.getSourceThrottle());
+        managerApiClient.setProgressQuiet(execId, true);
+
+        ContinuousJob job = new ContinuousJob(moduleId, execId, config, interval, jitter);
+        for (MappingConfigDto.TableMappingDto tm : config.getTableMappings()) {
+            TableState state = new TableState(tableKey(tm));
+            job.tables.put(state.tableKey, state);
+            job.meters.add(Gauge.builder("dbsync.continuous.lag", state, s -> s.lagSeconds())
+                    .description("연속 동기화 지연 (현재 시각 - 반영한 sourceDateColumn 최댓값)")
+                    .baseUnit("seconds")
+                    .tag("module", moduleId)
+                    .tag("table", state.tableKey)
+                    .register(meterRegistry));
+        }
+        jobs.put(moduleId, job);
+
+        log.info("연속 동기화 시작: module={}, execId={}, 주기 {}ms (± {}ms), 테이블 {}개",
+                moduleId, execId, interval, jitter, job.tables.size());
+        managerApiClient.reportSummary(execId, "연속 동기화 시작", 0L,
+                String.format("연속 동기화를 시작합니다: 주기 %dms (± %dms), 테이블 %d개", interval, jitter, job.tables.size()),
+                "INFO");
+        schedule(job, 0);
+        return describe(job);
+    }
+
+    /**
+     * 연속 동기화 중지 (실행 중인 주기는 끝까지 수행)
+     *
+     * @return 최종 상태, 연속 동기화 중이 아니면 null
+     */
+    public Map<String, Object> stop(String moduleId) {
+        ContinuousJob job = jobs.remove(moduleId);
+        if (job == null) {
+            return null;
+        }
+        synchronized (job) {
+            job.stopped = true;
+            if (job.future != null) {
+                job.future.cancel(false);
+            }
+        }
+        // 실행 중인 주기 종료 대기
+        synchronized (job.cycleLock) {
+            job.meters.forEach(meterRegistry::remove);
+            reportSummary(job, true);
+            sourceThrottle.release(job.execId);
+            connectionManager.releaseExecution(job.execId);
+            connectionManager.releaseExecutionSlot(job.execId);
+            managerApiClient.setProgressQuiet(job.execId, false);
+        }
+
+        long elapsedMs = System.currentTimeMillis() - job.startedAt;
+        // dead letter로 기록한 행은 실패 건수에 포함
+        long errorCount = job.errors + deadLetterStore.drainCount(job.execId);
+        managerApiClient.reportExecutionComplete(job.execId, job.errors == 0, job.rows, errorCount,
+                String.format("연속 동기화 종료: 주기 %d회, %d건 반영, 오류 %d건", job.cycles, job.rows, job.errors),
+                job.lastError, elapsedMs);
+        log.info("연속 동기화 중지: module={}, 주기 {}회, {}건, 오류 {}건", moduleId, job.cycles, job.rows, job.errors);
+        return describe(job);
+    }
+
+    /**
+     * 다음 주기를 즉시 실행 (주기 실행 중이면 끝난 직후 한 번 더 실행하도록 병합)
+     *
+     * @return 연속 동기화 중이 아니면 false
+     */
+    public boolean trigger(String moduleId) {
+        ContinuousJob job = jobs.get(moduleId);
+        if (job == null) {
+            return false;
+        }
+        synchronized (job) {
+            if (job.running) {
+                if (!job.pendingTrigger) {
+                    job.pendingTrigger = true;
+                } else {
+                    coalesced(job, 1);
+                }
+            } else if (job.future != null && job.future.cancel(false)) {
+                job.future = scheduler.schedule(() -> runCycle(job), 0, TimeUnit.MILLISECONDS);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 연속 동기화 작업 상태 목록
+     */
+    public List<Map<String, Object>> status() {
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (ContinuousJob job : jobs.values()) {
+            result.add(describe(job));
+        }
+        return result;
+    }
+
+    private void schedule(ContinuousJob job, long delayMs) {
+        synchronized (job) {
+            if (!job.stopped) {
+                job.future = scheduler.schedule(() -> runCycle(job), delayMs, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private void runCycle(ContinuousJob job) {
+        long cycleStart = System.currentTimeMillis();
+        synchronized (job.cycleLock) {
+            synchronized (job) {
+                if (job.stopped) {
+                    return;
+                }
+                job.running = true;
+            }
+            boolean success = true;
+            try {
+                // 모든 테이블이 같은 조회 상한을 사용 (주기 사이 시각 차이로 누락되지 않도록 다음 주기는 워터마크부터)
+                LocalDateTime windowEnd = LocalDateTime.now();
+                for (MappingConfigDto.TableMappingDto tm : job.config.getTableMappings()) {
+                    TableState state = job.tables.get(tableKey(tm));
+                    try {
+                        job.rows += syncTable(job, tm, state, windowEnd);
+                    } catch (Exception e) {
+                        success = false;
+                        job.errors++;
+                        job.errorsSinceSummary++;
+                        job.lastError = String.format("%s: %s", state.tableKey, e.getMessage());
+                        log.error("연속 동기화 주기 오류: module={}, {}", job.moduleId, state.tableKey, e);
+                    }
+                }
+            } finally {
+                long elapsedMs = System.currentTimeMillis() - cycleStart;
+                job.cycles++;
+                job.cyclesSinceSummary++;
+                job.lastCycleAt = LocalDateTime.now();
+                job.lastCycleMs = elapsedMs;
+                Timer.builder("dbsync.continuous.cycle")
+                        .description("연속 동기화 주기 실행 시간")
+                        .tag("module", job.moduleId)
+                        .tag("result", success ? "success" : "error")
+                        .register(meterRegistry)
+                        .record(elapsedMs, TimeUnit.MILLISECONDS);
+                if (System.currentTimeMillis() - job.lastSummaryAt >= summaryIntervalMs) {
+                    reportSummary(job, false);
+                }
+                schedule(job, nextDelay(job, elapsedMs, success));
+            }
+        }
+    }
+
+    private long syncTable(ContinuousJob job, MappingConfigDto.TableMappingDto tm, TableState state,
+                           LocalDateTime windowEnd) throws Exception {
+        if (!state.loaded) {
+            state.watermark = watermarkStore.load(job.execId, job.moduleId, state.tableKey);
+            state.loaded = true;
+            log.info("연속 동기화 워터마크: module={}, {} = {}", job.moduleId, state.tableKey,
+                    state.watermark != null ? state.watermark : "없음 (전체 적재)");
+        }
+        LocalDateTime windowStart = state.watermark != null
+                ? state.watermark.minus(Duration.ofMillis(overlapMs))
+                : (job.config.getSyncStartDt() != null ? job.config.getSyncStartDt() : INITIAL_START);
+
+        SourceWatermarkTracker tracker = new SourceWatermarkTracker(tm.getSourceDateColumn());
+        long processed = dbSyncService.syncTableIncremental(job.execId, tm, windowStart, windowEnd, tracker);
+        job.rowsSinceSummary += processed;
+
+        LocalDateTime max = tracker.getMax();
+        if (max != null && (state.watermark == null || max.isAfter(state.watermark))) {
+            watermarkStore.save(job.execId, job.moduleId, state.tableKey, max);
+            state.watermark = max;
+        }
+        return processed;
+    }
+
+    /**
+     * 다음 주기까지 대기 시간
+     * 주기 실행이 interval보다 오래 걸렸으면 밀린 주기를 하나로 병합해 바로 실행하고,
+     * 오류가 난 주기 다음에는 바로 재시도하지 않고 interval만큼 대기합니다.
+     */
+    private long nextDelay(ContinuousJob job, long elapsedMs, boolean success) {
+        synchronized (job) {
+            job.running = false;
+            if (job.pendingTrigger) {
+                job.pendingTrigger = false;
+                return 0;
+            }
+        }
+        long jitter = job.jitterMs > 0 ? ThreadLocalRandom.current().nextLong(-job.jitterMs, job.jitterMs + 1) : 0;
+        if (!success) {
+            return Math.max(0, job.intervalMs + jitter);
+        }
+        if (elapsedMs >= job.intervalMs) {
+            coalesced(job, elapsedMs / job.intervalMs);
+            return 0;
+        }
+        return Math.max(0, job.intervalMs - elapsedMs + jitter);
+    }
+
+    private void coalesced(ContinuousJob job, long count) {
+        job.coalesced += count;
+        Counter.builder("dbsync.continuous.coalesced")
+                .description("병합된(건너뛴) 연속 동기화 주기 수")
+                .tag("module", job.moduleId)
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    /**
+     * 관리 시스템에 요약 보고 (주기별 진행 상황은 보고하지 않음)
+     */
+    private void reportSummary(ContinuousJob job, boolean finalReport) {
+        double maxLag = job.tables.values().stream()
+                .mapToDouble(TableState::lagSeconds)
+                .filter(lag -> !Double.isNaN(lag))
+                .max().orElse(Double.NaN);
+        String message = String.format("연속 동기화%s: 주기 %d회, %d건 반영, 오류 %d건, 병합 %d회, 최대 지연 %s",
+                finalReport ? " 종료" : "", job.cyclesSinceSummary, job.rowsSinceSummary, job.errorsSinceSummary,
+                job.coalesced, Double.isNaN(maxLag) ? "-" : String.format("%.1f초", maxLag));
+        String logLevel = job.errorsSinceSummary > 0 ? "WARN" : "INFO";
+        log.info("[{}] {}", job.moduleId, message);
+        managerApiClient.reportSummary(job.execId, "연속 동기화 요약", job.rows,
+                job.errorsSinceSummary > 0 ? message + " (마지막 오류: " + job.lastError + ")" : message, logLevel);
+        job.cyclesSinceSummary = 0;
+        job.rowsSinceSummary = 0;
+        job.errorsSinceSummary = 0;
+        job.lastSummaryAt = System.currentTimeMillis();
+    }
+
+    private Map<String, Object> describe(ContinuousJob job) {
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("moduleId", job.moduleId);
+        info.put("execId", job.execId);
+        info.put("intervalMs", job.intervalMs);
+        info.put("jitterMs", job.jitterMs);
+        info.put("running", job.running);
+        info.put("stopped", job.stopped);
+        info.put("cycles", job.cycles);
+        info.put("rows", job.rows);
+        info.put("errors", job.errors);
+        info.put("coalesced", job.coalesced);
+        info.put("lastCycleAt", job.lastCycleAt);
+        info.put("lastCycleMs", job.lastCycleMs);
+        info.put("lastError", job.lastError);
+        List<Map<String, Object>> tables = new ArrayList<>();
+        for (TableState state : job.tables.values()) {
+            Map<String, Object> table = new LinkedHashMap<>();
+            table.put("table", state.tableKey);
+            table.put("watermark", state.watermark);
+            double lag = state.lagSeconds();
+            table.put("lagSeconds", Double.isNaN(lag) ? null : lag);
+            tables.add(table);
+        }
+        info.put("tables", tables);
+        return info;
+    }
+
+    private static String tableKey(MappingConfigDto.TableMappingDto tm) {
+        String source = tm.getSourceTable() != null ? tm.getSourceTable()
+                : (tm.getMappingName() != null ? tm.getMappingName() : "sourceQuery");
+        return source + "->" + tm.getTargetTable();
+    }
+
+    private static class ContinuousJob {
+        private final String moduleId;
+        private final Long execId;
+        private final MappingConfigDto config;
+        private final long intervalMs;
+        private final long jitterMs;
+        private final long startedAt = System.currentTimeMillis();
+        private final Map<String, TableState> tables = new LinkedHashMap<>();
+        private final List<Meter> meters = new ArrayList<>();
+        // 주기 실행과 중지 처리를 직렬화
+        private final Object cycleLock = new Object();
+
+        private ScheduledFuture<?> future;
+        private volatile boolean running;
+        private volatile boolean stopped;
+        private boolean pendingTrigger;
+
+        private volatile long cycles;
+        private volatile long rows;
+        private volatile long errors;
+        private volatile long coalesced;
+        private volatile LocalDateTime lastCycleAt;
+        private volatile long lastCycleMs;
+        private volatile String lastError;
+
+        private long cyclesSinceSummary;
+        private long rowsSinceSummary;
+        private long errorsSinceSummary;
+        private long lastSummaryAt = System.currentTimeMillis();
+
+        ContinuousJob(String moduleId, Long execId, MappingConfigDto config, long intervalMs, long jitterMs) {
+            this.moduleId = moduleId;
+            this.execId = execId;
+            this.config = config;
+            this.intervalMs = intervalMs;
+            this.jitterMs = jitterMs;
+        }
+    }
+
+    private static class TableState {
+        private final String tableKey;
+        private volatile LocalDateTime watermark;
+        private boolean loaded;
+
+        TableState(String tableKey) {
+            this.tableKey = tableKey;
+        }
+
+        double lagSeconds() {
+            LocalDateTime current = watermark;
+            return current == null ? Double.NaN : Duration.between(current, LocalDateTime.now()).toMillis() / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,369 @@
+package com.gims.module.dbsync.service;
+
+import com.gims.module.dbsync.config.NamedDataSourceProperties;
+import com.gims.module.dbsync.config.SyncExecutionProperties;
+import com.gims.module.dbsync.dto.DataSourceDefinitionDto;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.jasypt.encryption.StringEncryptor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Named DataSource 레지스트리
+ *
+ * 매핑 설정이 이름으로 지정한 Source/Target DB의 Hikari 풀을 처음 사용할 때 생성하고 실행 간에 공유합니다.
+ * 실행이 풀을 사용하는 동안(acquire ~ release)은 닫지 않으며, 사용 중인 실행이 없는 상태로
+ * sync.datasources.idle-timeout-ms가 지나면 풀을 닫아 커넥션을 반환합니다.
+ *
+ * 같은 이름이라도 Source(조회 전용)와 Target 용도의 풀은 따로 만듭니다.
+ * 접속 정보의 ENC(...) 값은 Jasypt 암호화 설정(jasypt.encryptor.bean)으로 복호화합니다.
+ */
+@Slf4j
+@Component
+public class DataSourceRegistry {
+
+    private static final Pattern NAME = Pattern.compile("[A-Za-z0-9_-]+");
+
+    private final NamedDataSourceProperties properties;
+    private final SyncExecutionProperties executionProperties;
+    private final StringEncryptor encryptor;
+    private final MeterRegistry meterRegistry;
+
+    // 이름 -> 접속 정보
+    private final Map<String, DataSourceDefinitionDto> definitions = new LinkedHashMap<>();
+    // 풀 라벨(용도-이름) -> 풀
+    private final Map<String, NamedPool> pools = new LinkedHashMap<>();
+    // 풀을 닫을 때 풀 라벨을 받아 풀 단위 상태를 정리하는 리스너
+    private final List<Consumer<String>> closeListeners = new CopyOnWriteArrayList<>();
+
+    private ScheduledExecutorService evictor;
+
+    @Value("${sync.source.binary-transfer:true}")
+    private boolean binaryTransfer;
+
+    @Value("${sync.source.prepare-threshold:5}")
+    private int prepareThreshold;
+
+    @Value("${module.id}")
+    private String moduleId;
+
+    public DataSourceRegistry(
+            NamedDataSourceProperties properties,
+            SyncExecutionProperties executionProperties,
+            @Qualifier("lazyJasyptStringEncryptor") StringEncryptor encryptor,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.executionProperties = executionProperties;
+        this.encryptor = encryptor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        for (Map.Entry<String, DataSourceDefinitionDto> entry : properties.getConnections().entrySet()) {
+            validate(entry.getKey(), entry.getValue());
+            definitions.put(entry.getKey(), entry.getValue());
+        }
+        if (!definitions.isEmpty()) {
+            log.info("Named DataSource {}개 등록: {}", definitions.size(), definitions.keySet());
+        }
+
+        Gauge.builder("dbsync.datasource.registry.pools", this, registry -> registry.openPoolCount())
+                .description("열려 있는 Named DataSource 풀 수")
+                .register(meterRegistry);
+
+        evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "dbsync-datasource-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictor.scheduleWithFixedDelay(this::evictIdle, properties.getEvictIntervalMs(),
+                properties.getEvictIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        evictor.shutdownNow();
+        List<NamedPool> closing;
+        synchronized (this) {
+            closing = new ArrayList<>(pools.values());
+            pools.clear();
+        }
+        closing.forEach(this::close);
+    }
+
+    /**
+     * 풀 사용 시작 (필요하면 풀 생성)
+     * 반환된 DataSource는 같은 인자로 release를 호출할 때까지 닫히지 않습니다.
+     *
+     * @param role SyncConnectionManager.POOL_SOURCE / POOL_TARGET
+     */
+    public synchronized DataSource acquire(String role, String name) {
+        DataSourceDefinitionDto definition = definitions.get(name);
+        if (definition == null) {
+            throw new RuntimeException("등록되지 않은 DataSource입니다: " + name);
+        }
+        String label = poolLabel(role, name);
+        NamedPool pool = pools.get(label);
+        if (pool == null) {
+            pool = new NamedPool(label, createDataSource(role, name, definition));
+            pools.put(label, pool);
+            log.info("Named DataSource 풀 생성: {} ({})", pool.dataSource.getPoolName(), definition.getJdbcUrl());
+        }
+        pool.leases++;
+        return pool.dataSource;
+    }
+
+    /**
+     * 풀 사용 종료
+     */
+    public synchronized void release(String role, String name) {
+        NamedPool pool = pools.get(poolLabel(role, name));
+        if (pool != null && pool.leases > 0) {
+            pool.leases--;
+            pool.lastReleasedAt = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * 접속 정보 등록/변경 (사용 중이 아닌 기존 풀은 닫고 다음 사용 시 새 정보로 생성)
+     */
+    public void register(String name, DataSourceDefinitionDto definition) {
+        validate(name, definition);
+        // 암호문 오류는 실행 시점이 아니라 등록 시점에 확인
+        decrypt(definition.getUsername());
+        decrypt(definition.getPassword());
+        List<NamedPool> closing;
+        synchronized (this) {
+            closing = detach(name);
+            definitions.put(name, definition);
+        }
+        closing.forEach(this::close);
+        log.info("Named DataSource 등록: {} ({})", name, definition.getJdbcUrl());
+    }
+
+    /**
+     * 접속 정보 삭제 (사용 중이면 실패)
+     */
+    public boolean unregister(String name) {
+        List<NamedPool> closing;
+        boolean removed;
+        synchronized (this) {
+            closing = detach(name);
+            removed = definitions.remove(name) != null;
+        }
+        closing.forEach(this::close);
+        if (removed) {
+            log.info("Named DataSource 삭제: {}", name);
+        }
+        return removed;
+    }
+
+    /**
+     * 실행이 사용 중인 풀인지 (열려 있고 사용 중인 실행이 있음)
+     */
+    public synchronized boolean isInUse(String role, String name) {
+        NamedPool pool = pools.get(poolLabel(role, name));
+        return pool != null && pool.leases > 0;
+    }
+
+    public synchronized Set<String> getNames() {
+        return new LinkedHashSet<>(definitions.keySet());
+    }
+
+    /**
+     * 풀 라벨 (커넥션 ApplicationName, 메트릭 pool 태그에 사용)
+     */
+    public static String poolLabel(String role, String name) {
+        return role + "-" + name;
+    }
+
+    /**
+     * 등록된 접속 정보와 풀 상태 (비밀번호 제외)
+     */
+    public synchronized List<Map<String, Object>> describe() {
+        List<Map<String, Object>> result = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, DataSourceDefinitionDto> entry : definitions.entrySet()) {
+            Map<String, Object> info = new LinkedHashMap<>();
+            info.put("name", entry.getKey());
+            info.put("jdbcUrl", entry.getValue().getJdbcUrl());
+            Map<String, Object> poolInfo = new LinkedHashMap<>();
+            for (String role : new String[]{SyncConnectionManager.POOL_SOURCE, SyncConnectionManager.POOL_TARGET}) {
+                NamedPool pool = pools.get(poolLabel(role, entry.getKey()));
+                if (pool == null) {
+                    continue;
+                }
+                Map<String, Object> detail = new LinkedHashMap<>();
+                detail.put("poolName", pool.dataSource.getPoolName());
+                detail.put("maximumPoolSize", pool.dataSource.getMaximumPoolSize());
+                detail.put("executions", pool.leases);
+                HikariPoolMXBean mxBean = pool.dataSource.getHikariPoolMXBean();
+                if (mxBean != null) {
+                    detail.put("active", mxBean.getActiveConnections());
+                    detail.put("idle", mxBean.getIdleConnections());
+                }
+                if (pool.leases == 0) {
+                    detail.put("unusedMs", now - pool.lastReleasedAt);
+                }
+                poolInfo.put(role, detail);
+            }
+            info.put("pools", poolInfo);
+            result.add(info);
+        }
+        return result;
+    }
+
+    /**
+     * 풀을 닫을 때 호출할 리스너 등록 (인자: 풀 라벨 poolLabel(role, name))
+     */
+    public void addCloseListener(Consumer<String> listener) {
+        closeListeners.add(listener);
+    }
+
+    /**
+     * 사용 중인 실행이 없고 idle-timeout-ms가 지난 풀 닫기
+     */
+    void evictIdle() {
+        List<NamedPool> closing = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            Iterator<NamedPool> it = pools.values().iterator();
+            while (it.hasNext()) {
+                NamedPool pool = it.next();
+                if (pool.leases == 0 && now - pool.lastReleasedAt >= properties.getIdleTimeoutMs()) {
+                    it.remove();
+                    closing.add(pool);
+                }
+            }
+        }
+        for (NamedPool pool : closing) {
+            log.info("유휴 Named DataSource 풀 종료: {}", pool.dataSource.getPoolName());
+            close(pool);
+        }
+    }
+
+    private synchronized int openPoolCount() {
+        return pools.size();
+    }
+
+    /**
+     * 이름에 해당하는 풀을 레지스트리에서 분리 (사용 중이면 실패)
+     */
+    private synchronized List<NamedPool> detach(String name) {
+        List<NamedPool> detached = new ArrayList<>();
+        for (String role : new String[]{SyncConnectionManager.POOL_SOURCE, SyncConnectionManager.POOL_TARGET}) {
+            NamedPool pool = pools.get(poolLabel(role, name));
+            if (pool != null && pool.leases > 0) {
+                throw new RuntimeException(String.format("실행 중인 작업이 사용하는 DataSource입니다: %s (%d건)",
+                        name, pool.leases));
+            }
+        }
+        for (String role : new String[]{SyncConnectionManager.POOL_SOURCE, SyncConnectionManager.POOL_TARGET}) {
+            NamedPool pool = pools.remove(poolLabel(role, name));
+            if (pool != null) {
+                detached.add(pool);
+            }
+        }
+        return detached;
+    }
+
+    /**
+     * 기본 Source/Target 풀과 같은 방식으로 풀 구성 (커넥션은 첫 getConnection 시 생성)
+     */
+    private HikariDataSource createDataSource(String role, String name, DataSourceDefinitionDto definition) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("dbsync-" + poolLabel(role, name));
+        dataSource.setJdbcUrl(definition.getJdbcUrl());
+        if (definition.getDriverClassName() != null && !definition.getDriverClassName().isEmpty()) {
+            dataSource.setDriverClassName(definition.getDriverClassName());
+        }
+        dataSource.setUsername(decrypt(definition.getUsername()));
+        dataSource.setPassword(decrypt(definition.getPassword()));
+        dataSource.setMaximumPoolSize(definition.getMaximumPoolSize() != null
+                ? definition.getMaximumPoolSize()
+                : executionProperties.getMaximumPoolSize());
+        dataSource.setMinimumIdle(Math.min(executionProperties.getMinimumIdle(), dataSource.getMaximumPoolSize()));
+        dataSource.setConnectionTimeout(executionProperties.getConnectionTimeoutMs());
+        dataSource.setMetricRegistry(meterRegistry);
+        if (SyncConnectionManager.POOL_SOURCE.equals(role)) {
+            dataSource.setReadOnly(true);
+            dataSource.addDataSourceProperty("readOnlyMode", "always");
+            dataSource.addDataSourceProperty("binaryTransfer", String.valueOf(binaryTransfer));
+            dataSource.addDataSourceProperty("prepareThreshold", String.valueOf(prepareThreshold));
+        }
+        dataSource.addDataSourceProperty("ApplicationName", moduleId + "-" + poolLabel(role, name));
+        return dataSource;
+    }
+
+    private void close(NamedPool pool) {
+        try {
+            pool.dataSource.close();
+        } catch (RuntimeException e) {
+            log.warn("Named DataSource 풀 종료 실패: {} ({})", pool.dataSource.getPoolName(), e.getMessage());
+        }
+        synchronized (this) {
+            // 분리 후 같은 라벨의 풀이 다시 생성되었으면 새 풀의 상태이므로 정리하지 않음
+            if (pools.containsKey(pool.label)) {
+                return;
+            }
+            for (Consumer<String> listener : closeListeners) {
+                try {
+                    listener.accept(pool.label);
+                } catch (RuntimeException e) {
+                    log.warn("Named DataSource 풀 종료 후 정리 실패: {} ({})", pool.label, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private String decrypt(String value) {
+        if (value != null && value.startsWith("ENC(") && value.endsWith(")")) {
+            try {
+                return encryptor.decrypt(value.substring(4, value.length() - 1));
+            } catch (RuntimeException e) {
+                throw new RuntimeException("DataSource 접속 정보 복호화 실패 (Jasypt 암호화 키 확인): "
+                        + (e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName()), e);
+            }
+        }
+        return value;
+    }
+
+    private static void validate(String name, DataSourceDefinitionDto definition) {
+        if (name == null || !NAME.matcher(name).matches()) {
+            throw new RuntimeException("DataSource 이름은 영문, 숫자, '_', '-'만 사용할 수 있습니다: " + name);
+        }
+        if (definition == null || definition.getJdbcUrl() == null || definition.getJdbcUrl().trim().isEmpty()) {
+            throw new RuntimeException("DataSource jdbcUrl이 없습니다: " + name);
+        }
+    }
+
+    private static class NamedPool {
+        private final String label;
+        private final HikariDataSource dataSource;
+        // 이 풀을 사용 중인 실행 수
+        private int leases;
+        private long lastReleasedAt = System.currentTimeMillis();
+
+        NamedPool(String label, HikariDataSource dataSource) {
+            this.label = label;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -3,14 +3,13 @@ package com.gims.module.dbsync.service;
 import com.gims.module.dbsync.client.ManagerApiClient;
 import com.gims.module.dbsync.dto.MappingConfigDto;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import javax.sql.DataSource;
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * DB 동기화 서비스 (동적 SQL 기반)
@@ -18,27 +17,95 @@ import java.util.stream.Collectors;
  * Source DB에서 Target DB로 데이터를 동기화하며
  * 매핑 설정에 따라 동적으로 SQL을 생성하여 실행합니다.
  *
- * PK 매핑은 TableMapping의 pkColumn/targetPkColumn을 사용하여 자동 처리됩니다.
+ * PK 매핑은 TableMapping의 pkColumn/targetPkColumn과 isPrimaryKey=Y 컬럼 매핑(복합 PK)을 사용하여 자동 처리됩니다.
  */
 @Slf4j
 @Service
 public class DbSyncService {
 
+    static final String SYNC_MODE_UPSERT = "UPSERT";
+    static final String SYNC_MODE_FULL_REFRESH = "FULL_REFRESH";
+    static final String SYNC_MODE_WINDOW_REPLACE = "WINDOW_REPLACE";
+    static final String SYNC_MODE_FILE_EXPORT = "FILE_EXPORT";
+
     private final ManagerApiClient managerApiClient;
-    private final DataSource sourceDataSource;
-    private final DataSource targetDataSource;
+    private final SyncConnectionManager connectionManager;
+    private final SourceReader sourceReader;
+    private final ShadowTableLoader shadowTableLoader;
+    private final WindowReplaceLoader windowReplaceLoader;
+    private final BulkLoadDdlDeferral bulkLoadDdlDeferral;
+    private final SyncMetrics syncMetrics;
+    private final SourcePredicateBuilder sourcePredicateBuilder;
+    private final ColumnLookupResolver columnLookupResolver;
+    private final XminChangeTracker xminChangeTracker;
+    private final UpsertBatchApplier upsertBatchApplier;
+    private final DeadLetterStore deadLetterStore;
+    private final SpillManager spillManager;
+    private final SourceSnapshotCoordinator snapshotCoordinator;
+    private final TableFanOutWriter tableFanOutWriter;
+    private final FileExportWriter fileExportWriter;
+    private final DistributedWorkCoordinator distributedWorkCoordinator;
+    private final SourceThrottle sourceThrottle;
+    private final PartitionedTargetWriter partitionedTargetWriter;
 
     public DbSyncService(
             ManagerApiClient managerApiClient,
-            @Qualifier("sourceDataSource") DataSource sourceDataSource,
-            @Qualifier("targetDataSource") DataSource targetDataSource) {
+            SyncConnectionManager connectionManager,
+            SourceReader sourceReader,
+            ShadowTableLoader shadowTableLoader,
+            WindowReplaceLoader windowReplaceLoader,
+            BulkLoadDdlDeferral bulkLoadDdlDeferral,
+            SyncMetrics syncMetrics,
+            SourcePredicateBuilder sourcePredicateBuilder,
+            ColumnLookupResolver columnLookupResolver,
+            XminChangeTracker xminChangeTracker,
+            UpsertBatchApplier upsertBatchApplier,
+            DeadLetterStore deadLetterStore,
+            SpillManager spillManager,
+            SourceSnapshotCoordinator snapshotCoordinator,
+            TableFanOutWriter tableFanOutWriter,
+            FileExportWriter fileExportWriter,
+            DistributedWorkCoordinator distributedWorkCoordinator,
+            SourceThrottle sourceThrottle,
+            PartitionedTargetWriter partitionedTargetWriter) {
         this.managerApiClient = managerApiClient;
-        this.sourceDataSource = sourceDataSource;
-        this.targetDataSource = targetDataSource;
+        this.connectionManager = connectionManager;
+        this.sourceReader = sourceReader;
+        this.shadowTableLoader = shadowTableLoader;
+        this.windowReplaceLoader = windowReplaceLoader;
+        this.bulkLoadDdlDeferral = bulkLoadDdlDeferral;
+        this.syncMetrics = syncMetrics;
+        this.sourcePredicateBuilder = sourcePredicateBuilder;
+        this.columnLookupResolver = columnLookupResolver;
+        this.xminChangeTracker = xminChangeTracker;
+        this.upsertBatchApplier = upsertBatchApplier;
+        this.deadLetterStore = deadLetterStore;
+        this.spillManager = spillManager;
+        this.snapshotCoordinator = snapshotCoordinator;
+        this.tableFanOutWriter = tableFanOutWriter;
+        this.fileExportWriter = fileExportWriter;
+        this.distributedWorkCoordinator = distributedWorkCoordinator;
+        this.sourceThrottle = sourceThrottle;
+        this.partitionedTargetWriter = partitionedTargetWriter;
     }
 
     private MappingConfigDto currentMappingConfig;
 
+    @Value("${sync.upsert.batch-size:100}")
+    private int batchSize;
+
+    @Value("${sync.transform.parallel-threshold:2000}")
+    private int transformParallelThreshold;
+
+    @Value("${sync.lob.streaming:false}")
+    private boolean lobStreaming;
+
+    @Value("${sync.partition.upsert-routing:false}")
+    private boolean partitionUpsertRouting;
+
+    @Value("${sync.source.keyset-page-rows:0}")
+    private int keysetPageRows;
+
     public void setMappingConfig(MappingConfigDto mappingConfig) {
         this.currentMappingConfig = mappingConfig;
         if (mappingConfig != null) {
@@ -48,10 +115,11 @@ public class DbSyncService {
 
             if (mappingConfig.getTableMappings() != null) {
                 for (MappingConfigDto.TableMappingDto tm : mappingConfig.getTableMappings()) {
-                    log.info("  - 테이블 매핑: {} -> {}, PK: {} -> {}, 컬럼 수={}",
+                    log.info("  - 테이블 매핑: {} -> {}, PK: {} -> {}, 컬럼 수={}, 모드={}",
                             tm.getSourceTable(), tm.getTargetTable(),
                             tm.getPkColumn(), tm.getTargetPkColumn(),
-                            tm.getColumnMappings() != null ? tm.getColumnMappings().size() : 0);
+                            tm.getColumnMappings() != null ? tm.getColumnMappings().size() : 0,
+                            resolveSyncMode(tm));
                 }
             }
         }
@@ -64,43 +132,73 @@ public class DbSyncService {
         if (mappingConfig != null) {
             setMappingConfig(mappingConfig);
         }
+        // 동시 실행 간 설정이 섞이지 않도록 이번 실행의 설정을 고정
+        MappingConfigDto config = mappingConfig != null ? mappingConfig : currentMappingConfig;
         long startTime = System.currentTimeMillis();
         long totalProcessedCount = 0;
         long totalErrorCount = 0;
         boolean success = true;
+        // 분산 실행에서는 완료 보고 담당 인스턴스 하나만 실행 완료를 보고
+        boolean reporter = true;
         String errorMessage = null;
 
         try {
-            if (currentMappingConfig == null || currentMappingConfig.getTableMappings() == null
-                    || currentMappingConfig.getTableMappings().isEmpty()) {
+            if (config == null || config.getTableMappings() == null
+                    || config.getTableMappings().isEmpty()) {
                 throw new RuntimeException("테이블 매핑 설정이 없습니다.");
             }
 
-            List<MappingConfigDto.TableMappingDto> tableMappings = currentMappingConfig.getTableMappings();
+            connectionManager.bindExecution(execId, config.getSourceConnection(), config.getTargetConnection());
+            sourceThrottle.bind(execId, config.getSourceThrottle());
+
+            List<MappingConfigDto.TableMappingDto> tableMappings = config.getTableMappings();
             int tableCount = tableMappings.size();
 
+            String snapshotId = snapshotCoordinator.begin(execId, config.getConsistentSnapshot());
+            if (snapshotId != null) {
+                managerApiClient.reportProgress(execId, "Source 스냅샷", null, null, null,
+                        String.format("%d개 테이블을 같은 Source 시점(스냅샷 %s)으로 조회합니다", tableCount, snapshotId), "INFO");
+            }
+
             managerApiClient.reportProgress(execId, "동기화 시작", 5, 0L, null,
                     String.format("%d개 테이블 매핑에 대해 동기화를 시작합니다", tableCount), "INFO");
 
-            for (int i = 0; i < tableCount; i++) {
-                MappingConfigDto.TableMappingDto tableMapping = tableMappings.get(i);
-                int baseProgress = 10 + (int) ((i * 1.0 / tableCount) * 80);
-
-                try {
-                    long processedCount = syncTable(execId, tableMapping, baseProgress, (int) ((80.0 / tableCount)));
-                    totalProcessedCount += processedCount;
-
-//                    log.info("테이블 동기화 완료: {} -> {}, {}건",
-//                            tableMapping.getSourceTable(), tableMapping.getTargetTable(), processedCount);
-
-                } catch (Exception e) {
-                    log.error("테이블 동기화 중 오류: {} -> {}",
-                            tableMapping.getSourceTable(), tableMapping.getTargetTable(), e);
-                    totalErrorCount++;
+            if (distributedWorkCoordinator.isEnabled(config)) {
+                DistributedWorkCoordinator.DistributedResult result = distributedWorkCoordinator.run(execId, tableMappings,
+                        tm -> SYNC_MODE_UPSERT.equals(resolveSyncMode(tm)) && !hasText(tm.getSourceQuery())
+                                && !XminChangeTracker.isEnabled(tm),
+                        tm -> rangePlan(execId, tm, config.getSyncStartDt(), config.getSyncEndDt()),
+                        (index, unitMapping, checkpoint) -> syncTable(execId, unitMapping, config.getSyncStartDt(),
+                                config.getSyncEndDt(), null, checkpoint, 0, 0));
+                reporter = result.isReporter();
+                totalProcessedCount = result.getTotalRows();
+                totalErrorCount += result.getFailedUnits();
+                if (result.getFailedUnits() > 0) {
                     managerApiClient.reportProgress(execId, "테이블 오류", null, totalProcessedCount, null,
-                            String.format("테이블 %s -> %s 동기화 오류: %s",
-                                    tableMapping.getSourceTable(), tableMapping.getTargetTable(), e.getMessage()),
-                            "ERROR");
+                            String.format("분산 작업 단위 %d개 실패: %s", result.getFailedUnits(), result.getFailures()), "ERROR");
+                }
+            } else {
+                for (int i = 0; i < tableCount; i++) {
+                    MappingConfigDto.TableMappingDto tableMapping = tableMappings.get(i);
+                    int baseProgress = 10 + (int) ((i * 1.0 / tableCount) * 80);
+
+                    try {
+                        long processedCount = syncTable(execId, tableMapping, config.getSyncStartDt(), config.getSyncEndDt(),
+                                null, null, baseProgress, (int) ((80.0 / tableCount)));
+                        totalProcessedCount += processedCount;
+
+//                        log.info("테이블 동기화 완료: {} -> {}, {}건",
+//                                tableMapping.getSourceTable(), tableMapping.getTargetTable(), processedCount);
+
+                    } catch (Exception e) {
+                        log.error("테이블 동기화 중 오류: {} -> {}",
+                                tableMapping.getSourceTable(), tableMapping.getTargetTable(), e);
+                        totalErrorCount++;
+                        managerApiClient.reportProgress(execId, "테이블 오류", null, totalProcessedCount, null,
+                                String.format("테이블 %s -> %s 동기화 오류: %s",
+                                        tableMapping.getSourceTable(), tableMapping.getTargetTable(), e.getMessage()),
+                                "ERROR");
+                    }
                 }
             }
 
@@ -117,72 +215,112 @@ public class DbSyncService {
                     "오류: " + e.getMessage(), "ERROR");
 
         } finally {
+            snapshotCoordinator.end(execId);
+            sourceThrottle.release(execId);
+            connectionManager.releaseExecution(execId);
+            spillManager.releaseExecution(execId);
+            // dead letter로 기록한 행은 실패 건수에 포함
+            totalErrorCount += deadLetterStore.drainCount(execId);
             long executionTimeMs = System.currentTimeMillis() - startTime;
 
             String resultMessage = success
                     ? String.format("동기화 완료: 성공 %d건, 실패 %d건", totalProcessedCount, totalErrorCount)
                     : "동기화 실패";
 
-            managerApiClient.reportExecutionComplete(
-                    execId,
-                    success,
-                    totalProcessedCount,
-                    totalErrorCount,
-                    resultMessage,
-                    errorMessage,
-                    executionTimeMs
-            );
+            if (reporter) {
+                managerApiClient.reportExecutionComplete(
+                        execId,
+                        success,
+                        totalProcessedCount,
+                        totalErrorCount,
+                        resultMessage,
+                        errorMessage,
+                        executionTimeMs
+                );
+            } else {
+                log.info("분산 실행 완료 보고는 다른 인스턴스가 담당합니다: execId={}", execId);
+            }
 
             log.info("DB 동기화 완료: success={}, processed={}, errors={}, time={}ms",
                     success, totalProcessedCount, totalErrorCount, executionTimeMs);
         }
     }
 
+    /**
+     * 연속 동기화 주기의 단일 테이블 증분 동기화
+     * 실행 DataSource 지정(bindExecution)과 진행 상황 보고 생략은 호출 측에서 관리합니다.
+     *
+     * @param watermarkTracker 조회한 행의 sourceDateColumn 최댓값 추적
+     * @return 처리 건수
+     */
+    public long syncTableIncremental(Long execId, MappingConfigDto.TableMappingDto tableMapping,
+                                     LocalDateTime windowStart, LocalDateTime windowEnd,
+                                     SourceWatermarkTracker watermarkTracker) throws SQLException {
+        return syncTable(execId, tableMapping, windowStart, windowEnd, watermarkTracker, null, 0, 0);
+    }
+
     /**
      * 단일 테이블 동기화 (동적 SQL)
-     * PK는 TableMapping의 pkColumn/targetPkColumn에서 자동으로 가져옴
+     * PK는 TableMapping의 pkColumn/targetPkColumn과 isPrimaryKey=Y 컬럼 매핑에서 자동으로 가져옴 (PrimaryKeyMapping)
+     *
+     * @param watermarkTracker 조회 행의 기간 컬럼 최댓값 추적 (연속 동기화 외에는 null)
+     * @param checkpoint keyset 페이지 조회 위치 (분산 작업 단위 외에는 null)
      */
     private long syncTable(Long execId, MappingConfigDto.TableMappingDto tableMapping,
+                           LocalDateTime syncStartDt, LocalDateTime syncEndDt,
+                           SourceWatermarkTracker watermarkTracker, KeysetCheckpoint checkpoint,
                            int baseProgress, int progressRange) throws SQLException {
 
-        String sourceTable = tableMapping.getSourceTable();
+        // Source 조회 SQL 지정 시 sourceTable은 로그/메시지 표시용 (미지정 시 매핑명)
+        String sourceQuery = hasText(tableMapping.getSourceQuery()) ? SourceQuery.validate(tableMapping.getSourceQuery()) : null;
+        String sourceTable = sourceQuery != null && !hasText(tableMapping.getSourceTable())
+                ? (hasText(tableMapping.getMappingName()) ? tableMapping.getMappingName() : "sourceQuery")
+                : tableMapping.getSourceTable();
         String targetTable = tableMapping.getTargetTable();
-        String sourcePkColumn = tableMapping.getPkColumn();
-        String targetPkColumn = tableMapping.getTargetPkColumn();
         List<MappingConfigDto.ColumnMappingDto> columnMappings = tableMapping.getColumnMappings();
 
-        // PK 컬럼 필수 검증
-        if (sourcePkColumn == null || sourcePkColumn.isEmpty()) {
-            String errorMsg = String.format("Source PK 컬럼이 설정되지 않았습니다: %s -> %s", sourceTable, targetTable);
-            log.error(errorMsg);
-            throw new RuntimeException(errorMsg);
-        }
-        if (targetPkColumn == null || targetPkColumn.isEmpty()) {
-            String errorMsg = String.format("Target PK 컬럼이 설정되지 않았습니다: %s -> %s", sourceTable, targetTable);
-            log.error(errorMsg);
-            throw new RuntimeException(errorMsg);
+        // PK 컬럼 필수 검증 (단일 / 복합)
+        PrimaryKeyMapping primaryKey;
+        try {
+            primaryKey = PrimaryKeyMapping.of(tableMapping);
+        } catch (RuntimeException e) {
+            log.error(e.getMessage());
+            throw e;
         }
 
         // 기간 필터링 정보
         String sourceDateColumn = tableMapping.getSourceDateColumn();
-        LocalDateTime syncStartDt = currentMappingConfig.getSyncStartDt();
-        LocalDateTime syncEndDt = currentMappingConfig.getSyncEndDt();
         boolean useDateFilter = sourceDateColumn != null && !sourceDateColumn.isEmpty()
                 && syncStartDt != null && syncEndDt != null;
 
         log.info("테이블 동기화 시작: {} -> {}", sourceTable, targetTable);
-        log.info("  PK 매핑 (자동): {} -> {}", sourcePkColumn, targetPkColumn);
+        log.info("  PK 매핑 (자동{}): {}", primaryKey.isComposite() ? ", 복합" : "", primaryKey);
+        if (sourceQuery != null) {
+            log.info("  Source 조회 SQL: {} (파라미터 {}개)", sourceQuery,
+                    tableMapping.getSourceQueryParams() != null ? tableMapping.getSourceQueryParams().size() : 0);
+        }
         if (useDateFilter) {
             log.info("  기간 필터링: {} ({} ~ {})", sourceDateColumn, syncStartDt, syncEndDt);
         } else {
             log.info("  기간 필터링: 미적용 (전체 데이터)");
         }
+        if (tableMapping.getFilters() != null && !tableMapping.getFilters().isEmpty()) {
+            log.info("  조회 필터: {}개", tableMapping.getFilters().size());
+            for (MappingConfigDto.FilterDto filter : tableMapping.getFilters()) {
+                log.info("    - {} {} {}", filter.getColumn(), filter.getOperator(),
+                        filter.getValues() != null ? filter.getValues() : filter.getValue());
+            }
+        }
 
         // 컬럼 매핑 로깅
         if (columnMappings != null && !columnMappings.isEmpty()) {
             log.info("  컬럼 매핑: {}개", columnMappings.size());
             for (MappingConfigDto.ColumnMappingDto cm : columnMappings) {
-                log.info("    - {} -> {}", cm.getSourceColumn(), cm.getTargetColumn());
+                if (cm.getTransform() != null && !cm.getTransform().trim().isEmpty()) {
+                    log.info("    - {} -> {} (변환: {})", cm.getSourceColumn(), cm.getTargetColumn(), cm.getTransform());
+                } else {
+                    log.info("    - {} -> {}", cm.getSourceColumn(), cm.getTargetColumn());
+                }
             }
         }
 
@@ -193,22 +331,38 @@ public class DbSyncService {
                 String.format("테이블 %s에서 데이터를 조회합니다%s", sourceTable, periodInfo), "INFO");
 
         // Source 컬럼 목록 (PK 포함)
-        List<String> sourceColumns = new ArrayList<>();
-        sourceColumns.add(sourcePkColumn);  // PK는 항상 첫 번째
+        List<String> sourceColumns = new ArrayList<>(primaryKey.getSourceColumns());  // PK는 항상 앞쪽
         if (columnMappings != null) {
             for (MappingConfigDto.ColumnMappingDto cm : columnMappings) {
-                if (!cm.getSourceColumn().equalsIgnoreCase(sourcePkColumn)) {
+                if (!primaryKey.isSourceColumn(cm.getSourceColumn())) {
                     sourceColumns.add(cm.getSourceColumn());
                 }
             }
         }
 
+        // 컬럼 변환식 컴파일 (다른 컬럼을 참조하면 매핑에 없는 컬럼도 조회)
+        RowTransformer rowTransformer = RowTransformer.compile(columnMappings, transformParallelThreshold);
+        if (rowTransformer != null) {
+            for (String referencedColumn : rowTransformer.getReferencedColumns()) {
+                if (sourceColumns.stream().noneMatch(referencedColumn::equalsIgnoreCase)) {
+                    sourceColumns.add(referencedColumn);
+                }
+            }
+        }
+
+        // 워터마크 추적 시 매핑에 없는 기간 컬럼도 조회
+        if (watermarkTracker != null) {
+            if (sourceColumns.stream().noneMatch(sourceDateColumn::equalsIgnoreCase)) {
+                sourceColumns.add(sourceDateColumn);
+            }
+            watermarkTracker.resolveColumn(sourceColumns);
+        }
+
         // Target 컬럼 목록 (PK 포함)
-        List<String> targetColumns = new ArrayList<>();
-        targetColumns.add(targetPkColumn);  // PK는 항상 첫 번째
+        List<String> targetColumns = new ArrayList<>(primaryKey.getTargetColumns());  // PK는 항상 앞쪽
         if (columnMappings != null) {
             for (MappingConfigDto.ColumnMappingDto cm : columnMappings) {
-                if (!cm.getTargetColumn().equalsIgnoreCase(targetPkColumn)) {
+                if (!primaryKey.isTargetColumn(cm.getTargetColumn())) {
                     targetColumns.add(cm.getTargetColumn());
                 }
             }
@@ -216,180 +370,562 @@ public class DbSyncService {
 
         // Source -> Target 컬럼 매핑 맵 생성 (PK 포함)
         Map<String, String> columnMap = new LinkedHashMap<>();
-        columnMap.put(sourcePkColumn, targetPkColumn);  // PK 매핑 추가
+        for (int i = 0; i < primaryKey.size(); i++) {
+            columnMap.put(primaryKey.getSourceColumns().get(i), primaryKey.getTargetColumns().get(i));  // PK 매핑 추가
+        }
         if (columnMappings != null) {
             for (MappingConfigDto.ColumnMappingDto cm : columnMappings) {
-                if (!cm.getSourceColumn().equalsIgnoreCase(sourcePkColumn)) {
+                if (!primaryKey.isSourceColumn(cm.getSourceColumn())) {
                     columnMap.put(cm.getSourceColumn(), cm.getTargetColumn());
                 }
             }
         }
 
-        // Source에서 데이터 조회 (기간 필터링 적용)
-        String selectSql = buildSelectSql(sourceTable, sourceColumns, sourceDateColumn, useDateFilter);
-        log.debug("SELECT SQL: {}", selectSql);
+        // Source 조회 SQL (기간 필터링 + 조회 필터 적용)
+        SourcePredicateBuilder.SourcePredicate predicate = sourcePredicateBuilder.build(
+                execId, sourceTable, sourceQuery, tableMapping.getSourceQueryParams(),
+                tableMapping.getFilters(), useDateFilter ? sourceDateColumn : null);
+        for (String warning : predicate.getWarnings()) {
+            managerApiClient.reportProgress(execId, "인덱스 경고", null, null, null, warning, "WARN");
+        }
 
-        List<Map<String, Object>> sourceData = new ArrayList<>();
-        try (Connection sourceConn = sourceDataSource.getConnection();
-             PreparedStatement pstmt = sourceConn.prepareStatement(selectSql)) {
+        // xmin 변경 추적: 저장 상태가 유효하면 직전 동기화 이후 변경된 행만 조회
+        XminChangeTracker.XminState xminState = null;
+        if (XminChangeTracker.isEnabled(tableMapping)) {
+            xminState = prepareXminTracking(execId, tableMapping, sourceQuery, sourceTable, predicate);
+        }
+        String sourceFrom = sourceQuery != null ? SourceQuery.fromClause(sourceQuery) : sourceTable;
+        String selectSql = buildSelectSql(sourceFrom, sourceColumns, sourceDateColumn, useDateFilter,
+                predicate.getConditions());
+        List<Object> selectParams = new ArrayList<>();
+        if (sourceQuery != null && tableMapping.getSourceQueryParams() != null) {
+            selectParams.addAll(tableMapping.getSourceQueryParams());
+        }
+        if (useDateFilter) {
+            selectParams.add(Timestamp.valueOf(syncStartDt));
+            selectParams.add(Timestamp.valueOf(syncEndDt));
+        }
+        selectParams.addAll(predicate.getParams());
+        log.debug("SELECT SQL: {}", selectSql);
 
-            // 기간 필터링 파라미터 바인딩
-            if (useDateFilter) {
-                pstmt.setTimestamp(1, Timestamp.valueOf(syncStartDt));
-                pstmt.setTimestamp(2, Timestamp.valueOf(syncEndDt));
-            }
+        // 참조 값 조회(lookup) 준비 (작은 참조 테이블은 선적재)
+        ColumnLookupResolver.LookupStage lookupStage = columnLookupResolver.prepare(execId, columnMappings);
+        boolean spillToDisk = spillManager.isEnabled(tableMapping) && !SYNC_MODE_FILE_EXPORT.equals(resolveSyncMode(tableMapping));
+        int pageRows = resolveKeysetPageRows(tableMapping);
+        if (pageRows > 0) {
+            log.info("  keyset 페이지 조회: {}행씩 PK({}) 순서", pageRows, String.join(", ", primaryKey.getSourceColumns()));
+        }
 
-            try (ResultSet rs = pstmt.executeQuery()) {
-                while (rs.next()) {
-                    Map<String, Object> row = new LinkedHashMap<>();
-                    for (String col : sourceColumns) {
-                        row.put(col, rs.getObject(col));
-                    }
-                    sourceData.add(row);
+        TableSyncPlan plan = TableSyncPlan.builder()
+                .execId(execId)
+                .tableMapping(tableMapping)
+                .sourceTable(sourceTable)
+                .targetTable(targetTable)
+                .primaryKey(primaryKey)
+                .sourceColumns(sourceColumns)
+                .targetColumns(targetColumns)
+                .columnMap(columnMap)
+                .rowTransformer(rowTransformer)
+                .lookupStage(lookupStage)
+                .watermarkTracker(watermarkTracker)
+                .spill(spillToDisk)
+                .streamLargeValues(resolveLargeValueStreaming(tableMapping, spillToDisk, rowTransformer, lookupStage))
+                .keysetPageRows(pageRows)
+                .keysetCheckpoint(pageRows > 0 ? (checkpoint != null ? checkpoint : new KeysetCheckpoint(null, null)) : null)
+                .deadLetterKeys(xminState != null ? ConcurrentHashMap.newKeySet() : null)
+                .sourceDateColumn(sourceDateColumn)
+                .useDateFilter(useDateFilter)
+                .syncStartDt(syncStartDt)
+                .syncEndDt(syncEndDt)
+                .selectSql(selectSql)
+                .selectParams(selectParams)
+                .build();
+
+        String syncMode = resolveSyncMode(tableMapping);
+        plan = withAdditionalSinks(plan, syncMode);
+        if (plan.isSpill()) {
+            log.info("  Source 조회 결과 디스크 기록 후 반영 (spill)");
+        }
+        long processedCount;
+        for (int attempt = 0; ; attempt++) {
+            try {
+                processedCount = syncTableByMode(plan, syncMode, baseProgress, progressRange);
+                break;
+            } catch (SQLException | RuntimeException e) {
+                // Source 조회를 마친 spill이 있으면 Target 반영만 다시 시도
+                SpillBuffer spill = plan.isSpill() ? spillManager.find(plan) : null;
+                if (spill == null || attempt >= spillManager.getWriteRetries()) {
+                    spillManager.discard(plan);
+                    throw e;
                 }
+                log.warn("Target 반영 실패, spill로 재시도 ({}/{}): {} -> {} ({})", attempt + 1,
+                        spillManager.getWriteRetries(), sourceTable, targetTable, e.getMessage());
+                managerApiClient.reportProgress(execId, "반영 재시도", null, null, spill.getRowCount(),
+                        String.format("%s: Target 반영 실패로 디스크에 기록한 %d건을 다시 반영합니다 (%s)",
+                                targetTable, spill.getRowCount(), e.getMessage()), "WARN");
+            }
+        }
+        spillManager.discard(plan);
+
+        reportLookupStats(plan);
+        if (xminState != null) {
+            if (!plan.getDeadLetterKeys().isEmpty()) {
+                // 반영 실패 행을 기록한 트랜잭션은 저장 스냅샷에서 진행 중으로 남겨 다음 동기화에서 다시 조회
+                xminState = xminChangeTracker.holdBack(execId, plan, xminState);
+                managerApiClient.reportProgress(execId, "변경 추적", null, null, null,
+                        String.format("%s: 반영 실패 행 %d건은 다음 동기화에서 다시 조회합니다",
+                                sourceTable, plan.getDeadLetterKeys().size()), "WARN");
             }
+            xminChangeTracker.save(execId, tableMapping, sourceTable + "->" + targetTable, xminState);
         }
+        return processedCount;
+    }
 
-        long totalCount = sourceData.size();
-        log.info("Source 데이터 조회 완료: {} 테이블, {}건", sourceTable, totalCount);
+    /**
+     * 큰 컬럼 스트리밍 적용 여부 (테이블 매핑의 streamLargeValues가 전역 설정보다 우선)
+     * 스트림은 조회 중인 행에서만 유효하므로 조회 결과를 모아 두거나(spill, 팬아웃 큐) 행 Map 값을 바꾸는(변환식, lookup)
+     * 테이블에는 적용하지 않습니다.
+     */
+    private boolean resolveLargeValueStreaming(MappingConfigDto.TableMappingDto tableMapping, boolean spill,
+                                               RowTransformer rowTransformer,
+                                               ColumnLookupResolver.LookupStage lookupStage) {
+        boolean requested = tableMapping.getStreamLargeValues() != null ? tableMapping.getStreamLargeValues() : lobStreaming;
+        // FILE_EXPORT는 Source 서버가 바로 파일 스트림으로 내보내므로 해당 없음
+        if (!requested || SYNC_MODE_FILE_EXPORT.equals(resolveSyncMode(tableMapping))) {
+            return false;
+        }
+        String reason = null;
+        if (spill) {
+            reason = "spill";
+        } else if (rowTransformer != null || lookupStage != null) {
+            reason = "변환식/lookup";
+        } else if (tableMapping.getAdditionalTargets() != null && !tableMapping.getAdditionalTargets().isEmpty()) {
+            reason = "팬아웃";
+        }
+        if (reason != null) {
+            log.info("  큰 컬럼 스트리밍 미적용 ({} 사용): {}", reason, tableMapping.getTargetTable());
+            return false;
+        }
+        return true;
+    }
 
-        if (totalCount == 0) {
+    /**
+     * keyset 페이지 조회 행 수 (테이블 매핑의 keysetPageRows가 전역 설정보다 우선, 0이면 미적용)
+     */
+    private int resolveKeysetPageRows(MappingConfigDto.TableMappingDto tableMapping) {
+        int pageRows = tableMapping.getKeysetPageRows() != null ? tableMapping.getKeysetPageRows() : keysetPageRows;
+        // FILE_EXPORT는 Source 서버가 COPY 한 번으로 내보내므로 해당 없음
+        if (pageRows <= 0 || SYNC_MODE_FILE_EXPORT.equals(resolveSyncMode(tableMapping))) {
             return 0;
         }
+        return pageRows;
+    }
+
+    /**
+     * 테이블 매핑의 추가 대상(additionalTargets)을 팬아웃 대상으로 계획에 추가
+     */
+    private TableSyncPlan withAdditionalSinks(TableSyncPlan plan, String syncMode) {
+        List<MappingConfigDto.TargetSinkDto> additionalTargets = plan.getTableMapping().getAdditionalTargets();
+        if (additionalTargets == null || additionalTargets.isEmpty()) {
+            return plan;
+        }
+        if (!SYNC_MODE_UPSERT.equals(syncMode)) {
+            throw new RuntimeException("추가 대상(additionalTargets)은 UPSERT 모드만 지원합니다: " + plan.getTargetTable());
+        }
+        List<TableSyncPlan> sinks = new ArrayList<>();
+        for (MappingConfigDto.TargetSinkDto target : additionalTargets) {
+            sinks.add(plan.toBuilder()
+                    .targetTable(hasText(target.getTargetTable()) ? target.getTargetTable() : plan.getTargetTable())
+                    .targetConnection(hasText(target.getTargetConnection()) ? target.getTargetConnection() : null)
+                    .build());
+        }
+        log.info("  팬아웃 추가 대상: {}개", sinks.size());
+        return plan.toBuilder().additionalSinks(sinks).build();
+    }
 
-        managerApiClient.reportProgress(execId, "데이터 저장", baseProgress + (progressRange / 4), 0L, totalCount,
-                String.format("%s: %d건 조회 완료, Target에 저장 시작", sourceTable, totalCount), "INFO");
+    /**
+     * 동기화 방식별 처리기 호출
+     */
+    private long syncTableByMode(TableSyncPlan plan, String syncMode, int baseProgress, int progressRange) throws SQLException {
+        if (SYNC_MODE_FULL_REFRESH.equals(syncMode)) {
+            return syncTableFullRefresh(plan, baseProgress, progressRange);
+        } else if (SYNC_MODE_WINDOW_REPLACE.equals(syncMode)) {
+            return syncTableWindowReplace(plan, baseProgress, progressRange);
+        } else if (SYNC_MODE_UPSERT.equals(syncMode)) {
+            return syncTableUpsert(plan, baseProgress, progressRange);
+        } else if (SYNC_MODE_FILE_EXPORT.equals(syncMode)) {
+            return syncTableFileExport(plan, baseProgress, progressRange);
+        }
+        throw new RuntimeException(String.format("지원하지 않는 동기화 방식입니다: %s (%s -> %s)",
+                syncMode, plan.getSourceTable(), plan.getTargetTable()));
+    }
 
-        // Target에 UPSERT
-        long processedCount = 0;
-        int batchSize = 100;
+    /**
+     * xmin 변경 추적 준비
+     * 조회 전 현재 스냅샷을 캡처하고, 저장된 상태가 유효하면 변경 행 조건을 조회 필터에 추가합니다.
+     *
+     * @return 동기화 성공 후 저장할 상태
+     */
+    private XminChangeTracker.XminState prepareXminTracking(Long execId, MappingConfigDto.TableMappingDto tableMapping,
+                                                            String sourceQuery, String sourceTable,
+                                                            SourcePredicateBuilder.SourcePredicate predicate) throws SQLException {
+        if (sourceQuery != null) {
+            throw new RuntimeException("XMIN 변경 추적은 sourceQuery 매핑을 지원하지 않습니다: " + tableMapping.getTargetTable());
+        }
+        if (!SYNC_MODE_UPSERT.equals(resolveSyncMode(tableMapping))) {
+            throw new RuntimeException("XMIN 변경 추적은 UPSERT 모드만 지원합니다: " + tableMapping.getTargetTable());
+        }
+        String tableKey = sourceTable + "->" + tableMapping.getTargetTable();
+        XminChangeTracker.XminState current = xminChangeTracker.capture(execId, sourceTable, tableMapping);
+        XminChangeTracker.XminState saved = xminChangeTracker.load(execId, tableMapping, tableKey);
+        String fullSyncReason = xminChangeTracker.validate(saved, current);
+        if (fullSyncReason != null) {
+            log.info("  변경 추적(XMIN): 전체 동기화 - {}", fullSyncReason);
+            managerApiClient.reportProgress(execId, "변경 추적", null, null, null,
+                    String.format("%s: 전체 동기화 후 변경 추적을 시작합니다 (%s)", sourceTable, fullSyncReason), "INFO");
+        } else {
+            log.info("  변경 추적(XMIN): 스냅샷 {} 이후 변경분 조회", saved.getSnapshot());
+            predicate.getConditions().add(xminChangeTracker.changedCondition());
+            predicate.getParams().add(saved.getSnapshot());
+        }
+        return current;
+    }
+
+    /**
+     * UPSERT 모드 동기화
+     * Source 데이터를 조회한 뒤 PK 기준으로 행 단위 INSERT/UPDATE 합니다.
+     * 반영할 수 없는 행은 배치 분할로 찾아 dead letter 테이블에 기록하고 나머지 행은 반영합니다.
+     * spill을 적용하면 조회 결과를 힙에 모으지 않고 디스크에서 배치 단위로 읽어 반영합니다.
+     * 큰 컬럼 스트리밍이나 keyset 페이지 조회를 적용하면 조회 결과를 모으지 않고 조회한 행을 바로 반영하며,
+     * keyset 페이지 조회는 반영을 마친 페이지 위치를 기록해 분산 작업 단위를 다시 처리할 때 그 다음부터 조회합니다.
+     */
+    private long syncTableUpsert(TableSyncPlan plan, int baseProgress, int progressRange) throws SQLException {
+        if (!plan.getAdditionalSinks().isEmpty()) {
+            return syncTableFanOut(plan, baseProgress, progressRange);
+        }
+        MappingConfigDto.TableMappingDto tableMapping = plan.getTableMapping();
+        boolean partitionRouting = tableMapping.getPartitionRouting() != null
+                ? tableMapping.getPartitionRouting() : partitionUpsertRouting;
+        if (partitionRouting) {
+            PartitionedTargetWriter.PartitionLayout layout = partitionedTargetWriter.detect(plan);
+            if (layout != null && layout.isRoutable()) {
+                return syncTablePartitioned(plan, layout, SYNC_MODE_UPSERT, baseProgress, progressRange);
+            }
+            if (layout != null) {
+                log.info("  파티션 직접 반영 미적용 ({}): {}", layout.getUnsupportedReason(), plan.getTargetTable());
+            }
+        }
+        Long execId = plan.getExecId();
+        String sourceTable = plan.getSourceTable();
+        String targetTable = plan.getTargetTable();
+
+        // Source에서 데이터 조회
+        List<Map<String, Object>> sourceData = null;
+        long totalCount;
+        boolean applyWhileReading = !plan.isSpill()
+                && (plan.isStreamLargeValues() || plan.getKeysetCheckpoint() != null);
+        if (plan.isSpill()) {
+            totalCount = sourceReader.spill(plan).getRowCount();
+        } else if (applyWhileReading) {
+            // 조회하면서 반영하므로 건수는 실행계획 추정치
+            totalCount = sourceReader.estimateRowCount(plan);
+        } else {
+            sourceData = new ArrayList<>();
+            sourceReader.read(plan, batchSize, sourceData::addAll);
+            totalCount = sourceData.size();
+        }
 
-        try (Connection targetConn = targetDataSource.getConnection()) {
-            targetConn.setAutoCommit(false);
+        if (applyWhileReading) {
+            managerApiClient.reportProgress(execId, "데이터 저장", baseProgress + (progressRange / 4), 0L,
+                    totalCount >= 0 ? totalCount : null,
+                    String.format("%s: 조회하면서 Target에 저장 시작 (예상 %d건)", sourceTable, totalCount), "INFO");
+        } else {
+            log.info("Source 데이터 조회 완료: {} 테이블, {}건", sourceTable, totalCount);
 
-            for (int i = 0; i < sourceData.size(); i += batchSize) {
-                int endIdx = Math.min(i + batchSize, sourceData.size());
-                List<Map<String, Object>> batch = sourceData.subList(i, endIdx);
+            if (totalCount == 0) {
+                return 0;
+            }
 
-                for (Map<String, Object> row : batch) {
-                    upsertRow(targetConn, targetTable, columnMap, row, sourcePkColumn, targetPkColumn);
-                }
+            managerApiClient.reportProgress(execId, "데이터 저장", baseProgress + (progressRange / 4), 0L, totalCount,
+                    String.format("%s: %d건 조회 완료, Target에 저장 시작", sourceTable, totalCount), "INFO");
+        }
 
-                targetConn.commit();
-                processedCount = endIdx;
+        // 대량 적재 시 보조 인덱스/트리거 지연 처리
+        BulkLoadDdlDeferral.DeferredDdl deferredDdl = suspendDdlIfNeeded(execId, plan.getTableMapping(), totalCount);
 
-                int progress = baseProgress + (int) ((processedCount * 1.0 / totalCount) * progressRange);
-//                managerApiClient.reportProgress(execId, "데이터 저장", progress, processedCount, totalCount,
-//                        String.format("%s: %d / %d 건 저장 중...", targetTable, processedCount, totalCount), "INFO");
+        // Target에 UPSERT
+        long[] processedCount = {0};
+        long deadLettered;
+
+        try (UpsertBatchApplier.Session session = upsertBatchApplier.open(plan)) {
+            SourceReader.RowBatchHandler applyBatch = batch -> {
+                long batchStart = System.nanoTime();
+                processedCount[0] += session.apply(batch);
+                syncMetrics.recordBatch(SYNC_MODE_UPSERT, System.nanoTime() - batchStart);
+            };
+            if (sourceData == null) {
+                if (applyWhileReading && plan.getKeysetCheckpoint() != null) {
+                    // 페이지를 넘기면 배치 반영(커밋)까지 끝나므로 페이지 위치를 기록하고 기록한 위치 다음부터 조회
+                    plan.getKeysetCheckpoint().arm();
+                }
+                sourceReader.read(plan, batchSize, applyBatch);
+            } else {
+                for (int i = 0; i < sourceData.size(); i += batchSize) {
+                    applyBatch.handle(sourceData.subList(i, Math.min(i + batchSize, sourceData.size())));
+                }
             }
+            deadLettered = session.getDeadLettered();
+        } finally {
+            restoreDdl(execId, deferredDdl);
         }
 
-        return processedCount;
+        if (deadLettered > 0) {
+            managerApiClient.reportProgress(execId, "반영 실패 행", null, processedCount[0], totalCount,
+                    String.format("%s: %d건은 반영하지 못해 dbsync_dead_letter 테이블에 기록했습니다",
+                            targetTable, deadLettered), "WARN");
+        }
+        return processedCount[0];
     }
 
     /**
-     * SELECT SQL 생성 (기간 필터링 조건 포함)
+     * UPSERT 팬아웃 동기화
+     * Source를 한 번 조회해 주 대상과 추가 대상에 함께 반영하며, 일부 대상이 실패해도 나머지 대상은 반영을 마칩니다.
+     *
+     * @return 주 대상 반영 건수
      */
-    private String buildSelectSql(String tableName, List<String> columns,
-                                   String dateColumn, boolean useDateFilter) {
-        String columnList = String.join(", ", columns);
-        StringBuilder sql = new StringBuilder();
-        sql.append(String.format("SELECT %s FROM %s", columnList, tableName));
-
-        if (useDateFilter && dateColumn != null) {
-            sql.append(String.format(" WHERE %s >= ? AND %s < ?", dateColumn, dateColumn));
+    private long syncTableFanOut(TableSyncPlan plan, int baseProgress, int progressRange) throws SQLException {
+        Long execId = plan.getExecId();
+        int sinkCount = plan.getAdditionalSinks().size() + 1;
+        managerApiClient.reportProgress(execId, "팬아웃", baseProgress + (progressRange / 4), 0L, null,
+                String.format("%s: Source를 한 번 조회해 %d개 대상에 반영합니다", plan.getSourceTable(), sinkCount), "INFO");
+
+        List<TableFanOutWriter.SinkResult> results = tableFanOutWriter.write(plan, SYNC_MODE_UPSERT, batchSize);
+
+        List<String> failures = new ArrayList<>();
+        for (TableFanOutWriter.SinkResult result : results) {
+            log.info("  팬아웃 대상 {}: {}건 반영, 반영 실패 행 {}건, 조회 대기 {}ms{}", result.getTarget(),
+                    result.getProcessed(), result.getDeadLettered(), result.getWaitMs(),
+                    result.getError() != null ? ", 오류: " + result.getError().getMessage() : "");
+            if (result.getDeadLettered() > 0) {
+                managerApiClient.reportProgress(execId, "반영 실패 행", null, result.getProcessed(), null,
+                        String.format("%s: %d건은 반영하지 못해 dbsync_dead_letter 테이블에 기록했습니다",
+                                result.getTarget(), result.getDeadLettered()), "WARN");
+            }
+            if (result.getError() != null) {
+                failures.add(result.getTarget() + " (" + result.getError().getMessage() + ")");
+            }
         }
-
-        return sql.toString();
+        if (!failures.isEmpty()) {
+            throw new RuntimeException(String.format("팬아웃 대상 %d개 중 %d개 반영 실패: %s",
+                    sinkCount, failures.size(), String.join(", ", failures)));
+        }
+        return results.get(0).getProcessed();
     }
 
     /**
-     * UPSERT (INSERT or UPDATE)
+     * lookup 캐시 적중률 보고
      */
-    private void upsertRow(Connection conn, String targetTable,
-                           Map<String, String> columnMap,
-                           Map<String, Object> sourceRow,
-                           String sourcePkColumn, String targetPkColumn) throws SQLException {
+    private void reportLookupStats(TableSyncPlan plan) {
+        if (plan.getLookupStage() == null) {
+            return;
+        }
+        for (String summary : plan.getLookupStage().summaries()) {
+            log.info("  lookup: {}", summary);
+            managerApiClient.reportProgress(plan.getExecId(), "lookup 통계", null, null, null,
+                    String.format("%s: %s", plan.getTargetTable(), summary), "INFO");
+        }
+    }
 
-        Object pkValue = sourceRow.get(sourcePkColumn);
+    /**
+     * FULL_REFRESH 모드 동기화
+     * Shadow 테이블에 전체 적재 후 Target 테이블과 교체합니다.
+     */
+    private long syncTableFullRefresh(TableSyncPlan plan, int baseProgress, int progressRange) throws SQLException {
+        PartitionedTargetWriter.PartitionLayout layout = partitionedTargetWriter.detect(plan);
+        if (layout != null) {
+            if (!layout.isRoutable()) {
+                throw new RuntimeException(String.format("FULL_REFRESH 모드에서 교체할 수 없는 파티션 구성입니다: %s (%s)",
+                        plan.getTargetTable(), layout.getUnsupportedReason()));
+            }
+            return syncTablePartitioned(plan, layout, SYNC_MODE_FULL_REFRESH, baseProgress, progressRange);
+        }
+        managerApiClient.reportProgress(plan.getExecId(), "전체 재적재", baseProgress + (progressRange / 4), 0L, null,
+                String.format("%s: Shadow 테이블 적재 후 %s 테이블과 교체합니다",
+                        plan.getSourceTable(), plan.getTargetTable()), "INFO");
 
-        // 기존 데이터 존재 여부 확인
-        String checkSql = String.format("SELECT 1 FROM %s WHERE %s = ?", targetTable, targetPkColumn);
-        boolean exists = false;
+        long loadedCount = shadowTableLoader.load(plan);
+        log.info("FULL_REFRESH 동기화 완료: {} -> {}, {}건", plan.getSourceTable(), plan.getTargetTable(), loadedCount);
+        return loadedCount;
+    }
 
-        try (PreparedStatement checkStmt = conn.prepareStatement(checkSql)) {
-            checkStmt.setObject(1, pkValue);
-            try (ResultSet rs = checkStmt.executeQuery()) {
-                exists = rs.next();
-            }
+    /**
+     * 파티션 테이블 동기화
+     * UPSERT는 파티션별 배치를 하위 파티션에 직접 반영하고, FULL_REFRESH는 파티션별 적재 테이블에 적재 후
+     * DETACH / ATTACH 로 교체합니다. 파티션별 배치는 여러 반영 스레드가 병렬로 반영합니다.
+     */
+    private long syncTablePartitioned(TableSyncPlan plan, PartitionedTargetWriter.PartitionLayout layout, String syncMode,
+                                      int baseProgress, int progressRange) throws SQLException {
+        Long execId = plan.getExecId();
+        boolean reload = SYNC_MODE_FULL_REFRESH.equals(syncMode);
+        managerApiClient.reportProgress(execId, reload ? "파티션 교체" : "파티션 반영", baseProgress + (progressRange / 4), 0L, null,
+                String.format(reload
+                                ? "%s: 파티션 %d개를 적재 테이블에 적재 후 DETACH / ATTACH 로 교체합니다 (파티션 키 %s)"
+                                : "%s: 파티션 %d개에 직접 반영합니다 (파티션 키 %s)",
+                        plan.getTargetTable(), layout.getPartitionCount(), layout.getKeyColumn()), "INFO");
+
+        PartitionedTargetWriter.WriteResult result = reload
+                ? partitionedTargetWriter.reload(plan, layout, syncMode)
+                : partitionedTargetWriter.upsert(plan, layout, syncMode, batchSize);
+        for (Map.Entry<String, Long> entry : result.getRowsPerPartition().entrySet()) {
+            log.info("  파티션 {}: {}건", entry.getKey(), entry.getValue());
         }
+        log.info("파티션 동기화 완료: {} -> {}, {}건 (반영 스레드 {}개)", plan.getSourceTable(), plan.getTargetTable(),
+                result.getProcessed(), result.getWriters());
 
-        if (exists) {
-            updateRow(conn, targetTable, columnMap, sourceRow, sourcePkColumn, targetPkColumn);
-        } else {
-            insertRow(conn, targetTable, columnMap, sourceRow, sourcePkColumn);
+        if (result.getDeadLettered() > 0) {
+            managerApiClient.reportProgress(execId, "반영 실패 행", null, result.getProcessed(), null,
+                    String.format("%s: %d건은 반영하지 못해 dbsync_dead_letter 테이블에 기록했습니다",
+                            plan.getTargetTable(), result.getDeadLettered()), "WARN");
         }
+        return result.getProcessed();
     }
 
     /**
-     * INSERT 실행
+     * WINDOW_REPLACE 모드 동기화
+     * Target의 동기화 기간 데이터를 삭제 후 Source 기간 데이터로 일괄 교체합니다.
      */
-    private void insertRow(Connection conn, String targetTable,
-                           Map<String, String> columnMap,
-                           Map<String, Object> sourceRow,
-                           String sourcePkColumn) throws SQLException {
-
-        List<String> targetColumns = new ArrayList<>(columnMap.values());
-        String columnList = String.join(", ", targetColumns);
-        String placeholders = targetColumns.stream().map(c -> "?").collect(Collectors.joining(", "));
-        String insertSql = String.format("INSERT INTO %s (%s) VALUES (%s)", targetTable, columnList, placeholders);
-
-        try (PreparedStatement insertStmt = conn.prepareStatement(insertSql)) {
-            int idx = 1;
-            for (String sourceCol : columnMap.keySet()) {
-                Object value = sourceRow.get(sourceCol);
-                insertStmt.setObject(idx++, value);
-            }
-            insertStmt.executeUpdate();
+    private long syncTableWindowReplace(TableSyncPlan plan, int baseProgress, int progressRange) throws SQLException {
+        managerApiClient.reportProgress(plan.getExecId(), "기간 교체", baseProgress + (progressRange / 4), 0L, null,
+                String.format("%s: 기간(%s ~ %s) 데이터를 삭제 후 일괄 적재합니다",
+                        plan.getTargetTable(), plan.getSyncStartDt(), plan.getSyncEndDt()), "INFO");
+
+        long expectedRows = sourceReader.estimateRowCount(plan);
+        BulkLoadDdlDeferral.DeferredDdl deferredDdl = suspendDdlIfNeeded(plan.getExecId(), plan.getTableMapping(), expectedRows);
+
+        long loadedCount;
+        try {
+            loadedCount = windowReplaceLoader.load(plan);
+        } finally {
+            restoreDdl(plan.getExecId(), deferredDdl);
         }
+        log.info("WINDOW_REPLACE 동기화 완료: {} -> {}, {}건", plan.getSourceTable(), plan.getTargetTable(), loadedCount);
+        return loadedCount;
     }
 
     /**
-     * UPDATE 실행
+     * FILE_EXPORT 모드 동기화
+     * Source 조회 결과를 COPY TO STDOUT으로 압축 CSV 파일에 추출하고 manifest를 기록합니다.
      */
-    private void updateRow(Connection conn, String targetTable,
-                           Map<String, String> columnMap,
-                           Map<String, Object> sourceRow,
-                           String sourcePkColumn, String targetPkColumn) throws SQLException {
-
-        // PK를 제외한 컬럼들만 업데이트
-        Map<String, String> nonPkColumns = new LinkedHashMap<>();
-        for (Map.Entry<String, String> entry : columnMap.entrySet()) {
-            if (!entry.getKey().equalsIgnoreCase(sourcePkColumn)) {
-                nonPkColumns.put(entry.getKey(), entry.getValue());
-            }
+    private long syncTableFileExport(TableSyncPlan plan, int baseProgress, int progressRange) throws SQLException {
+        managerApiClient.reportProgress(plan.getExecId(), "파일 추출", baseProgress + (progressRange / 4), 0L, null,
+                String.format("%s: 조회 결과를 파일로 추출합니다", plan.getSourceTable()), "INFO");
+
+        FileExportWriter.ExportResult result = fileExportWriter.export(plan);
+        managerApiClient.reportProgress(plan.getExecId(), "파일 추출", null, result.getRows(), result.getRows(),
+                String.format("%s: %d건을 파일 %d개(%dKB)로 추출했습니다: %s", plan.getSourceTable(), result.getRows(),
+                        result.getFiles(), result.getBytes() / 1024, result.getDirectory()), "INFO");
+        return result.getRows();
+    }
+
+    /**
+     * 적재 예상 건수가 임계치 이상이면 Target 보조 인덱스/트리거 지연 처리
+     */
+    private BulkLoadDdlDeferral.DeferredDdl suspendDdlIfNeeded(Long execId, MappingConfigDto.TableMappingDto tableMapping,
+                                                              long expectedRows) throws SQLException {
+        if (!bulkLoadDdlDeferral.shouldDefer(tableMapping, expectedRows)) {
+            return null;
         }
+        BulkLoadDdlDeferral.DeferredDdl deferredDdl = bulkLoadDdlDeferral.suspend(execId, tableMapping.getTargetTable());
+        if (deferredDdl != null) {
+            managerApiClient.reportProgress(execId, "인덱스 지연", null, 0L, expectedRows,
+                    String.format("%s: 예상 %d건 대량 적재로 보조 인덱스/트리거를 적재 후 재생성합니다",
+                            tableMapping.getTargetTable(), expectedRows), "INFO");
+        }
+        return deferredDdl;
+    }
 
-        if (nonPkColumns.isEmpty()) {
-            return; // PK만 있으면 업데이트할 것이 없음
+    /**
+     * 지연 처리한 인덱스/트리거 원복 (실패해도 동기화 결과에는 영향 없음)
+     */
+    private void restoreDdl(Long execId, BulkLoadDdlDeferral.DeferredDdl deferredDdl) {
+        if (deferredDdl != null && !bulkLoadDdlDeferral.restore(deferredDdl)) {
+            managerApiClient.reportProgress(execId, "인덱스 원복 오류", null, null, null,
+                    String.format("%s: 인덱스/트리거 원복 일부 실패 (sync.bulk-load.lease-ms 주기로 재시도)",
+                            deferredDdl.getTargetTable()), "WARN");
         }
+    }
 
-        String setClause = nonPkColumns.values().stream()
-                .map(col -> col + " = ?")
-                .collect(Collectors.joining(", "));
+    /**
+     * 테이블 매핑의 동기화 방식 (미지정 시 UPSERT)
+     */
+    String resolveSyncMode(MappingConfigDto.TableMappingDto tableMapping) {
+        String syncMode = tableMapping.getSyncMode();
+        return (syncMode == null || syncMode.isEmpty()) ? SYNC_MODE_UPSERT : syncMode.toUpperCase();
+    }
 
-        String updateSql = String.format("UPDATE %s SET %s WHERE %s = ?",
-                targetTable, setClause, targetPkColumn);
+    private static boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
 
-        try (PreparedStatement updateStmt = conn.prepareStatement(updateSql)) {
-            int idx = 1;
-            for (String sourceCol : nonPkColumns.keySet()) {
-                Object value = sourceRow.get(sourceCol);
-                updateStmt.setObject(idx++, value);
-            }
-            // WHERE 조건의 PK 값
-            updateStmt.setObject(idx, sourceRow.get(sourcePkColumn));
-            updateStmt.executeUpdate();
+    /**
+     * 분산 작업 단위 PK 범위 분할용 Source 조회 계획
+     * syncTable과 같은 조회 대상(Source 테이블 또는 조회 SQL)과 기간 필터링 / 조회 필터로 선두 PK 컬럼만 조회합니다.
+     */
+    private TableSyncPlan rangePlan(Long execId, MappingConfigDto.TableMappingDto tableMapping,
+                                    LocalDateTime syncStartDt, LocalDateTime syncEndDt) throws SQLException {
+        String sourceQuery = hasText(tableMapping.getSourceQuery()) ? SourceQuery.validate(tableMapping.getSourceQuery()) : null;
+        PrimaryKeyMapping primaryKey = PrimaryKeyMapping.of(tableMapping);
+        List<String> pkColumns = Collections.singletonList(primaryKey.getSourceColumns().get(0));
+        String sourceDateColumn = tableMapping.getSourceDateColumn();
+        boolean useDateFilter = sourceDateColumn != null && !sourceDateColumn.isEmpty()
+                && syncStartDt != null && syncEndDt != null;
+
+        SourcePredicateBuilder.SourcePredicate predicate = sourcePredicateBuilder.build(
+                execId, tableMapping.getSourceTable(), sourceQuery, tableMapping.getSourceQueryParams(),
+                tableMapping.getFilters(), useDateFilter ? sourceDateColumn : null);
+        String sourceFrom = sourceQuery != null ? SourceQuery.fromClause(sourceQuery) : tableMapping.getSourceTable();
+        List<Object> selectParams = new ArrayList<>();
+        if (sourceQuery != null && tableMapping.getSourceQueryParams() != null) {
+            selectParams.addAll(tableMapping.getSourceQueryParams());
+        }
+        if (useDateFilter) {
+            selectParams.add(Timestamp.valueOf(syncStartDt));
+            selectParams.add(Timestamp.valueOf(syncEndDt));
+        }
+        selectParams.addAll(predicate.getParams());
+
+        return TableSyncPlan.builder()
+                .execId(execId)
+                .tableMapping(tableMapping)
+                .sourceTable(tableMapping.getSourceTable())
+                .primaryKey(primaryKey)
+                .sourceColumns(pkColumns)
+                .selectSql(buildSelectSql(sourceFrom, pkColumns, sourceDateColumn, useDateFilter,
+                        predicate.getConditions()))
+                .selectParams(selectParams)
+                .build();
+    }
+
+    /**
+     * SELECT SQL 생성 (기간 필터링 조건 및 조회 필터 조건 포함)
+     *
+     * @param tableName 테이블명 또는 Source 조회 SQL 파생 테이블
+     */
+    private String buildSelectSql(String tableName, List<String> columns,
+                                   String dateColumn, boolean useDateFilter, List<String> filterConditions) {
+        String columnList = String.join(", ", columns);
+        StringBuilder sql = new StringBuilder();
+        sql.append(String.format("SELECT %s FROM %s", columnList, tableName));
+
+        List<String> conditions = new ArrayList<>();
+        if (useDateFilter && dateColumn != null) {
+            conditions.add(String.format("%s >= ? AND %s < ?", dateColumn, dateColumn));
+        }
+        conditions.addAll(filterConditions);
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
         }
+
+        return sql.toString();
     }
 }
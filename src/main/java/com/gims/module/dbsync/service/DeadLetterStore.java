@@ -0,0 +1,125 @@
+package com.gims.module.dbsync.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.*;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 반영 실패 행 저장소 (dead letter)
+ *
+ * 배치 분할로 찾아낸, 제약조건 위반이나 잘못된 값 때문에 반영할 수 없는 행을
+ * Target DB의 dbsync_dead_letter 테이블에 Source PK, 오류 코드/메시지, 행 값(JSON)과 함께 기록합니다.
+ * 행 값은 컬럼 변환식 적용 후의 값이므로 마스킹 변환식을 지정한 컬럼은 마스킹된 값이 저장됩니다.
+ * 실행별 기록 건수는 실행 완료 보고의 실패 건수에 포함됩니다.
+ */
+@Slf4j
+@Component
+public class DeadLetterStore {
+
+    private static final String DEAD_LETTER_TABLE = "dbsync_dead_letter";
+    private static final int MAX_ERROR_LENGTH = 4000;
+
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    // dead letter 테이블을 확인한 Target 풀
+    private final Set<String> tableReady = ConcurrentHashMap.newKeySet();
+
+    // execId -> 기록 건수
+    private final Map<Long, AtomicLong> executionCounts = new ConcurrentHashMap<>();
+
+    @Value("${module.id}")
+    private String defaultModuleId;
+
+    public DeadLetterStore(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 실패 행 기록 (실패한 배치를 롤백한 직후 같은 커넥션으로 호출, 커밋은 호출 측에서 수행)
+     */
+    public void save(Connection conn, String targetPool, TableSyncPlan plan, Map<String, Object> row,
+                     SQLException error) throws SQLException {
+        ensureTable(conn, targetPool);
+        String moduleId = plan.getTableMapping().getModuleId() != null ? plan.getTableMapping().getModuleId() : defaultModuleId;
+        // 복합 PK는 "(a, b)" 형식
+        RowKey pkValue = plan.getPrimaryKey().keyOf(row);
+        String message = error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName();
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "INSERT INTO " + DEAD_LETTER_TABLE + " (exec_id, module_id, source_table, target_table, source_pk, " +
+                "sql_state, error_message, row_data) VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            pstmt.setObject(1, plan.getExecId());
+            pstmt.setString(2, moduleId);
+            pstmt.setString(3, plan.getSourceTable());
+            pstmt.setString(4, plan.getTargetTable());
+            pstmt.setString(5, pkValue.size() == 1 && pkValue.get(0) == null ? null : pkValue.toString());
+            pstmt.setString(6, error.getSQLState());
+            pstmt.setString(7, message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+            pstmt.setString(8, toJson(row));
+            pstmt.executeUpdate();
+        }
+        if (plan.getDeadLetterKeys() != null) {
+            plan.getDeadLetterKeys().add(pkValue);
+        }
+        if (plan.getExecId() != null) {
+            executionCounts.computeIfAbsent(plan.getExecId(), k -> new AtomicLong()).incrementAndGet();
+        }
+        Counter.builder("dbsync.dead-letter.rows")
+                .description("반영하지 못해 dead letter 테이블에 기록한 행 수")
+                .tag("table", plan.getTargetTable())
+                .register(meterRegistry)
+                .increment();
+        log.warn("반영 실패 행 기록: {} PK={} [{}] {}", plan.getTargetTable(), pkValue, error.getSQLState(), message);
+    }
+
+    /**
+     * 실행의 기록 건수 조회 후 초기화 (실행 종료 시)
+     */
+    public long drainCount(Long execId) {
+        AtomicLong count = executionCounts.remove(execId);
+        return count != null ? count.get() : 0;
+    }
+
+    private String toJson(Map<String, Object> row) {
+        try {
+            return objectMapper.writeValueAsString(row);
+        } catch (Exception e) {
+            return String.valueOf(row);
+        }
+    }
+
+    private void ensureTable(Connection conn, String targetPool) throws SQLException {
+        if (tableReady.contains(targetPool)) {
+            return;
+        }
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS " + DEAD_LETTER_TABLE + " (" +
+                    "id BIGSERIAL PRIMARY KEY, " +
+                    "exec_id BIGINT, " +
+                    "module_id VARCHAR(100), " +
+                    "source_table VARCHAR(500), " +
+                    "target_table VARCHAR(500), " +
+                    "source_pk TEXT, " +
+                    "sql_state VARCHAR(5), " +
+                    "error_message TEXT, " +
+                    "row_data TEXT, " +
+                    "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)");
+        }
+        if (!conn.getAutoCommit()) {
+            conn.commit();
+        }
+        tableReady.add(targetPool);
+    }
+}
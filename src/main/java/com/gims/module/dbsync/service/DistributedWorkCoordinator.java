@@ -0,0 +1,627 @@
+package com.gims.module.dbsync.service;
+
+import com.gims.module.dbsync.dto.MappingConfigDto;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.lang.management.ManagementFactory;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * 분산 실행 조정 (여러 모듈 인스턴스가 하나의 실행을 나누어 처리)
+ *
+ * 같은 실행(execId)을 받은 인스턴스들은 Target DB의 dbsync_work_unit 테이블을 통해 작업을 나눕니다.
+ * 1. 처음 도착한 인스턴스가 (advisory lock 안에서) 테이블별 작업 단위를 생성합니다. UPSERT 테이블은 PK 범위로 나눌 수 있습니다.
+ * 2. 각 인스턴스는 SELECT ... FOR UPDATE SKIP LOCKED로 대기 중이거나 리스가 만료된 작업 단위를 하나씩 가져가
+ *    리스(sync.distributed.lease-ms)를 잡고 처리하며, 처리 중에는 heartbeat로 리스를 연장합니다.
+ * 3. 인스턴스가 비정상 종료해 리스가 만료되면 다른 인스턴스가 작업 단위를 다시 가져갑니다. (UPSERT라 중복 반영 무해)
+ *    keyset 페이지 조회를 쓰는 작업 단위는 반영을 마친 페이지의 마지막 PK(checkpoint_key)를 기록하므로 그 다음부터 이어서 처리합니다.
+ * 4. 모든 작업 단위가 끝나면 완료 표시 행을 먼저 갱신한 인스턴스 하나만 실행 완료를 보고합니다.
+ */
+@Slf4j
+@Component
+public class DistributedWorkCoordinator {
+
+    private static final String WORK_TABLE = "dbsync_work_unit";
+    // 실행 완료 보고 담당을 정하는 표시 행
+    private static final String COMPLETION_KEY = "#complete";
+
+    private static final String STATUS_PENDING = "PENDING";
+    private static final String STATUS_RUNNING = "RUNNING";
+    private static final String STATUS_DONE = "DONE";
+    private static final String STATUS_FAILED = "FAILED";
+    private static final int MAX_ERROR_LENGTH = 4000;
+
+    private final SyncConnectionManager connectionManager;
+
+    // 리스를 보유한 작업 단위 (execId + unitKey -> 작업 단위)
+    private final Map<String, WorkUnit> heldUnits = new ConcurrentHashMap<>();
+    private final java.util.Set<String> tableReady = ConcurrentHashMap.newKeySet();
+    private ScheduledExecutorService heartbeat;
+
+    @Value("${sync.distributed.enabled:false}")
+    private boolean distributedEnabled;
+
+    @Value("${sync.distributed.instance-id:}")
+    private String configuredInstanceId;
+
+    @Value("${sync.distributed.chunks-per-table:1}")
+    private int defaultChunks;
+
+    @Value("${sync.distributed.lease-ms:60000}")
+    private long leaseMs;
+
+    @Value("${sync.distributed.heartbeat-ms:15000}")
+    private long heartbeatMs;
+
+    @Value("${sync.distributed.poll-ms:2000}")
+    private long pollMs;
+
+    @Value("${sync.distributed.max-attempts:3}")
+    private int maxAttempts;
+
+    @Getter
+    private String instanceId;
+
+    public DistributedWorkCoordinator(SyncConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
+    }
+
+    @PostConstruct
+    public void start() {
+        instanceId = configuredInstanceId != null && !configuredInstanceId.trim().isEmpty()
+                ? configuredInstanceId.trim()
+                : ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "dbsync-distributed-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeat.scheduleWithFixedDelay(this::renewLeases, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+    }
+
+    /**
+     * 분산 실행 여부 (매핑 설정의 distributed가 전역 설정보다 우선)
+     */
+    public boolean isEnabled(MappingConfigDto config) {
+        return config.getDistributed() != null ? config.getDistributed() : distributedEnabled;
+    }
+
+    /**
+     * 작업 단위 하나(테이블 또는 PK 범위) 처리 콜백
+     */
+    @FunctionalInterface
+    public interface UnitRunner {
+        /**
+         * @param tableIndex 테이블 매핑 순번
+         * @param unitMapping 작업 단위의 테이블 매핑 (PK 범위 조건이 filters에 추가됨)
+         * @param checkpoint 작업 단위의 keyset 페이지 조회 위치 (이전 시도에서 기록한 위치 포함)
+         * @return 처리 건수
+         */
+        long run(int tableIndex, MappingConfigDto.TableMappingDto unitMapping, KeysetCheckpoint checkpoint) throws Exception;
+    }
+
+    /**
+     * PK 범위 분할용 Source 조회 계획 (테이블 동기화와 같은 조회 SQL / 필터, 선두 PK 컬럼 포함)
+     */
+    @FunctionalInterface
+    public interface RangePlanner {
+        TableSyncPlan plan(MappingConfigDto.TableMappingDto tableMapping) throws SQLException;
+    }
+
+    /**
+     * 실행의 작업 단위를 다른 인스턴스와 나누어 처리하고 모든 작업 단위가 끝날 때까지 대기
+     *
+     * 작업 단위의 리스를 잃으면(다른 인스턴스가 가져감) 처리 스레드를 인터럽트하며, Source 조회와 UPSERT 배치 반영은
+     * 다음 배치를 넘기거나 커밋하기 전에 인터럽트를 확인해 중단합니다.
+     *
+     * @param chunkable PK 범위로 나눌 수 있는 테이블 매핑인지
+     * @param rangePlanner PK 범위로 나눌 테이블 매핑의 Source 조회 계획
+     */
+    public DistributedResult run(Long execId, List<MappingConfigDto.TableMappingDto> tableMappings,
+                                 Predicate<MappingConfigDto.TableMappingDto> chunkable,
+                                 RangePlanner rangePlanner, UnitRunner runner) throws SQLException {
+        planUnits(execId, tableMappings, chunkable, rangePlanner);
+        log.info("분산 실행 참여: execId={}, instance={}", execId, instanceId);
+
+        long processed = 0;
+        int units = 0;
+        int failures = 0;
+        while (true) {
+            WorkUnit unit = claim(execId);
+            if (unit == null) {
+                if (remainingUnits(execId) == 0) {
+                    break;
+                }
+                // 다른 인스턴스가 처리 중: 리스 만료(인스턴스 장애) 여부를 주기적으로 확인
+                sleep(pollMs);
+                continue;
+            }
+            units++;
+            unit.attach(Thread.currentThread());
+            heldUnits.put(unit.key(), unit);
+            MappingConfigDto.TableMappingDto tableMapping = tableMappings.get(unit.tableIndex);
+            try {
+                log.info("작업 단위 처리: execId={}, unit={} (시도 {}회)", execId, unit.unitKey, unit.attempts);
+                RowKey resumeAfter = unit.checkpointKey != null ? RowKey.of(unit.checkpointKey) : null;
+                if (resumeAfter != null) {
+                    log.info("작업 단위 이어서 처리 (keyset 페이지 조회 시): execId={}, unit={}, PK {} 다음부터",
+                            execId, unit.unitKey, resumeAfter);
+                }
+                long rows = runner.run(unit.tableIndex, unitMapping(tableMapping, unit),
+                        new KeysetCheckpoint(resumeAfter, lastKey -> saveCheckpoint(unit, lastKey)));
+                if (unit.isLeaseLost()) {
+                    log.warn("작업 단위 리스를 잃은 뒤 처리를 마쳤습니다 (다른 인스턴스가 다시 처리): execId={}, unit={}",
+                            execId, unit.unitKey);
+                } else {
+                    processed += rows;
+                    complete(unit, rows);
+                }
+            } catch (Exception e) {
+                if (unit.isLeaseLost()) {
+                    log.warn("작업 단위 리스를 잃어 처리를 중단했습니다 (다른 인스턴스가 다시 처리): execId={}, unit={} ({})",
+                            execId, unit.unitKey, e.getMessage());
+                } else {
+                    failures++;
+                    fail(unit, e);
+                }
+            } finally {
+                heldUnits.remove(unit.key());
+                unit.detach();
+            }
+        }
+
+        DistributedResult result = finish(execId);
+        log.info("분산 실행 종료: execId={}, instance={}, 처리 단위 {}개({}건, 실패 {}회), 완료 보고 {}",
+                execId, instanceId, units, processed, failures, result.isReporter() ? "담당" : "다른 인스턴스");
+        return result;
+    }
+
+    /**
+     * 작업 단위 생성 (이미 다른 인스턴스가 생성했으면 생략)
+     */
+    private void planUnits(Long execId, List<MappingConfigDto.TableMappingDto> tableMappings,
+                           Predicate<MappingConfigDto.TableMappingDto> chunkable,
+                           RangePlanner rangePlanner) throws SQLException {
+        try (Connection conn = connectionManager.getTargetCoordinationConnection(execId)) {
+            ensureTable(conn, connectionManager.getTargetPoolName(execId));
+            conn.setAutoCommit(false);
+            try {
+                try (PreparedStatement lock = conn.prepareStatement("SELECT pg_advisory_xact_lock(hashtext(?))")) {
+                    lock.setString(1, WORK_TABLE + ":" + execId);
+                    lock.execute();
+                }
+                try (PreparedStatement exists = conn.prepareStatement(
+                        "SELECT 1 FROM " + WORK_TABLE + " WHERE exec_id = ? AND unit_key = ?")) {
+                    exists.setLong(1, execId);
+                    exists.setString(2, COMPLETION_KEY);
+                    try (ResultSet rs = exists.executeQuery()) {
+                        if (rs.next()) {
+                            conn.rollback();
+                            return;
+                        }
+                    }
+                }
+                int unitCount = 0;
+                try (PreparedStatement insert = conn.prepareStatement(
+                        "INSERT INTO " + WORK_TABLE + " (exec_id, unit_key, table_index, chunk_no, pk_from, pk_to, status) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, '" + STATUS_PENDING + "')")) {
+                    for (int t = 0; t < tableMappings.size(); t++) {
+                        MappingConfigDto.TableMappingDto tm = tableMappings.get(t);
+                        List<Long[]> ranges = pkRanges(execId, tm, chunkable.test(tm) ? chunkCount(tm) : 1, rangePlanner);
+                        for (int c = 0; c < ranges.size(); c++) {
+                            insert.setLong(1, execId);
+                            insert.setString(2, String.format("%d:%s->%s#%d", t, tm.getSourceTable(), tm.getTargetTable(), c));
+                            insert.setInt(3, t);
+                            insert.setInt(4, c);
+                            insert.setObject(5, ranges.get(c)[0]);
+                            insert.setObject(6, ranges.get(c)[1]);
+                            insert.addBatch();
+                            unitCount++;
+                        }
+                    }
+                    insert.setLong(1, execId);
+                    insert.setString(2, COMPLETION_KEY);
+                    insert.setInt(3, -1);
+                    insert.setInt(4, 0);
+                    insert.setObject(5, null);
+                    insert.setObject(6, null);
+                    insert.addBatch();
+                    insert.executeBatch();
+                }
+                conn.commit();
+                log.info("분산 실행 작업 단위 생성: execId={}, {}개", execId, unitCount);
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
+    }
+
+    private int chunkCount(MappingConfigDto.TableMappingDto tm) {
+        return Math.max(1, tm.getDistributedChunks() != null ? tm.getDistributedChunks() : defaultChunks);
+    }
+
+    /**
+     * Source PK 최솟값~최댓값을 균등 분할 ([시작, 끝) 범위, 첫 범위는 하한 없음, 마지막 범위는 상한 없음)
+     * 테이블 동기화와 같은 조회 SQL(기간 필터링 / 조회 필터 포함)의 범위를 나누므로 조회 대상이 아닌 행은 범위에 포함되지 않습니다.
+     * 복합 PK는 선두 컬럼으로 나누며, 정수 PK가 아니거나 행이 없으면 범위 없는 단위 하나
+     */
+    private List<Long[]> pkRanges(Long execId, MappingConfigDto.TableMappingDto tm, int chunks,
+                                  RangePlanner rangePlanner) throws SQLException {
+        List<Long[]> ranges = new ArrayList<>();
+        if (chunks > 1) {
+            TableSyncPlan plan = rangePlanner.plan(tm);
+            String pkColumn = plan.getPrimaryKey().getSourceColumns().get(0);
+            try (Connection conn = connectionManager.getSourceConnection(execId);
+                 PreparedStatement pstmt = conn.prepareStatement(String.format(
+                         "SELECT min(%s), max(%s) FROM (%s) AS unit_range", pkColumn, pkColumn, plan.getSelectSql()))) {
+                List<Object> params = plan.getSelectParams();
+                for (int i = 0; params != null && i < params.size(); i++) {
+                    pstmt.setObject(i + 1, params.get(i));
+                }
+                Object min;
+                Object max;
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    rs.next();
+                    min = rs.getObject(1);
+                    max = rs.getObject(2);
+                }
+                if (isIntegral(min) && isIntegral(max)) {
+                    long lo = ((Number) min).longValue();
+                    long hi = ((Number) max).longValue();
+                    long step = Math.max(1, (hi - lo) / chunks + 1);
+                    for (long from = lo; from <= hi; from += step) {
+                        ranges.add(new Long[]{ranges.isEmpty() ? null : from, from + step > hi ? null : from + step});
+                    }
+                } else if (min != null) {
+                    log.warn("정수 PK가 아니어서 작업 단위를 나누지 않습니다: {}.{}", tm.getSourceTable(), pkColumn);
+                }
+            }
+        }
+        if (ranges.isEmpty()) {
+            ranges.add(new Long[]{null, null});
+        }
+        return ranges;
+    }
+
+    private static boolean isIntegral(Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short;
+    }
+
+    /**
+     * 대기 중이거나 리스가 만료된 작업 단위 하나 가져오기 (다른 인스턴스가 잠근 행은 건너뜀)
+     */
+    private WorkUnit claim(Long execId) throws SQLException {
+        try (Connection conn = connectionManager.getTargetCoordinationConnection(execId);
+             PreparedStatement pstmt = conn.prepareStatement(
+                     "UPDATE " + WORK_TABLE + " SET status = '" + STATUS_RUNNING + "', owner = ?, attempts = attempts + 1, " +
+                     "lease_until = now() + ? * interval '1 millisecond', updated_at = now() " +
+                     "WHERE (exec_id, unit_key) = (SELECT exec_id, unit_key FROM " + WORK_TABLE +
+                     " WHERE exec_id = ? AND unit_key <> ? AND attempts < ? AND (status = '" + STATUS_PENDING + "'" +
+                     " OR (status = '" + STATUS_RUNNING + "' AND lease_until < now()))" +
+                     " ORDER BY table_index, chunk_no LIMIT 1 FOR UPDATE SKIP LOCKED) " +
+                     "RETURNING unit_key, table_index, pk_from, pk_to, attempts, checkpoint_key")) {
+            conn.setAutoCommit(true);
+            pstmt.setString(1, instanceId);
+            pstmt.setLong(2, leaseMs);
+            pstmt.setLong(3, execId);
+            pstmt.setString(4, COMPLETION_KEY);
+            pstmt.setInt(5, maxAttempts);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                Array checkpoint = rs.getArray(6);
+                return new WorkUnit(execId, rs.getString(1), rs.getInt(2),
+                        (Long) rs.getObject(3), (Long) rs.getObject(4), rs.getInt(5),
+                        checkpoint != null ? (Object[]) checkpoint.getArray() : null);
+            }
+        }
+    }
+
+    /**
+     * 끝나지 않은 작업 단위 수 (재시도 한도를 넘긴 만료 리스는 실패 처리)
+     */
+    private int remainingUnits(Long execId) throws SQLException {
+        try (Connection conn = connectionManager.getTargetCoordinationConnection(execId)) {
+            conn.setAutoCommit(true);
+            try (PreparedStatement expire = conn.prepareStatement(
+                    "UPDATE " + WORK_TABLE + " SET status = '" + STATUS_FAILED + "', updated_at = now(), " +
+                    "error = '리스 만료 후 재시도 한도 초과 (인스턴스 비정상 종료)' " +
+                    "WHERE exec_id = ? AND status = '" + STATUS_RUNNING + "' AND lease_until < now() AND attempts >= ?")) {
+                expire.setLong(1, execId);
+                expire.setInt(2, maxAttempts);
+                expire.executeUpdate();
+            }
+            try (PreparedStatement count = conn.prepareStatement(
+                    "SELECT count(*) FROM " + WORK_TABLE + " WHERE exec_id = ? AND unit_key <> ? " +
+                    "AND status IN ('" + STATUS_PENDING + "', '" + STATUS_RUNNING + "')")) {
+                count.setLong(1, execId);
+                count.setString(2, COMPLETION_KEY);
+                try (ResultSet rs = count.executeQuery()) {
+                    rs.next();
+                    return rs.getInt(1);
+                }
+            }
+        }
+    }
+
+    private void complete(WorkUnit unit, long rows) throws SQLException {
+        try (Connection conn = connectionManager.getTargetCoordinationConnection(unit.execId);
+             PreparedStatement pstmt = conn.prepareStatement(
+                     "UPDATE " + WORK_TABLE + " SET status = '" + STATUS_DONE + "', rows_processed = ?, error = NULL, " +
+                     "lease_until = NULL, updated_at = now() WHERE exec_id = ? AND unit_key = ? AND owner = ?")) {
+            conn.setAutoCommit(true);
+            pstmt.setLong(1, rows);
+            pstmt.setLong(2, unit.execId);
+            pstmt.setString(3, unit.unitKey);
+            pstmt.setString(4, instanceId);
+            if (pstmt.executeUpdate() == 0) {
+                log.warn("작업 단위 리스를 잃은 뒤 처리를 마쳤습니다 (다른 인스턴스가 다시 처리): execId={}, unit={}",
+                        unit.execId, unit.unitKey);
+            }
+        }
+    }
+
+    /**
+     * 반영을 마친 keyset 페이지의 마지막 PK 기록 (다시 가져간 인스턴스가 그 다음부터 처리)
+     * 값은 문자열로 기록하고 이어서 조회할 때 Source 컬럼 타입으로 변환됩니다.
+     */
+    private void saveCheckpoint(WorkUnit unit, RowKey lastKey) throws SQLException {
+        String[] values = new String[lastKey.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = String.valueOf(lastKey.get(i));
+        }
+        try (Connection conn = connectionManager.getTargetCoordinationConnection(unit.execId);
+             PreparedStatement pstmt = conn.prepareStatement(
+                     "UPDATE " + WORK_TABLE + " SET checkpoint_key = ?, updated_at = now() " +
+                     "WHERE exec_id = ? AND unit_key = ? AND owner = ?")) {
+            conn.setAutoCommit(true);
+            pstmt.setArray(1, conn.createArrayOf("text", values));
+            pstmt.setLong(2, unit.execId);
+            pstmt.setString(3, unit.unitKey);
+            pstmt.setString(4, instanceId);
+            pstmt.executeUpdate();
+        }
+    }
+
+    private void fail(WorkUnit unit, Exception error) {
+        String message = error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName();
+        boolean retry = unit.attempts < maxAttempts;
+        log.error("작업 단위 처리 실패{}: execId={}, unit={} ({})", retry ? ", 다시 대기열로" : "",
+                unit.execId, unit.unitKey, message);
+        try (Connection conn = connectionManager.getTargetCoordinationConnection(unit.execId);
+             PreparedStatement pstmt = conn.prepareStatement(
+                     "UPDATE " + WORK_TABLE + " SET status = ?, error = ?, lease_until = NULL, updated_at = now() " +
+                     "WHERE exec_id = ? AND unit_key = ? AND owner = ?")) {
+            conn.setAutoCommit(true);
+            pstmt.setString(1, retry ? STATUS_PENDING : STATUS_FAILED);
+            pstmt.setString(2, message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+            pstmt.setLong(3, unit.execId);
+            pstmt.setString(4, unit.unitKey);
+            pstmt.setString(5, instanceId);
+            pstmt.executeUpdate();
+        } catch (SQLException e) {
+            // 기록하지 못해도 리스가 만료되면 다시 처리됨
+            log.warn("작업 단위 실패 기록 실패: execId={}, unit={} ({})", unit.execId, unit.unitKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 완료 표시 행을 먼저 갱신한 인스턴스가 실행 완료 보고 담당 (전체 인스턴스 합계 반환)
+     */
+    private DistributedResult finish(Long execId) throws SQLException {
+        try (Connection conn = connectionManager.getTargetCoordinationConnection(execId)) {
+            conn.setAutoCommit(true);
+            boolean reporter;
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "UPDATE " + WORK_TABLE + " SET status = '" + STATUS_DONE + "', owner = ?, updated_at = now() " +
+                    "WHERE exec_id = ? AND unit_key = ? AND status = '" + STATUS_PENDING + "'")) {
+                pstmt.setString(1, instanceId);
+                pstmt.setLong(2, execId);
+                pstmt.setString(3, COMPLETION_KEY);
+                reporter = pstmt.executeUpdate() == 1;
+            }
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "SELECT coalesce(sum(rows_processed) FILTER (WHERE status = '" + STATUS_DONE + "'), 0), " +
+                    "count(*) FILTER (WHERE status = '" + STATUS_FAILED + "'), " +
+                    "string_agg(unit_key || ': ' || coalesce(error, ''), '; ') FILTER (WHERE status = '" + STATUS_FAILED + "') " +
+                    "FROM " + WORK_TABLE + " WHERE exec_id = ? AND unit_key <> ?")) {
+                pstmt.setLong(1, execId);
+                pstmt.setString(2, COMPLETION_KEY);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    rs.next();
+                    return new DistributedResult(reporter, rs.getLong(1), rs.getInt(2), rs.getString(3));
+                }
+            }
+        }
+    }
+
+    /**
+     * 처리 중인 작업 단위의 리스 연장
+     * 다른 인스턴스가 가져갔거나 리스 기간 동안 연장하지 못하면 처리 스레드를 인터럽트해 중단시킵니다.
+     */
+    private void renewLeases() {
+        for (WorkUnit unit : heldUnits.values()) {
+            try (Connection conn = connectionManager.getTargetCoordinationConnection(unit.execId);
+                 PreparedStatement pstmt = conn.prepareStatement(
+                         "UPDATE " + WORK_TABLE + " SET lease_until = now() + ? * interval '1 millisecond' " +
+                         "WHERE exec_id = ? AND unit_key = ? AND owner = ? AND status = '" + STATUS_RUNNING + "'")) {
+                conn.setAutoCommit(true);
+                pstmt.setLong(1, leaseMs);
+                pstmt.setLong(2, unit.execId);
+                pstmt.setString(3, unit.unitKey);
+                pstmt.setString(4, instanceId);
+                if (pstmt.executeUpdate() == 0) {
+                    log.warn("작업 단위 리스 연장 실패 (만료되어 다른 인스턴스가 가져감), 처리를 중단합니다: execId={}, unit={}",
+                            unit.execId, unit.unitKey);
+                    unit.revoke();
+                } else {
+                    unit.renewedAt = System.currentTimeMillis();
+                }
+            } catch (Exception e) {
+                log.warn("작업 단위 리스 연장 오류: execId={}, unit={} ({})", unit.execId, unit.unitKey, e.getMessage());
+                if (System.currentTimeMillis() - unit.renewedAt >= leaseMs) {
+                    log.warn("리스 기간 동안 연장하지 못해 처리를 중단합니다: execId={}, unit={}", unit.execId, unit.unitKey);
+                    unit.revoke();
+                }
+            }
+        }
+    }
+
+    /**
+     * 작업 단위의 테이블 매핑 (선두 PK 컬럼 범위 조건 추가)
+     */
+    private static MappingConfigDto.TableMappingDto unitMapping(MappingConfigDto.TableMappingDto tableMapping, WorkUnit unit) {
+        if (unit.pkFrom == null && unit.pkTo == null) {
+            return tableMapping;
+        }
+        String pkColumn = PrimaryKeyMapping.of(tableMapping).getSourceColumns().get(0);
+        List<MappingConfigDto.FilterDto> filters = new ArrayList<>();
+        if (tableMapping.getFilters() != null) {
+            filters.addAll(tableMapping.getFilters());
+        }
+        if (unit.pkFrom != null) {
+            filters.add(MappingConfigDto.FilterDto.builder()
+                    .column(pkColumn).operator("GE").value(unit.pkFrom).build());
+        }
+        if (unit.pkTo != null) {
+            filters.add(MappingConfigDto.FilterDto.builder()
+                    .column(pkColumn).operator("LT").value(unit.pkTo).build());
+        }
+        return tableMapping.toBuilder().filters(filters).build();
+    }
+
+    private void ensureTable(Connection conn, String targetPool) throws SQLException {
+        if (tableReady.contains(targetPool)) {
+            return;
+        }
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS " + WORK_TABLE + " (" +
+                    "exec_id BIGINT NOT NULL, " +
+                    "unit_key VARCHAR(1000) NOT NULL, " +
+                    "table_index INT NOT NULL, " +
+                    "chunk_no INT NOT NULL, " +
+                    "pk_from BIGINT, " +
+                    "pk_to BIGINT, " +
+                    "status VARCHAR(10) NOT NULL, " +
+                    "owner VARCHAR(200), " +
+                    "lease_until TIMESTAMPTZ, " +
+                    "attempts INT NOT NULL DEFAULT 0, " +
+                    "rows_processed BIGINT, " +
+                    "error TEXT, " +
+                    "updated_at TIMESTAMPTZ DEFAULT now(), " +
+                    "checkpoint_key TEXT[], " +
+                    "PRIMARY KEY (exec_id, unit_key))");
+            // 이전 버전에서 생성한 테이블
+            stmt.execute("ALTER TABLE " + WORK_TABLE + " ADD COLUMN IF NOT EXISTS checkpoint_key TEXT[]");
+        }
+        tableReady.add(targetPool);
+    }
+
+    private static void sleep(long millis) throws SQLException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("작업 단위 대기 중 인터럽트 발생", e);
+        }
+    }
+
+    private static class WorkUnit {
+        private final Long execId;
+        private final String unitKey;
+        private final int tableIndex;
+        private final Long pkFrom;
+        private final Long pkTo;
+        private final int attempts;
+        // 이전 시도에서 기록한 keyset 페이지 위치 (없으면 null)
+        private final Object[] checkpointKey;
+        // 처리 스레드 (처리 중이 아니면 null)
+        private Thread worker;
+        private volatile boolean leaseLost;
+        // 마지막으로 리스를 잡거나 연장한 시각
+        private volatile long renewedAt = System.currentTimeMillis();
+
+        WorkUnit(Long execId, String unitKey, int tableIndex, Long pkFrom, Long pkTo, int attempts,
+                 Object[] checkpointKey) {
+            this.execId = execId;
+            this.unitKey = unitKey;
+            this.tableIndex = tableIndex;
+            this.pkFrom = pkFrom;
+            this.pkTo = pkTo;
+            this.attempts = attempts;
+            this.checkpointKey = checkpointKey;
+        }
+
+        String key() {
+            return execId + ":" + unitKey;
+        }
+
+        synchronized void attach(Thread thread) {
+            worker = thread;
+        }
+
+        /**
+         * 처리 종료 (리스를 잃어 받은 인터럽트는 다음 작업 단위에 남기지 않음)
+         */
+        synchronized void detach() {
+            worker = null;
+            if (leaseLost) {
+                Thread.interrupted();
+            }
+        }
+
+        /**
+         * 리스 상실: 처리 스레드 인터럽트
+         */
+        synchronized void revoke() {
+            leaseLost = true;
+            if (worker != null) {
+                worker.interrupt();
+            }
+        }
+
+        boolean isLeaseLost() {
+            return leaseLost;
+        }
+    }
+
+    /**
+     * 분산 실행 결과 (전체 인스턴스 합계)
+     */
+    @Getter
+    public static class DistributedResult {
+        // 이 인스턴스가 실행 완료 보고 담당인지
+        private final boolean reporter;
+        private final long totalRows;
+        private final int failedUnits;
+        private final String failures;
+
+        DistributedResult(boolean reporter, long totalRows, int failedUnits, String failures) {
+            this.reporter = reporter;
+            this.totalRows = totalRows;
+            this.failedUnits = failedUnits;
+            this.failures = failures;
+        }
+    }
+}
@@ -0,0 +1,525 @@
+package com.gims.module.dbsync.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.gims.module.dbsync.dto.MappingConfigDto;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyOut;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * FILE_EXPORT 모드 추출기 (Source -> 압축 CSV 파일)
+ *
+ * Source 조회 SQL을 COPY ... TO STDOUT (FORMAT csv)로 실행해 서버가 만든 CSV 행을 값 해석 없이 그대로
+ * 압축 스트림에 기록하므로, 처리량은 Source와 디스크 속도에 맞춰집니다.
+ * 파일은 크기/건수 기준으로 나누어 기록하며(파일마다 헤더 포함), 모든 파일을 기록한 뒤
+ * 건수/크기/SHA-256을 담은 manifest.json을 마지막에 생성합니다. 추출이 실패하면 기록 중인 파일을 모두 삭제합니다.
+ * 받은 행은 fetch-size 행 또는 buffer-bytes 단위로 Source 조회 속도 제한(SourceThrottle)을 적용합니다.
+ *
+ * COPY는 Source 원본 값을 내보내므로 컬럼 변환식/lookup은 지원하지 않습니다.
+ */
+@Slf4j
+@Component
+public class FileExportWriter {
+
+    private static final String FORMAT_CSV = "CSV";
+    private static final String COMPRESSION_GZIP = "GZIP";
+    private static final String COMPRESSION_NONE = "NONE";
+    private static final String MANIFEST_FILE = "manifest.json";
+    private static final String PART_SUFFIX = ".part";
+
+    private final SyncConnectionManager connectionManager;
+    private final SourceSnapshotCoordinator snapshotCoordinator;
+    private final SourceThrottle sourceThrottle;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    @Value("${sync.file-export.dir:./export}")
+    private String defaultDirectory;
+
+    @Value("${sync.file-export.max-file-bytes:1073741824}")
+    private long defaultMaxFileBytes;
+
+    @Value("${sync.file-export.max-file-rows:0}")
+    private long defaultMaxFileRows;
+
+    @Value("${sync.file-export.buffer-bytes:1048576}")
+    private int bufferBytes;
+
+    // 속도 제한을 적용하는 행 단위 (조회 모드의 fetch 크기와 같음)
+    @Value("${sync.source.fetch-size:5000}")
+    private int fetchSize;
+
+    public FileExportWriter(SyncConnectionManager connectionManager, SourceSnapshotCoordinator snapshotCoordinator,
+                            SourceThrottle sourceThrottle) {
+        this.connectionManager = connectionManager;
+        this.snapshotCoordinator = snapshotCoordinator;
+        this.sourceThrottle = sourceThrottle;
+    }
+
+    /**
+     * 실행 계획의 조회 결과를 파일로 추출
+     */
+    public ExportResult export(TableSyncPlan plan) throws SQLException {
+        if (plan.getRowTransformer() != null || plan.getLookupStage() != null) {
+            throw new RuntimeException("FILE_EXPORT는 컬럼 변환식/lookup을 지원하지 않습니다: " + plan.getTargetTable());
+        }
+        MappingConfigDto.FileExportDto settings = plan.getTableMapping().getFileExport() != null
+                ? plan.getTableMapping().getFileExport()
+                : new MappingConfigDto.FileExportDto();
+        String format = settings.getFormat() != null ? settings.getFormat().toUpperCase() : FORMAT_CSV;
+        if (!FORMAT_CSV.equals(format)) {
+            throw new RuntimeException("지원하지 않는 추출 파일 형식입니다: " + settings.getFormat() + " (CSV만 지원)");
+        }
+        String compression = settings.getCompression() != null ? settings.getCompression().toUpperCase() : COMPRESSION_GZIP;
+        if (!COMPRESSION_GZIP.equals(compression) && !COMPRESSION_NONE.equals(compression)) {
+            throw new RuntimeException("지원하지 않는 압축 방식입니다: " + settings.getCompression() + " (GZIP / NONE)");
+        }
+
+        String baseName = plan.getTargetTable().replaceAll("[^A-Za-z0-9_.]", "_");
+        Path directory = Paths.get(settings.getDirectory() != null ? settings.getDirectory() : defaultDirectory,
+                baseName, String.valueOf(plan.getExecId()));
+        RollingFileWriter writer = new RollingFileWriter(directory, baseName, COMPRESSION_GZIP.equals(compression),
+                settings.getMaxFileBytes() != null ? settings.getMaxFileBytes() : defaultMaxFileBytes,
+                settings.getMaxFileRows() != null ? settings.getMaxFileRows() : defaultMaxFileRows,
+                csvHeader(plan));
+
+        long startTime = System.currentTimeMillis();
+        try {
+            Files.createDirectories(directory);
+            try (Connection conn = connectionManager.getSourceConnection(plan.getExecId())) {
+                conn.setAutoCommit(false);
+                snapshotCoordinator.importSnapshot(conn, plan.getExecId());
+                try {
+                    String copySql = String.format("COPY (%s) TO STDOUT WITH (FORMAT csv)",
+                            inlineParameters(plan.getSelectSql(), plan.getSelectParams()));
+                    CopyOut copyOut = conn.unwrap(PGConnection.class).getCopyAPI().copyOut(copySql);
+                    try {
+                        byte[] row;
+                        int chunkRows = 0;
+                        long chunkBytes = 0;
+                        long fetchStart = System.nanoTime();
+                        // COPY TO는 CopyData 메시지 하나에 한 행씩 전달
+                        while ((row = copyOut.readFromCopy()) != null) {
+                            writer.write(row);
+                            chunkRows++;
+                            chunkBytes += row.length;
+                            if (chunkRows >= fetchSize || chunkBytes >= bufferBytes) {
+                                // 대기하는 동안 읽지 않으므로 Source는 COPY 출력 버퍼가 차면 전송을 멈춤
+                                sourceThrottle.acquire(plan.getExecId(), chunkRows, chunkBytes, System.nanoTime() - fetchStart);
+                                chunkRows = 0;
+                                chunkBytes = 0;
+                                fetchStart = System.nanoTime();
+                            }
+                        }
+                        if (chunkRows > 0) {
+                            sourceThrottle.acquire(plan.getExecId(), chunkRows, chunkBytes, System.nanoTime() - fetchStart);
+                        }
+                    } finally {
+                        if (copyOut.isActive()) {
+                            copyOut.cancelCopy();
+                        }
+                    }
+                } finally {
+                    conn.rollback();
+                }
+            }
+            writer.finish();
+            writeManifest(directory, plan, format, compression, writer);
+        } catch (IOException e) {
+            writer.abort();
+            throw new SQLException("추출 파일 기록 실패: " + directory + " (" + e.getMessage() + ")", e);
+        } catch (SQLException | RuntimeException e) {
+            writer.abort();
+            throw e;
+        }
+
+        ExportResult result = new ExportResult(directory, writer.totalRows, writer.files.size(), writer.totalBytes);
+        log.info("파일 추출 완료: {} -> {}, {}건, 파일 {}개, {}KB, {}ms", plan.getSourceTable(), directory,
+                result.getRows(), result.getFiles(), result.getBytes() / 1024, System.currentTimeMillis() - startTime);
+        return result;
+    }
+
+    /**
+     * 조회 SQL의 바인딩 파라미터(?)를 리터럴로 치환 (COPY는 파라미터 바인딩을 지원하지 않음)
+     * 문자열 / 따옴표 식별자 / 달러 인용 / 주석 안의 ?는 치환하지 않으며, 드라이버와 같이 ??는 ? 문자로 취급합니다.
+     */
+    static String inlineParameters(String sql, List<Object> params) {
+        int count = params != null ? params.size() : 0;
+        StringBuilder sb = new StringBuilder(sql.length() + count * 16);
+        int next = 0;
+        int i = 0;
+        while (i < sql.length()) {
+            char c = sql.charAt(i);
+            int end = i + 1;
+            if (c == '\'') {
+                boolean escaped = i > 0 && (sql.charAt(i - 1) == 'E' || sql.charAt(i - 1) == 'e')
+                        && (i < 2 || !isIdentifierPart(sql.charAt(i - 2)));
+                end = skipQuoted(sql, i, '\'', escaped);
+            } else if (c == '"') {
+                end = skipQuoted(sql, i, '"', false);
+            } else if (c == '-' && sql.startsWith("--", i)) {
+                int newline = sql.indexOf('\n', i);
+                end = newline >= 0 ? newline + 1 : sql.length();
+            } else if (c == '/' && sql.startsWith("/*", i)) {
+                end = skipBlockComment(sql, i);
+            } else if (c == '$' && (i == 0 || !isIdentifierPart(sql.charAt(i - 1)))) {
+                end = skipDollarQuoted(sql, i);
+            } else if (c == '?') {
+                if (sql.startsWith("??", i)) {
+                    sb.append('?');
+                    i += 2;
+                    continue;
+                }
+                if (next >= count) {
+                    throw new RuntimeException(String.format("조회 SQL의 파라미터 자리가 값(%d개)보다 많습니다", count));
+                }
+                sb.append(toLiteral(params.get(next++)));
+                i++;
+                continue;
+            }
+            sb.append(sql, i, end);
+            i = end;
+        }
+        if (next != count) {
+            throw new RuntimeException(String.format("조회 SQL의 파라미터 자리(%d개)와 값(%d개) 수가 다릅니다", next, count));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 파라미터 값을 SQL 리터럴로 변환 (문자열은 E'' 인용, 날짜/시각은 타입을 붙인 문자열)
+     */
+    static String toLiteral(Object value) {
+        if (value == null) {
+            return "NULL";
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? "TRUE" : "FALSE";
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+                || value instanceof BigInteger) {
+            return value.toString();
+        }
+        if (value instanceof Double || value instanceof Float) {
+            double d = ((Number) value).doubleValue();
+            return Double.isNaN(d) || Double.isInfinite(d)
+                    ? quote(value.toString()) + "::float8"
+                    : value.toString();
+        }
+        if (value instanceof Timestamp || value instanceof LocalDateTime) {
+            return quote(value.toString()) + "::timestamp";
+        }
+        if (value instanceof java.sql.Date || value instanceof LocalDate) {
+            return quote(value.toString()) + "::date";
+        }
+        if (value instanceof OffsetDateTime) {
+            return quote(value.toString()) + "::timestamptz";
+        }
+        if (value instanceof CharSequence || value instanceof Character) {
+            return quote(value.toString());
+        }
+        throw new RuntimeException("FILE_EXPORT 조회 파라미터를 SQL 리터럴로 변환할 수 없습니다: " + value.getClass().getName());
+    }
+
+    private static String quote(String text) {
+        if (text.indexOf('\0') >= 0) {
+            throw new RuntimeException("FILE_EXPORT 조회 파라미터에 NUL 문자를 포함할 수 없습니다");
+        }
+        // standard_conforming_strings 설정과 관계없이 같은 값이 되도록 백슬래시 이스케이프 문자열로 인용
+        return "E'" + text.replace("\\", "\\\\").replace("'", "''") + "'";
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+
+    /**
+     * 따옴표로 감싼 문자열 / 식별자의 끝 다음 위치 (연속된 따옴표는 이스케이프)
+     */
+    private static int skipQuoted(String sql, int start, char quote, boolean backslashEscapes) {
+        int i = start + 1;
+        while (i < sql.length()) {
+            char c = sql.charAt(i);
+            if (backslashEscapes && c == '\\') {
+                i += 2;
+            } else if (c == quote) {
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == quote) {
+                    i += 2;
+                } else {
+                    return i + 1;
+                }
+            } else {
+                i++;
+            }
+        }
+        return sql.length();
+    }
+
+    private static int skipBlockComment(String sql, int start) {
+        int depth = 0;
+        int i = start;
+        while (i < sql.length()) {
+            if (sql.startsWith("/*", i)) {
+                depth++;
+                i += 2;
+            } else if (sql.startsWith("*/", i)) {
+                i += 2;
+                if (--depth == 0) {
+                    return i;
+                }
+            } else {
+                i++;
+            }
+        }
+        return sql.length();
+    }
+
+    /**
+     * $tag$ ... $tag$ 달러 인용의 끝 다음 위치 (달러 인용이 아니면 $ 다음 위치)
+     */
+    private static int skipDollarQuoted(String sql, int start) {
+        int i = start + 1;
+        while (i < sql.length() && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '_')) {
+            i++;
+        }
+        if (i >= sql.length() || sql.charAt(i) != '$' || (i > start + 1 && Character.isDigit(sql.charAt(start + 1)))) {
+            return start + 1;
+        }
+        String tag = sql.substring(start, i + 1);
+        int close = sql.indexOf(tag, i + 1);
+        return close >= 0 ? close + tag.length() : sql.length();
+    }
+
+    private static byte[] csvHeader(TableSyncPlan plan) {
+        String header = plan.getSourceColumns().stream()
+                .map(column -> plan.getColumnMap().getOrDefault(column, column))
+                .map(column -> column.matches("[A-Za-z0-9_]+") ? column : "\"" + column.replace("\"", "\"\"") + "\"")
+                .collect(Collectors.joining(",", "", "\n"));
+        return header.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void writeManifest(Path directory, TableSyncPlan plan, String format, String compression,
+                               RollingFileWriter writer) throws IOException {
+        Map<String, Object> manifest = new LinkedHashMap<>();
+        manifest.put("execId", plan.getExecId());
+        manifest.put("sourceTable", plan.getSourceTable());
+        manifest.put("targetTable", plan.getTargetTable());
+        manifest.put("format", format);
+        manifest.put("compression", compression);
+        manifest.put("columns", plan.getSourceColumns().stream()
+                .map(column -> plan.getColumnMap().getOrDefault(column, column))
+                .collect(Collectors.toList()));
+        if (plan.isUseDateFilter()) {
+            manifest.put("syncStartDt", plan.getSyncStartDt());
+            manifest.put("syncEndDt", plan.getSyncEndDt());
+        }
+        manifest.put("createdAt", LocalDateTime.now());
+        manifest.put("totalRows", writer.totalRows);
+        manifest.put("totalBytes", writer.totalBytes);
+        manifest.put("files", writer.files);
+
+        Path part = directory.resolve(MANIFEST_FILE + PART_SUFFIX);
+        objectMapper.writeValue(part.toFile(), manifest);
+        Files.move(part, directory.resolve(MANIFEST_FILE), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * 크기/건수 기준으로 파일을 나누어 기록 (기록 중 파일은 .part, 완료 시 이름 변경)
+     */
+    private class RollingFileWriter {
+        private final Path directory;
+        private final String baseName;
+        private final boolean gzip;
+        private final long maxFileBytes;
+        private final long maxFileRows;
+        private final byte[] header;
+
+        private final List<ExportFile> files = new ArrayList<>();
+        private final List<Path> written = new ArrayList<>();
+        private OutputStream out;
+        private CountingOutputStream counter;
+        private MessageDigest digest;
+        private Path currentPart;
+        private long currentRows;
+        private long totalRows;
+        private long totalBytes;
+
+        RollingFileWriter(Path directory, String baseName, boolean gzip, long maxFileBytes, long maxFileRows, byte[] header) {
+            this.directory = directory;
+            this.baseName = baseName;
+            this.gzip = gzip;
+            this.maxFileBytes = maxFileBytes;
+            this.maxFileRows = maxFileRows;
+            this.header = header;
+        }
+
+        void write(byte[] row) throws IOException {
+            if (out == null) {
+                open();
+            }
+            out.write(row);
+            currentRows++;
+            totalRows++;
+            if ((maxFileRows > 0 && currentRows >= maxFileRows) || (maxFileBytes > 0 && counter.count >= maxFileBytes)) {
+                close();
+            }
+        }
+
+        void finish() throws IOException {
+            if (out == null && files.isEmpty()) {
+                // 조회 결과가 없어도 헤더만 있는 파일 하나를 남김
+                open();
+            }
+            if (out != null) {
+                close();
+            }
+        }
+
+        void abort() {
+            try {
+                if (out != null) {
+                    out.close();
+                }
+            } catch (IOException e) {
+                log.debug("추출 파일 닫기 실패: {}", e.getMessage());
+            }
+            out = null;
+            if (currentPart != null) {
+                written.add(currentPart);
+            }
+            written.add(directory.resolve(MANIFEST_FILE + PART_SUFFIX));
+            for (Path path : written) {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    log.warn("추출 파일 삭제 실패: {} ({})", path, e.getMessage());
+                }
+            }
+        }
+
+        private void open() throws IOException {
+            String name = String.format("%s_%05d.csv%s", baseName, files.size() + 1, gzip ? ".gz" : "");
+            currentPart = directory.resolve(name + PART_SUFFIX);
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IOException(e);
+            }
+            counter = new CountingOutputStream(new BufferedOutputStream(Files.newOutputStream(currentPart), bufferBytes));
+            OutputStream digested = new DigestOutputStream(counter, digest);
+            out = gzip ? new GZIPOutputStream(digested, bufferBytes) : digested;
+            out.write(header);
+            currentRows = 0;
+        }
+
+        private void close() throws IOException {
+            out.close();
+            out = null;
+            String name = currentPart.getFileName().toString();
+            name = name.substring(0, name.length() - PART_SUFFIX.length());
+            Path path = directory.resolve(name);
+            Files.move(currentPart, path, StandardCopyOption.REPLACE_EXISTING);
+            currentPart = null;
+            written.add(path);
+            files.add(new ExportFile(name, currentRows, counter.count, toHex(digest.digest())));
+            totalBytes += counter.count;
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 기록한 바이트 수 집계
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
+    /**
+     * manifest의 파일 항목
+     */
+    @Getter
+    public static class ExportFile {
+        private final String name;
+        private final long rows;
+        private final long bytes;
+        private final String sha256;
+
+        ExportFile(String name, long rows, long bytes, String sha256) {
+            this.name = name;
+            this.rows = rows;
+            this.bytes = bytes;
+            this.sha256 = sha256;
+        }
+    }
+
+    /**
+     * 추출 결과
+     */
+    @Getter
+    public static class ExportResult {
+        private final Path directory;
+        private final long rows;
+        private final int files;
+        private final long bytes;
+
+        ExportResult(Path directory, long rows, int files, long bytes) {
+            this.directory = directory;
+            this.rows = rows;
+            this.files = files;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.gims.module.dbsync.service;
+
+import java.sql.SQLException;
+
+/**
+ * keyset 페이지 조회 위치
+ *
+ * SourceReader는 PK 순서로 페이지를 조회하며 페이지를 모두 넘길 때마다 마지막 PK를 기록합니다.
+ * 페이지를 넘긴 시점에 Target 반영까지 끝나는 경로(UPSERT 직접 반영)만 arm()으로 저장을 켜며,
+ * 그때만 저장된 위치(resumeAfter) 다음부터 조회를 이어갑니다. 조회 결과를 모아 두거나 큐에 넘기는 경로에서
+ * 위치를 저장하면 반영하지 않은 행을 건너뛸 수 있기 때문입니다.
+ */
+public class KeysetCheckpoint {
+
+    /**
+     * 페이지 완료 위치 저장 콜백 (예: 분산 실행 작업 단위)
+     */
+    @FunctionalInterface
+    public interface Listener {
+        void saved(RowKey lastKey) throws SQLException;
+    }
+
+    // 이전 시도에서 저장한 위치 (없으면 null)
+    private final RowKey resumeAfter;
+    private final Listener listener;
+    private volatile boolean armed;
+    private volatile RowKey position;
+
+    public KeysetCheckpoint(RowKey resumeAfter, Listener listener) {
+        this.resumeAfter = resumeAfter;
+        this.listener = listener;
+    }
+
+    /**
+     * 위치 저장 및 이어서 조회 사용 (페이지를 넘기면 반영까지 끝나는 경로에서 호출)
+     */
+    public void arm() {
+        armed = true;
+    }
+
+    /**
+     * 조회 시작 위치 (이 PK 다음부터, null이면 처음부터)
+     */
+    public RowKey startAfter() {
+        return armed ? resumeAfter : null;
+    }
+
+    /**
+     * 페이지 완료
+     */
+    public void pageCompleted(RowKey lastKey) throws SQLException {
+        position = lastKey;
+        if (armed && listener != null) {
+            listener.saved(lastKey);
+        }
+    }
+
+    /**
+     * 마지막으로 완료한 페이지의 마지막 PK (없으면 null)
+     */
+    public RowKey getPosition() {
+        return position;
+    }
+}
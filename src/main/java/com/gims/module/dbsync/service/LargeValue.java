@@ -0,0 +1,156 @@
+package com.gims.module.dbsync.service;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 큰 컬럼 값 (bytea / text / jsonb 등) 스트림
+ *
+ * 대용량 컬럼 스트리밍(streamLargeValues)을 적용한 조회는 큰 컬럼 값을 Object로 변환해 행 Map에 담는 대신
+ * 스트림으로 감싸 반영 측에서 setBinaryStream / setCharacterStream 또는 COPY 스트림으로 옮깁니다.
+ * ResultSet이 다음 행으로 이동하면 사용할 수 없으므로 조회한 행을 바로 반영해야 합니다.
+ *
+ * PostgreSQL 드라이버(42.3.x)는 bytea / text 값을 행 단위로 모두 받은 뒤 스트림을 만들므로 Source 측에서 값 하나는
+ * 힙에 올라옵니다. (bytea: 수신 hex 문자열 + 디코딩한 byte[]로 값 크기의 약 3배, 문자열: 수신 바이트 + String)
+ * 스트림이 줄이는 것은 배치로 여러 행을 모아 두는 비용과 Target 측 복사(COPY 청크 전송, 길이를 아는 bytea 바인딩)이며,
+ * 값 하나의 크기는 sync.lob.max-value-bytes로 제한합니다.
+ * 재시도(배치 분할 등)로 같은 값을 다시 쓸 수 있도록 생성 시 스트림 시작 위치를 표시(mark)해 둡니다.
+ */
+public class LargeValue {
+
+    public static final String TYPE_GROUP_BINARY = "BINARY";
+    public static final String TYPE_GROUP_STRING = "STRING";
+
+    private final String typeGroup;
+    // Source 컬럼 타입명 (json / jsonb / xml은 SQL에서 같은 타입으로 변환)
+    private final String typeName;
+    private final InputStream binary;
+    private final Reader text;
+    // 바이트 길이 (문자열은 문자 수)
+    private final long length;
+
+    private LargeValue(String typeGroup, String typeName, InputStream binary, Reader text, long length) {
+        this.typeGroup = typeGroup;
+        this.typeName = typeName;
+        this.binary = binary;
+        this.text = text;
+        this.length = length;
+    }
+
+    /**
+     * 현재 행의 큰 컬럼 값 (SQL NULL이면 null)
+     *
+     * @param maxBytes 값 하나의 최대 크기 (바이트, 문자열은 문자 수, 0 이하면 무제한)
+     * @throws SQLException 값이 maxBytes를 넘는 경우
+     */
+    public static LargeValue read(ResultSet rs, int index, String column, String typeGroup, String typeName,
+                                  long maxBytes) throws SQLException {
+        LargeValue value;
+        if (TYPE_GROUP_BINARY.equals(typeGroup)) {
+            // 드라이버가 디코딩한 byte[]를 감싼 스트림이므로 available()이 전체 길이
+            InputStream in = rs.getBinaryStream(index);
+            if (in == null) {
+                return null;
+            }
+            try {
+                in.mark(Integer.MAX_VALUE);
+                value = new LargeValue(typeGroup, typeName, in, null, in.available());
+            } catch (IOException e) {
+                throw new SQLException("큰 컬럼 값 스트림을 열 수 없습니다: " + e.getMessage(), e);
+            }
+        } else {
+            // getCharacterStream은 String을 char[]로 한 번 더 복사하므로 String을 직접 감쌈
+            String text = rs.getString(index);
+            if (text == null) {
+                return null;
+            }
+            value = new LargeValue(typeGroup, typeName, null, new StringReader(text), text.length());
+        }
+        if (maxBytes > 0 && value.length > maxBytes) {
+            throw new SQLException(String.format("큰 컬럼 값이 sync.lob.max-value-bytes(%d)를 넘습니다: %s 컬럼 %s",
+                    maxBytes, column, value));
+        }
+        return value;
+    }
+
+    public boolean isBinary() {
+        return binary != null;
+    }
+
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * 처음부터 읽는 바이너리 스트림
+     */
+    public InputStream openBinary() throws SQLException {
+        rewind();
+        return binary;
+    }
+
+    /**
+     * 처음부터 읽는 문자 스트림
+     */
+    public Reader openText() throws SQLException {
+        rewind();
+        return text;
+    }
+
+    /**
+     * SQL 파라미터 자리 표시 (bind와 함께 사용)
+     * 문자 스트림은 문자열 타입으로 전달되므로 json / jsonb / xml은 SQL에서 같은 타입으로 변환합니다.
+     */
+    public String placeholder() {
+        return isTypedText() ? "?::" + typeName.toLowerCase() : "?";
+    }
+
+    /**
+     * PreparedStatement 파라미터로 바인딩 (값 전체를 메모리에 읽지 않고 스트림으로 전달)
+     * json / jsonb / xml은 placeholder()로 만든 자리에 바인딩해야 합니다.
+     */
+    public void bind(PreparedStatement pstmt, int index) throws SQLException {
+        if (binary != null) {
+            if (length <= Integer.MAX_VALUE) {
+                pstmt.setBinaryStream(index, openBinary(), (int) length);
+            } else {
+                pstmt.setBinaryStream(index, openBinary());
+            }
+        } else {
+            // 드라이버가 문자 스트림을 String으로 읽어 전송하므로 UPSERT는 값 하나를 한 번 더 복사
+            pstmt.setCharacterStream(index, openText(), (int) length);
+        }
+    }
+
+    private boolean isTypedText() {
+        return "json".equalsIgnoreCase(typeName) || "jsonb".equalsIgnoreCase(typeName) || "xml".equalsIgnoreCase(typeName);
+    }
+
+    private void rewind() throws SQLException {
+        try {
+            if (binary != null && binary.markSupported()) {
+                binary.reset();
+            } else if (text != null) {
+                text.reset();
+            }
+        } catch (IOException e) {
+            throw new SQLException("큰 컬럼 값을 다시 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 로그 / dead letter 기록용 표시 (값 자체는 기록하지 않음)
+     */
+    @JsonValue
+    @Override
+    public String toString() {
+        return String.format("<%s %s, %d %s>", typeGroup, typeName, length, binary != null ? "bytes" : "chars");
+    }
+}
@@ -0,0 +1,103 @@
+package com.gims.module.dbsync.service;
+
+import java.math.BigInteger;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 참조 값 조회(lookup) 결과 LRU 캐시
+ *
+ * 최근에 사용하지 않은 키부터 제거하며, 참조 테이블에 없는 키도 NOT_FOUND로 캐시하여 다시 조회하지 않습니다.
+ * 참조 테이블에 있지만 값 컬럼이 NULL인 키는 NULL_VALUE로 구분해 저장합니다. (FAIL 모드에서 미존재로 취급하지 않도록)
+ * 정수 키는 Long으로 정규화하여 Source(int4)와 참조 테이블(int8)의 타입이 달라도 같은 키로 취급합니다.
+ *
+ * 조회 스레드 하나에서만 사용하므로 동기화하지 않습니다.
+ */
+public class LookupCache {
+
+    // 캐시에 없는 키
+    public static final Object ABSENT = new Object();
+    // 참조 테이블에 없는 키
+    public static final Object NOT_FOUND = new Object();
+    // 참조 테이블에 있지만 값 컬럼이 NULL인 키
+    public static final Object NULL_VALUE = new Object();
+
+    private final int maxSize;
+    private final LinkedHashMap<Object, Object> entries;
+
+    private long hits;
+    private long misses;
+
+    public LookupCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<Object, Object>(Math.min(maxSize, 1 << 16), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Object> eldest) {
+                return size() > LookupCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * 캐시 조회
+     *
+     * @return 캐시된 값, NULL_VALUE(값이 NULL), NOT_FOUND(참조 테이블에 없음) 또는 ABSENT(캐시에 없음)
+     */
+    public Object get(Object normalizedKey) {
+        Object value = entries.get(normalizedKey);
+        if (value == null) {
+            misses++;
+            return ABSENT;
+        }
+        hits++;
+        return value;
+    }
+
+    /**
+     * 참조 테이블에서 찾은 값 저장 (value가 null이면 NULL_VALUE로 저장)
+     */
+    public void put(Object normalizedKey, Object value) {
+        entries.put(normalizedKey, value == null ? NULL_VALUE : value);
+    }
+
+    /**
+     * 참조 테이블에 없는 키 저장
+     */
+    public void putNotFound(Object normalizedKey) {
+        entries.put(normalizedKey, NOT_FOUND);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0 : hits * 1.0 / total;
+    }
+
+    /**
+     * 캐시 키 정규화 (정수 타입은 Long, 그 외는 그대로)
+     */
+    public static Object normalizeKey(Object key) {
+        if (key instanceof Integer || key instanceof Short || key instanceof Byte) {
+            return ((Number) key).longValue();
+        }
+        if (key instanceof BigInteger && ((BigInteger) key).bitLength() < 64) {
+            return ((BigInteger) key).longValue();
+        }
+        return key;
+    }
+}
@@ -0,0 +1,892 @@
+package com.gims.module.dbsync.service;
+
+import com.gims.module.dbsync.config.SyncExecutionProperties;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 선언적 파티션 Target 반영기
+ *
+ * Target이 RANGE 파티션 테이블(단일 컬럼 키)이면 카탈로그(pg_partitioned_table, pg_inherits)에서 파티션과 범위를 읽어
+ * 조회 배치를 파티션별로 나눈 뒤 부모 테이블을 거치지 않고 하위 파티션에 직접 반영합니다.
+ * 파티션별 배치는 공유 큐(sync.partition.queue-batches)를 거쳐 여러 반영 스레드가 각자 커넥션으로 병렬 반영하므로,
+ * 날짜 순으로 조회되어 한 번에 한 파티션만 채우는 경우에도 모든 반영 스레드를 사용합니다.
+ *
+ * - UPSERT: 파티션별 배치를 UpsertBatchApplier 세션으로 반영합니다. 범위에 맞는 파티션이 없는 행은 부모 테이블로 반영합니다.
+ * - FULL_REFRESH: 파티션마다 적재 테이블(범위 CHECK 포함)에 COPY로 적재하고 인덱스를 만든 뒤,
+ *   한 트랜잭션에서 기존 파티션을 DETACH 하고 적재 테이블을 같은 범위로 ATTACH 합니다.
+ *   범위 CHECK 제약조건이 있으므로 ATTACH 시 검증 스캔이 생략되고, 조회 측은 교체 전/후 데이터만 보게 됩니다.
+ */
+@Slf4j
+@Component
+public class PartitionedTargetWriter {
+
+    private static final String LOAD_SUFFIX = "__load";
+    private static final String BOUND_CONSTRAINT = "dbsync_partition_bound";
+    private static final int MAX_IDENTIFIER_LENGTH = 63;
+    private static final long POLL_MS = 100;
+    // 반영 종료 표시
+    private static final PartitionBatch END_OF_STREAM = new PartitionBatch(null, Collections.emptyList());
+
+    private static final Pattern RANGE_BOUND_PATTERN = Pattern.compile("^FOR VALUES FROM \\((.+)\\) TO \\((.+)\\)$");
+    private static final Pattern INDEX_DEF_PATTERN =
+            Pattern.compile("^CREATE (UNIQUE )?INDEX \\S+ ON (?:ONLY )?\\S+ (USING .*)$");
+    private static final Set<String> TEMPORAL_TYPES = new HashSet<>(Arrays.asList("date", "timestamp", "timestamptz"));
+    private static final Set<String> NUMERIC_TYPES = new HashSet<>(Arrays.asList("int2", "int4", "int8", "numeric"));
+
+    private final SyncConnectionManager connectionManager;
+    private final SourceReader sourceReader;
+    private final UpsertBatchApplier upsertBatchApplier;
+    private final SyncMetrics syncMetrics;
+    private final SyncExecutionProperties executionProperties;
+
+    // 반영 스레드 수 (0이면 실행별 커넥션 허용량)
+    @Value("${sync.partition.writers:0}")
+    private int writers;
+
+    @Value("${sync.partition.queue-batches:8}")
+    private int queueBatches;
+
+    // FULL_REFRESH COPY 전송 단위 (조회 배치를 파티션별로 나누어 전송)
+    @Value("${sync.full-refresh.batch-size:5000}")
+    private int fullRefreshBatchSize;
+
+    @Value("${sync.partition.swap-lock-timeout-ms:5000}")
+    private long swapLockTimeoutMs;
+
+    public PartitionedTargetWriter(SyncConnectionManager connectionManager, SourceReader sourceReader,
+                                   UpsertBatchApplier upsertBatchApplier, SyncMetrics syncMetrics,
+                                   SyncExecutionProperties executionProperties) {
+        this.connectionManager = connectionManager;
+        this.sourceReader = sourceReader;
+        this.upsertBatchApplier = upsertBatchApplier;
+        this.syncMetrics = syncMetrics;
+        this.executionProperties = executionProperties;
+    }
+
+    /**
+     * Target 파티션 구성 조회
+     *
+     * @return 파티션 테이블이 아니면 null, 직접 반영할 수 없는 구성이면 getUnsupportedReason()에 사유
+     */
+    public PartitionLayout detect(TableSyncPlan plan) throws SQLException {
+        String targetTable = plan.getTargetTable();
+        try (Connection conn = connectionManager.getTargetConnection(plan.getExecId(), plan.getTargetConnection())) {
+            String strategy;
+            int keyCount;
+            String keyColumn;
+            String keyType;
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "SELECT c.relkind::text, pt.partstrat::text, pt.partnatts, a.attname, t.typname " +
+                    "FROM pg_class c " +
+                    "LEFT JOIN pg_partitioned_table pt ON pt.partrelid = c.oid " +
+                    "LEFT JOIN pg_attribute a ON a.attrelid = c.oid AND a.attnum = pt.partattrs[0] " +
+                    "LEFT JOIN pg_type t ON t.oid = a.atttypid " +
+                    "WHERE c.oid = ?::regclass")) {
+                pstmt.setString(1, targetTable);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    if (!rs.next() || !"p".equals(rs.getString(1))) {
+                        return null;
+                    }
+                    strategy = rs.getString(2);
+                    keyCount = rs.getInt(3);
+                    keyColumn = rs.getString(4);
+                    keyType = rs.getString(5);
+                }
+            }
+
+            PartitionLayout layout = new PartitionLayout(targetTable, keyColumn, keyType);
+            if (!"r".equals(strategy)) {
+                return layout.unsupported("RANGE 파티션만 지원합니다 (partstrat=" + strategy + ")");
+            }
+            if (keyCount != 1 || keyColumn == null) {
+                return layout.unsupported("단일 컬럼 파티션 키만 지원합니다");
+            }
+            boolean temporal = TEMPORAL_TYPES.contains(keyType);
+            if (!temporal && !NUMERIC_TYPES.contains(keyType)) {
+                return layout.unsupported("지원하지 않는 파티션 키 타입입니다: " + keyType);
+            }
+            for (Map.Entry<String, String> entry : plan.getColumnMap().entrySet()) {
+                if (entry.getValue().equalsIgnoreCase(keyColumn)) {
+                    layout.keySourceColumn = entry.getKey();
+                }
+            }
+            if (layout.keySourceColumn == null) {
+                return layout.unsupported("파티션 키 컬럼이 컬럼 매핑에 없습니다: " + keyColumn);
+            }
+            // PK에 파티션 키가 없으면 PK가 같은 행이 키 값 변경으로 다른 파티션에 있을 수 있어 하위 파티션 단위로 갱신할 수 없음
+            if (plan.getPrimaryKey() == null || !plan.getPrimaryKey().isSourceColumn(layout.keySourceColumn)) {
+                return layout.unsupported("파티션 키 컬럼이 PK 매핑에 포함되어 있지 않습니다: " + layout.keySourceColumn);
+            }
+
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "SELECT c.oid::regclass::text, c.relname, c.relkind::text, " +
+                    "pg_get_expr(c.relpartbound, c.oid), pg_get_partition_constraintdef(c.oid) " +
+                    "FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                    "WHERE i.inhparent = ?::regclass ORDER BY 1")) {
+                pstmt.setString(1, targetTable);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        layout.partitions.add(new Partition(rs.getString(1), rs.getString(2),
+                                "p".equals(rs.getString(3)), rs.getString(4), rs.getString(5)));
+                    }
+                }
+            }
+            if (layout.partitions.isEmpty()) {
+                return layout.unsupported("하위 파티션이 없습니다");
+            }
+
+            // 범위 경계값을 키 타입으로 변환해 비교 가능한 값(숫자 / epoch 초)으로 저장
+            String keySql = temporal
+                    ? "SELECT extract(epoch FROM CAST(? AS " + keyType + "))"
+                    : "SELECT CAST(? AS numeric)";
+            try (PreparedStatement pstmt = conn.prepareStatement(keySql)) {
+                for (Partition partition : layout.partitions) {
+                    if ("DEFAULT".equals(partition.bound)) {
+                        layout.setDefaultPartition(partition);
+                        continue;
+                    }
+                    Matcher m = RANGE_BOUND_PATTERN.matcher(partition.bound);
+                    if (!m.matches()) {
+                        return layout.unsupported("파티션 범위를 해석할 수 없습니다: " + partition.bound);
+                    }
+                    layout.addRange(partition, boundValue(pstmt, m.group(1)), boundValue(pstmt, m.group(2)));
+                }
+            }
+            return layout;
+        }
+    }
+
+    /**
+     * UPSERT: 파티션별 배치를 하위 파티션에 직접 반영
+     */
+    public WriteResult upsert(TableSyncPlan plan, PartitionLayout layout, String syncMode, int batchSize) throws SQLException {
+        int writerCount = writerCount(plan, layout.partitions.size() + 1, true);
+        log.info("파티션 직접 반영 시작: {} (파티션 {}개, 반영 스레드 {}개)", layout.parentTable,
+                layout.partitions.size(), plan.isStreamLargeValues() ? 1 : writerCount);
+
+        WriteResult result = new WriteResult(plan.isStreamLargeValues() ? 1 : writerCount);
+        run(plan, layout, syncMode, batchSize, result, false, () -> new UpsertWriter(upsertBatchApplier.open(plan)));
+        return result;
+    }
+
+    /**
+     * FULL_REFRESH: 파티션별 적재 테이블에 적재 후 DETACH / ATTACH 로 교체
+     */
+    public WriteResult reload(TableSyncPlan plan, PartitionLayout layout, String syncMode) throws SQLException {
+        for (Partition partition : layout.partitions) {
+            if (partition.subPartitioned) {
+                throw new RuntimeException(String.format(
+                        "FULL_REFRESH 모드는 하위 파티션이 다시 파티션된 구성을 지원하지 않습니다: %s", partition.table));
+            }
+        }
+        int writerCount = writerCount(plan, layout.partitions.size(), true);
+        log.info("파티션 교체 적재 시작: {} (파티션 {}개, 적재 스레드 {}개)", layout.parentTable,
+                layout.partitions.size(), plan.isStreamLargeValues() ? 1 : writerCount);
+
+        WriteResult result = new WriteResult(plan.isStreamLargeValues() ? 1 : writerCount);
+        try {
+            try (Connection conn = connectionManager.getTargetConnection(plan.getExecId(), plan.getTargetConnection())) {
+                conn.setAutoCommit(true);
+                for (Partition partition : layout.partitions) {
+                    createLoadTable(conn, partition);
+                }
+            }
+
+            List<String> sourceColumns = new ArrayList<>(plan.getColumnMap().keySet());
+            List<String> targetColumns = new ArrayList<>(plan.getColumnMap().values());
+            run(plan, layout, syncMode, fullRefreshBatchSize, result, true, () -> new CopyWriter(
+                    connectionManager.getTargetConnection(plan.getExecId(), plan.getTargetConnection()),
+                    layout, targetColumns, sourceColumns));
+
+            // 인덱스 생성 중에는 lookup이 없으므로 실행별 허용량 전체 사용
+            buildIndexes(plan, layout, writerCount(plan, layout.partitions.size(), false));
+            try (Connection conn = connectionManager.getTargetConnection(plan.getExecId(), plan.getTargetConnection())) {
+                swap(conn, layout);
+            }
+        } catch (SQLException | RuntimeException e) {
+            dropLoadTables(plan, layout);
+            throw e;
+        }
+        log.info("파티션 교체 적재 완료: {} ({}건, 파티션 {}개)", layout.parentTable,
+                result.processed, layout.partitions.size());
+        return result;
+    }
+
+    /**
+     * @param reserveLookup 조회 스레드의 Target lookup 커넥션 1개를 실행별 허용량에서 제외
+     */
+    private int writerCount(TableSyncPlan plan, int partitionCount, boolean reserveLookup) {
+        int limit = executionProperties.getMaxConnectionsPerExecution();
+        // 조회 스레드의 Target lookup은 반영 스레드가 커넥션을 점유한 동안 실행의 Target 풀에서 커넥션을 하나 더 사용
+        if (reserveLookup && plan.getLookupStage() != null && plan.getLookupStage().queriesTarget()) {
+            limit--;
+        }
+        int configured = writers > 0 ? Math.min(writers, limit) : limit;
+        return Math.max(1, Math.min(configured, partitionCount));
+    }
+
+    // ==================== 분배 / 반영 ====================
+
+    /**
+     * 조회 배치를 파티션별로 나누어 반영 스레드에 분배
+     * 큰 컬럼 스트리밍은 조회 중인 행에서만 값이 유효하므로 조회 스레드가 직접 반영합니다.
+     *
+     * @param strict 반영할 파티션이 없는 행을 오류로 처리 (false면 부모 테이블로 반영)
+     */
+    private void run(TableSyncPlan plan, PartitionLayout layout, String syncMode, int batchSize,
+                     WriteResult result, boolean strict, WriterFactory factory) throws SQLException {
+        if (result.writers == 1) {
+            try (BatchWriter writer = factory.open()) {
+                sourceReader.read(plan, batchSize, batch -> {
+                    for (PartitionBatch partitionBatch : split(layout, batch, strict)) {
+                        write(writer, partitionBatch, syncMode, result);
+                    }
+                });
+                writer.complete();
+                result.deadLettered += writer.getDeadLettered();
+            }
+            return;
+        }
+
+        BlockingQueue<PartitionBatch> queue = new ArrayBlockingQueue<>(Math.max(result.writers, queueBatches));
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(result.writers, r -> {
+            Thread thread = new Thread(r, "dbsync-partition-" + plan.getExecId() + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < result.writers; i++) {
+            futures.add(pool.submit(() -> runWriter(queue, factory, syncMode, result)));
+        }
+
+        try {
+            sourceReader.read(plan, batchSize, batch -> {
+                for (PartitionBatch partitionBatch : split(layout, batch, strict)) {
+                    offer(queue, partitionBatch, result);
+                }
+            });
+            for (int i = 0; i < result.writers; i++) {
+                offer(queue, END_OF_STREAM, result);
+            }
+        } catch (SQLException | RuntimeException e) {
+            result.aborted = true;
+            throw e;
+        } finally {
+            awaitWriters(pool, futures);
+        }
+        if (result.error instanceof SQLException) {
+            throw (SQLException) result.error;
+        } else if (result.error != null) {
+            throw new RuntimeException(result.error.getMessage(), result.error);
+        }
+    }
+
+    private void runWriter(BlockingQueue<PartitionBatch> queue, WriterFactory factory, String syncMode, WriteResult result) {
+        try (BatchWriter writer = factory.open()) {
+            while (!result.aborted && result.error == null) {
+                PartitionBatch batch = queue.poll(POLL_MS, TimeUnit.MILLISECONDS);
+                if (batch == null) {
+                    continue;
+                }
+                if (batch == END_OF_STREAM) {
+                    writer.complete();
+                    break;
+                }
+                write(writer, batch, syncMode, result);
+            }
+            synchronized (result) {
+                result.deadLettered += writer.getDeadLettered();
+            }
+        } catch (Exception e) {
+            result.fail(e);
+            queue.clear();
+        }
+    }
+
+    private void write(BatchWriter writer, PartitionBatch batch, String syncMode, WriteResult result) throws SQLException {
+        long batchStart = System.nanoTime();
+        long written = writer.write(batch);
+        syncMetrics.recordBatch(syncMode, System.nanoTime() - batchStart);
+        synchronized (result) {
+            result.processed += written;
+            result.rowsPerPartition.merge(batch.table, written, Long::sum);
+        }
+    }
+
+    /**
+     * 반영 대기 (큐가 가득 차면 대기, 반영 스레드가 실패하면 조회 중단)
+     */
+    private void offer(BlockingQueue<PartitionBatch> queue, PartitionBatch batch, WriteResult result) throws SQLException {
+        try {
+            while (!queue.offer(batch, POLL_MS, TimeUnit.MILLISECONDS)) {
+                if (result.error != null) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("파티션 반영 대기 중 인터럽트 발생", e);
+        }
+        if (result.error != null) {
+            throw new SQLException("파티션 반영 실패로 조회를 중단합니다: " + result.error.getMessage(), result.error);
+        }
+    }
+
+    private void awaitWriters(ExecutorService pool, List<Future<?>> futures) {
+        pool.shutdown();
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                pool.shutdownNow();
+                return;
+            } catch (ExecutionException e) {
+                log.error("파티션 반영 스레드 오류", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * 조회 배치를 파티션별 배치로 나누기
+     */
+    private List<PartitionBatch> split(PartitionLayout layout, List<Map<String, Object>> batch, boolean strict) {
+        Map<String, List<Map<String, Object>>> byTable = new LinkedHashMap<>();
+        for (Map<String, Object> row : batch) {
+            Partition partition = layout.route(row.get(layout.keySourceColumn));
+            if (partition == null && strict) {
+                throw new RuntimeException(String.format("%s: 파티션 키 값 %s 에 해당하는 파티션이 없습니다",
+                        layout.parentTable, row.get(layout.keySourceColumn)));
+            }
+            String table = partition != null ? partition.table : layout.parentTable;
+            byTable.computeIfAbsent(table, k -> new ArrayList<>()).add(row);
+        }
+        List<PartitionBatch> batches = new ArrayList<>(byTable.size());
+        for (Map.Entry<String, List<Map<String, Object>>> entry : byTable.entrySet()) {
+            batches.add(new PartitionBatch(entry.getKey(), entry.getValue()));
+        }
+        return batches;
+    }
+
+    // ==================== FULL_REFRESH 교체 ====================
+
+    /**
+     * 파티션 적재 테이블 생성
+     * 파티션 범위와 같은 CHECK 제약조건을 미리 두어 COPY 시 행 단위로 확인하고, ATTACH 시 검증 스캔을 생략합니다.
+     */
+    private void createLoadTable(Connection conn, Partition partition) throws SQLException {
+        String loadTable = loadTable(partition);
+        execute(conn, String.format("DROP TABLE IF EXISTS %s", loadTable));
+        execute(conn, String.format(
+                "CREATE TABLE %s (LIKE %s INCLUDING DEFAULTS INCLUDING CONSTRAINTS " +
+                "INCLUDING STORAGE INCLUDING COMMENTS)", loadTable, partition.table));
+        if (partition.constraint != null) {
+            execute(conn, String.format("ALTER TABLE %s ADD CONSTRAINT %s CHECK (%s)",
+                    loadTable, BOUND_CONSTRAINT, partition.constraint));
+        }
+
+        // 파티션 소유자 외 권한 (GRANT 문 템플릿, %s 자리에 테이블명) 및 소유자 (교체 시 적용)
+        partition.grants.clear();
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "SELECT a.privilege_type, CASE WHEN a.grantee = 0 THEN 'PUBLIC' " +
+                "ELSE quote_ident(pg_get_userbyid(a.grantee)) END " +
+                "FROM pg_class c, aclexplode(c.relacl) a " +
+                "WHERE c.oid = ?::regclass AND a.grantee <> c.relowner")) {
+            pstmt.setString(1, partition.table);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    partition.grants.add("GRANT " + rs.getString(1) + " ON %s TO " + rs.getString(2));
+                }
+            }
+        }
+        for (String grant : partition.grants) {
+            execute(conn, String.format(grant, loadTable));
+        }
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "SELECT quote_ident(pg_get_userbyid(c.relowner)) FROM pg_class c " +
+                "WHERE c.oid = ?::regclass AND c.relowner <> (SELECT oid FROM pg_roles WHERE rolname = current_user)")) {
+            pstmt.setString(1, partition.table);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                partition.owner = rs.next() ? rs.getString(1) : null;
+            }
+        }
+    }
+
+    /**
+     * 적재 완료 후 파티션 인덱스 생성 및 통계 수집 (파티션 단위 병렬)
+     * ATTACH 시 부모 인덱스와 같은 정의의 인덱스가 있으면 새로 만들지 않고 연결하므로 교체 트랜잭션이 짧아집니다.
+     */
+    private void buildIndexes(TableSyncPlan plan, PartitionLayout layout, int writerCount) throws SQLException {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(writerCount, r -> {
+            Thread thread = new Thread(r, "dbsync-partition-index-" + plan.getExecId() + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<Future<?>> futures = new ArrayList<>();
+        for (Partition partition : layout.partitions) {
+            futures.add(pool.submit(() -> {
+                try (Connection conn = connectionManager.getTargetConnection(plan.getExecId(), plan.getTargetConnection())) {
+                    conn.setAutoCommit(true);
+                    buildIndexes(conn, partition);
+                }
+                return null;
+            }));
+        }
+        pool.shutdown();
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pool.shutdownNow();
+            throw new SQLException("파티션 인덱스 생성 중 인터럽트 발생", e);
+        } catch (ExecutionException e) {
+            pool.shutdownNow();
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            throw new RuntimeException("파티션 인덱스 생성 실패: " + cause.getMessage(), cause);
+        }
+    }
+
+    private void buildIndexes(Connection conn, Partition partition) throws SQLException {
+        String loadTable = loadTable(partition);
+        // PK / UNIQUE / EXCLUDE 는 제약조건으로 만들어야 ATTACH 시 부모 제약조건의 인덱스로 연결됩니다
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "SELECT conname, pg_get_constraintdef(oid) FROM pg_constraint " +
+                "WHERE conrelid = ?::regclass AND contype IN ('p', 'u', 'x')")) {
+            pstmt.setString(1, partition.table);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    execute(conn, String.format("ALTER TABLE %s ADD CONSTRAINT %s %s",
+                            loadTable, loadName(rs.getString(1)), rs.getString(2)));
+                    partition.constraints.add(rs.getString(1));
+                }
+            }
+        }
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "SELECT i.relname, pg_get_indexdef(i.oid) FROM pg_index x " +
+                "JOIN pg_class i ON i.oid = x.indexrelid WHERE x.indrelid = ?::regclass " +
+                "AND NOT EXISTS (SELECT 1 FROM pg_constraint c WHERE c.conindid = x.indexrelid)")) {
+            pstmt.setString(1, partition.table);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    String name = rs.getString(1);
+                    Matcher m = INDEX_DEF_PATTERN.matcher(rs.getString(2));
+                    if (!m.matches()) {
+                        throw new RuntimeException("인덱스 정의를 해석할 수 없습니다: " + rs.getString(2));
+                    }
+                    String unique = m.group(1) != null ? m.group(1) : "";
+                    execute(conn, String.format("CREATE %sINDEX %s ON %s %s",
+                            unique, loadName(name), loadTable, m.group(2)));
+                    partition.indexes.add(name);
+                }
+            }
+        }
+        execute(conn, String.format("ANALYZE %s", loadTable));
+    }
+
+    /**
+     * DETACH / ATTACH 교체 (모든 파티션을 한 트랜잭션에서)
+     * 기본(DEFAULT) 파티션을 먼저 교체하면 이후 ATTACH 시 기본 파티션의 범위 CHECK로 기본 파티션 검증도 생략됩니다.
+     */
+    private void swap(Connection conn, PartitionLayout layout) throws SQLException {
+        List<Partition> order = new ArrayList<>(layout.partitions);
+        order.sort(Comparator.comparing((Partition p) -> p != layout.defaultPartition));
+        long swapStart = System.currentTimeMillis();
+
+        conn.setAutoCommit(false);
+        try {
+            execute(conn, String.format("SET LOCAL lock_timeout = %d", swapLockTimeoutMs));
+            execute(conn, String.format("LOCK TABLE %s IN ACCESS EXCLUSIVE MODE", layout.parentTable));
+            for (Partition partition : order) {
+                String loadTable = loadTable(partition);
+                execute(conn, String.format("ALTER TABLE %s DETACH PARTITION %s", layout.parentTable, partition.table));
+                execute(conn, String.format("ALTER TABLE %s ATTACH PARTITION %s %s",
+                        layout.parentTable, loadTable, partition.bound));
+                execute(conn, String.format("DROP TABLE %s", partition.table));
+                execute(conn, String.format("ALTER TABLE %s RENAME TO %s", loadTable, partition.name));
+                for (String constraint : partition.constraints) {
+                    execute(conn, String.format("ALTER TABLE %s RENAME CONSTRAINT %s TO %s",
+                            partition.table, loadName(constraint), constraint));
+                }
+                for (String index : partition.indexes) {
+                    execute(conn, String.format("ALTER INDEX %s RENAME TO %s",
+                            qualifiedName(partition.table, loadName(index)), index));
+                }
+                if (partition.owner != null) {
+                    execute(conn, String.format("ALTER TABLE %s OWNER TO %s", partition.table, partition.owner));
+                }
+            }
+            for (Partition partition : order) {
+                if (partition.constraint != null) {
+                    execute(conn, String.format("ALTER TABLE %s DROP CONSTRAINT %s", partition.table, BOUND_CONSTRAINT));
+                }
+            }
+            conn.commit();
+            log.info("파티션 교체 완료: {} (파티션 {}개, {}ms)", layout.parentTable, order.size(),
+                    System.currentTimeMillis() - swapStart);
+        } catch (SQLException | RuntimeException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(true);
+        }
+    }
+
+    private void dropLoadTables(TableSyncPlan plan, PartitionLayout layout) {
+        try (Connection conn = connectionManager.getTargetConnection(plan.getExecId(), plan.getTargetConnection())) {
+            conn.setAutoCommit(true);
+            for (Partition partition : layout.partitions) {
+                execute(conn, String.format("DROP TABLE IF EXISTS %s", loadTable(partition)));
+            }
+        } catch (SQLException e) {
+            log.warn("파티션 적재 테이블 정리 실패: {} ({})", layout.parentTable, e.getMessage());
+        }
+    }
+
+    // ==================== 유틸리티 ====================
+
+    private BigDecimal boundValue(PreparedStatement pstmt, String literal) throws SQLException {
+        String value = literal.trim();
+        if ("MINVALUE".equals(value) || "MAXVALUE".equals(value)) {
+            return null;
+        }
+        if (value.startsWith("'") && value.endsWith("'")) {
+            value = value.substring(1, value.length() - 1).replace("''", "'");
+        }
+        pstmt.setString(1, value);
+        try (ResultSet rs = pstmt.executeQuery()) {
+            rs.next();
+            return rs.getBigDecimal(1);
+        }
+    }
+
+    private String loadTable(Partition partition) {
+        return qualifiedName(partition.table, loadName(partition.name));
+    }
+
+    private String loadName(String name) {
+        if (name.length() + LOAD_SUFFIX.length() > MAX_IDENTIFIER_LENGTH) {
+            name = name.substring(0, MAX_IDENTIFIER_LENGTH - LOAD_SUFFIX.length());
+        }
+        return name + LOAD_SUFFIX;
+    }
+
+    private String qualifiedName(String reference, String name) {
+        int idx = reference.lastIndexOf('.');
+        return idx >= 0 ? reference.substring(0, idx + 1) + name : name;
+    }
+
+    private void execute(Connection conn, String sql) throws SQLException {
+        log.debug("DDL: {}", sql);
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+
+    /**
+     * Target 파티션 구성
+     */
+    public static class PartitionLayout {
+        @Getter
+        private final String parentTable;
+        @Getter
+        private final String keyColumn;
+        private final String keyType;
+        private final List<Partition> partitions = new ArrayList<>();
+        // 범위 파티션 (하한 오름차순)
+        private final List<Partition> ranges = new ArrayList<>();
+        private Partition defaultPartition;
+        private String keySourceColumn;
+        @Getter
+        private String unsupportedReason;
+
+        PartitionLayout(String parentTable, String keyColumn, String keyType) {
+            this.parentTable = parentTable;
+            this.keyColumn = keyColumn;
+            this.keyType = keyType;
+        }
+
+        public boolean isRoutable() {
+            return unsupportedReason == null;
+        }
+
+        public int getPartitionCount() {
+            return partitions.size();
+        }
+
+        private PartitionLayout unsupported(String reason) {
+            this.unsupportedReason = reason;
+            return this;
+        }
+
+        /**
+         * 범위 파티션 추가 (경계값은 toKey와 같은 기준의 숫자 / epoch 초, null이면 MINVALUE / MAXVALUE)
+         */
+        void addRange(Partition partition, BigDecimal lower, BigDecimal upper) {
+            partition.lower = lower;
+            partition.upper = upper;
+            ranges.add(partition);
+            ranges.sort(Comparator.comparing((Partition p) -> p.lower, Comparator.nullsFirst(Comparator.naturalOrder())));
+        }
+
+        void setDefaultPartition(Partition partition) {
+            this.defaultPartition = partition;
+        }
+
+        /**
+         * 파티션 키 값에 해당하는 파티션 (하한 포함, 상한 미포함)
+         *
+         * @return 없으면 기본 파티션, 기본 파티션도 없거나 값을 비교할 수 없으면 null
+         */
+        Partition route(Object value) {
+            BigDecimal key = toKey(value);
+            if (key == null) {
+                return value == null ? defaultPartition : null;
+            }
+            int low = 0;
+            int high = ranges.size() - 1;
+            Partition candidate = null;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                Partition partition = ranges.get(mid);
+                if (partition.lower == null || partition.lower.compareTo(key) <= 0) {
+                    candidate = partition;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            if (candidate != null && (candidate.upper == null || key.compareTo(candidate.upper) < 0)) {
+                return candidate;
+            }
+            return defaultPartition;
+        }
+
+        /**
+         * 행 값을 경계값과 같은 기준으로 변환
+         * 날짜/시각은 PostgreSQL의 extract(epoch)와 같이 timestamptz는 실제 시점, date/timestamp는 UTC 기준 벽시계 시각의 초입니다.
+         */
+        private BigDecimal toKey(Object value) {
+            if (value == null) {
+                return null;
+            }
+            if (value instanceof Number) {
+                return NUMERIC_TYPES.contains(keyType) ? new BigDecimal(value.toString()) : null;
+            }
+            boolean instant = "timestamptz".equals(keyType);
+            LocalDateTime local;
+            if (value instanceof Timestamp) {
+                Timestamp ts = (Timestamp) value;
+                if (instant) {
+                    return epoch(Math.floorDiv(ts.getTime(), 1000L), ts.getNanos());
+                }
+                local = ts.toLocalDateTime();
+            } else if (value instanceof java.sql.Date) {
+                local = ((java.sql.Date) value).toLocalDate().atStartOfDay();
+            } else if (value instanceof LocalDateTime) {
+                local = (LocalDateTime) value;
+            } else if (value instanceof LocalDate) {
+                local = ((LocalDate) value).atStartOfDay();
+            } else if (value instanceof OffsetDateTime) {
+                OffsetDateTime odt = (OffsetDateTime) value;
+                if (instant) {
+                    return epoch(odt.toEpochSecond(), odt.getNano());
+                }
+                local = odt.atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+            } else {
+                return null;
+            }
+            if (!TEMPORAL_TYPES.contains(keyType)) {
+                return null;
+            }
+            if (instant) {
+                Instant at = local.atZone(ZoneId.systemDefault()).toInstant();
+                return epoch(at.getEpochSecond(), at.getNano());
+            }
+            return epoch(local.toEpochSecond(ZoneOffset.UTC), local.getNano());
+        }
+
+        private static BigDecimal epoch(long seconds, int nanos) {
+            return BigDecimal.valueOf(seconds).add(BigDecimal.valueOf(nanos, 9));
+        }
+    }
+
+    /**
+     * 하위 파티션 하나
+     */
+    static class Partition {
+        private final String table;
+        private final String name;
+        private final boolean subPartitioned;
+        // FOR VALUES ... / DEFAULT
+        private final String bound;
+        // 파티션 범위에 해당하는 조건식 (pg_get_partition_constraintdef)
+        private final String constraint;
+        private final List<String> constraints = new ArrayList<>();
+        private final List<String> indexes = new ArrayList<>();
+        private final List<String> grants = new ArrayList<>();
+        // 적재 사용자와 다른 파티션 소유자 (같으면 null)
+        private String owner;
+        private BigDecimal lower;
+        private BigDecimal upper;
+
+        Partition(String table, String name, boolean subPartitioned, String bound, String constraint) {
+            this.table = table;
+            this.name = name;
+            this.subPartitioned = subPartitioned;
+            this.bound = bound;
+            this.constraint = constraint;
+        }
+    }
+
+    private static class PartitionBatch {
+        private final String table;
+        private final List<Map<String, Object>> rows;
+
+        PartitionBatch(String table, List<Map<String, Object>> rows) {
+            this.table = table;
+            this.rows = rows;
+        }
+    }
+
+    @FunctionalInterface
+    private interface WriterFactory {
+        BatchWriter open() throws SQLException;
+    }
+
+    /**
+     * 반영 스레드 하나의 반영기 (커넥션 하나를 점유)
+     */
+    private interface BatchWriter extends AutoCloseable {
+        long write(PartitionBatch batch) throws SQLException;
+
+        void complete() throws SQLException;
+
+        long getDeadLettered();
+
+        @Override
+        void close() throws SQLException;
+    }
+
+    private static class UpsertWriter implements BatchWriter {
+        private final UpsertBatchApplier.Session session;
+
+        UpsertWriter(UpsertBatchApplier.Session session) {
+            this.session = session;
+        }
+
+        @Override
+        public long write(PartitionBatch batch) throws SQLException {
+            return session.apply(batch.rows, batch.table);
+        }
+
+        @Override
+        public void complete() {
+            // 배치마다 커밋
+        }
+
+        @Override
+        public long getDeadLettered() {
+            return session.getDeadLettered();
+        }
+
+        @Override
+        public void close() throws SQLException {
+            session.close();
+        }
+    }
+
+    /**
+     * 파티션 적재 테이블 COPY 반영기 (반영 스레드별 트랜잭션 하나, 종료 시 커밋)
+     */
+    private class CopyWriter implements BatchWriter {
+        private final Connection conn;
+        private final Map<String, String> loadTables = new HashMap<>();
+        private final List<String> targetColumns;
+        private final List<String> sourceColumns;
+        private boolean committed;
+
+        CopyWriter(Connection conn, PartitionLayout layout,
+                   List<String> targetColumns, List<String> sourceColumns) throws SQLException {
+            this.conn = conn;
+            this.targetColumns = targetColumns;
+            this.sourceColumns = sourceColumns;
+            for (Partition partition : layout.partitions) {
+                loadTables.put(partition.table, loadTable(partition));
+            }
+            conn.setAutoCommit(false);
+        }
+
+        @Override
+        public long write(PartitionBatch batch) throws SQLException {
+            try (PgCopyWriter writer = PgCopyWriter.open(conn, loadTables.get(batch.table), targetColumns, sourceColumns)) {
+                writer.write(batch.rows);
+                return writer.finish();
+            }
+        }
+
+        @Override
+        public void complete() throws SQLException {
+            conn.commit();
+            committed = true;
+        }
+
+        @Override
+        public long getDeadLettered() {
+            return 0;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                if (!committed) {
+                    conn.rollback();
+                }
+            } finally {
+                conn.close();
+            }
+        }
+    }
+
+    /**
+     * 파티션 반영 결과
+     */
+    @Getter
+    public static class WriteResult {
+        private final int writers;
+        private long processed;
+        private long deadLettered;
+        private final Map<String, Long> rowsPerPartition = new TreeMap<>();
+        private volatile Exception error;
+        private volatile boolean aborted;
+
+        WriteResult(int writers) {
+            this.writers = writers;
+        }
+
+        private void fail(Exception e) {
+            if (error == null) {
+                error = e;
+                log.error("파티션 반영 실패, 조회를 중단합니다: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.gims.module.dbsync.service;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PostgreSQL COPY FROM STDIN 기반 대량 적재기
+ *
+ * 행 단위 INSERT 대신 CSV 포맷의 COPY 스트림으로 배치를 전송합니다.
+ * 호출 측 트랜잭션 안에서 열고, finish() 이후 commit 해야 반영됩니다.
+ * 인코딩한 행은 FLUSH_CHARS 단위로 나누어 전송하며, 큰 컬럼 값(LargeValue)은 Source 스트림에서 바로 COPY 스트림으로 옮깁니다.
+ */
+public class PgCopyWriter implements AutoCloseable {
+
+    private static final int FLUSH_CHARS = 64 * 1024;
+    private static final int STREAM_CHUNK = 8 * 1024;
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final CopyIn copyIn;
+    private final List<String> sourceColumns;
+    private long rowCount;
+
+    private PgCopyWriter(CopyIn copyIn, List<String> sourceColumns) {
+        this.copyIn = copyIn;
+        this.sourceColumns = sourceColumns;
+    }
+
+    /**
+     * COPY 스트림 시작
+     *
+     * @param targetColumns COPY 대상 컬럼 (sourceColumns와 같은 순서)
+     * @param sourceColumns 행 Map에서 값을 꺼낼 Source 컬럼
+     */
+    public static PgCopyWriter open(Connection conn, String table,
+                                    List<String> targetColumns, List<String> sourceColumns) throws SQLException {
+        String copySql = String.format("COPY %s (%s) FROM STDIN WITH (FORMAT csv)",
+                table, String.join(", ", targetColumns));
+        CopyIn copyIn = conn.unwrap(PGConnection.class).getCopyAPI().copyIn(copySql);
+        return new PgCopyWriter(copyIn, sourceColumns);
+    }
+
+    /**
+     * 배치 전송
+     */
+    public void write(List<Map<String, Object>> rows) throws SQLException {
+        StringBuilder sb = new StringBuilder(Math.min(rows.size() * 64, FLUSH_CHARS));
+        for (Map<String, Object> row : rows) {
+            for (int i = 0; i < sourceColumns.size(); i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                Object value = row.get(sourceColumns.get(i));
+                if (value instanceof LargeValue) {
+                    flush(sb);
+                    writeLargeValue((LargeValue) value);
+                } else {
+                    appendCsvValue(sb, value);
+                }
+            }
+            sb.append('\n');
+            if (sb.length() >= FLUSH_CHARS) {
+                flush(sb);
+            }
+        }
+        flush(sb);
+        rowCount += rows.size();
+    }
+
+    private void flush(StringBuilder sb) throws SQLException {
+        if (sb.length() == 0) {
+            return;
+        }
+        byte[] bytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        sb.setLength(0);
+    }
+
+    /**
+     * 큰 컬럼 값을 청크 단위로 CSV 인코딩해 전송 (bytea는 \x hex, 문자열은 따옴표 이스케이프)
+     */
+    private void writeLargeValue(LargeValue value) throws SQLException {
+        try {
+            if (value.isBinary()) {
+                InputStream in = value.openBinary();
+                byte[] chunk = new byte[STREAM_CHUNK];
+                byte[] encoded = new byte[STREAM_CHUNK * 2];
+                writeAscii("\"\\x");
+                int read;
+                while ((read = in.read(chunk)) != -1) {
+                    for (int i = 0; i < read; i++) {
+                        encoded[i * 2] = HEX[(chunk[i] >> 4) & 0x0F];
+                        encoded[i * 2 + 1] = HEX[chunk[i] & 0x0F];
+                    }
+                    copyIn.writeToCopy(encoded, 0, read * 2);
+                }
+                writeAscii("\"");
+            } else {
+                Reader reader = value.openText();
+                char[] chunk = new char[STREAM_CHUNK];
+                StringBuilder sb = new StringBuilder(STREAM_CHUNK + 16);
+                sb.append('"');
+                int read;
+                while ((read = reader.read(chunk)) != -1) {
+                    for (int i = 0; i < read; i++) {
+                        if (chunk[i] == '"') {
+                            sb.append('"');
+                        }
+                        sb.append(chunk[i]);
+                    }
+                    // 서로게이트 쌍이 청크 경계에서 나뉘지 않도록 상위 서로게이트는 다음 청크와 함께 전송
+                    char last = sb.charAt(sb.length() - 1);
+                    if (Character.isHighSurrogate(last)) {
+                        sb.setLength(sb.length() - 1);
+                        flush(sb);
+                        sb.append(last);
+                    } else {
+                        flush(sb);
+                    }
+                }
+                sb.append('"');
+                flush(sb);
+            }
+        } catch (IOException e) {
+            throw new SQLException("큰 컬럼 값 COPY 전송 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private void writeAscii(String text) throws SQLException {
+        byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+    }
+
+    /**
+     * COPY 종료
+     *
+     * @return 서버가 적재한 건수
+     */
+    public long finish() throws SQLException {
+        return copyIn.endCopy();
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * 종료되지 않은 COPY는 취소 (예외 경로)
+     */
+    @Override
+    public void close() throws SQLException {
+        if (copyIn.isActive()) {
+            copyIn.cancelCopy();
+        }
+    }
+
+    /**
+     * CSV 값 인코딩
+     * NULL은 따옴표 없는 빈 값, 그 외는 모두 따옴표로 감싸 빈 문자열과 구분합니다.
+     */
+    public static void appendCsvValue(StringBuilder sb, Object value) {
+        if (value == null) {
+            return;
+        }
+        String text;
+        if (value instanceof byte[]) {
+            text = toByteaHex((byte[]) value);
+        } else {
+            text = value.toString();
+        }
+
+        sb.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                sb.append('"');
+            }
+            sb.append(c);
+        }
+        sb.append('"');
+    }
+
+    private static String toByteaHex(byte[] bytes) {
+        char[] hex = "0123456789abcdef".toCharArray();
+        StringBuilder sb = new StringBuilder(2 + bytes.length * 2);
+        sb.append("\\x");
+        for (byte b : bytes) {
+            sb.append(hex[(b >> 4) & 0x0F]).append(hex[b & 0x0F]);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,267 @@
+package com.gims.module.dbsync.service;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * PostgreSQL 논리 복제 출력 플러그인(pgoutput, 프로토콜 버전 1) 메시지 디코더
+ *
+ * 복제 스트림으로 받은 Begin / Commit / Relation / Insert / Update / Delete / Truncate 메시지를 해석합니다.
+ * Relation 메시지로 받은 테이블 구조를 캐시해 두고 이후 행 변경 메시지의 컬럼 값을 매칭하며,
+ * 텍스트 형식 컬럼 값은 주요 타입(정수/실수/numeric/bool/date/timestamp)만 Java 타입으로 변환하고 나머지는 문자열로 둡니다.
+ * 복제 스트림 하나에서만 사용하므로 동기화하지 않습니다.
+ */
+public class PgOutputDecoder {
+
+    // pgoutput 타임스탬프 기준 시각 (2000-01-01 00:00:00 UTC, 마이크로초)
+    private static final long PG_EPOCH_MICROS = 946_684_800_000_000L;
+
+    private static final int OID_BOOL = 16;
+    private static final int OID_INT8 = 20;
+    private static final int OID_INT2 = 21;
+    private static final int OID_INT4 = 23;
+    private static final int OID_FLOAT4 = 700;
+    private static final int OID_FLOAT8 = 701;
+    private static final int OID_DATE = 1082;
+    private static final int OID_TIMESTAMP = 1114;
+    private static final int OID_NUMERIC = 1700;
+
+    public enum Type { BEGIN, COMMIT, INSERT, UPDATE, DELETE, TRUNCATE }
+
+    // relation OID -> 테이블 구조
+    private final Map<Integer, Relation> relations = new HashMap<>();
+
+    /**
+     * 메시지 디코딩
+     *
+     * @return 해석한 메시지, 동기화와 무관한 메시지(Relation, Type, Origin 등)는 null
+     */
+    public Message decode(ByteBuffer buffer) {
+        char tag = (char) buffer.get();
+        switch (tag) {
+            case 'B':
+                buffer.getLong();   // final LSN
+                return Message.transaction(Type.BEGIN, 0, toTimestamp(buffer.getLong()));
+            case 'C': {
+                buffer.get();       // flags
+                buffer.getLong();   // commit LSN
+                long endLsn = buffer.getLong();
+                return Message.transaction(Type.COMMIT, endLsn, toTimestamp(buffer.getLong()));
+            }
+            case 'R':
+                decodeRelation(buffer);
+                return null;
+            case 'I': {
+                Relation relation = relation(buffer.getInt());
+                buffer.get();       // 'N'
+                return Message.change(Type.INSERT, relation, null, decodeTuple(buffer, relation));
+            }
+            case 'U': {
+                Relation relation = relation(buffer.getInt());
+                char kind = (char) buffer.get();
+                Tuple oldTuple = null;
+                if (kind == 'K' || kind == 'O') {
+                    oldTuple = decodeTuple(buffer, relation);
+                    buffer.get();   // 'N'
+                }
+                return Message.change(Type.UPDATE, relation, oldTuple, decodeTuple(buffer, relation));
+            }
+            case 'D': {
+                Relation relation = relation(buffer.getInt());
+                buffer.get();       // 'K' 또는 'O'
+                return Message.change(Type.DELETE, relation, decodeTuple(buffer, relation), null);
+            }
+            case 'T': {
+                int count = buffer.getInt();
+                buffer.get();       // options
+                List<Relation> truncated = new ArrayList<>();
+                for (int i = 0; i < count; i++) {
+                    truncated.add(relation(buffer.getInt()));
+                }
+                return Message.truncate(truncated);
+            }
+            default:
+                // Type('Y'), Origin('O') 등은 사용하지 않음
+                return null;
+        }
+    }
+
+    private void decodeRelation(ByteBuffer buffer) {
+        int oid = buffer.getInt();
+        String namespace = readString(buffer);
+        String name = readString(buffer);
+        buffer.get();           // replica identity
+        int columnCount = buffer.getShort();
+        List<String> columns = new ArrayList<>(columnCount);
+        int[] typeOids = new int[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            buffer.get();       // flags (키 컬럼 여부)
+            columns.add(readString(buffer));
+            typeOids[i] = buffer.getInt();
+            buffer.getInt();    // type modifier
+        }
+        relations.put(oid, new Relation(oid, namespace, name, columns, typeOids));
+    }
+
+    private Relation relation(int oid) {
+        Relation relation = relations.get(oid);
+        if (relation == null) {
+            throw new IllegalStateException("Relation 메시지를 받지 않은 테이블입니다: oid=" + oid);
+        }
+        return relation;
+    }
+
+    private Tuple decodeTuple(ByteBuffer buffer, Relation relation) {
+        int columnCount = buffer.getShort();
+        Map<String, Object> values = new LinkedHashMap<>();
+        Set<String> unchangedToast = new HashSet<>();
+        for (int i = 0; i < columnCount; i++) {
+            String column = relation.columns.get(i);
+            char kind = (char) buffer.get();
+            if (kind == 'n') {
+                values.put(column, null);
+            } else if (kind == 'u') {
+                // 변경되지 않은 TOAST 값은 전송되지 않음
+                unchangedToast.add(column);
+            } else {
+                byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                values.put(column, convert(relation.typeOids[i], new String(bytes, StandardCharsets.UTF_8)));
+            }
+        }
+        return new Tuple(values, unchangedToast);
+    }
+
+    /**
+     * 텍스트 형식 값을 Java 타입으로 변환 (변환할 수 없는 값은 문자열 그대로)
+     */
+    static Object convert(int typeOid, String text) {
+        try {
+            switch (typeOid) {
+                case OID_BOOL:
+                    return "t".equals(text);
+                case OID_INT2:
+                case OID_INT4:
+                    return Integer.valueOf(text);
+                case OID_INT8:
+                    return Long.valueOf(text);
+                case OID_FLOAT4:
+                case OID_FLOAT8:
+                    return Double.valueOf(text);
+                case OID_NUMERIC:
+                    return new BigDecimal(text);
+                case OID_DATE:
+                    return java.sql.Date.valueOf(text);
+                case OID_TIMESTAMP:
+                    return Timestamp.valueOf(text);
+                default:
+                    return text;
+            }
+        } catch (IllegalArgumentException e) {
+            // NaN, infinity, BC 날짜 등
+            return text;
+        }
+    }
+
+    private static Timestamp toTimestamp(long pgMicros) {
+        long micros = pgMicros + PG_EPOCH_MICROS;
+        return Timestamp.from(Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                Math.floorMod(micros, 1_000_000L) * 1000));
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int start = buffer.position();
+        while (buffer.get() != 0) {
+            // null 종료 문자까지 이동
+        }
+        byte[] bytes = new byte[buffer.position() - start - 1];
+        buffer.position(start);
+        buffer.get(bytes);
+        buffer.get();
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 복제 대상 테이블 구조 (Relation 메시지)
+     */
+    @Getter
+    public static class Relation {
+        private final int oid;
+        private final String namespace;
+        private final String name;
+        private final List<String> columns;
+        private final int[] typeOids;
+
+        Relation(int oid, String namespace, String name, List<String> columns, int[] typeOids) {
+            this.oid = oid;
+            this.namespace = namespace;
+            this.name = name;
+            this.columns = columns;
+            this.typeOids = typeOids;
+        }
+
+        public String qualifiedName() {
+            return namespace + "." + name;
+        }
+    }
+
+    /**
+     * 행 값 (컬럼명 -> 값, 변경되지 않은 TOAST 컬럼은 값 없이 unchangedToast에 포함)
+     */
+    @Getter
+    public static class Tuple {
+        private final Map<String, Object> values;
+        private final Set<String> unchangedToast;
+
+        Tuple(Map<String, Object> values, Set<String> unchangedToast) {
+            this.values = values;
+            this.unchangedToast = unchangedToast;
+        }
+    }
+
+    /**
+     * 해석한 메시지
+     * BEGIN / COMMIT은 커밋 시각(commitTime)과 COMMIT의 트랜잭션 종료 LSN(endLsn)을,
+     * INSERT / UPDATE / DELETE는 테이블과 이전 행(UPDATE의 키 변경, DELETE) / 새 행을 담습니다.
+     */
+    @Getter
+    public static class Message {
+        private Type type;
+        private long endLsn;
+        private Timestamp commitTime;
+        private Relation relation;
+        private Tuple oldTuple;
+        private Tuple newTuple;
+        private List<Relation> truncated;
+
+        static Message transaction(Type type, long endLsn, Timestamp commitTime) {
+            Message message = new Message();
+            message.type = type;
+            message.endLsn = endLsn;
+            message.commitTime = commitTime;
+            return message;
+        }
+
+        static Message change(Type type, Relation relation, Tuple oldTuple, Tuple newTuple) {
+            Message message = new Message();
+            message.type = type;
+            message.relation = relation;
+            message.oldTuple = oldTuple;
+            message.newTuple = newTuple;
+            return message;
+        }
+
+        static Message truncate(List<Relation> truncated) {
+            Message message = new Message();
+            message.type = Type.TRUNCATE;
+            message.truncated = truncated;
+            return message;
+        }
+    }
+}
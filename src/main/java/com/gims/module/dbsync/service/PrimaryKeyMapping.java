@@ -0,0 +1,144 @@
+package com.gims.module.dbsync.service;
+
+import com.gims.module.dbsync.dto.MappingConfigDto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 테이블 매핑의 PK 컬럼 (단일 / 복합)
+ *
+ * pkColumn / targetPkColumn이 있으면 첫 번째 PK 컬럼으로, 컬럼 매핑에서 isPrimaryKey=Y로 표시한 컬럼은
+ * 컬럼 매핑 순서대로 그 뒤에 이어 붙입니다. 표시한 컬럼이 없으면 기존과 같은 단일 PK입니다.
+ * Source / Target PK 컬럼은 같은 순서로 짝을 이룹니다.
+ */
+public final class PrimaryKeyMapping {
+
+    private final List<String> sourceColumns;
+    private final List<String> targetColumns;
+
+    private PrimaryKeyMapping(List<String> sourceColumns, List<String> targetColumns) {
+        this.sourceColumns = Collections.unmodifiableList(sourceColumns);
+        this.targetColumns = Collections.unmodifiableList(targetColumns);
+    }
+
+    /**
+     * 테이블 매핑의 PK 컬럼 해석 (PK가 없으면 예외)
+     */
+    public static PrimaryKeyMapping of(MappingConfigDto.TableMappingDto tableMapping) {
+        List<String> sourceColumns = new ArrayList<>();
+        List<String> targetColumns = new ArrayList<>();
+        String table = tableMapping.getSourceTable() + " -> " + tableMapping.getTargetTable();
+
+        if (hasText(tableMapping.getPkColumn())) {
+            if (!hasText(tableMapping.getTargetPkColumn())) {
+                throw new RuntimeException("Target PK 컬럼이 설정되지 않았습니다: " + table);
+            }
+            sourceColumns.add(tableMapping.getPkColumn());
+            targetColumns.add(tableMapping.getTargetPkColumn());
+        }
+        if (tableMapping.getColumnMappings() != null) {
+            for (MappingConfigDto.ColumnMappingDto cm : tableMapping.getColumnMappings()) {
+                if (!"Y".equalsIgnoreCase(cm.getIsPrimaryKey()) || containsIgnoreCase(sourceColumns, cm.getSourceColumn())) {
+                    continue;
+                }
+                if (!hasText(cm.getSourceColumn()) || !hasText(cm.getTargetColumn())) {
+                    throw new RuntimeException("PK 컬럼 매핑에 Source / Target 컬럼이 필요합니다: " + table);
+                }
+                if (containsIgnoreCase(targetColumns, cm.getTargetColumn())) {
+                    throw new RuntimeException(String.format("Target PK 컬럼이 중복되었습니다: %s (%s)",
+                            cm.getTargetColumn(), table));
+                }
+                sourceColumns.add(cm.getSourceColumn());
+                targetColumns.add(cm.getTargetColumn());
+            }
+        }
+        if (sourceColumns.isEmpty()) {
+            throw new RuntimeException("Source PK 컬럼이 설정되지 않았습니다: " + table);
+        }
+        return new PrimaryKeyMapping(sourceColumns, targetColumns);
+    }
+
+    public List<String> getSourceColumns() {
+        return sourceColumns;
+    }
+
+    public List<String> getTargetColumns() {
+        return targetColumns;
+    }
+
+    public int size() {
+        return sourceColumns.size();
+    }
+
+    public boolean isComposite() {
+        return sourceColumns.size() > 1;
+    }
+
+    public boolean isSourceColumn(String column) {
+        return containsIgnoreCase(sourceColumns, column);
+    }
+
+    public boolean isTargetColumn(String column) {
+        return containsIgnoreCase(targetColumns, column);
+    }
+
+    /**
+     * Target PK 컬럼 목록 (ON CONFLICT 대상 등, 예: "a, b")
+     */
+    public String targetColumnList() {
+        return String.join(", ", targetColumns);
+    }
+
+    /**
+     * Target PK 조건 (예: "a = ? AND b = ?", 값은 getSourceColumns() 순서로 바인딩)
+     */
+    public String targetCondition() {
+        StringBuilder sb = new StringBuilder();
+        for (String column : targetColumns) {
+            if (sb.length() > 0) {
+                sb.append(" AND ");
+            }
+            sb.append(column).append(" = ?");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Source PK keyset 조건 (이 PK 다음 행, 예: "(a, b) > (?, ?)", 단일 PK는 "a > ?", 값은 PK 순서로 바인딩)
+     */
+    public String sourceKeysetCondition() {
+        if (!isComposite()) {
+            return sourceColumns.get(0) + " > ?";
+        }
+        return "(" + String.join(", ", sourceColumns) + ") > ("
+                + String.join(", ", Collections.nCopies(sourceColumns.size(), "?")) + ")";
+    }
+
+    /**
+     * 행의 PK 값
+     */
+    public RowKey keyOf(Map<String, Object> row) {
+        return RowKey.of(row, sourceColumns);
+    }
+
+    @Override
+    public String toString() {
+        return String.join(", ", sourceColumns) + " -> " + String.join(", ", targetColumns);
+    }
+
+    private static boolean containsIgnoreCase(List<String> columns, String column) {
+        for (String c : columns) {
+            if (c.equalsIgnoreCase(column)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+}
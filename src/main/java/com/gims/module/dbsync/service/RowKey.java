@@ -0,0 +1,119 @@
+package com.gims.module.dbsync.service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 행의 PK 값 (단일 / 복합)
+ *
+ * 값 배열 하나만 할당하고 해시는 생성 시 한 번 계산해 두므로, CDC 변경 분배나 PK 변경 비교처럼
+ * 행마다 반복되는 해시/비교에서 문자열 변환이나 추가 객체 생성이 없습니다.
+ */
+public final class RowKey {
+
+    private final Object[] values;
+    private final int hash;
+
+    private RowKey(Object[] values) {
+        this.values = values;
+        int h = 1;
+        for (Object value : values) {
+            h = 31 * h + (value == null ? 0 : value.hashCode());
+        }
+        this.hash = h;
+    }
+
+    /**
+     * 행에서 지정한 컬럼 순서로 PK 값 추출
+     */
+    public static RowKey of(Map<String, Object> row, List<String> columns) {
+        Object[] values = new Object[columns.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = row.get(columns.get(i));
+        }
+        return new RowKey(values);
+    }
+
+    public static RowKey of(Object[] values) {
+        return new RowKey(values.clone());
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public Object get(int index) {
+        return values[index];
+    }
+
+    /**
+     * PK 값 중 NULL이 있는지 (복제 메시지에 PK 값이 없거나 조회 결과 PK가 NULL)
+     */
+    public boolean hasNull() {
+        for (Object value : values) {
+            if (value == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * PK 값을 startIndex부터 순서대로 바인딩
+     *
+     * @return 다음 파라미터 번호
+     */
+    public int bind(PreparedStatement pstmt, int startIndex) throws SQLException {
+        int idx = startIndex;
+        for (Object value : values) {
+            pstmt.setObject(idx++, value);
+        }
+        return idx;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RowKey)) {
+            return false;
+        }
+        RowKey other = (RowKey) o;
+        if (hash != other.hash || values.length != other.values.length) {
+            return false;
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (!Objects.equals(values[i], other.values[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * 로그 / dead letter 표시 (단일 PK는 값 그대로, 복합 PK는 "(a, b)")
+     */
+    @Override
+    public String toString() {
+        if (values.length == 1) {
+            return String.valueOf(values[0]);
+        }
+        StringBuilder sb = new StringBuilder("(");
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(values[i]);
+        }
+        return sb.append(')').toString();
+    }
+}
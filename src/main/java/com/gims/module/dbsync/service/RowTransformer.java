@@ -0,0 +1,113 @@
+package com.gims.module.dbsync.service;
+
+import com.gims.module.dbsync.dto.MappingConfigDto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 조회 배치 단위 컬럼 변환 단계
+ *
+ * 테이블 매핑의 컬럼 변환식(transform)을 실행 시작 시 한 번 컴파일하고, 조회 배치마다 Source 행 값을 변환합니다.
+ * 변환은 행 단위로 독립적이므로 배치가 parallelThreshold 이상이면 ForkJoin 공용 풀에서 병렬로 처리합니다.
+ */
+public class RowTransformer {
+
+    private final String[] columns;
+    private final String[] expressions;
+    private final ColumnTransformCompiler.ColumnTransform[] transforms;
+    private final Set<String> referencedColumns;
+    private final int parallelThreshold;
+
+    private RowTransformer(List<String> columns, List<ColumnTransformCompiler.CompiledTransform> compiled,
+                           int parallelThreshold) {
+        this.columns = columns.toArray(new String[0]);
+        this.expressions = new String[compiled.size()];
+        this.transforms = new ColumnTransformCompiler.ColumnTransform[compiled.size()];
+        this.referencedColumns = new LinkedHashSet<>();
+        for (int i = 0; i < compiled.size(); i++) {
+            expressions[i] = compiled.get(i).getExpression();
+            transforms[i] = compiled.get(i).getTransform();
+            referencedColumns.addAll(compiled.get(i).getReferencedColumns());
+        }
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * 컬럼 매핑의 변환식 컴파일
+     *
+     * @return 변환식이 하나도 없으면 null
+     */
+    public static RowTransformer compile(List<MappingConfigDto.ColumnMappingDto> columnMappings, int parallelThreshold) {
+        if (columnMappings == null) {
+            return null;
+        }
+        List<String> columns = new ArrayList<>();
+        List<ColumnTransformCompiler.CompiledTransform> compiled = new ArrayList<>();
+        for (MappingConfigDto.ColumnMappingDto cm : columnMappings) {
+            String transform = cm.getTransform();
+            if (transform == null || transform.trim().isEmpty()) {
+                continue;
+            }
+            try {
+                compiled.add(ColumnTransformCompiler.compile(transform));
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException(String.format("컬럼 변환식 오류: %s -> %s (%s)",
+                        cm.getSourceColumn(), cm.getTargetColumn(), e.getMessage()), e);
+            }
+            columns.add(cm.getSourceColumn());
+        }
+        return compiled.isEmpty() ? null : new RowTransformer(columns, compiled, parallelThreshold);
+    }
+
+    /**
+     * 변환식이 참조하는 Source 컬럼 (매핑에 없으면 조회 컬럼에 추가 필요)
+     */
+    public Set<String> getReferencedColumns() {
+        return referencedColumns;
+    }
+
+    /**
+     * 배치의 각 행을 변환 (행 Map을 직접 갱신)
+     */
+    public void transform(List<Map<String, Object>> batch) {
+        if (batch.size() >= parallelThreshold) {
+            batch.parallelStream().forEach(this::transformRow);
+        } else {
+            for (Map<String, Object> row : batch) {
+                transformRow(row);
+            }
+        }
+    }
+
+    /**
+     * 단일 행 변환
+     * 다른 컬럼을 참조하는 변환식이 항상 원본 값을 읽도록 모든 결과를 계산한 뒤 한 번에 반영합니다.
+     */
+    public void transformRow(Map<String, Object> row) {
+        if (transforms.length == 1) {
+            row.put(columns[0], apply(0, row));
+            return;
+        }
+        Object[] values = new Object[transforms.length];
+        for (int i = 0; i < transforms.length; i++) {
+            values[i] = apply(i, row);
+        }
+        for (int i = 0; i < transforms.length; i++) {
+            row.put(columns[i], values[i]);
+        }
+    }
+
+    private Object apply(int index, Map<String, Object> row) {
+        try {
+            return transforms[index].apply(row.get(columns[index]), row);
+        } catch (RuntimeException e) {
+            // 마스킹/해시 대상일 수 있으므로 원본 값은 메시지에 포함하지 않음
+            throw new RuntimeException(String.format("컬럼 변환 실패: %s [%s] (%s)",
+                    columns[index], expressions[index], e.getMessage()), e);
+        }
+    }
+}
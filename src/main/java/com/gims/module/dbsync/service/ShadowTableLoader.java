@@ -0,0 +1,422 @@
+package com.gims.module.dbsync.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * FULL_REFRESH 모드 적재기 (Shadow 테이블 교체)
+ *
+ * 1. Target과 같은 구조의 Shadow 테이블을 인덱스 없이 생성하고 같은 트랜잭션에서 COPY로 적재
+ * 2. 적재 후 PK/UNIQUE/FK 제약조건, 인덱스, 트리거, 권한을 Shadow 테이블에 재생성하고 ANALYZE
+ * 3. 짧은 트랜잭션에서 소유자를 원복하고 RENAME으로 교체 후 기존 테이블 삭제
+ *
+ * 조회 측은 교체 직전의 기존 데이터 또는 교체 후의 신규 데이터만 보게 되며,
+ * 실시간 테이블에 대한 행 단위 UPSERT(bloat, 장시간 잠금)가 발생하지 않습니다.
+ */
+@Slf4j
+@Component
+public class ShadowTableLoader {
+
+    private static final String SHADOW_SUFFIX = "__shadow";
+    private static final String OLD_SUFFIX = "__old";
+    private static final int MAX_IDENTIFIER_LENGTH = 63;
+
+    private static final Pattern INDEX_DEF_PATTERN =
+            Pattern.compile("^CREATE (UNIQUE )?INDEX \\S+ ON (?:ONLY )?\\S+ (USING .*)$");
+    private static final Pattern TRIGGER_DEF_PATTERN =
+            Pattern.compile("^(CREATE (?:CONSTRAINT )?TRIGGER \\S+ .*? ON )\\S+( .*)$");
+
+    private final SyncConnectionManager connectionManager;
+    private final SourceReader sourceReader;
+    private final SyncMetrics syncMetrics;
+
+    @Value("${sync.full-refresh.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${sync.full-refresh.swap-lock-timeout-ms:5000}")
+    private long swapLockTimeoutMs;
+
+    public ShadowTableLoader(
+            SyncConnectionManager connectionManager,
+            SourceReader sourceReader,
+            SyncMetrics syncMetrics) {
+        this.connectionManager = connectionManager;
+        this.sourceReader = sourceReader;
+        this.syncMetrics = syncMetrics;
+    }
+
+    /**
+     * Shadow 테이블 적재 후 Target 테이블과 교체
+     *
+     * @return 적재 건수
+     */
+    public long load(TableSyncPlan plan) throws SQLException {
+        String targetTable = plan.getTargetTable();
+        String shadowTable = targetTable + SHADOW_SUFFIX;
+
+        try (Connection conn = connectionManager.getTargetConnection(plan.getExecId())) {
+            conn.setAutoCommit(true);
+
+            validateTarget(conn, targetTable);
+            TableDefinition definition = readDefinition(conn, targetTable);
+            log.info("FULL_REFRESH 시작: {} (제약조건 {}개, 인덱스 {}개, 트리거 {}개)", targetTable,
+                    definition.constraints.size(), definition.indexes.size(), definition.triggers.size());
+
+            long loadedCount;
+            try {
+                loadedCount = createAndLoadShadow(conn, plan, shadowTable);
+                rebuildDefinition(conn, definition, shadowTable);
+                swap(conn, definition, targetTable, shadowTable);
+            } catch (SQLException | RuntimeException e) {
+                dropQuietly(conn, shadowTable);
+                throw e;
+            }
+
+            log.info("FULL_REFRESH 완료: {} ({}건 교체)", targetTable, loadedCount);
+            return loadedCount;
+        }
+    }
+
+    /**
+     * 교체가 불가능한 Target 구조 사전 검증
+     * 다른 테이블의 FK나 뷰가 참조 중이면 RENAME/DROP 이 실패하거나 참조가 기존 테이블에 남습니다.
+     */
+    private void validateTarget(Connection conn, String targetTable) throws SQLException {
+        String relkind = queryString(conn,
+                "SELECT relkind::text FROM pg_class WHERE oid = ?::regclass", targetTable);
+        if ("p".equals(relkind)) {
+            throw new RuntimeException(String.format(
+                    "FULL_REFRESH 모드는 파티션 테이블을 지원하지 않습니다: %s", targetTable));
+        }
+
+        List<String> referencing = queryStrings(conn,
+                "SELECT conrelid::regclass::text FROM pg_constraint WHERE confrelid = ?::regclass AND contype = 'f'",
+                targetTable);
+        if (!referencing.isEmpty()) {
+            throw new RuntimeException(String.format(
+                    "FULL_REFRESH 불가: %s 테이블을 참조하는 FK가 있습니다 (%s)", targetTable, referencing));
+        }
+
+        List<String> views = queryStrings(conn,
+                "SELECT DISTINCT r.ev_class::regclass::text FROM pg_depend d " +
+                "JOIN pg_rewrite r ON r.oid = d.objid " +
+                "WHERE d.refobjid = ?::regclass AND r.ev_class <> d.refobjid",
+                targetTable);
+        if (!views.isEmpty()) {
+            throw new RuntimeException(String.format(
+                    "FULL_REFRESH 불가: %s 테이블을 참조하는 뷰가 있습니다 (%s)", targetTable, views));
+        }
+    }
+
+    /**
+     * Shadow 테이블 생성 및 COPY 적재 (단일 트랜잭션)
+     * 같은 트랜잭션에서 생성한 테이블에 대한 COPY는 wal_level=minimal 환경에서 WAL 기록이 생략됩니다.
+     */
+    private long createAndLoadShadow(Connection conn, TableSyncPlan plan, String shadowTable) throws SQLException {
+        String targetTable = plan.getTargetTable();
+
+        conn.setAutoCommit(false);
+        try {
+            execute(conn, String.format("DROP TABLE IF EXISTS %s", shadowTable));
+            execute(conn, String.format(
+                    "CREATE TABLE %s (LIKE %s INCLUDING DEFAULTS INCLUDING CONSTRAINTS " +
+                    "INCLUDING STORAGE INCLUDING COMMENTS INCLUDING IDENTITY)",
+                    shadowTable, targetTable));
+
+            List<String> sourceColumns = new ArrayList<>(plan.getColumnMap().keySet());
+            List<String> targetColumns = new ArrayList<>(plan.getColumnMap().values());
+
+            long loadedCount;
+            try (PgCopyWriter writer = PgCopyWriter.open(conn, shadowTable, targetColumns, sourceColumns)) {
+                sourceReader.read(plan, batchSize, syncMetrics.timed("FULL_REFRESH", writer::write));
+                loadedCount = writer.finish();
+            }
+
+            conn.commit();
+            log.info("Shadow 테이블 적재 완료: {} ({}건)", shadowTable, loadedCount);
+            return loadedCount;
+        } catch (SQLException | RuntimeException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(true);
+        }
+    }
+
+    /**
+     * 적재 완료 후 제약조건/인덱스/트리거/권한 재생성 및 통계 수집
+     */
+    private void rebuildDefinition(Connection conn, TableDefinition definition, String shadowTable) throws SQLException {
+        // IDENTITY 컬럼은 새 시퀀스가 생성되므로 적재된 최대값 이후로 재시작
+        for (String column : definition.identityColumns) {
+            long next = queryLong(conn, String.format("SELECT COALESCE(MAX(%s), 0) + 1 FROM %s", column, shadowTable));
+            execute(conn, String.format("ALTER TABLE %s ALTER COLUMN %s RESTART WITH %d", shadowTable, column, next));
+        }
+
+        for (NamedDdl constraint : definition.constraints) {
+            execute(conn, String.format("ALTER TABLE %s ADD CONSTRAINT %s %s",
+                    shadowTable, shadowName(constraint.name), constraint.ddl));
+        }
+
+        for (NamedDdl index : definition.indexes) {
+            Matcher m = INDEX_DEF_PATTERN.matcher(index.ddl);
+            if (!m.matches()) {
+                throw new RuntimeException("인덱스 정의를 해석할 수 없습니다: " + index.ddl);
+            }
+            String unique = m.group(1) != null ? m.group(1) : "";
+            execute(conn, String.format("CREATE %sINDEX %s ON %s %s",
+                    unique, shadowName(index.name), shadowTable, m.group(2)));
+        }
+
+        for (NamedDdl trigger : definition.triggers) {
+            Matcher m = TRIGGER_DEF_PATTERN.matcher(trigger.ddl);
+            if (!m.matches()) {
+                throw new RuntimeException("트리거 정의를 해석할 수 없습니다: " + trigger.ddl);
+            }
+            execute(conn, m.group(1) + shadowTable + m.group(2));
+        }
+        for (String trigger : definition.disabledTriggers) {
+            execute(conn, String.format("ALTER TABLE %s DISABLE TRIGGER %s", shadowTable, trigger));
+        }
+
+        for (String grant : definition.grants) {
+            execute(conn, String.format(grant, shadowTable));
+        }
+
+        execute(conn, String.format("ANALYZE %s", shadowTable));
+    }
+
+    /**
+     * RENAME 기반 교체 (짧은 단일 트랜잭션)
+     * lock_timeout으로 장시간 조회에 막혀 대기열을 만드는 상황을 방지합니다.
+     */
+    private void swap(Connection conn, TableDefinition definition,
+                      String targetTable, String shadowTable) throws SQLException {
+        String targetName = simpleName(targetTable);
+        String oldTable = qualifiedName(targetTable, targetName + OLD_SUFFIX);
+        long swapStart = System.currentTimeMillis();
+
+        conn.setAutoCommit(false);
+        try {
+            execute(conn, String.format("SET LOCAL lock_timeout = %d", swapLockTimeoutMs));
+            execute(conn, String.format("LOCK TABLE %s IN ACCESS EXCLUSIVE MODE", targetTable));
+            // Shadow 테이블은 모듈 계정 소유로 생성되므로 기존 소유자로 원복 (시퀀스 OWNED BY 이관 전에 소유자가 같아야 함)
+            if (definition.owner != null) {
+                execute(conn, String.format("ALTER TABLE %s OWNER TO %s", shadowTable, definition.owner));
+            }
+            execute(conn, String.format("ALTER TABLE %s RENAME TO %s", targetTable, simpleName(oldTable)));
+            execute(conn, String.format("ALTER TABLE %s RENAME TO %s", shadowTable, targetName));
+
+            // 기존 테이블이 소유한 시퀀스(serial)는 DROP 전에 신규 테이블로 이관
+            for (String[] owned : definition.ownedSequences) {
+                execute(conn, String.format("ALTER SEQUENCE %s OWNED BY %s.%s", owned[0], targetTable, owned[1]));
+            }
+
+            execute(conn, String.format("DROP TABLE %s", oldTable));
+
+            for (NamedDdl constraint : definition.constraints) {
+                execute(conn, String.format("ALTER TABLE %s RENAME CONSTRAINT %s TO %s",
+                        targetTable, shadowName(constraint.name), constraint.name));
+            }
+            for (NamedDdl index : definition.indexes) {
+                execute(conn, String.format("ALTER INDEX %s RENAME TO %s",
+                        qualifiedName(targetTable, shadowName(index.name)), index.name));
+            }
+
+            conn.commit();
+            log.info("테이블 교체 완료: {} ({}ms)", targetTable, System.currentTimeMillis() - swapStart);
+        } catch (SQLException | RuntimeException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(true);
+        }
+    }
+
+    /**
+     * Target 테이블 정의 조회 (LIKE로 복제되지 않는 항목)
+     */
+    private TableDefinition readDefinition(Connection conn, String targetTable) throws SQLException {
+        TableDefinition definition = new TableDefinition();
+
+        // PK / UNIQUE / EXCLUDE / FK 제약조건 (CHECK, NOT NULL은 LIKE로 복제됨)
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "SELECT conname, pg_get_constraintdef(oid) FROM pg_constraint " +
+                "WHERE conrelid = ?::regclass AND contype IN ('p', 'u', 'x', 'f') " +
+                "ORDER BY CASE contype WHEN 'p' THEN 0 WHEN 'f' THEN 2 ELSE 1 END")) {
+            pstmt.setString(1, targetTable);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    definition.constraints.add(new NamedDdl(rs.getString(1), rs.getString(2)));
+                }
+            }
+        }
+
+        // 제약조건에 속하지 않는 일반 인덱스
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "SELECT i.relname, pg_get_indexdef(i.oid) FROM pg_index x " +
+                "JOIN pg_class i ON i.oid = x.indexrelid " +
+                "WHERE x.indrelid = ?::regclass " +
+                "AND NOT EXISTS (SELECT 1 FROM pg_constraint c WHERE c.conindid = x.indexrelid)")) {
+            pstmt.setString(1, targetTable);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    definition.indexes.add(new NamedDdl(rs.getString(1), rs.getString(2)));
+                }
+            }
+        }
+
+        // 사용자 트리거 (비활성 상태도 그대로 유지)
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "SELECT tgname, pg_get_triggerdef(oid), tgenabled = 'D' FROM pg_trigger " +
+                "WHERE tgrelid = ?::regclass AND NOT tgisinternal")) {
+            pstmt.setString(1, targetTable);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    definition.triggers.add(new NamedDdl(rs.getString(1), rs.getString(2)));
+                    if (rs.getBoolean(3)) {
+                        definition.disabledTriggers.add(rs.getString(1));
+                    }
+                }
+            }
+        }
+
+        // 테이블 소유자 외 권한 (GRANT 문 템플릿, %s 자리에 테이블명)
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "SELECT a.privilege_type, CASE WHEN a.grantee = 0 THEN 'PUBLIC' " +
+                "ELSE quote_ident(pg_get_userbyid(a.grantee)) END " +
+                "FROM pg_class c, aclexplode(c.relacl) a " +
+                "WHERE c.oid = ?::regclass AND a.grantee <> c.relowner")) {
+            pstmt.setString(1, targetTable);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    definition.grants.add("GRANT " + rs.getString(1) + " ON %s TO " + rs.getString(2));
+                }
+            }
+        }
+
+        // 모듈 계정과 다른 테이블 소유자
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "SELECT quote_ident(pg_get_userbyid(c.relowner)) FROM pg_class c " +
+                "WHERE c.oid = ?::regclass AND c.relowner <> (SELECT oid FROM pg_roles WHERE rolname = current_user)")) {
+            pstmt.setString(1, targetTable);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                definition.owner = rs.next() ? rs.getString(1) : null;
+            }
+        }
+
+        definition.identityColumns.addAll(queryStrings(conn,
+                "SELECT attname FROM pg_attribute WHERE attrelid = ?::regclass " +
+                "AND attidentity <> '' AND attnum > 0 AND NOT attisdropped",
+                targetTable));
+
+        // serial 컬럼이 소유한 시퀀스
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "SELECT s.oid::regclass::text, a.attname FROM pg_depend d " +
+                "JOIN pg_class s ON s.oid = d.objid AND s.relkind = 'S' " +
+                "JOIN pg_attribute a ON a.attrelid = d.refobjid AND a.attnum = d.refobjsubid " +
+                "WHERE d.refobjid = ?::regclass AND d.deptype = 'a'")) {
+            pstmt.setString(1, targetTable);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    definition.ownedSequences.add(new String[]{rs.getString(1), rs.getString(2)});
+                }
+            }
+        }
+
+        return definition;
+    }
+
+    // ==================== 유틸리티 ====================
+
+    private String shadowName(String name) {
+        String suffix = "_s";
+        if (name.length() + suffix.length() > MAX_IDENTIFIER_LENGTH) {
+            name = name.substring(0, MAX_IDENTIFIER_LENGTH - suffix.length());
+        }
+        return name + suffix;
+    }
+
+    private String simpleName(String table) {
+        int idx = table.lastIndexOf('.');
+        return idx >= 0 ? table.substring(idx + 1) : table;
+    }
+
+    private String qualifiedName(String reference, String name) {
+        int idx = reference.lastIndexOf('.');
+        return idx >= 0 ? reference.substring(0, idx + 1) + name : name;
+    }
+
+    private void dropQuietly(Connection conn, String table) {
+        try {
+            if (!conn.getAutoCommit()) {
+                conn.rollback();
+                conn.setAutoCommit(true);
+            }
+            execute(conn, String.format("DROP TABLE IF EXISTS %s", table));
+        } catch (SQLException e) {
+            log.warn("Shadow 테이블 정리 실패: {} ({})", table, e.getMessage());
+        }
+    }
+
+    private void execute(Connection conn, String sql) throws SQLException {
+        log.debug("DDL: {}", sql);
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+
+    private String queryString(Connection conn, String sql, String param) throws SQLException {
+        List<String> values = queryStrings(conn, sql, param);
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    private List<String> queryStrings(Connection conn, String sql, String param) throws SQLException {
+        List<String> values = new ArrayList<>();
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, param);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    values.add(rs.getString(1));
+                }
+            }
+        }
+        return values;
+    }
+
+    private long queryLong(Connection conn, String sql) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            return rs.next() ? rs.getLong(1) : 0L;
+        }
+    }
+
+    private static class NamedDdl {
+        private final String name;
+        private final String ddl;
+
+        private NamedDdl(String name, String ddl) {
+            this.name = name;
+            this.ddl = ddl;
+        }
+    }
+
+    private static class TableDefinition {
+        private final List<NamedDdl> constraints = new ArrayList<>();
+        private final List<NamedDdl> indexes = new ArrayList<>();
+        private final List<NamedDdl> triggers = new ArrayList<>();
+        private final List<String> disabledTriggers = new ArrayList<>();
+        private final List<String> grants = new ArrayList<>();
+        private final List<String> identityColumns = new ArrayList<>();
+        private final List<String[]> ownedSequences = new ArrayList<>();
+        // 모듈 계정과 다르면 교체 시 원복할 소유자
+        private String owner;
+    }
+}
@@ -0,0 +1,233 @@
+package com.gims.module.dbsync.service;
+
+import com.gims.module.dbsync.dto.MappingConfigDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.sql.*;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Source 조회 조건(WHERE) 생성기
+ *
+ * 테이블 매핑의 filters를 바인딩 파라미터 기반 SQL 조건으로 변환하여 Source DB 조회에 그대로 적용합니다.
+ * 필터 컬럼은 Source 카탈로그에서 존재 여부와 타입을 확인하고, 값은 컬럼 타입으로 CAST 하여 바인딩합니다.
+ *
+ * 필터 컬럼과 sourceDateColumn에 해당 컬럼으로 시작하는 인덱스가 없으면 경고를 반환합니다.
+ * Source 조회 SQL(sourceQuery)은 결과 컬럼 메타데이터로 타입을 확인하며, 인덱스 확인은 생략합니다.
+ */
+@Slf4j
+@Component
+public class SourcePredicateBuilder {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+    // 컬럼명, 타입(길이/정밀도 제외: 바인딩 값이 잘리지 않도록), 해당 컬럼으로 시작하는 인덱스 존재 여부
+    private static final String COLUMN_INFO_SQL =
+            "SELECT a.attname, format_type(a.atttypid, NULL), " +
+            "       EXISTS (SELECT 1 FROM pg_index i WHERE i.indrelid = a.attrelid AND i.indkey[0] = a.attnum) " +
+            "FROM pg_attribute a " +
+            "WHERE a.attrelid = ?::regclass AND a.attnum > 0 AND NOT a.attisdropped";
+
+    private final SyncConnectionManager connectionManager;
+
+    public SourcePredicateBuilder(SyncConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
+    }
+
+    /**
+     * 조회 조건 생성 결과
+     */
+    public static class SourcePredicate {
+        private final List<String> conditions = new ArrayList<>();
+        private final List<Object> params = new ArrayList<>();
+        private final List<String> warnings = new ArrayList<>();
+
+        public List<String> getConditions() {
+            return conditions;
+        }
+
+        public List<Object> getParams() {
+            return params;
+        }
+
+        /**
+         * 인덱스가 없는 조건 컬럼 경고
+         */
+        public List<String> getWarnings() {
+            return warnings;
+        }
+    }
+
+    /**
+     * 필터 조건 생성 및 인덱스 확인
+     *
+     * @param sourceQuery 검증된 Source 조회 SQL (테이블 조회 시 null)
+     * @param dateColumn  기간 필터링 컬럼 (기간 필터 미적용 시 null, 인덱스 확인만 수행)
+     */
+    public SourcePredicate build(Long execId, String sourceTable, String sourceQuery, List<Object> sourceQueryParams,
+                                 List<MappingConfigDto.FilterDto> filters, String dateColumn) throws SQLException {
+        SourcePredicate predicate = new SourcePredicate();
+        boolean hasFilters = filters != null && !filters.isEmpty();
+        if (!hasFilters && dateColumn == null) {
+            return predicate;
+        }
+
+        Map<String, ColumnInfo> columns = sourceQuery != null
+                ? loadQueryColumns(execId, sourceQuery, sourceQueryParams)
+                : loadColumns(execId, sourceTable);
+        Set<String> unindexed = new LinkedHashSet<>();
+
+        if (dateColumn != null) {
+            ColumnInfo info = columns.get(dateColumn.toLowerCase());
+            if (info != null && !info.indexed) {
+                unindexed.add(dateColumn);
+            }
+        }
+
+        if (hasFilters) {
+            for (MappingConfigDto.FilterDto filter : filters) {
+                ColumnInfo info = resolveColumn(sourceTable, columns, filter);
+                predicate.conditions.add(render(filter, info, predicate.params));
+                if (!info.indexed) {
+                    unindexed.add(filter.getColumn());
+                }
+            }
+        }
+
+        for (String column : unindexed) {
+            String warning = String.format("%s.%s 조회 조건에 사용할 인덱스가 없습니다 (전체 스캔 가능)", sourceTable, column);
+            log.warn(warning);
+            predicate.warnings.add(warning);
+        }
+        return predicate;
+    }
+
+    private ColumnInfo resolveColumn(String sourceTable, Map<String, ColumnInfo> columns,
+                                     MappingConfigDto.FilterDto filter) {
+        String column = filter.getColumn();
+        if (column == null || !IDENTIFIER.matcher(column).matches()) {
+            throw new RuntimeException(String.format("필터 컬럼명이 올바르지 않습니다: %s (%s)", column, sourceTable));
+        }
+        ColumnInfo info = columns.get(column.toLowerCase());
+        if (info == null) {
+            throw new RuntimeException(String.format("필터 컬럼이 Source 테이블에 없습니다: %s.%s", sourceTable, column));
+        }
+        return info;
+    }
+
+    /**
+     * 필터 하나를 SQL 조건으로 변환 (값은 params에 추가)
+     */
+    private String render(MappingConfigDto.FilterDto filter, ColumnInfo info, List<Object> params) {
+        String operator = filter.getOperator() == null ? "EQ" : filter.getOperator().toUpperCase();
+        String column = filter.getColumn();
+        String placeholder = "CAST(? AS " + info.type + ")";
+
+        switch (operator) {
+            case "EQ":
+                return comparison(column, "=", placeholder, filter, params);
+            case "NE":
+                return comparison(column, "<>", placeholder, filter, params);
+            case "GT":
+                return comparison(column, ">", placeholder, filter, params);
+            case "GE":
+                return comparison(column, ">=", placeholder, filter, params);
+            case "LT":
+                return comparison(column, "<", placeholder, filter, params);
+            case "LE":
+                return comparison(column, "<=", placeholder, filter, params);
+            case "IN":
+            case "NOT_IN": {
+                List<Object> values = filter.getValues();
+                if (values == null || values.isEmpty()) {
+                    throw new RuntimeException(String.format("%s 필터의 values가 비어 있습니다: %s", operator, column));
+                }
+                StringJoiner placeholders = new StringJoiner(", ");
+                for (Object value : values) {
+                    placeholders.add(placeholder);
+                    params.add(value);
+                }
+                return String.format("%s %s (%s)", column, "IN".equals(operator) ? "IN" : "NOT IN", placeholders);
+            }
+            case "BETWEEN": {
+                List<Object> values = filter.getValues();
+                if (values == null || values.size() != 2 || values.get(0) == null || values.get(1) == null) {
+                    throw new RuntimeException(String.format("BETWEEN 필터는 values에 [시작, 종료] 두 값이 필요합니다: %s", column));
+                }
+                params.add(values.get(0));
+                params.add(values.get(1));
+                return String.format("%s BETWEEN %s AND %s", column, placeholder, placeholder);
+            }
+            case "IS_NULL":
+                return column + " IS NULL";
+            case "IS_NOT_NULL":
+                return column + " IS NOT NULL";
+            default:
+                throw new RuntimeException(String.format("지원하지 않는 필터 연산자입니다: %s (%s)", operator, column));
+        }
+    }
+
+    private String comparison(String column, String sqlOperator, String placeholder,
+                              MappingConfigDto.FilterDto filter, List<Object> params) {
+        if (filter.getValue() == null) {
+            throw new RuntimeException(String.format("필터 값이 없습니다: %s %s (NULL 비교는 IS_NULL / IS_NOT_NULL 사용)",
+                    column, filter.getOperator()));
+        }
+        params.add(filter.getValue());
+        return String.format("%s %s %s", column, sqlOperator, placeholder);
+    }
+
+    private Map<String, ColumnInfo> loadColumns(Long execId, String sourceTable) throws SQLException {
+        Map<String, ColumnInfo> columns = new HashMap<>();
+        try (Connection conn = connectionManager.getSourceConnection(execId);
+             PreparedStatement pstmt = conn.prepareStatement(COLUMN_INFO_SQL)) {
+            pstmt.setString(1, sourceTable);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    columns.put(rs.getString(1).toLowerCase(), new ColumnInfo(rs.getString(2), rs.getBoolean(3)));
+                }
+            }
+        }
+        return columns;
+    }
+
+    private Map<String, ColumnInfo> loadQueryColumns(Long execId, String sourceQuery,
+                                                     List<Object> sourceQueryParams) throws SQLException {
+        Map<String, ColumnInfo> columns = new HashMap<>();
+        try (Connection conn = connectionManager.getSourceConnection(execId)) {
+            for (SourceQuery.ResultColumn column : SourceQuery.describe(conn, sourceQuery, sourceQueryParams).values()) {
+                // 조회 SQL 결과 컬럼은 인덱스 여부를 판단할 수 없으므로 경고 대상에서 제외
+                columns.put(column.getName().toLowerCase(), new ColumnInfo(castType(column.getTypeName()), true));
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * 드라이버가 serial 계열로 보고하는 타입을 CAST 가능한 타입으로 변환
+     */
+    private static String castType(String typeName) {
+        switch (typeName.toLowerCase()) {
+            case "serial":
+                return "int4";
+            case "bigserial":
+                return "int8";
+            case "smallserial":
+                return "int2";
+            default:
+                return typeName;
+        }
+    }
+
+    private static class ColumnInfo {
+        private final String type;
+        private final boolean indexed;
+
+        ColumnInfo(String type, boolean indexed) {
+            this.type = type;
+            this.indexed = indexed;
+        }
+    }
+}
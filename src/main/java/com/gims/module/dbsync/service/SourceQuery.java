@@ -0,0 +1,138 @@
+package com.gims.module.dbsync.service;
+
+import java.sql.*;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 지정 Source 조회 SQL (sourceQuery)
+ *
+ * 조인/집계 등을 Source DB에서 처리하도록 테이블 대신 SELECT 문을 조회 대상으로 사용합니다.
+ * 조회 SQL은 파생 테이블 "(sourceQuery) AS src"로 감싸므로 기간 필터링, 조회 필터, 스트리밍 조회가
+ * 테이블 매핑과 동일하게 적용되며, 결과 컬럼명을 컬럼 매핑의 sourceColumn으로 사용합니다.
+ */
+public final class SourceQuery {
+
+    public static final String ALIAS = "src";
+
+    private SourceQuery() {
+    }
+
+    /**
+     * 단일 SELECT(WITH) 문인지 확인하고 끝의 세미콜론을 제거
+     * (Source 풀은 읽기 전용이므로 변경 SQL은 DB에서도 거부됨)
+     */
+    public static String validate(String sourceQuery) {
+        if (sourceQuery == null || sourceQuery.trim().isEmpty()) {
+            throw new RuntimeException("Source 조회 SQL이 비어 있습니다.");
+        }
+        String sql = sourceQuery.trim();
+        while (sql.endsWith(";")) {
+            sql = sql.substring(0, sql.length() - 1).trim();
+        }
+        String head = sql.length() > 6 ? sql.substring(0, 6).toUpperCase() : sql.toUpperCase();
+        if (!head.startsWith("SELECT") && !head.startsWith("WITH")) {
+            throw new RuntimeException("Source 조회 SQL은 SELECT 또는 WITH 문이어야 합니다.");
+        }
+        if (sql.indexOf(';') >= 0) {
+            throw new RuntimeException("Source 조회 SQL에는 하나의 문장만 지정할 수 있습니다.");
+        }
+        return sql;
+    }
+
+    /**
+     * 조회 SQL의 FROM 절 표현
+     */
+    public static String fromClause(String validatedQuery) {
+        return "(" + validatedQuery + ") AS " + ALIAS;
+    }
+
+    /**
+     * 조회 SQL 결과 컬럼 정보 (실제 행은 조회하지 않음)
+     *
+     * @return 결과 컬럼명 -> 컬럼 정보 (결과 순서 유지)
+     */
+    public static Map<String, ResultColumn> describe(Connection conn, String validatedQuery,
+                                                     List<Object> params) throws SQLException {
+        Map<String, ResultColumn> columns = new LinkedHashMap<>();
+        String sql = "SELECT * FROM " + fromClause(validatedQuery) + " LIMIT 0";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            bind(pstmt, params, 1);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                ResultSetMetaData metaData = rs.getMetaData();
+                for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                    String name = metaData.getColumnLabel(i);
+                    if (columns.containsKey(name)) {
+                        throw new RuntimeException("Source 조회 SQL 결과에 중복된 컬럼명이 있습니다: " + name
+                                + " (별칭으로 구분 필요)");
+                    }
+                    columns.put(name, new ResultColumn(name, metaData.getColumnTypeName(i),
+                            metaData.getPrecision(i), metaData.getScale(i),
+                            metaData.isNullable(i) != ResultSetMetaData.columnNoNulls, i));
+                }
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * 바인딩 값 설정
+     *
+     * @return 다음 파라미터 위치
+     */
+    public static int bind(PreparedStatement pstmt, List<Object> params, int startIndex) throws SQLException {
+        int index = startIndex;
+        if (params != null) {
+            for (Object param : params) {
+                pstmt.setObject(index++, param);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * 조회 SQL 결과 컬럼
+     */
+    public static class ResultColumn {
+        private final String name;
+        private final String typeName;
+        private final int precision;
+        private final int scale;
+        private final boolean nullable;
+        private final int ordinal;
+
+        ResultColumn(String name, String typeName, int precision, int scale, boolean nullable, int ordinal) {
+            this.name = name;
+            this.typeName = typeName;
+            this.precision = precision;
+            this.scale = scale;
+            this.nullable = nullable;
+            this.ordinal = ordinal;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getTypeName() {
+            return typeName;
+        }
+
+        public int getPrecision() {
+            return precision;
+        }
+
+        public int getScale() {
+            return scale;
+        }
+
+        public boolean isNullable() {
+            return nullable;
+        }
+
+        public int getOrdinal() {
+            return ordinal;
+        }
+    }
+}
@@ -0,0 +1,393 @@
+package com.gims.module.dbsync.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Source DB 스트리밍 조회기
+ *
+ * PostgreSQL 드라이버는 autoCommit=false 이고 fetchSize가 지정된 경우에만
+ * 서버 커서로 나누어 가져오므로, 결과 전체를 힙에 올리지 않고 배치 단위로 전달합니다.
+ * spill을 적용한 계획은 조회 결과를 먼저 디스크에 모두 기록하고 Source 커넥션을 반납한 뒤 파일에서 다시 읽어 전달합니다.
+ * 대용량 컬럼 스트리밍을 적용한 계획은 큰 컬럼(BINARY / 큰 STRING) 값을 LargeValue 스트림으로 담아 한 행씩 전달합니다.
+ * keyset 페이지 조회를 적용한 계획은 커서 하나 대신 PK 순서 페이지마다 짧은 조회 트랜잭션으로 나누어 조회합니다.
+ */
+@Slf4j
+@Component
+public class SourceReader {
+
+    private final SyncConnectionManager connectionManager;
+    private final SpillManager spillManager;
+    private final SourceSnapshotCoordinator snapshotCoordinator;
+    private final SourceThrottle sourceThrottle;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Value("${sync.source.fetch-size:5000}")
+    private int fetchSize;
+
+    // 큰 컬럼이 있는 조회의 fetch 행 수 (드라이버가 한 번에 버퍼링하는 행 수)
+    @Value("${sync.lob.fetch-rows:1}")
+    private int lobFetchRows;
+
+    // 이 길이(문자 수)를 넘는 문자열 컬럼(길이 제한 없는 text 포함)을 큰 컬럼으로 취급
+    @Value("${sync.lob.string-length-threshold:65535}")
+    private int lobStringLengthThreshold;
+
+    // 큰 컬럼 값 하나의 최대 크기 (바이트, 문자열은 문자 수, 0이면 무제한)
+    @Value("${sync.lob.max-value-bytes:268435456}")
+    private long lobMaxValueBytes;
+
+    public SourceReader(SyncConnectionManager connectionManager, SpillManager spillManager,
+                        SourceSnapshotCoordinator snapshotCoordinator, SourceThrottle sourceThrottle) {
+        this.connectionManager = connectionManager;
+        this.spillManager = spillManager;
+        this.snapshotCoordinator = snapshotCoordinator;
+        this.sourceThrottle = sourceThrottle;
+    }
+
+    /**
+     * 배치 단위 조회 결과 처리 콜백
+     */
+    @FunctionalInterface
+    public interface RowBatchHandler {
+        void handle(List<Map<String, Object>> batch) throws SQLException;
+    }
+
+    /**
+     * 실행 계획의 SELECT SQL을 실행하고 batchSize 단위로 handler에 전달
+     *
+     * @return 조회된 전체 건수
+     */
+    public long read(TableSyncPlan plan, int batchSize, RowBatchHandler handler) throws SQLException {
+        if (plan.isSpill()) {
+            SpillBuffer spill = spill(plan);
+            spill.replay(batchSize, batch -> {
+                checkInterrupted(plan);
+                transform(plan, batch);
+                handler.handle(batch);
+            });
+            return spill.getRowCount();
+        }
+        return readSource(plan, batchSize, batch -> {
+            checkInterrupted(plan);
+            transform(plan, batch);
+            handler.handle(batch);
+        });
+    }
+
+    /**
+     * 처리 스레드 중단 요청 확인 (예: 분산 작업 단위의 리스를 잃은 경우) - 다음 배치를 반영하지 않음
+     */
+    private static void checkInterrupted(TableSyncPlan plan) throws SQLException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new SQLException("처리 중단 요청으로 조회를 멈춥니다: " + plan.getSourceTable());
+        }
+    }
+
+    /**
+     * 실행 계획의 조회 결과를 디스크에 기록 (이미 기록을 마친 spill이 있으면 재사용)
+     * 변환식/lookup은 기록 시점이 아니라 replay 시점에 적용합니다.
+     */
+    public SpillBuffer spill(TableSyncPlan plan) throws SQLException {
+        SpillBuffer spill = spillManager.find(plan);
+        if (spill != null) {
+            log.debug("spill 재사용: {} 테이블, {}건 (Source 재조회 생략)", plan.getSourceTable(), spill.getRowCount());
+            return spill;
+        }
+        spill = spillManager.create(plan);
+        long startTime = System.currentTimeMillis();
+        readSource(plan, fetchSize, spill::append);
+        spill.finish();
+        log.info("spill 기록 완료: {} 테이블, {}건, 청크 {}개, {}KB (원본 {}KB), {}ms", plan.getSourceTable(),
+                spill.getRowCount(), spill.getChunkCount(), spill.getFileBytes() / 1024, spill.getRawBytes() / 1024,
+                System.currentTimeMillis() - startTime);
+        return spill;
+    }
+
+    /**
+     * Source 조회 결과를 변환 없이 batchSize 단위로 handler에 전달
+     * 배치마다 Source 조회 속도 제한(SourceThrottle)을 적용합니다.
+     */
+    private long readSource(TableSyncPlan plan, int batchSize, RowBatchHandler handler) throws SQLException {
+        long totalCount;
+
+        try (Connection conn = connectionManager.getSourceConnection(plan.getExecId())) {
+            conn.setAutoCommit(false);
+            if (plan.getKeysetPageRows() > 0) {
+                totalCount = readKeysetPages(conn, plan, batchSize, handler);
+            } else {
+                // 실행 단위 일관 스냅샷이 있으면 같은 시점으로 조회
+                snapshotCoordinator.importSnapshot(conn, plan.getExecId());
+                try (PreparedStatement pstmt = conn.prepareStatement(plan.getSelectSql())) {
+                    bindParameters(pstmt, plan.getSelectParams());
+                    Map<Integer, LargeColumn> largeColumns = plan.isStreamLargeValues()
+                            ? detectLargeColumns(pstmt, plan) : new HashMap<>();
+                    // 큰 컬럼이 있으면 드라이버 버퍼를 줄이고, 스트림이 유효한 동안 반영하도록 한 행씩 전달
+                    pstmt.setFetchSize(largeColumns.isEmpty() ? fetchSize : lobFetchRows);
+                    totalCount = readRows(pstmt, plan, largeColumns, batchSize, handler, null);
+                } finally {
+                    // 조회 전용 트랜잭션이므로 커서/스냅샷만 정리
+                    conn.rollback();
+                }
+            }
+        }
+
+        log.debug("Source 스트리밍 조회 완료: {} 테이블, {}건", plan.getSourceTable(), totalCount);
+        return totalCount;
+    }
+
+    /**
+     * PK 순서 keyset 페이지 조회
+     * 조회 SQL을 감싸 "WHERE (pk...) > (마지막 PK) ORDER BY pk... LIMIT n"으로 페이지마다 짧은 조회 트랜잭션을 실행하므로
+     * 서버 커서와 스냅샷을 테이블 조회 내내 유지하지 않고, 페이지를 넘길 때마다 마지막 PK를 KeysetCheckpoint에 기록합니다.
+     * 실행 단위 일관 스냅샷이 있으면 페이지마다 같은 스냅샷을 가져와 조회합니다.
+     */
+    private long readKeysetPages(Connection conn, TableSyncPlan plan, int batchSize,
+                                 RowBatchHandler handler) throws SQLException {
+        PrimaryKeyMapping primaryKey = plan.getPrimaryKey();
+        KeysetCheckpoint checkpoint = plan.getKeysetCheckpoint();
+        int pageRows = plan.getKeysetPageRows();
+        String keyColumns = String.join(", ", primaryKey.getSourceColumns());
+        String pageSql = "SELECT * FROM (" + plan.getSelectSql() + ") AS keyset_page";
+        String orderBy = " ORDER BY " + keyColumns + " LIMIT " + pageRows;
+        String firstPageSql = pageSql + orderBy;
+        String nextPageSql = pageSql + " WHERE " + primaryKey.sourceKeysetCondition() + orderBy;
+
+        RowKey after = checkpoint.startAfter();
+        if (after != null) {
+            log.info("  keyset 페이지 조회 이어서: {} 테이블, PK {} 다음부터", plan.getSourceTable(), after);
+        }
+        Map<Integer, LargeColumn> largeColumns = null;
+        RowKey[] lastKey = new RowKey[1];
+        long totalCount = 0;
+        int pages = 0;
+        while (true) {
+            long pageCount;
+            lastKey[0] = null;
+            snapshotCoordinator.importSnapshot(conn, plan.getExecId());
+            try (PreparedStatement pstmt = conn.prepareStatement(after == null ? firstPageSql : nextPageSql)) {
+                int idx = bindParameters(pstmt, plan.getSelectParams());
+                if (after != null) {
+                    bindKey(pstmt, idx, after);
+                }
+                if (largeColumns == null) {
+                    largeColumns = plan.isStreamLargeValues() ? detectLargeColumns(pstmt, plan) : new HashMap<>();
+                }
+                pstmt.setFetchSize(largeColumns.isEmpty() ? Math.min(fetchSize, pageRows) : lobFetchRows);
+                pageCount = readRows(pstmt, plan, largeColumns, batchSize, handler, lastKey);
+            } finally {
+                // 페이지마다 조회 트랜잭션 종료
+                conn.rollback();
+            }
+            if (pageCount == 0) {
+                break;
+            }
+            totalCount += pageCount;
+            pages++;
+            if (lastKey[0].hasNull()) {
+                throw new SQLException(String.format(
+                        "keyset 페이지 조회는 PK(%s) 값이 NULL인 행을 지원하지 않습니다: %s", keyColumns, plan.getSourceTable()));
+            }
+            checkpoint.pageCompleted(lastKey[0]);
+            if (pageCount < pageRows) {
+                break;
+            }
+            after = lastKey[0];
+        }
+        log.debug("keyset 페이지 조회 완료: {} 테이블, {}페이지, {}건", plan.getSourceTable(), pages, totalCount);
+        return totalCount;
+    }
+
+    /**
+     * 실행한 조회 결과를 batchSize 단위로 handler에 전달
+     *
+     * @param lastKey null이 아니면 handler에 넘긴 마지막 행의 PK를 [0]에 기록 (변환식 적용 전 값)
+     * @return 전달한 건수
+     */
+    private long readRows(PreparedStatement pstmt, TableSyncPlan plan, Map<Integer, LargeColumn> largeColumns,
+                          int batchSize, RowBatchHandler handler, RowKey[] lastKey) throws SQLException {
+        List<String> columns = plan.getSourceColumns();
+        boolean measureBytes = sourceThrottle.isByteLimited(plan.getExecId());
+        int rowsPerBatch = largeColumns.isEmpty() ? batchSize : 1;
+        long totalCount = 0;
+
+        try (ResultSet rs = pstmt.executeQuery()) {
+            List<Map<String, Object>> batch = new ArrayList<>(rowsPerBatch);
+            long batchBytes = 0;
+            long fetchStart = System.nanoTime();
+            while (rs.next()) {
+                Map<String, Object> row = new LinkedHashMap<>();
+                for (int i = 0; i < columns.size(); i++) {
+                    LargeColumn large = largeColumns.get(i + 1);
+                    row.put(columns.get(i), large != null
+                            ? LargeValue.read(rs, i + 1, columns.get(i), large.typeGroup, large.typeName, lobMaxValueBytes)
+                            : rs.getObject(i + 1));
+                }
+                batch.add(row);
+                if (measureBytes) {
+                    batchBytes += SourceThrottle.estimateBytes(row);
+                }
+
+                if (batch.size() >= rowsPerBatch) {
+                    sourceThrottle.acquire(plan.getExecId(), batch.size(), batchBytes, System.nanoTime() - fetchStart);
+                    handOver(plan, batch, handler, lastKey);
+                    totalCount += batch.size();
+                    batch = new ArrayList<>(rowsPerBatch);
+                    batchBytes = 0;
+                    fetchStart = System.nanoTime();
+                }
+            }
+            if (!batch.isEmpty()) {
+                sourceThrottle.acquire(plan.getExecId(), batch.size(), batchBytes, System.nanoTime() - fetchStart);
+                handOver(plan, batch, handler, lastKey);
+                totalCount += batch.size();
+            }
+        }
+        return totalCount;
+    }
+
+    private static void handOver(TableSyncPlan plan, List<Map<String, Object>> batch, RowBatchHandler handler,
+                                 RowKey[] lastKey) throws SQLException {
+        if (lastKey != null) {
+            // 변환식이 PK 값을 바꿀 수 있으므로 handler에 넘기기 전에 추출 (배치당 한 번)
+            lastKey[0] = plan.getPrimaryKey().keyOf(batch.get(batch.size() - 1));
+        }
+        handler.handle(batch);
+    }
+
+    /**
+     * keyset 조건의 PK 값 바인딩
+     * 문자열 값(텍스트 PK, 분산 작업 단위에 기록했다 읽은 위치)은 서버에서 PK 컬럼 타입으로 변환합니다.
+     */
+    private static void bindKey(PreparedStatement pstmt, int startIndex, RowKey key) throws SQLException {
+        for (int i = 0; i < key.size(); i++) {
+            Object value = key.get(i);
+            if (value instanceof String) {
+                pstmt.setObject(startIndex + i, value, Types.OTHER);
+            } else {
+                pstmt.setObject(startIndex + i, value);
+            }
+        }
+    }
+
+    /**
+     * 조회 결과 메타데이터에서 큰 컬럼 찾기 (컬럼 번호 -> 타입)
+     * 메타데이터 typeGroup 기준 BINARY, 또는 길이 제한이 없거나 sync.lob.string-length-threshold를 넘는 STRING(json / jsonb / xml 포함)
+     */
+    private Map<Integer, LargeColumn> detectLargeColumns(PreparedStatement pstmt, TableSyncPlan plan) throws SQLException {
+        Map<Integer, LargeColumn> largeColumns = new HashMap<>();
+        ResultSetMetaData metaData = pstmt.getMetaData();
+        if (metaData == null) {
+            return largeColumns;
+        }
+        List<String> names = new ArrayList<>();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            String typeName = metaData.getColumnTypeName(i);
+            String typeGroup = null;
+            switch (metaData.getColumnType(i)) {
+                case Types.BINARY:
+                case Types.VARBINARY:
+                case Types.LONGVARBINARY:
+                case Types.BLOB:
+                    typeGroup = LargeValue.TYPE_GROUP_BINARY;
+                    break;
+                case Types.CLOB:
+                case Types.NCLOB:
+                case Types.LONGVARCHAR:
+                case Types.LONGNVARCHAR:
+                case Types.SQLXML:
+                    typeGroup = LargeValue.TYPE_GROUP_STRING;
+                    break;
+                case Types.VARCHAR:
+                case Types.NVARCHAR:
+                    int precision = metaData.getPrecision(i);
+                    if (precision <= 0 || precision > lobStringLengthThreshold) {
+                        typeGroup = LargeValue.TYPE_GROUP_STRING;
+                    }
+                    break;
+                default:
+                    if ("json".equalsIgnoreCase(typeName) || "jsonb".equalsIgnoreCase(typeName)) {
+                        typeGroup = LargeValue.TYPE_GROUP_STRING;
+                    }
+            }
+            if (typeGroup != null) {
+                largeColumns.put(i, new LargeColumn(typeGroup, typeName));
+                names.add(metaData.getColumnName(i) + "(" + typeName + ")");
+            }
+        }
+        if (!largeColumns.isEmpty()) {
+            log.info("  큰 컬럼 스트리밍: {} 테이블, {} (fetch {}행, 한 행씩 반영)", plan.getSourceTable(), names, lobFetchRows);
+        }
+        return largeColumns;
+    }
+
+    /**
+     * 컬럼 변환식/lookup이 있으면 배치를 handler에 넘기기 전에 적용 (변환식 -> lookup 순)
+     * 워터마크는 변환 전 원본 기간 컬럼 값으로 추적합니다.
+     */
+    private void transform(TableSyncPlan plan, List<Map<String, Object>> batch) throws SQLException {
+        if (plan.getWatermarkTracker() != null) {
+            plan.getWatermarkTracker().observe(batch);
+        }
+        if (plan.getRowTransformer() != null) {
+            plan.getRowTransformer().transform(batch);
+        }
+        if (plan.getLookupStage() != null) {
+            plan.getLookupStage().resolve(batch);
+        }
+    }
+
+    /**
+     * 실행 계획의 SELECT SQL 예상 건수 (PostgreSQL 실행계획 추정치, 실제 조회 없음)
+     *
+     * @return 예상 건수, 추정할 수 없으면 -1
+     */
+    public long estimateRowCount(TableSyncPlan plan) {
+        try (Connection conn = connectionManager.getSourceConnection(plan.getExecId());
+             PreparedStatement pstmt = conn.prepareStatement("EXPLAIN (FORMAT JSON) " + plan.getSelectSql())) {
+            bindParameters(pstmt, plan.getSelectParams());
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    JsonNode root = objectMapper.readTree(rs.getString(1));
+                    return root.path(0).path("Plan").path("Plan Rows").asLong(-1);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("예상 건수 조회 실패: {} ({})", plan.getSourceTable(), e.getMessage());
+        }
+        return -1;
+    }
+
+    /**
+     * @return 다음 파라미터 번호
+     */
+    private int bindParameters(PreparedStatement pstmt, List<Object> params) throws SQLException {
+        if (params == null) {
+            return 1;
+        }
+        for (int i = 0; i < params.size(); i++) {
+            pstmt.setObject(i + 1, params.get(i));
+        }
+        return params.size() + 1;
+    }
+
+    private static class LargeColumn {
+        private final String typeGroup;
+        private final String typeName;
+
+        LargeColumn(String typeGroup, String typeName) {
+            this.typeGroup = typeGroup;
+            this.typeName = typeName;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.gims.module.dbsync.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 실행 단위 Source 일관 스냅샷 (pg_export_snapshot)
+ *
+ * 테이블마다 별도 커넥션으로 조회하면 조회 시점이 달라 FK로 연관된 테이블(예: 사용자와 주문)이
+ * Target에서 서로 어긋날 수 있습니다. 실행 시작 시 REPEATABLE READ 트랜잭션(leader)을 열어 스냅샷을 내보내고,
+ * 실행 내 Source 조회 커넥션은 모두 이 스냅샷을 가져와(SET TRANSACTION SNAPSHOT) 같은 시점의 데이터를 조회합니다.
+ *
+ * leader 트랜잭션은 실행이 끝날 때까지 열려 있으므로 그동안 Source의 VACUUM이 이후 삭제된 행을 정리하지 못합니다.
+ * 스냅샷을 내보낼 수 없으면(권한, Source가 PostgreSQL이 아님 등) 경고 후 테이블별 조회 시점으로 동기화합니다.
+ */
+@Slf4j
+@Component
+public class SourceSnapshotCoordinator {
+
+    // pg_export_snapshot() 결과 형식 (예: 00000003-0000001B-1)
+    private static final Pattern SNAPSHOT_ID = Pattern.compile("[0-9A-Fa-f]+(-[0-9A-Fa-f]+)+");
+
+    private final SyncConnectionManager connectionManager;
+
+    // execId -> 스냅샷을 내보낸 leader 트랜잭션
+    private final Map<Long, Leader> leaders = new ConcurrentHashMap<>();
+
+    @Value("${sync.source.consistent-snapshot:false}")
+    private boolean consistentSnapshotEnabled;
+
+    public SourceSnapshotCoordinator(SyncConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
+    }
+
+    /**
+     * 실행의 스냅샷 내보내기 (매핑 설정의 consistentSnapshot이 전역 설정보다 우선)
+     *
+     * @return 내보낸 스냅샷 ID, 적용하지 않거나 실패하면 null
+     */
+    public String begin(Long execId, Boolean consistentSnapshot) {
+        boolean enabled = consistentSnapshot != null ? consistentSnapshot : consistentSnapshotEnabled;
+        if (!enabled) {
+            return null;
+        }
+        Connection conn = null;
+        try {
+            conn = connectionManager.openSourceSnapshotConnection(execId);
+            conn.setAutoCommit(false);
+            conn.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            conn.setReadOnly(true);
+            String snapshotId;
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT pg_export_snapshot()")) {
+                rs.next();
+                snapshotId = rs.getString(1);
+            }
+            if (snapshotId == null || !SNAPSHOT_ID.matcher(snapshotId).matches()) {
+                throw new SQLException("알 수 없는 스냅샷 ID 형식: " + snapshotId);
+            }
+            leaders.put(execId, new Leader(conn, snapshotId));
+            log.info("Source 스냅샷 내보내기: execId={}, snapshot={}", execId, snapshotId);
+            return snapshotId;
+        } catch (SQLException e) {
+            log.warn("Source 스냅샷을 내보내지 못해 테이블별 조회 시점으로 동기화합니다: execId={} ({})", execId, e.getMessage());
+            closeQuietly(conn);
+            return null;
+        }
+    }
+
+    /**
+     * 실행의 스냅샷을 커넥션 트랜잭션에 적용 (스냅샷이 없으면 무시)
+     * autoCommit=false로 설정한 직후, 트랜잭션의 첫 조회 전에 호출해야 합니다.
+     *
+     * @return 스냅샷 적용 여부
+     */
+    public boolean importSnapshot(Connection conn, Long execId) throws SQLException {
+        Leader leader = execId != null ? leaders.get(execId) : null;
+        if (leader == null) {
+            return false;
+        }
+        conn.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("SET TRANSACTION SNAPSHOT '" + leader.snapshotId + "'");
+        }
+        return true;
+    }
+
+    /**
+     * 실행 종료 시 leader 트랜잭션 종료
+     */
+    public void end(Long execId) {
+        Leader leader = leaders.remove(execId);
+        if (leader == null) {
+            return;
+        }
+        try {
+            leader.conn.rollback();
+        } catch (SQLException e) {
+            log.debug("스냅샷 트랜잭션 종료 실패: {}", e.getMessage());
+        }
+        closeQuietly(leader.conn);
+        log.debug("Source 스냅샷 해제: execId={}, snapshot={}", execId, leader.snapshotId);
+    }
+
+    private static void closeQuietly(Connection conn) {
+        if (conn == null) {
+            return;
+        }
+        try {
+            conn.close();
+        } catch (SQLException e) {
+            log.debug("스냅샷 커넥션 종료 실패: {}", e.getMessage());
+        }
+    }
+
+    private static class Leader {
+        private final Connection conn;
+        private final String snapshotId;
+
+        Leader(Connection conn, String snapshotId) {
+            this.conn = conn;
+            this.snapshotId = snapshotId;
+        }
+    }
+}
@@ -0,0 +1,459 @@
+package com.gims.module.dbsync.service;
+
+import com.gims.module.dbsync.dto.MappingConfigDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Source 조회 속도 제한 (토큰 버킷 + 부하 적응형 감속)
+ *
+ * Source 조회 배치마다 실행별(매핑 설정 sourceThrottle / sync.throttle.execution.*)과
+ * Source DataSource별(sync.throttle.datasource.*, 실행 간 공유) 행/바이트 토큰을 소비하고,
+ * 토큰이 모자라면 조회 스레드를 대기시켜 운영 시간에도 Source(OLTP) 부하를 일정 수준 이하로 유지합니다.
+ *
+ * 적응형 감속을 켜면 sync.throttle.adaptive.check-interval-ms마다 Source 풀별로
+ * 조회 지연(fetch 한 번 평균 시간)과 다른 애플리케이션의 활성 세션 수(pg_stat_activity)를 확인해,
+ * 임계값을 넘으면 속도 비율을 decrease-factor만큼 곱해 낮추고 부하가 해소되면 increase-step씩 회복합니다.
+ * 속도 제한을 지정하지 않은 실행은 감속이 시작될 때 측정한 조회 속도를 기준으로 낮춥니다.
+ */
+@Slf4j
+@Component
+public class SourceThrottle {
+
+    private static final String ACTIVE_BACKENDS_SQL =
+            "SELECT count(*) FROM pg_stat_activity WHERE datname = current_database() AND state = 'active' " +
+            "AND pid <> pg_backend_pid() AND left(coalesce(application_name, ''), ?) <> ?";
+
+    private final SyncConnectionManager connectionManager;
+    private final DataSourceRegistry dataSourceRegistry;
+    private final MeterRegistry meterRegistry;
+
+    // Source 풀 이름 -> 풀 단위 토큰 버킷과 부하 상태
+    private final Map<String, PoolThrottle> pools = new ConcurrentHashMap<>();
+    // execId -> 실행 단위 토큰 버킷
+    private final Map<Long, ExecutionThrottle> executions = new ConcurrentHashMap<>();
+
+    @Value("${module.id}")
+    private String moduleId;
+
+    @Value("${sync.source.fetch-size:5000}")
+    private int fetchSize;
+
+    @Value("${sync.throttle.execution.rows-per-second:0}")
+    private long executionRowsPerSecond;
+
+    @Value("${sync.throttle.execution.bytes-per-second:0}")
+    private long executionBytesPerSecond;
+
+    @Value("${sync.throttle.datasource.rows-per-second:0}")
+    private long datasourceRowsPerSecond;
+
+    @Value("${sync.throttle.datasource.bytes-per-second:0}")
+    private long datasourceBytesPerSecond;
+
+    @Value("${sync.throttle.adaptive.enabled:false}")
+    private boolean adaptiveEnabled;
+
+    @Value("${sync.throttle.adaptive.check-interval-ms:5000}")
+    private long checkIntervalMs;
+
+    @Value("${sync.throttle.adaptive.fetch-latency-ms:1000}")
+    private long fetchLatencyThresholdMs;
+
+    @Value("${sync.throttle.adaptive.active-backends:0}")
+    private int activeBackendsThreshold;
+
+    @Value("${sync.throttle.adaptive.decrease-factor:0.5}")
+    private double decreaseFactor;
+
+    @Value("${sync.throttle.adaptive.increase-step:0.1}")
+    private double increaseStep;
+
+    @Value("${sync.throttle.adaptive.min-ratio:0.1}")
+    private double minRatio;
+
+    public SourceThrottle(SyncConnectionManager connectionManager, DataSourceRegistry dataSourceRegistry,
+                          MeterRegistry meterRegistry) {
+        this.connectionManager = connectionManager;
+        this.dataSourceRegistry = dataSourceRegistry;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        dataSourceRegistry.addCloseListener(this::releasePool);
+    }
+
+    /**
+     * 실행의 속도 제한 등록 (bindExecution 이후 호출, 매핑 설정 값이 전역 설정보다 우선)
+     */
+    public void bind(Long execId, MappingConfigDto.SourceThrottleDto settings) {
+        long rows = settings != null && settings.getRowsPerSecond() != null ? settings.getRowsPerSecond() : executionRowsPerSecond;
+        long bytes = settings != null && settings.getBytesPerSecond() != null ? settings.getBytesPerSecond() : executionBytesPerSecond;
+        boolean adaptive = settings != null && settings.getAdaptive() != null ? settings.getAdaptive() : adaptiveEnabled;
+        if (rows <= 0 && bytes <= 0 && !adaptive) {
+            return;
+        }
+        String pool = connectionManager.getSourcePoolName(execId);
+        executions.put(execId, new ExecutionThrottle(pool, rows, bytes, adaptive));
+        log.info("Source 조회 속도 제한: execId={}, pool={}, 초당 행 {}, 초당 바이트 {}, 적응형 {}", execId, pool,
+                rows > 0 ? rows : "무제한", bytes > 0 ? bytes : "무제한", adaptive ? "사용" : "미사용");
+    }
+
+    /**
+     * 실행 종료 시 실행 단위 상태 정리
+     */
+    public void release(Long execId) {
+        executions.remove(execId);
+    }
+
+    /**
+     * Named DataSource 풀이 닫힐 때 풀 단위 상태와 메트릭 정리 (유휴 종료 / 접속 정보 변경·삭제)
+     */
+    void releasePool(String poolName) {
+        PoolThrottle pool = pools.remove(poolName);
+        if (pool != null) {
+            pool.meters.forEach(meterRegistry::remove);
+            log.debug("Source 조회 속도 제한 풀 상태 정리: {}", poolName);
+        }
+    }
+
+    /**
+     * 조회 바이트 추정이 필요한지 (바이트 제한이 있을 때만 행 크기를 계산)
+     */
+    public boolean isByteLimited(Long execId) {
+        ExecutionThrottle execution = execId != null ? executions.get(execId) : null;
+        return datasourceBytesPerSecond > 0 || (execution != null && execution.bytesPerSecond > 0);
+    }
+
+    /**
+     * 조회한 배치만큼 토큰을 소비하고, 제한을 넘었으면 토큰이 채워질 때까지 대기
+     *
+     * @param bytes 배치 추정 크기 (isByteLimited가 false면 0)
+     * @param fetchNanos 배치를 Source에서 가져오는 데 걸린 시간 (적응형 감속의 조회 지연 판단)
+     */
+    public void acquire(Long execId, int rows, long bytes, long fetchNanos) throws SQLException {
+        ExecutionThrottle execution = execId != null ? executions.get(execId) : null;
+        String poolName = execution != null ? execution.pool : connectionManager.getSourcePoolName(execId);
+        PoolThrottle pool = pools.computeIfAbsent(poolName, PoolThrottle::new);
+        pool.observe(rows, fetchNanos);
+        if (adaptiveEnabled || (execution != null && execution.adaptive)) {
+            pool.checkLoad(execId);
+        }
+
+        long waitNanos = Math.max(
+                pool.rowBucket.reserve(rows, datasourceRowsPerSecond * (adaptiveEnabled ? pool.ratio : 1.0)),
+                pool.byteBucket.reserve(bytes, datasourceBytesPerSecond * (adaptiveEnabled ? pool.ratio : 1.0)));
+        if (execution != null) {
+            waitNanos = Math.max(waitNanos, execution.reserve(rows, bytes, pool.ratio));
+        }
+        if (waitNanos <= 0) {
+            return;
+        }
+
+        pool.waitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+        pool.throttledNanos.addAndGet(waitNanos);
+        if (execution != null) {
+            execution.throttledNanos.addAndGet(waitNanos);
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Source 조회 속도 제한 대기 중 인터럽트 발생", e);
+        }
+    }
+
+    /**
+     * 속도 제한 상태 (/api/module/status 응답용)
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        Map<String, Object> limits = new LinkedHashMap<>();
+        limits.put("executionRowsPerSecond", executionRowsPerSecond);
+        limits.put("executionBytesPerSecond", executionBytesPerSecond);
+        limits.put("datasourceRowsPerSecond", datasourceRowsPerSecond);
+        limits.put("datasourceBytesPerSecond", datasourceBytesPerSecond);
+        limits.put("adaptive", adaptiveEnabled);
+        status.put("limits", limits);
+
+        Map<String, Object> poolStatus = new LinkedHashMap<>();
+        for (PoolThrottle pool : pools.values()) {
+            Map<String, Object> info = new LinkedHashMap<>();
+            info.put("ratio", round(pool.ratio));
+            info.put("fetchLatencyMs", round(pool.fetchLatencyMs));
+            info.put("activeBackends", pool.activeBackends);
+            info.put("rowsRead", pool.rowsRead);
+            info.put("throttledMs", TimeUnit.NANOSECONDS.toMillis(pool.throttledNanos.get()));
+            poolStatus.put(pool.name, info);
+        }
+        status.put("pools", poolStatus);
+
+        Map<String, Object> executionStatus = new LinkedHashMap<>();
+        for (Map.Entry<Long, ExecutionThrottle> entry : executions.entrySet()) {
+            ExecutionThrottle execution = entry.getValue();
+            Map<String, Object> info = new LinkedHashMap<>();
+            info.put("pool", execution.pool);
+            info.put("rowsPerSecond", execution.rowsPerSecond);
+            info.put("bytesPerSecond", execution.bytesPerSecond);
+            info.put("adaptive", execution.adaptive);
+            info.put("effectiveRowsPerSecond", round(execution.effectiveRowsPerSecond));
+            info.put("rowsRead", execution.rowsRead);
+            info.put("throttledMs", TimeUnit.NANOSECONDS.toMillis(execution.throttledNanos.get()));
+            executionStatus.put(String.valueOf(entry.getKey()), info);
+        }
+        status.put("executions", executionStatus);
+        return status;
+    }
+
+    /**
+     * 조회 값의 대략적인 전송 크기 (바이트 제한용 추정치)
+     */
+    public static long estimateBytes(Map<String, Object> row) {
+        long size = 0;
+        for (Object value : row.values()) {
+            if (value == null) {
+                size += 1;
+            } else if (value instanceof String) {
+                size += ((String) value).length();
+            } else if (value instanceof byte[]) {
+                size += ((byte[]) value).length;
+            } else if (value instanceof LargeValue) {
+                size += Math.max(16, ((LargeValue) value).getLength());
+            } else if (value instanceof Number || value instanceof Boolean) {
+                size += 8;
+            } else {
+                size += 16;
+            }
+        }
+        return size;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    /**
+     * 토큰 버킷 (용량 = 1초 분량, 한 번에 용량보다 많이 소비하면 부족분만큼 대기)
+     */
+    static class TokenBucket {
+        private double tokens;
+        private long lastNanos;
+
+        TokenBucket() {
+            this(System.nanoTime());
+        }
+
+        TokenBucket(long startNanos) {
+            this.lastNanos = startNanos;
+        }
+
+        /**
+         * @param rate 초당 토큰 (0 이하면 제한 없음)
+         * @return 대기해야 할 시간 (나노초)
+         */
+        long reserve(long amount, double rate) {
+            return reserve(amount, rate, System.nanoTime());
+        }
+
+        /**
+         * 지정한 시각(System.nanoTime 기준) 기준 예약
+         */
+        synchronized long reserve(long amount, double rate, long now) {
+            if (rate <= 0) {
+                tokens = 0;
+                lastNanos = now;
+                return 0;
+            }
+            tokens = Math.min(rate, tokens + (now - lastNanos) / 1e9 * rate);
+            lastNanos = now;
+            tokens -= amount;
+            return tokens >= 0 ? 0 : (long) (-tokens / rate * 1e9);
+        }
+    }
+
+    /**
+     * 실행 단위 제한 상태
+     */
+    private class ExecutionThrottle {
+        private final String pool;
+        private final long rowsPerSecond;
+        private final long bytesPerSecond;
+        private final boolean adaptive;
+        private final TokenBucket rowBucket = new TokenBucket();
+        private final TokenBucket byteBucket = new TokenBucket();
+        private volatile long rowsRead;
+        private final AtomicLong throttledNanos = new AtomicLong();
+        private volatile double effectiveRowsPerSecond;
+        // 속도 제한이 없는 적응형 실행의 감속 기준 (감속 시작 시점의 조회 속도)
+        private double baselineRowsPerSecond;
+        private final long startNanos = System.nanoTime();
+        private long windowStart = startNanos;
+        private long windowRows;
+        private double measuredRowsPerSecond;
+
+        ExecutionThrottle(String pool, long rowsPerSecond, long bytesPerSecond, boolean adaptive) {
+            this.pool = pool;
+            this.rowsPerSecond = rowsPerSecond;
+            this.bytesPerSecond = bytesPerSecond;
+            this.adaptive = adaptive;
+            this.effectiveRowsPerSecond = rowsPerSecond;
+        }
+
+        synchronized long reserve(long rows, long bytes, double poolRatio) {
+            rowsRead += rows;
+            windowRows += rows;
+            long now = System.nanoTime();
+            if (now - windowStart >= TimeUnit.MILLISECONDS.toNanos(checkIntervalMs)) {
+                measuredRowsPerSecond = windowRows / ((now - windowStart) / 1e9);
+                windowStart = now;
+                windowRows = 0;
+            }
+
+            double ratio = adaptive ? poolRatio : 1.0;
+            double rowRate = rowsPerSecond;
+            if (adaptive && rowsPerSecond <= 0) {
+                if (ratio >= 1.0) {
+                    baselineRowsPerSecond = 0;
+                } else if (baselineRowsPerSecond <= 0) {
+                    // 확인 주기가 한 번도 지나지 않았으면 실행 시작 이후 평균 속도
+                    baselineRowsPerSecond = measuredRowsPerSecond > 0
+                            ? measuredRowsPerSecond
+                            : rowsRead / Math.max(1e-3, (now - startNanos) / 1e9);
+                }
+                rowRate = baselineRowsPerSecond;
+            }
+            effectiveRowsPerSecond = rowRate * ratio;
+            return Math.max(rowBucket.reserve(rows, rowRate * ratio), byteBucket.reserve(bytes, bytesPerSecond * ratio));
+        }
+    }
+
+    /**
+     * Source 풀 단위 제한/부하 상태
+     */
+    private class PoolThrottle {
+        private final String name;
+        private final TokenBucket rowBucket = new TokenBucket();
+        private final TokenBucket byteBucket = new TokenBucket();
+        private final Timer waitTimer;
+        // 풀을 닫을 때 MeterRegistry에서 제거할 메트릭
+        private final List<Meter> meters = new ArrayList<>();
+        // 적응형 감속 비율 (min-ratio ~ 1.0)
+        private volatile double ratio = 1.0;
+        private volatile double fetchLatencyMs;
+        private volatile int activeBackends = -1;
+        private volatile long rowsRead;
+        private final AtomicLong throttledNanos = new AtomicLong();
+        private long windowFetchNanos;
+        private long windowRows;
+        private long lastCheckNanos = System.nanoTime();
+        private boolean checking;
+
+        PoolThrottle(String name) {
+            this.name = name;
+            this.waitTimer = Timer.builder("dbsync.throttle.wait")
+                    .description("Source 조회 속도 제한 대기 시간")
+                    .tag("pool", name)
+                    .register(meterRegistry);
+            meters.add(waitTimer);
+            meters.add(Gauge.builder("dbsync.throttle.ratio", this, p -> p.ratio)
+                    .description("Source 조회 적응형 감속 비율 (1이면 감속 없음)")
+                    .tag("pool", name)
+                    .register(meterRegistry));
+            meters.add(Gauge.builder("dbsync.source.fetch.latency", this, p -> p.fetchLatencyMs)
+                    .description("Source fetch 한 번 평균 시간 (ms)")
+                    .tag("pool", name)
+                    .register(meterRegistry));
+            meters.add(Gauge.builder("dbsync.source.active.backends", this, p -> p.activeBackends)
+                    .description("Source DB의 다른 애플리케이션 활성 세션 수")
+                    .tag("pool", name)
+                    .register(meterRegistry));
+        }
+
+        synchronized void observe(long rows, long fetchNanos) {
+            rowsRead += rows;
+            windowRows += rows;
+            windowFetchNanos += fetchNanos;
+        }
+
+        /**
+         * check-interval-ms마다 조회 지연/활성 세션 수를 확인해 감속 비율 조정 (한 스레드만 수행)
+         */
+        void checkLoad(Long execId) {
+            long fetchNanos;
+            long rows;
+            synchronized (this) {
+                long now = System.nanoTime();
+                if (checking || now - lastCheckNanos < TimeUnit.MILLISECONDS.toNanos(checkIntervalMs)) {
+                    return;
+                }
+                checking = true;
+                lastCheckNanos = now;
+                fetchNanos = windowFetchNanos;
+                rows = windowRows;
+                windowFetchNanos = 0;
+                windowRows = 0;
+            }
+            try {
+                if (rows > 0) {
+                    // 서버 커서는 fetchSize 행마다 한 번 왕복하므로 행당 평균 시간 x fetchSize를 fetch 한 번의 시간으로 봄
+                    fetchLatencyMs = fetchNanos / 1e6 / rows * Math.min(fetchSize, rows);
+                }
+                if (activeBackendsThreshold > 0) {
+                    activeBackends = countActiveBackends(execId);
+                }
+                boolean overloaded = (fetchLatencyThresholdMs > 0 && fetchLatencyMs > fetchLatencyThresholdMs)
+                        || (activeBackendsThreshold > 0 && activeBackends > activeBackendsThreshold);
+                double previous = ratio;
+                ratio = overloaded
+                        ? Math.max(minRatio, ratio * decreaseFactor)
+                        : Math.min(1.0, ratio + increaseStep);
+                if (overloaded && previous >= 1.0) {
+                    log.warn("Source 부하로 조회 속도를 낮춥니다: pool={}, fetch {}ms, 활성 세션 {}, 비율 {}",
+                            name, round(fetchLatencyMs), activeBackends, round(ratio));
+                } else if (!overloaded && previous < 1.0 && ratio >= 1.0) {
+                    log.info("Source 부하 해소, 조회 속도 제한 복구: pool={}", name);
+                }
+            } finally {
+                synchronized (this) {
+                    checking = false;
+                }
+            }
+        }
+
+        private int countActiveBackends(Long execId) {
+            try (Connection conn = connectionManager.getSourceMonitorConnection(execId);
+                 PreparedStatement pstmt = conn.prepareStatement(ACTIVE_BACKENDS_SQL)) {
+                // LIKE 패턴은 모듈 ID의 _ / %를 와일드카드로 해석하므로 접두어를 그대로 비교
+                String prefix = moduleId + "-";
+                pstmt.setInt(1, prefix.codePointCount(0, prefix.length()));
+                pstmt.setString(2, prefix);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    rs.next();
+                    return rs.getInt(1);
+                }
+            } catch (SQLException e) {
+                log.debug("Source 활성 세션 수 조회 실패: pool={} ({})", name, e.getMessage());
+                return activeBackends;
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.gims.module.dbsync.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 조회한 행의 기간 컬럼(sourceDateColumn) 최댓값 추적
+ *
+ * 연속 동기화는 실제로 읽어 반영한 행의 최댓값까지만 워터마크를 올리므로,
+ * 조회 이후 커밋된 행이 다음 주기에서 누락되지 않습니다.
+ * 조회 스레드 하나에서만 사용하므로 동기화하지 않습니다.
+ */
+public class SourceWatermarkTracker {
+
+    private String dateColumn;
+    private LocalDateTime max;
+
+    public SourceWatermarkTracker(String dateColumn) {
+        this.dateColumn = dateColumn;
+    }
+
+    /**
+     * 조회 컬럼 목록에서 기간 컬럼의 실제 키 확인 (대소문자 차이 보정)
+     */
+    void resolveColumn(List<String> sourceColumns) {
+        for (String column : sourceColumns) {
+            if (column.equalsIgnoreCase(dateColumn)) {
+                dateColumn = column;
+                return;
+            }
+        }
+    }
+
+    public String getDateColumn() {
+        return dateColumn;
+    }
+
+    /**
+     * 배치의 기간 컬럼 최댓값 반영 (변환식 적용 전 원본 값)
+     */
+    public void observe(List<Map<String, Object>> batch) {
+        for (Map<String, Object> row : batch) {
+            LocalDateTime value = toLocalDateTime(row.get(dateColumn));
+            if (value != null && (max == null || value.isAfter(max))) {
+                max = value;
+            }
+        }
+    }
+
+    /**
+     * 조회한 행의 기간 컬럼 최댓값 (조회된 행이 없으면 null)
+     */
+    public LocalDateTime getMax() {
+        return max;
+    }
+
+    static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp) {
+            return ((Timestamp) value).toLocalDateTime();
+        }
+        if (value instanceof java.sql.Date) {
+            return ((java.sql.Date) value).toLocalDate().atStartOfDay();
+        }
+        if (value instanceof LocalDateTime) {
+            return (LocalDateTime) value;
+        }
+        if (value instanceof LocalDate) {
+            return ((LocalDate) value).atStartOfDay();
+        }
+        if (value instanceof OffsetDateTime) {
+            return ((OffsetDateTime) value).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        }
+        if (value instanceof Date) {
+            return new Timestamp(((Date) value).getTime()).toLocalDateTime();
+        }
+        return null;
+    }
+}
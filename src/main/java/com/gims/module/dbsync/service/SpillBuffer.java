@@ -0,0 +1,426 @@
+package com.gims.module.dbsync.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.util.HStoreConverter;
+import org.postgresql.util.PGobject;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Source 조회 결과의 로컬 디스크 임시 저장(spill) 버퍼
+ *
+ * 조회 행을 이진 행 형식으로 chunkBytes 단위 청크 파일에 기록해 Source 조회(스냅샷)를 빨리 끝내고,
+ * 이후 Target 반영은 청크 파일을 메모리 매핑(mmap)해 다시 읽어 처리합니다.
+ * 청크는 선택적으로 Deflater(BEST_SPEED)로 압축하며, 기록이 끝난(complete) 버퍼는 여러 번 재생할 수 있어
+ * Target 반영 실패 시 Source를 다시 조회하지 않고 재시도할 수 있습니다.
+ *
+ * 행 형식: 컬럼 순서대로 [타입 태그(1바이트) + 값], 컬럼 목록은 버퍼에 한 번만 보관합니다.
+ * 배열 / hstore 값은 PostgreSQL 타입명과 텍스트 표현을 함께 기록해 PGobject로 재생하므로 Target 컬럼 타입으로 바인딩되며,
+ * 그 밖에 형식을 모르는 값은 문자열로 바인딩하면 Target에서 실패하므로 기록 시점에 거부합니다.
+ */
+@Slf4j
+public class SpillBuffer {
+
+    private static final byte T_NULL = 0;
+    private static final byte T_STRING = 1;
+    private static final byte T_INT = 2;
+    private static final byte T_LONG = 3;
+    private static final byte T_DOUBLE = 4;
+    private static final byte T_DECIMAL = 5;
+    private static final byte T_TIMESTAMP = 6;
+    private static final byte T_DATE = 7;
+    private static final byte T_BOOLEAN = 8;
+    private static final byte T_BYTES = 9;
+    private static final byte T_SHORT = 10;
+    private static final byte T_FLOAT = 11;
+    private static final byte T_TIME = 12;
+    private static final byte T_UUID = 13;
+    private static final byte T_PGOBJECT = 14;
+    private static final byte T_LOCAL_DATE_TIME = 15;
+    private static final byte T_LOCAL_DATE = 16;
+
+    private final Path directory;
+    private final List<String> columns;
+    private final int chunkBytes;
+    private final boolean compress;
+    private final long maxBytes;
+
+    private final List<Chunk> chunks = new ArrayList<>();
+    private ByteArrayOutputStream chunkBuffer;
+    private DataOutputStream out;
+    private int chunkRows;
+    private long rowCount;
+    private long fileBytes;
+    private long rawBytes;
+    private boolean complete;
+
+    SpillBuffer(Path directory, List<String> columns, int chunkBytes, boolean compress, long maxBytes) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.columns = new ArrayList<>(columns);
+        this.chunkBytes = chunkBytes;
+        this.compress = compress;
+        this.maxBytes = maxBytes;
+        newChunkBuffer();
+    }
+
+    /**
+     * 배치 기록 (청크 크기를 넘으면 파일로 내보냄)
+     */
+    public void append(List<Map<String, Object>> batch) throws SQLException {
+        if (complete) {
+            throw new IllegalStateException("기록이 끝난 spill 버퍼입니다: " + directory);
+        }
+        try {
+            for (Map<String, Object> row : batch) {
+                for (String column : columns) {
+                    writeValue(out, row.get(column));
+                }
+                chunkRows++;
+                rowCount++;
+                if (chunkBuffer.size() >= chunkBytes) {
+                    flushChunk();
+                }
+            }
+        } catch (IOException e) {
+            throw new SQLException("spill 파일 기록 실패: " + directory + " (" + e.getMessage() + ")", e);
+        }
+    }
+
+    /**
+     * 기록 완료 (이후 replay 가능)
+     */
+    public void finish() throws SQLException {
+        try {
+            flushChunk();
+        } catch (IOException e) {
+            throw new SQLException("spill 파일 기록 실패: " + directory + " (" + e.getMessage() + ")", e);
+        }
+        chunkBuffer = null;
+        out = null;
+        complete = true;
+    }
+
+    /**
+     * 기록한 행을 batchSize 단위로 다시 읽어 handler에 전달 (여러 번 호출 가능)
+     */
+    public void replay(int batchSize, SourceReader.RowBatchHandler handler) throws SQLException {
+        if (!complete) {
+            throw new IllegalStateException("기록이 끝나지 않은 spill 버퍼입니다: " + directory);
+        }
+        List<Map<String, Object>> batch = new ArrayList<>(batchSize);
+        for (Chunk chunk : chunks) {
+            // 직접 넘긴 Inflater는 스트림을 닫아도 해제되지 않으므로 end()로 네이티브 메모리 반환
+            Inflater inflater = compress ? new Inflater() : null;
+            try (FileChannel channel = FileChannel.open(chunk.path, StandardOpenOption.READ)) {
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                InputStream source = new ByteBufferInputStream(mapped);
+                if (inflater != null) {
+                    source = new InflaterInputStream(source, inflater, 64 * 1024);
+                }
+                try (DataInputStream in = new DataInputStream(new BufferedInputStream(source, 64 * 1024))) {
+                    for (int r = 0; r < chunk.rows; r++) {
+                        Map<String, Object> row = new LinkedHashMap<>();
+                        for (String column : columns) {
+                            row.put(column, readValue(in));
+                        }
+                        batch.add(row);
+                        if (batch.size() >= batchSize) {
+                            handler.handle(batch);
+                            batch = new ArrayList<>(batchSize);
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                throw new SQLException("spill 파일 읽기 실패: " + chunk.path + " (" + e.getMessage() + ")", e);
+            } finally {
+                if (inflater != null) {
+                    inflater.end();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            handler.handle(batch);
+        }
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * 청크 파일 크기 합계 (압축 후)
+     */
+    public long getFileBytes() {
+        return fileBytes;
+    }
+
+    /**
+     * 압축 전 행 데이터 크기 합계
+     */
+    public long getRawBytes() {
+        return rawBytes;
+    }
+
+    public int getChunkCount() {
+        return chunks.size();
+    }
+
+    /**
+     * 청크 파일과 디렉터리 삭제
+     */
+    public void delete() {
+        for (Chunk chunk : chunks) {
+            try {
+                Files.deleteIfExists(chunk.path);
+            } catch (IOException e) {
+                log.warn("spill 파일 삭제 실패: {} ({})", chunk.path, e.getMessage());
+            }
+        }
+        chunks.clear();
+        try {
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            log.warn("spill 디렉터리 삭제 실패: {} ({})", directory, e.getMessage());
+        }
+    }
+
+    private void flushChunk() throws IOException {
+        if (chunkRows == 0) {
+            return;
+        }
+        out.flush();
+        Path path = directory.resolve(String.format("chunk-%05d.bin", chunks.size()));
+        try (OutputStream file = new BufferedOutputStream(Files.newOutputStream(path), 64 * 1024)) {
+            if (compress) {
+                Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+                try (DeflaterOutputStream deflated = new DeflaterOutputStream(file, deflater, 64 * 1024)) {
+                    chunkBuffer.writeTo(deflated);
+                } finally {
+                    deflater.end();
+                }
+            } else {
+                chunkBuffer.writeTo(file);
+            }
+        }
+        rawBytes += chunkBuffer.size();
+        fileBytes += Files.size(path);
+        chunks.add(new Chunk(path, chunkRows));
+        if (maxBytes > 0 && fileBytes > maxBytes) {
+            throw new IOException(String.format("spill 크기가 sync.spill.max-bytes(%d)를 넘었습니다", maxBytes));
+        }
+        newChunkBuffer();
+    }
+
+    private void newChunkBuffer() {
+        chunkBuffer = new ByteArrayOutputStream(Math.min(chunkBytes, 1 << 20) + 1024);
+        out = new DataOutputStream(chunkBuffer);
+        chunkRows = 0;
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(T_NULL);
+        } else if (value instanceof String) {
+            out.writeByte(T_STRING);
+            writeBytes(out, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof Integer) {
+            out.writeByte(T_INT);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(T_LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof BigDecimal) {
+            out.writeByte(T_DECIMAL);
+            writeBytes(out, value.toString().getBytes(StandardCharsets.US_ASCII));
+        } else if (value instanceof Timestamp) {
+            Timestamp ts = (Timestamp) value;
+            out.writeByte(T_TIMESTAMP);
+            out.writeLong(ts.getTime());
+            out.writeInt(ts.getNanos());
+        } else if (value instanceof java.sql.Date) {
+            out.writeByte(T_DATE);
+            out.writeLong(((java.sql.Date) value).toLocalDate().toEpochDay());
+        } else if (value instanceof Time) {
+            out.writeByte(T_TIME);
+            out.writeLong(((Time) value).getTime());
+        } else if (value instanceof Boolean) {
+            out.writeByte(T_BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Double) {
+            out.writeByte(T_DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            out.writeByte(T_FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Short) {
+            out.writeByte(T_SHORT);
+            out.writeShort((Short) value);
+        } else if (value instanceof byte[]) {
+            out.writeByte(T_BYTES);
+            writeBytes(out, (byte[]) value);
+        } else if (value instanceof UUID) {
+            UUID uuid = (UUID) value;
+            out.writeByte(T_UUID);
+            out.writeLong(uuid.getMostSignificantBits());
+            out.writeLong(uuid.getLeastSignificantBits());
+        } else if (value instanceof PGobject) {
+            PGobject pgObject = (PGobject) value;
+            writePgObject(out, pgObject.getType(), pgObject.getValue());
+        } else if (value instanceof java.sql.Array) {
+            // 배열 타입명(_int4 등)과 배열 리터럴("{1,2,3}")로 기록
+            String baseType;
+            try {
+                baseType = ((java.sql.Array) value).getBaseTypeName();
+            } catch (SQLException e) {
+                throw new IOException("spill 배열 타입 확인 실패: " + e.getMessage(), e);
+            }
+            writePgObject(out, "_" + baseType, value.toString());
+        } else if (value instanceof Map) {
+            // PostgreSQL 드라이버는 hstore 값을 Map으로 반환
+            writePgObject(out, "hstore", HStoreConverter.toString((Map<?, ?>) value));
+        } else if (value instanceof LocalDateTime) {
+            LocalDateTime ldt = (LocalDateTime) value;
+            out.writeByte(T_LOCAL_DATE_TIME);
+            out.writeLong(ldt.toLocalDate().toEpochDay());
+            out.writeLong(ldt.toLocalTime().toNanoOfDay());
+        } else if (value instanceof LocalDate) {
+            out.writeByte(T_LOCAL_DATE);
+            out.writeLong(((LocalDate) value).toEpochDay());
+        } else {
+            throw new IOException(String.format(
+                    "spill이 지원하지 않는 값 타입입니다: %s (해당 테이블은 spillToDisk를 끄고 동기화하세요)",
+                    value.getClass().getName()));
+        }
+    }
+
+    private static void writePgObject(DataOutputStream out, String type, String text) throws IOException {
+        out.writeByte(T_PGOBJECT);
+        writeBytes(out, type.getBytes(StandardCharsets.UTF_8));
+        out.writeBoolean(text != null);
+        if (text != null) {
+            writeBytes(out, text.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case T_NULL:
+                return null;
+            case T_STRING:
+                return new String(readBytes(in), StandardCharsets.UTF_8);
+            case T_INT:
+                return in.readInt();
+            case T_LONG:
+                return in.readLong();
+            case T_DECIMAL:
+                return new BigDecimal(new String(readBytes(in), StandardCharsets.US_ASCII));
+            case T_TIMESTAMP: {
+                Timestamp ts = new Timestamp(in.readLong());
+                ts.setNanos(in.readInt());
+                return ts;
+            }
+            case T_DATE:
+                return java.sql.Date.valueOf(LocalDate.ofEpochDay(in.readLong()));
+            case T_TIME:
+                return new Time(in.readLong());
+            case T_BOOLEAN:
+                return in.readBoolean();
+            case T_DOUBLE:
+                return in.readDouble();
+            case T_FLOAT:
+                return in.readFloat();
+            case T_SHORT:
+                return in.readShort();
+            case T_BYTES:
+                return readBytes(in);
+            case T_UUID:
+                return new UUID(in.readLong(), in.readLong());
+            case T_PGOBJECT: {
+                PGobject pgObject = new PGobject();
+                try {
+                    pgObject.setType(new String(readBytes(in), StandardCharsets.UTF_8));
+                    pgObject.setValue(in.readBoolean() ? new String(readBytes(in), StandardCharsets.UTF_8) : null);
+                } catch (SQLException e) {
+                    throw new IOException(e);
+                }
+                return pgObject;
+            }
+            case T_LOCAL_DATE_TIME:
+                return LocalDateTime.of(LocalDate.ofEpochDay(in.readLong()), java.time.LocalTime.ofNanoOfDay(in.readLong()));
+            case T_LOCAL_DATE:
+                return LocalDate.ofEpochDay(in.readLong());
+            default:
+                throw new IOException("알 수 없는 spill 값 타입: " + tag);
+        }
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static class Chunk {
+        private final Path path;
+        private final int rows;
+
+        Chunk(Path path, int rows) {
+            this.path = path;
+            this.rows = rows;
+        }
+    }
+
+    /**
+     * 메모리 매핑한 청크 파일을 InputStream으로 읽기
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int off, int len) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(bytes, off, n);
+            return n;
+        }
+    }
+}
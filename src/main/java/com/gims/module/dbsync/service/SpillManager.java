@@ -0,0 +1,220 @@
+package com.gims.module.dbsync.service;
+
+import com.gims.module.dbsync.dto.MappingConfigDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Source 조회 결과 디스크 spill 관리
+ *
+ * spill을 적용한 테이블은 Source 조회 결과를 먼저 로컬 디스크 청크 파일(SpillBuffer)에 모두 기록해
+ * Source 트랜잭션(스냅샷)을 Target 반영 속도와 관계없이 빨리 끝냅니다.
+ * 기록을 마친 spill은 실행(execId) + 테이블 단위로 보관해 Target 반영이 실패하면
+ * Source를 다시 조회하지 않고 재시도에 사용하며, 테이블 동기화 성공 또는 실행 종료 시 삭제합니다.
+ *
+ * 같은 호스트의 다른 모듈 / 인스턴스와 sync.spill.dir을 함께 쓰므로 파일은 {spillDir}/{moduleId}/{인스턴스}/ 아래에 만들고,
+ * 인스턴스 디렉터리의 잠금 파일(.lock)을 프로세스가 살아 있는 동안 잠가 둡니다. 기동 시에는 같은 모듈의 인스턴스 디렉터리 중
+ * 잠금을 얻을 수 있는(소유 프로세스가 종료된) 디렉터리만 정리합니다.
+ */
+@Slf4j
+@Component
+public class SpillManager {
+
+    @Value("${sync.spill.enabled:false}")
+    private boolean spillEnabled;
+
+    @Value("${sync.spill.dir:${java.io.tmpdir}/dbsync-spill}")
+    private String spillDir;
+
+    @Value("${sync.spill.chunk-bytes:8388608}")
+    private int chunkBytes;
+
+    @Value("${sync.spill.compress:true}")
+    private boolean compress;
+
+    @Value("${sync.spill.max-bytes:0}")
+    private long maxBytes;
+
+    @Value("${sync.spill.write-retries:1}")
+    private int writeRetries;
+
+    @Value("${module.id}")
+    private String moduleId;
+
+    private static final String LOCK_FILE = ".lock";
+
+    // execId:source->target -> spill
+    private final Map<String, SpillBuffer> spills = new ConcurrentHashMap<>();
+
+    // 이 인스턴스의 spill 디렉터리와 소유 표시 잠금
+    private Path instanceDir;
+    private FileChannel lockChannel;
+    private FileLock instanceLock;
+
+    /**
+     * 종료된 인스턴스가 남긴 spill 파일 정리 후 이 인스턴스의 디렉터리 생성 (실행은 재기동 후 이어지지 않음)
+     */
+    @PostConstruct
+    public void start() throws IOException {
+        Path moduleDir = Paths.get(spillDir, safeName(moduleId));
+        cleanUp(moduleDir);
+        instanceDir = moduleDir.resolve(safeName(ManagementFactory.getRuntimeMXBean().getName())
+                + "-" + UUID.randomUUID().toString().substring(0, 8));
+        Files.createDirectories(instanceDir);
+        lockChannel = FileChannel.open(instanceDir.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        instanceLock = lockChannel.tryLock();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        try {
+            if (instanceLock != null) {
+                instanceLock.release();
+            }
+            lockChannel.close();
+        } catch (IOException e) {
+            log.debug("spill 디렉터리 잠금 해제 실패: {}", e.getMessage());
+        }
+        deleteRecursively(instanceDir.toFile());
+    }
+
+    /**
+     * 같은 모듈의 인스턴스 디렉터리 중 소유 프로세스가 종료된(잠금을 얻을 수 있는) 디렉터리 삭제
+     * 잠금 파일이 없는 디렉터리는 생성 중일 수 있으므로 남겨 둡니다.
+     */
+    private void cleanUp(Path moduleDir) {
+        File[] instances = moduleDir.toFile().listFiles(File::isDirectory);
+        if (instances == null) {
+            return;
+        }
+        int removed = 0;
+        for (File dir : instances) {
+            Path lockFile = dir.toPath().resolve(LOCK_FILE);
+            if (!Files.exists(lockFile)) {
+                continue;
+            }
+            boolean orphaned;
+            try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.WRITE)) {
+                FileLock lock = channel.tryLock();
+                orphaned = lock != null;
+                if (lock != null) {
+                    lock.release();
+                }
+            } catch (OverlappingFileLockException | IOException e) {
+                // 같은 JVM이 잠근 디렉터리이거나 확인할 수 없으면 사용 중으로 간주
+                orphaned = false;
+            }
+            if (orphaned) {
+                deleteRecursively(dir);
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            log.info("종료된 인스턴스의 spill 파일 정리: {} ({}개)", moduleDir, removed);
+        }
+    }
+
+    /**
+     * spill 적용 여부 (테이블 매핑의 spillToDisk가 전역 설정보다 우선)
+     */
+    public boolean isEnabled(MappingConfigDto.TableMappingDto tableMapping) {
+        return tableMapping.getSpillToDisk() != null ? tableMapping.getSpillToDisk() : spillEnabled;
+    }
+
+    /**
+     * spill 재사용 Target 반영 재시도 횟수
+     */
+    public int getWriteRetries() {
+        return writeRetries;
+    }
+
+    /**
+     * 기록을 마친 spill 조회 (없으면 null)
+     */
+    public SpillBuffer find(TableSyncPlan plan) {
+        SpillBuffer spill = spills.get(key(plan));
+        return spill != null && spill.isComplete() ? spill : null;
+    }
+
+    /**
+     * 새 spill 생성 (같은 테이블의 이전 spill은 삭제)
+     */
+    public SpillBuffer create(TableSyncPlan plan) throws SQLException {
+        discard(plan);
+        String name = String.format("%s-%s-%d", plan.getExecId(),
+                plan.getTargetTable().replaceAll("[^A-Za-z0-9_.]", "_"), System.nanoTime());
+        Path directory = instanceDir.resolve(name);
+        try {
+            SpillBuffer spill = new SpillBuffer(directory, plan.getSourceColumns(), chunkBytes, compress, maxBytes);
+            spills.put(key(plan), spill);
+            return spill;
+        } catch (IOException e) {
+            throw new SQLException("spill 디렉터리 생성 실패: " + directory + " (" + e.getMessage() + ")", e);
+        }
+    }
+
+    /**
+     * 테이블 spill 삭제 (테이블 동기화 성공 시)
+     */
+    public void discard(TableSyncPlan plan) {
+        SpillBuffer spill = spills.remove(key(plan));
+        if (spill != null) {
+            spill.delete();
+        }
+    }
+
+    /**
+     * 실행의 남은 spill 삭제 (실행 종료 시)
+     */
+    public void releaseExecution(Long execId) {
+        String prefix = execId + ":";
+        spills.keySet().removeIf(key -> {
+            if (!key.startsWith(prefix)) {
+                return false;
+            }
+            SpillBuffer spill = spills.get(key);
+            if (spill != null) {
+                spill.delete();
+            }
+            return true;
+        });
+    }
+
+    private static String key(TableSyncPlan plan) {
+        return plan.getExecId() + ":" + plan.getSourceTable() + "->" + plan.getTargetTable();
+    }
+
+    private static String safeName(String name) {
+        return name.replaceAll("[^A-Za-z0-9_.-]", "_");
+    }
+
+    private static void deleteRecursively(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        if (!file.delete()) {
+            log.warn("spill 파일 삭제 실패: {}", file);
+        }
+    }
+}
@@ -0,0 +1,488 @@
+package com.gims.module.dbsync.service;
+
+import com.gims.module.dbsync.config.SyncExecutionProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGProperty;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 동기화 실행용 커넥션 관리
+ *
+ * 실행(execId)별로 DataSource당 동시에 사용할 수 있는 커넥션 수를 세마포어로 제한하여
+ * 하나의 실행이 풀 전체를 점유하지 못하게 합니다.
+ * 풀 크기는 동시 실행 수를 기준으로 계산되므로 일괄/연속/CDC 실행은 모두 실행 슬롯(sync.execution.max-concurrent)을 하나씩 점유합니다.
+ * 커넥션 획득 대기 시간과 풀 포화도를 메트릭(dbsync.connection.acquire, dbsync.pool.*)으로 노출합니다.
+ *
+ * 매핑 설정에 sourceConnection / targetConnection을 지정한 실행은 bindExecution으로
+ * DataSourceRegistry의 Named DataSource에 연결되며, 지정하지 않은 쪽은 기본 Source/Target 풀을 사용합니다.
+ */
+@Slf4j
+@Component
+public class SyncConnectionManager {
+
+    public static final String POOL_SOURCE = "source";
+    public static final String POOL_TARGET = "target";
+
+    private final DataSource sourceDataSource;
+    private final DataSource targetDataSource;
+    private final SyncExecutionProperties executionProperties;
+    private final MeterRegistry meterRegistry;
+    private final DataSourceRegistry dataSourceRegistry;
+
+    // execId:pool -> 실행별 커넥션 허용량
+    private final Map<String, Semaphore> executionPermits = new ConcurrentHashMap<>();
+
+    // execId -> 실행에 지정된 Named DataSource
+    private final Map<Long, ExecutionBinding> executionBindings = new ConcurrentHashMap<>();
+
+    // 동시 실행 슬롯 (일괄 / 연속 / CDC 공유)
+    private Semaphore executionSlots;
+    // execId -> 점유한 실행 슬롯 수 (같은 execId로 중복 요청된 경우 포함)
+    private final Map<Long, Integer> slotHolders = new ConcurrentHashMap<>();
+
+    @Value("${module.id}")
+    private String moduleId;
+
+    public SyncConnectionManager(
+            @Qualifier("sourceDataSource") DataSource sourceDataSource,
+            @Qualifier("targetDataSource") DataSource targetDataSource,
+            SyncExecutionProperties executionProperties,
+            MeterRegistry meterRegistry,
+            DataSourceRegistry dataSourceRegistry) {
+        this.sourceDataSource = sourceDataSource;
+        this.targetDataSource = targetDataSource;
+        this.executionProperties = executionProperties;
+        this.meterRegistry = meterRegistry;
+        this.dataSourceRegistry = dataSourceRegistry;
+    }
+
+    @PostConstruct
+    public void registerMetrics() {
+        executionSlots = new Semaphore(executionProperties.getMaxConcurrent(), true);
+        registerPoolGauges(POOL_SOURCE, sourceDataSource);
+        registerPoolGauges(POOL_TARGET, targetDataSource);
+    }
+
+    /**
+     * 실행 슬롯 획득 (빈 슬롯이 생길 때까지 대기, 일괄 실행용)
+     */
+    public void acquireExecutionSlot(Long execId) throws InterruptedException {
+        executionSlots.acquire();
+        slotHolders.merge(execId, 1, Integer::sum);
+    }
+
+    /**
+     * 실행 슬롯 획득 (대기하지 않음, 연속 / CDC 시작용)
+     *
+     * @throws RuntimeException 빈 슬롯이 없는 경우
+     */
+    public void tryAcquireExecutionSlot(Long execId) {
+        if (!executionSlots.tryAcquire()) {
+            throw new RuntimeException(String.format(
+                    "동시 실행 수(sync.execution.max-concurrent=%d)를 모두 사용 중입니다: execId=%d",
+                    executionProperties.getMaxConcurrent(), execId));
+        }
+        slotHolders.merge(execId, 1, Integer::sum);
+    }
+
+    /**
+     * 실행 슬롯 반납 (점유하지 않은 실행이면 무시)
+     */
+    public void releaseExecutionSlot(Long execId) {
+        boolean[] held = new boolean[1];
+        slotHolders.computeIfPresent(execId, (k, count) -> {
+            held[0] = true;
+            return count > 1 ? count - 1 : null;
+        });
+        if (held[0]) {
+            executionSlots.release();
+        }
+    }
+
+    /**
+     * 실행에 Named DataSource 지정 (null이면 기본 풀 사용)
+     * 지정한 풀은 releaseExecution까지 닫히지 않습니다.
+     */
+    public void bindExecution(Long execId, String sourceConnection, String targetConnection) {
+        if (isBlank(sourceConnection) && isBlank(targetConnection)) {
+            return;
+        }
+        ExecutionBinding binding = new ExecutionBinding();
+        try {
+            if (!isBlank(sourceConnection)) {
+                binding.source = dataSourceRegistry.acquire(POOL_SOURCE, sourceConnection);
+                binding.sourceName = sourceConnection;
+            }
+            if (!isBlank(targetConnection)) {
+                binding.target = dataSourceRegistry.acquire(POOL_TARGET, targetConnection);
+                binding.targetName = targetConnection;
+            }
+        } catch (RuntimeException e) {
+            unbind(binding);
+            throw e;
+        }
+        executionBindings.put(execId, binding);
+        log.info("실행 DataSource 지정: execId={}, source={}, target={}", execId,
+                binding.sourceName != null ? binding.sourceName : POOL_SOURCE,
+                binding.targetName != null ? binding.targetName : POOL_TARGET);
+    }
+
+    /**
+     * Source 커넥션 획득 (조회 전용)
+     */
+    public Connection getSourceConnection(Long execId) throws SQLException {
+        ExecutionBinding binding = execId != null ? executionBindings.get(execId) : null;
+        if (binding != null && binding.source != null) {
+            return acquire(DataSourceRegistry.poolLabel(POOL_SOURCE, binding.sourceName), binding.source, execId);
+        }
+        return acquire(POOL_SOURCE, sourceDataSource, execId);
+    }
+
+    /**
+     * Target 커넥션 획득
+     */
+    public Connection getTargetConnection(Long execId) throws SQLException {
+        ExecutionBinding binding = execId != null ? executionBindings.get(execId) : null;
+        if (binding != null && binding.target != null) {
+            return acquire(DataSourceRegistry.poolLabel(POOL_TARGET, binding.targetName), binding.target, execId);
+        }
+        return acquire(POOL_TARGET, targetDataSource, execId);
+    }
+
+    /**
+     * Source 부하 확인(pg_stat_activity 조회)용 커넥션 획득
+     * 조회 속도 제한 판단에만 짧게 사용하므로 실행별 커넥션 허용량에 포함되지 않으며 풀 여유분을 사용합니다.
+     */
+    public Connection getSourceMonitorConnection(Long execId) throws SQLException {
+        ExecutionBinding binding = execId != null ? executionBindings.get(execId) : null;
+        if (binding != null && binding.source != null) {
+            return acquire(DataSourceRegistry.poolLabel(POOL_SOURCE, binding.sourceName), binding.source, null);
+        }
+        return acquire(POOL_SOURCE, sourceDataSource, null);
+    }
+
+    /**
+     * 분산 실행 조정(작업 단위 리스/heartbeat)용 Target 커넥션 획득
+     * 반영 중에도 리스를 갱신해야 하므로 실행별 커넥션 허용량에 포함되지 않으며 풀 여유분을 사용합니다.
+     */
+    public Connection getTargetCoordinationConnection(Long execId) throws SQLException {
+        ExecutionBinding binding = execId != null ? executionBindings.get(execId) : null;
+        if (binding != null && binding.target != null) {
+            return acquire(DataSourceRegistry.poolLabel(POOL_TARGET, binding.targetName), binding.target, null);
+        }
+        return acquire(POOL_TARGET, targetDataSource, null);
+    }
+
+    /**
+     * 팬아웃 대상 Target 커넥션 획득 (targetConnection이 비어 있으면 실행의 Target)
+     * 지정한 Named DataSource는 처음 사용할 때 실행에 연결되어 releaseExecution까지 유지됩니다.
+     */
+    public Connection getTargetConnection(Long execId, String targetConnection) throws SQLException {
+        if (isBlank(targetConnection)) {
+            return getTargetConnection(execId);
+        }
+        return acquire(DataSourceRegistry.poolLabel(POOL_TARGET, targetConnection),
+                sinkDataSource(execId, targetConnection), execId);
+    }
+
+    /**
+     * 팬아웃 대상 Target 풀 이름 (targetConnection이 비어 있으면 실행의 Target 풀)
+     */
+    public String getTargetPoolName(Long execId, String targetConnection) {
+        return isBlank(targetConnection)
+                ? getTargetPoolName(execId)
+                : DataSourceRegistry.poolLabel(POOL_TARGET, targetConnection);
+    }
+
+    /**
+     * Source 논리 복제(replication=database) 커넥션 생성
+     * 복제 스트림은 커넥션을 계속 점유하므로 풀을 거치지 않고 실행의 Source 접속 정보로 별도 연결하며,
+     * 실행별 커넥션 허용량에도 포함되지 않습니다.
+     */
+    public Connection openSourceReplicationConnection(Long execId) throws SQLException {
+        Properties props = new Properties();
+        PGProperty.REPLICATION.set(props, "database");
+        PGProperty.ASSUME_MIN_SERVER_VERSION.set(props, "10");
+        PGProperty.PREFER_QUERY_MODE.set(props, "simple");
+        return openSourceDirectConnection(execId, "cdc", props);
+    }
+
+    /**
+     * Source 스냅샷 유지(pg_export_snapshot) 커넥션 생성
+     * 실행이 끝날 때까지 트랜잭션을 열어 두므로 복제 커넥션과 같이 풀을 거치지 않고 별도 연결하며,
+     * 실행별 커넥션 허용량에도 포함되지 않습니다.
+     */
+    public Connection openSourceSnapshotConnection(Long execId) throws SQLException {
+        return openSourceDirectConnection(execId, "snapshot", new Properties());
+    }
+
+    private Connection openSourceDirectConnection(Long execId, String purpose, Properties props) throws SQLException {
+        ExecutionBinding binding = execId != null ? executionBindings.get(execId) : null;
+        DataSource dataSource = binding != null && binding.source != null ? binding.source : sourceDataSource;
+        if (!(dataSource instanceof HikariDataSource)) {
+            throw new SQLException("Source 접속 정보를 확인할 수 없어 별도 커넥션을 생성할 수 없습니다");
+        }
+        HikariDataSource hikari = (HikariDataSource) dataSource;
+        PGProperty.USER.set(props, hikari.getUsername());
+        PGProperty.PASSWORD.set(props, hikari.getPassword());
+        PGProperty.APPLICATION_NAME.set(props, String.format("%s-source-%s-exec-%d", moduleId, purpose, execId));
+        return DriverManager.getConnection(hikari.getJdbcUrl(), props);
+    }
+
+    /**
+     * 실행과 무관한 Named Target 커넥션 획득 (기동 시 복구 등)
+     * 커넥션을 닫을 때까지 풀이 유지됩니다.
+     */
+    public Connection getNamedTargetConnection(String targetConnection) throws SQLException {
+        DataSource dataSource = dataSourceRegistry.acquire(POOL_TARGET, targetConnection);
+        Connection conn;
+        try {
+            conn = dataSource.getConnection();
+        } catch (SQLException | RuntimeException e) {
+            dataSourceRegistry.release(POOL_TARGET, targetConnection);
+            throw e;
+        }
+        return wrapConnection(conn, DataSourceRegistry.poolLabel(POOL_TARGET, targetConnection),
+                () -> dataSourceRegistry.release(POOL_TARGET, targetConnection));
+    }
+
+    /**
+     * 실행의 Source 풀 이름 (기본 풀이면 "source")
+     */
+    public String getSourcePoolName(Long execId) {
+        ExecutionBinding binding = execId != null ? executionBindings.get(execId) : null;
+        return binding != null && binding.sourceName != null
+                ? DataSourceRegistry.poolLabel(POOL_SOURCE, binding.sourceName)
+                : POOL_SOURCE;
+    }
+
+    /**
+     * 실행의 Target 풀 이름 (기본 풀이면 "target")
+     */
+    public String getTargetPoolName(Long execId) {
+        ExecutionBinding binding = execId != null ? executionBindings.get(execId) : null;
+        return binding != null && binding.targetName != null
+                ? DataSourceRegistry.poolLabel(POOL_TARGET, binding.targetName)
+                : POOL_TARGET;
+    }
+
+    /**
+     * 실행 종료 시 실행별 허용량 및 Named DataSource 사용 정리
+     */
+    public void releaseExecution(Long execId) {
+        ExecutionBinding binding = executionBindings.remove(execId);
+        executionPermits.remove(permitKey(execId, POOL_SOURCE));
+        executionPermits.remove(permitKey(execId, POOL_TARGET));
+        if (binding != null) {
+            if (binding.sourceName != null) {
+                executionPermits.remove(permitKey(execId, DataSourceRegistry.poolLabel(POOL_SOURCE, binding.sourceName)));
+            }
+            if (binding.targetName != null) {
+                executionPermits.remove(permitKey(execId, DataSourceRegistry.poolLabel(POOL_TARGET, binding.targetName)));
+            }
+            for (String sinkName : binding.sinks.keySet()) {
+                executionPermits.remove(permitKey(execId, DataSourceRegistry.poolLabel(POOL_TARGET, sinkName)));
+            }
+            unbind(binding);
+        }
+    }
+
+    /**
+     * 풀 상태 (/api/module/status 응답용)
+     */
+    public Map<String, Object> getPoolStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put(POOL_SOURCE, describePool(POOL_SOURCE, sourceDataSource));
+        status.put(POOL_TARGET, describePool(POOL_TARGET, targetDataSource));
+        status.put("maxConnectionsPerExecution", executionProperties.getMaxConnectionsPerExecution());
+        status.put("executionSlots", executionProperties.getMaxConcurrent());
+        status.put("availableExecutionSlots", executionSlots.availablePermits());
+        status.put("named", dataSourceRegistry.describe());
+        return status;
+    }
+
+    private Connection acquire(String pool, DataSource dataSource, Long execId) throws SQLException {
+        long waitStart = System.nanoTime();
+        Semaphore permits = execId != null
+                ? executionPermits.computeIfAbsent(permitKey(execId, pool),
+                        k -> new Semaphore(executionProperties.getMaxConnectionsPerExecution()))
+                : null;
+
+        if (permits != null) {
+            try {
+                if (!permits.tryAcquire(executionProperties.getConnectionTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                    throw new SQLException(String.format(
+                            "실행별 커넥션 허용량 대기 시간 초과: execId=%d, pool=%s, 허용량=%d",
+                            execId, pool, executionProperties.getMaxConnectionsPerExecution()));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("커넥션 대기 중 인터럽트 발생", e);
+            }
+        }
+
+        Connection conn;
+        try {
+            conn = dataSource.getConnection();
+            if (execId != null) {
+                conn.setClientInfo("ApplicationName", String.format("%s-%s-exec-%d", moduleId, pool, execId));
+            }
+        } catch (SQLException | RuntimeException e) {
+            if (permits != null) {
+                permits.release();
+            }
+            throw e;
+        } finally {
+            Timer.builder("dbsync.connection.acquire")
+                    .description("동기화 실행의 커넥션 획득 대기 시간")
+                    .tag("pool", pool)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+        }
+
+        return permits != null ? wrapConnection(conn, pool, permits::release) : conn;
+    }
+
+    private DataSource sinkDataSource(Long execId, String targetConnection) {
+        if (execId == null) {
+            throw new IllegalArgumentException("팬아웃 대상 커넥션은 실행(execId)에서만 사용할 수 있습니다");
+        }
+        ExecutionBinding binding = executionBindings.computeIfAbsent(execId, k -> new ExecutionBinding());
+        return binding.sinks.computeIfAbsent(targetConnection, name -> dataSourceRegistry.acquire(POOL_TARGET, name));
+    }
+
+    private void unbind(ExecutionBinding binding) {
+        for (String sinkName : binding.sinks.keySet()) {
+            dataSourceRegistry.release(POOL_TARGET, sinkName);
+        }
+        if (binding.sourceName != null) {
+            dataSourceRegistry.release(POOL_SOURCE, binding.sourceName);
+        }
+        if (binding.targetName != null) {
+            dataSourceRegistry.release(POOL_TARGET, binding.targetName);
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    /**
+     * close() 시 ApplicationName을 원복하고 실행별 허용량(또는 Named DataSource 사용)을 반환하는 커넥션 프록시
+     */
+    private Connection wrapConnection(Connection conn, String pool, Runnable onClose) {
+        AtomicBoolean closed = new AtomicBoolean(false);
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                        if (closed.compareAndSet(false, true)) {
+                            try {
+                                conn.setClientInfo("ApplicationName", moduleId + "-" + pool);
+                            } catch (SQLException e) {
+                                log.debug("ApplicationName 원복 실패: {}", e.getMessage());
+                            } finally {
+                                try {
+                                    conn.close();
+                                } finally {
+                                    onClose.run();
+                                }
+                            }
+                        }
+                        return null;
+                    }
+                    if ("isClosed".equals(method.getName()) && closed.get()) {
+                        return true;
+                    }
+                    try {
+                        return method.invoke(conn, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private void registerPoolGauges(String pool, DataSource dataSource) {
+        if (!(dataSource instanceof HikariDataSource)) {
+            return;
+        }
+        HikariDataSource hikari = (HikariDataSource) dataSource;
+        Gauge.builder("dbsync.pool.saturation", hikari, ds -> {
+                    HikariPoolMXBean mxBean = ds.getHikariPoolMXBean();
+                    return mxBean == null ? 0 : mxBean.getActiveConnections() * 1.0 / ds.getMaximumPoolSize();
+                })
+                .description("커넥션 풀 사용률 (활성 / 최대)")
+                .tag("pool", pool)
+                .register(meterRegistry);
+        Gauge.builder("dbsync.pool.pending", hikari, ds -> {
+                    HikariPoolMXBean mxBean = ds.getHikariPoolMXBean();
+                    return mxBean == null ? 0 : mxBean.getThreadsAwaitingConnection();
+                })
+                .description("커넥션 대기 스레드 수")
+                .tag("pool", pool)
+                .register(meterRegistry);
+    }
+
+    private Map<String, Object> describePool(String pool, DataSource dataSource) {
+        Map<String, Object> info = new LinkedHashMap<>();
+        if (!(dataSource instanceof HikariDataSource)) {
+            return info;
+        }
+        HikariDataSource hikari = (HikariDataSource) dataSource;
+        HikariPoolMXBean mxBean = hikari.getHikariPoolMXBean();
+        info.put("poolName", hikari.getPoolName());
+        info.put("maximumPoolSize", hikari.getMaximumPoolSize());
+        if (mxBean != null) {
+            info.put("active", mxBean.getActiveConnections());
+            info.put("idle", mxBean.getIdleConnections());
+            info.put("pending", mxBean.getThreadsAwaitingConnection());
+            info.put("saturation", mxBean.getActiveConnections() * 1.0 / hikari.getMaximumPoolSize());
+        }
+        Timer timer = meterRegistry.find("dbsync.connection.acquire").tag("pool", pool).timer();
+        if (timer != null) {
+            info.put("acquireCount", timer.count());
+            info.put("acquireMeanMs", timer.mean(TimeUnit.MILLISECONDS));
+            info.put("acquireMaxMs", timer.max(TimeUnit.MILLISECONDS));
+        }
+        return info;
+    }
+
+    private String permitKey(Long execId, String pool) {
+        return execId + ":" + pool;
+    }
+
+    /**
+     * 실행에 지정된 Named DataSource
+     */
+    private static class ExecutionBinding {
+        private String sourceName;
+        private DataSource source;
+        private String targetName;
+        private DataSource target;
+        // 팬아웃 대상 Named DataSource (이름 -> DataSource)
+        private final Map<String, DataSource> sinks = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,88 @@
+package com.gims.module.dbsync.service;
+
+import org.springframework.stereotype.Component;
+
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 연속 동기화 워터마크 저장소
+ *
+ * 테이블 매핑별로 마지막으로 반영한 sourceDateColumn 최댓값을 Target DB의 dbsync_watermark 테이블에 저장합니다.
+ * 모듈을 재기동하거나 다른 인스턴스에서 연속 동기화를 시작해도 이어서 증분 조회합니다.
+ */
+@Component
+public class SyncWatermarkStore {
+
+    private static final String WATERMARK_TABLE = "dbsync_watermark";
+
+    private final SyncConnectionManager connectionManager;
+
+    // 워터마크 테이블을 확인한 Target 풀
+    private final Set<String> tableReady = ConcurrentHashMap.newKeySet();
+
+    public SyncWatermarkStore(SyncConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
+    }
+
+    /**
+     * 저장된 워터마크 조회
+     *
+     * @return 워터마크, 없으면 null
+     */
+    public LocalDateTime load(Long execId, String moduleId, String tableKey) throws SQLException {
+        try (Connection conn = connectionManager.getTargetConnection(execId)) {
+            conn.setAutoCommit(true);
+            ensureTable(conn, connectionManager.getTargetPoolName(execId));
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "SELECT watermark FROM " + WATERMARK_TABLE + " WHERE module_id = ? AND table_key = ?")) {
+                pstmt.setString(1, moduleId);
+                pstmt.setString(2, tableKey);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    if (rs.next() && rs.getTimestamp(1) != null) {
+                        return rs.getTimestamp(1).toLocalDateTime();
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 워터마크 저장 (저장된 값보다 이전 값으로는 되돌리지 않음)
+     */
+    public void save(Long execId, String moduleId, String tableKey, LocalDateTime watermark) throws SQLException {
+        try (Connection conn = connectionManager.getTargetConnection(execId)) {
+            conn.setAutoCommit(true);
+            ensureTable(conn, connectionManager.getTargetPoolName(execId));
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "INSERT INTO " + WATERMARK_TABLE + " (module_id, table_key, watermark, updated_at) " +
+                    "VALUES (?, ?, ?, CURRENT_TIMESTAMP) " +
+                    "ON CONFLICT (module_id, table_key) DO UPDATE SET " +
+                    "watermark = GREATEST(" + WATERMARK_TABLE + ".watermark, EXCLUDED.watermark), " +
+                    "updated_at = CURRENT_TIMESTAMP")) {
+                pstmt.setString(1, moduleId);
+                pstmt.setString(2, tableKey);
+                pstmt.setTimestamp(3, Timestamp.valueOf(watermark));
+                pstmt.executeUpdate();
+            }
+        }
+    }
+
+    private void ensureTable(Connection conn, String targetPool) throws SQLException {
+        if (tableReady.contains(targetPool)) {
+            return;
+        }
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS " + WATERMARK_TABLE + " (" +
+                    "module_id VARCHAR(100) NOT NULL, " +
+                    "table_key VARCHAR(500) NOT NULL, " +
+                    "watermark TIMESTAMP, " +
+                    "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+                    "PRIMARY KEY (module_id, table_key))");
+        }
+        tableReady.add(targetPool);
+    }
+}
@@ -0,0 +1,238 @@
+package com.gims.module.dbsync.service;
+
+import com.gims.module.dbsync.config.SyncExecutionProperties;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 팬아웃 반영기 (Source 한 번 조회 -> 여러 Target 반영)
+ *
+ * Source 조회(변환식/lookup 포함)는 한 번만 수행하고, 조회 배치를 대상별 크기 제한 큐(sync.fanout.queue-batches)에
+ * 공유 전달해 대상별 반영 스레드가 각자 UPSERT 세션으로 반영합니다. 배치는 대상 간에 복사하지 않으며
+ * 모든 대상이 반영을 마치면 해제되므로, 메모리는 대상 수 x 큐 크기 x 배치 크기로 제한됩니다.
+ *
+ * - 느린 대상의 큐가 가득 차면 조회가 대기합니다(backpressure). Source 트랜잭션을 오래 열어 두지 않으려면 spill과 함께 사용합니다.
+ * - 반영에 실패한 대상은 큐를 비우고 팬아웃에서 제외하므로 나머지 대상의 반영과 조회를 막지 않습니다.
+ */
+@Slf4j
+@Component
+public class TableFanOutWriter {
+
+    // 조회 종료 표시
+    private static final List<Map<String, Object>> END_OF_STREAM = Collections.emptyList();
+    private static final long POLL_MS = 100;
+
+    private final SourceReader sourceReader;
+    private final UpsertBatchApplier upsertBatchApplier;
+    private final SyncMetrics syncMetrics;
+    private final SyncConnectionManager connectionManager;
+    private final SyncExecutionProperties executionProperties;
+
+    @Value("${sync.fanout.queue-batches:4}")
+    private int queueBatches;
+
+    public TableFanOutWriter(SourceReader sourceReader, UpsertBatchApplier upsertBatchApplier, SyncMetrics syncMetrics,
+                             SyncConnectionManager connectionManager, SyncExecutionProperties executionProperties) {
+        this.sourceReader = sourceReader;
+        this.upsertBatchApplier = upsertBatchApplier;
+        this.syncMetrics = syncMetrics;
+        this.connectionManager = connectionManager;
+        this.executionProperties = executionProperties;
+    }
+
+    /**
+     * 주 대상(plan)과 추가 대상(plan.getAdditionalSinks())에 조회 결과 반영
+     *
+     * @return 대상별 결과 (주 대상이 첫 번째), 조회 실패 시 예외
+     */
+    public List<SinkResult> write(TableSyncPlan plan, String syncMode, int batchSize) throws SQLException {
+        validate(plan);
+        List<Sink> sinks = new ArrayList<>();
+        sinks.add(new Sink(plan, queueBatches));
+        for (TableSyncPlan sinkPlan : plan.getAdditionalSinks()) {
+            sinks.add(new Sink(sinkPlan, queueBatches));
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService writers = Executors.newFixedThreadPool(sinks.size(), r -> {
+            Thread thread = new Thread(r, "dbsync-fanout-" + plan.getExecId() + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<Future<?>> futures = new ArrayList<>();
+        for (Sink sink : sinks) {
+            futures.add(writers.submit(() -> runSink(sink, syncMode)));
+        }
+
+        try {
+            sourceReader.read(plan, batchSize, batch -> {
+                for (Sink sink : sinks) {
+                    sink.offer(batch);
+                }
+                if (sinks.stream().allMatch(sink -> sink.error != null)) {
+                    throw new SQLException("모든 팬아웃 대상 반영이 실패해 조회를 중단합니다: " + plan.getSourceTable(),
+                            sinks.get(0).error);
+                }
+            });
+            for (Sink sink : sinks) {
+                sink.offer(END_OF_STREAM);
+            }
+        } catch (SQLException | RuntimeException e) {
+            // 조회 실패: 반영 중인 배치까지만 처리하고 종료
+            for (Sink sink : sinks) {
+                sink.aborted = true;
+            }
+            throw e;
+        } finally {
+            awaitWriters(writers, futures);
+        }
+
+        List<SinkResult> results = new ArrayList<>();
+        for (Sink sink : sinks) {
+            results.add(new SinkResult(sink));
+        }
+        return results;
+    }
+
+    /**
+     * 중복 대상 및 Target 풀별 대상 수 확인
+     * 대상마다 반영 세션이 커넥션을 하나씩 점유하므로 같은 풀의 대상 수는 실행별 커넥션 허용량 이하여야 합니다.
+     */
+    private void validate(TableSyncPlan plan) {
+        List<TableSyncPlan> all = new ArrayList<>();
+        all.add(plan);
+        all.addAll(plan.getAdditionalSinks());
+        Set<String> targets = new HashSet<>();
+        Map<String, Integer> sinksPerPool = new HashMap<>();
+        for (TableSyncPlan sinkPlan : all) {
+            String pool = connectionManager.getTargetPoolName(plan.getExecId(), sinkPlan.getTargetConnection());
+            if (!targets.add(pool + ":" + sinkPlan.getTargetTable().toLowerCase())) {
+                throw new RuntimeException("팬아웃 대상이 중복되었습니다: " + describe(sinkPlan));
+            }
+            sinksPerPool.merge(pool, 1, Integer::sum);
+        }
+        int limit = executionProperties.getMaxConnectionsPerExecution();
+        // 조회 스레드의 Target lookup은 반영 스레드가 커넥션을 점유한 동안 실행의 Target 풀에서 커넥션을 하나 더 사용
+        String lookupPool = plan.getLookupStage() != null && plan.getLookupStage().queriesTarget()
+                ? connectionManager.getTargetPoolName(plan.getExecId())
+                : null;
+        for (Map.Entry<String, Integer> entry : sinksPerPool.entrySet()) {
+            boolean lookup = entry.getKey().equals(lookupPool);
+            int poolLimit = lookup ? limit - 1 : limit;
+            if (entry.getValue() > poolLimit) {
+                throw new RuntimeException(String.format(
+                        "같은 Target 풀(%s)의 팬아웃 대상 %d개가 실행별 커넥션 허용량(sync.execution.max-connections-per-execution=%d%s)을 넘습니다",
+                        entry.getKey(), entry.getValue(), limit, lookup ? ", Target lookup 커넥션 1개 제외" : ""));
+            }
+        }
+    }
+
+    private void runSink(Sink sink, String syncMode) {
+        try (UpsertBatchApplier.Session session = upsertBatchApplier.open(sink.plan)) {
+            while (!sink.aborted) {
+                List<Map<String, Object>> batch = sink.queue.poll(POLL_MS, TimeUnit.MILLISECONDS);
+                if (batch == null) {
+                    continue;
+                }
+                if (batch == END_OF_STREAM) {
+                    break;
+                }
+                long batchStart = System.nanoTime();
+                sink.processed += session.apply(batch);
+                syncMetrics.recordBatch(syncMode, System.nanoTime() - batchStart);
+            }
+            sink.deadLettered = session.getDeadLettered();
+        } catch (Exception e) {
+            sink.fail(e);
+        }
+    }
+
+    private void awaitWriters(ExecutorService writers, List<Future<?>> futures) {
+        writers.shutdown();
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                writers.shutdownNow();
+                return;
+            } catch (ExecutionException e) {
+                log.error("팬아웃 반영 스레드 오류", e.getCause());
+            }
+        }
+    }
+
+    private static String describe(TableSyncPlan plan) {
+        return plan.getTargetConnection() != null
+                ? plan.getTargetConnection() + ":" + plan.getTargetTable()
+                : plan.getTargetTable();
+    }
+
+    /**
+     * 팬아웃 대상 하나의 큐와 반영 상태
+     */
+    private static class Sink {
+        private final TableSyncPlan plan;
+        private final BlockingQueue<List<Map<String, Object>>> queue;
+        private volatile Exception error;
+        private volatile boolean aborted;
+        private long processed;
+        private long deadLettered;
+        private long waitNanos;
+
+        Sink(TableSyncPlan plan, int capacity) {
+            this.plan = plan;
+            this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        }
+
+        /**
+         * 배치 전달 (큐가 가득 차면 대기, 실패한 대상은 건너뜀)
+         */
+        void offer(List<Map<String, Object>> batch) throws SQLException {
+            long waitStart = System.nanoTime();
+            try {
+                while (error == null && !queue.offer(batch, POLL_MS, TimeUnit.MILLISECONDS)) {
+                    // 반영 대기 (backpressure)
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("팬아웃 대상 대기 중 인터럽트 발생", e);
+            } finally {
+                waitNanos += System.nanoTime() - waitStart;
+            }
+        }
+
+        void fail(Exception e) {
+            error = e;
+            queue.clear();
+            log.error("팬아웃 대상 반영 실패, 이후 배치는 건너뜁니다: {} ({})", describe(plan), e.getMessage());
+        }
+    }
+
+    /**
+     * 팬아웃 대상별 반영 결과
+     */
+    @Getter
+    public static class SinkResult {
+        private final String target;
+        private final long processed;
+        private final long deadLettered;
+        private final long waitMs;
+        private final Exception error;
+
+        SinkResult(Sink sink) {
+            this.target = describe(sink.plan);
+            this.processed = sink.processed;
+            this.deadLettered = sink.deadLettered;
+            this.waitMs = TimeUnit.NANOSECONDS.toMillis(sink.waitNanos);
+            this.error = sink.error;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.gims.module.dbsync.service;
+
+import com.gims.module.dbsync.dto.MappingConfigDto;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 단일 테이블 동기화 실행 계획
+ *
+ * 테이블 매핑 설정으로부터 계산된 컬럼 목록, 컬럼 매핑, 조회 SQL 등을 담아
+ * 동기화 방식(UPSERT / FULL_REFRESH 등)별 처리기에 전달합니다.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class TableSyncPlan {
+
+    private final Long execId;
+    private final MappingConfigDto.TableMappingDto tableMapping;
+
+    private final String sourceTable;
+    private final String targetTable;
+    // 팬아웃 대상의 Named Target DataSource (null이면 실행의 Target)
+    private final String targetConnection;
+    // PK 컬럼 (단일 / 복합, Source와 Target이 같은 순서)
+    private final PrimaryKeyMapping primaryKey;
+
+    // Source 조회 컬럼 (PK가 첫 번째)
+    private final List<String> sourceColumns;
+    // Target 저장 컬럼 (PK가 첫 번째)
+    private final List<String> targetColumns;
+    // Source 컬럼 -> Target 컬럼 (PK 포함, 조회 순서 유지)
+    private final Map<String, String> columnMap;
+
+    // 기간 필터링 정보
+    private final String sourceDateColumn;
+    private final boolean useDateFilter;
+    private final LocalDateTime syncStartDt;
+    private final LocalDateTime syncEndDt;
+
+    // 컬럼 변환 단계 (변환식이 없으면 null)
+    private final RowTransformer rowTransformer;
+    // 참조 값 조회 단계 (lookup이 없으면 null)
+    private final ColumnLookupResolver.LookupStage lookupStage;
+    // 조회 행의 기간 컬럼 최댓값 추적 (연속 동기화 외에는 null)
+    private final SourceWatermarkTracker watermarkTracker;
+
+    // Source 조회 결과를 디스크에 기록한 뒤 반영 (SpillManager)
+    private final boolean spill;
+    // 큰 컬럼(BINARY / 큰 STRING) 값을 스트림으로 조회해 한 행씩 반영 (LargeValue)
+    private final boolean streamLargeValues;
+    // PK 순서 keyset 페이지 조회 행 수 (0이면 커서 하나로 조회)
+    private final int keysetPageRows;
+    // keyset 페이지 조회 위치 (페이지 조회를 쓰지 않으면 null)
+    private final KeysetCheckpoint keysetCheckpoint;
+    // 반영 실패(dead letter) 행의 Source PK (XMIN 변경 추적 시 다음 동기화에서 다시 조회, 그 외에는 null)
+    private final Set<RowKey> deadLetterKeys;
+    // 같은 조회 결과를 함께 반영할 추가 대상 (팬아웃, 없으면 빈 목록)
+    @Builder.Default
+    private final List<TableSyncPlan> additionalSinks = Collections.emptyList();
+
+    // Source 조회 SQL 및 바인딩 파라미터
+    private final String selectSql;
+    private final List<Object> selectParams;
+}
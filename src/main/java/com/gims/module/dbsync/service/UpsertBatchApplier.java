@@ -0,0 +1,344 @@
+package com.gims.module.dbsync.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.*;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * UPSERT 모드 배치 반영기
+ *
+ * 배치 단위로 PK 기준 INSERT/UPDATE 후 커밋하며, 실패한 배치는 오류 종류에 따라 다음과 같이 처리합니다.
+ * - 일시적 오류(직렬화 실패, 교착 상태, 연결 끊김 등): sync.upsert.retry.max-attempts회까지 지수 백오프 후 배치 재시도
+ *   (연결 오류면 새 커넥션으로 재시도)
+ * - 행 오류(제약조건 위반, 잘못된 값, 트리거 예외): 배치를 반으로 나누어 재시도해 실패 행만 찾아낸 뒤
+ *   DeadLetterStore에 기록하고 나머지 행은 커밋
+ * - 그 외 오류(테이블/컬럼 없음, 권한 등): 모든 행에 해당하므로 테이블 동기화 실패
+ */
+@Slf4j
+@Component
+public class UpsertBatchApplier {
+
+    private final SyncConnectionManager connectionManager;
+    private final DeadLetterStore deadLetterStore;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${sync.upsert.retry.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${sync.upsert.retry.backoff-ms:200}")
+    private long backoffMs;
+
+    @Value("${sync.dead-letter.max-rows-per-table:1000}")
+    private long maxDeadLetterRows;
+
+    public UpsertBatchApplier(SyncConnectionManager connectionManager,
+                              DeadLetterStore deadLetterStore,
+                              MeterRegistry meterRegistry) {
+        this.connectionManager = connectionManager;
+        this.deadLetterStore = deadLetterStore;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 테이블 하나의 반영 세션 시작 (Target 커넥션을 배치 간에 재사용)
+     */
+    public Session open(TableSyncPlan plan) throws SQLException {
+        return new Session(plan);
+    }
+
+    /**
+     * 일시적 오류 여부 (재시도로 해결될 수 있는 오류)
+     */
+    static boolean isTransient(SQLException e) {
+        String state = e.getSQLState();
+        return state != null && (state.startsWith("08")      // 연결 오류
+                || "40001".equals(state)                        // serialization_failure
+                || "40P01".equals(state)                        // deadlock_detected
+                || "55P03".equals(state)                        // lock_not_available
+                || "57014".equals(state)                        // query_canceled (statement_timeout)
+                || state.startsWith("57P")                      // 서버 종료/재시작
+                || "53300".equals(state));                      // too_many_connections
+    }
+
+    /**
+     * 행 단위 오류 여부 (일부 행만 실패할 수 있는 오류)
+     */
+    static boolean isRowError(SQLException e) {
+        String state = e.getSQLState();
+        return state != null && (state.startsWith("22")      // data_exception
+                || state.startsWith("23")                       // integrity_constraint_violation
+                || state.startsWith("P0"));                     // 트리거 RAISE EXCEPTION
+    }
+
+    private static boolean isConnectionError(SQLException e) {
+        String state = e.getSQLState();
+        return state != null && (state.startsWith("08") || state.startsWith("57P"));
+    }
+
+    /**
+     * 테이블 하나의 반영 세션
+     */
+    public class Session implements AutoCloseable {
+        private final TableSyncPlan plan;
+        private final String targetPool;
+        // 배치별 반영 테이블(파티션)의 계획
+        private final Map<String, TableSyncPlan> tablePlans = new HashMap<>();
+        private Connection conn;
+        private long deadLettered;
+        private long retries;
+
+        private Session(TableSyncPlan plan) throws SQLException {
+            this.plan = plan;
+            this.targetPool = connectionManager.getTargetPoolName(plan.getExecId(), plan.getTargetConnection());
+            this.conn = connect();
+        }
+
+        /**
+         * 배치 반영
+         *
+         * @return 반영한 행 수 (dead letter로 기록한 행 제외)
+         */
+        public int apply(List<Map<String, Object>> batch) throws SQLException {
+            return applyWithRetry(plan, batch);
+        }
+
+        /**
+         * 배치를 지정한 테이블(예: Target 파티션)에 반영
+         * 컬럼 매핑과 PK는 세션의 계획을 따르며, dead letter에는 지정한 테이블로 기록합니다.
+         *
+         * @return 반영한 행 수 (dead letter로 기록한 행 제외)
+         */
+        public int apply(List<Map<String, Object>> batch, String targetTable) throws SQLException {
+            TableSyncPlan tablePlan = tablePlans.computeIfAbsent(targetTable,
+                    table -> plan.toBuilder().targetTable(table).build());
+            return applyWithRetry(tablePlan, batch);
+        }
+
+        public long getDeadLettered() {
+            return deadLettered;
+        }
+
+        public long getRetries() {
+            return retries;
+        }
+
+        private int applyWithRetry(TableSyncPlan plan, List<Map<String, Object>> rows) throws SQLException {
+            int attempt = 1;
+            while (true) {
+                try {
+                    for (Map<String, Object> row : rows) {
+                        upsertRow(conn, plan.getTargetTable(), plan.getColumnMap(), row, plan.getPrimaryKey());
+                    }
+                    if (Thread.currentThread().isInterrupted()) {
+                        // 처리 중단 요청 (예: 분산 작업 단위의 리스를 잃은 경우) - 커밋하지 않음
+                        throw new SQLException("처리 중단 요청으로 배치를 커밋하지 않습니다: " + plan.getTargetTable());
+                    }
+                    conn.commit();
+                    return rows.size();
+                } catch (SQLException e) {
+                    rollbackQuietly();
+                    if (isTransient(e) && attempt < maxAttempts) {
+                        long delay = backoffMs << (attempt - 1);
+                        log.warn("배치 반영 일시적 오류, {}ms 후 재시도 ({}/{}): {} [{}] {}", delay, attempt, maxAttempts - 1,
+                                plan.getTargetTable(), e.getSQLState(), e.getMessage());
+                        retries++;
+                        retryCounter("transient").increment();
+                        sleep(delay);
+                        if (isConnectionError(e)) {
+                            reconnect();
+                        }
+                        attempt++;
+                        continue;
+                    }
+                    if (isRowError(e)) {
+                        return bisect(plan, rows, e);
+                    }
+                    throw e;
+                }
+            }
+        }
+
+        /**
+         * 실패한 배치를 반으로 나누어 재시도 (한 행만 남으면 dead letter 기록)
+         */
+        private int bisect(TableSyncPlan plan, List<Map<String, Object>> rows, SQLException error) throws SQLException {
+            if (rows.size() == 1) {
+                deadLetter(plan, rows.get(0), error);
+                return 0;
+            }
+            retryCounter("bisect").increment();
+            int mid = rows.size() / 2;
+            return applyWithRetry(plan, rows.subList(0, mid)) + applyWithRetry(plan, rows.subList(mid, rows.size()));
+        }
+
+        private void deadLetter(TableSyncPlan plan, Map<String, Object> row, SQLException error) throws SQLException {
+            if (deadLettered >= maxDeadLetterRows) {
+                throw new RuntimeException(String.format(
+                        "반영 실패 행이 한도(sync.dead-letter.max-rows-per-table=%d)를 넘어 테이블 동기화를 중단합니다: %s (마지막 오류: %s)",
+                        maxDeadLetterRows, plan.getTargetTable(), error.getMessage()), error);
+            }
+            deadLetterStore.save(conn, targetPool, plan, row, error);
+            conn.commit();
+            deadLettered++;
+        }
+
+        private Counter retryCounter(String reason) {
+            return Counter.builder("dbsync.batch.retry")
+                    .description("배치 재시도 횟수 (transient: 일시적 오류 재시도, bisect: 실패 행 탐색 분할)")
+                    .tag("reason", reason)
+                    .register(meterRegistry);
+        }
+
+        private Connection connect() throws SQLException {
+            Connection connection = connectionManager.getTargetConnection(plan.getExecId(), plan.getTargetConnection());
+            connection.setAutoCommit(false);
+            return connection;
+        }
+
+        private void reconnect() throws SQLException {
+            try {
+                conn.close();
+            } catch (SQLException e) {
+                log.debug("끊긴 커넥션 정리 실패: {}", e.getMessage());
+            }
+            conn = connect();
+        }
+
+        private void rollbackQuietly() {
+            try {
+                conn.rollback();
+            } catch (SQLException e) {
+                log.debug("롤백 실패: {}", e.getMessage());
+            }
+        }
+
+        private void sleep(long millis) throws SQLException {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("배치 재시도 대기 중 인터럽트 발생", e);
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            conn.close();
+        }
+    }
+
+    /**
+     * UPSERT (INSERT or UPDATE)
+     */
+    private void upsertRow(Connection conn, String targetTable,
+                           Map<String, String> columnMap,
+                           Map<String, Object> sourceRow,
+                           PrimaryKeyMapping primaryKey) throws SQLException {
+
+        RowKey pkValue = primaryKey.keyOf(sourceRow);
+
+        // 기존 데이터 존재 여부 확인 (복합 PK는 모든 PK 컬럼 조건)
+        String checkSql = String.format("SELECT 1 FROM %s WHERE %s", targetTable, primaryKey.targetCondition());
+        boolean exists = false;
+
+        try (PreparedStatement checkStmt = conn.prepareStatement(checkSql)) {
+            pkValue.bind(checkStmt, 1);
+            try (ResultSet rs = checkStmt.executeQuery()) {
+                exists = rs.next();
+            }
+        }
+
+        if (exists) {
+            updateRow(conn, targetTable, columnMap, sourceRow, primaryKey, pkValue);
+        } else {
+            insertRow(conn, targetTable, columnMap, sourceRow);
+        }
+    }
+
+    /**
+     * INSERT 실행
+     */
+    private void insertRow(Connection conn, String targetTable,
+                           Map<String, String> columnMap,
+                           Map<String, Object> sourceRow) throws SQLException {
+
+        List<String> targetColumns = new ArrayList<>(columnMap.values());
+        String columnList = String.join(", ", targetColumns);
+        String placeholders = columnMap.keySet().stream()
+                .map(sourceCol -> placeholder(sourceRow.get(sourceCol)))
+                .collect(Collectors.joining(", "));
+        String insertSql = String.format("INSERT INTO %s (%s) VALUES (%s)", targetTable, columnList, placeholders);
+
+        try (PreparedStatement insertStmt = conn.prepareStatement(insertSql)) {
+            int idx = 1;
+            for (String sourceCol : columnMap.keySet()) {
+                Object value = sourceRow.get(sourceCol);
+                bindValue(insertStmt, idx++, value);
+            }
+            insertStmt.executeUpdate();
+        }
+    }
+
+    /**
+     * UPDATE 실행
+     */
+    private void updateRow(Connection conn, String targetTable,
+                           Map<String, String> columnMap,
+                           Map<String, Object> sourceRow,
+                           PrimaryKeyMapping primaryKey, RowKey pkValue) throws SQLException {
+
+        // PK를 제외한 컬럼들만 업데이트
+        Map<String, String> nonPkColumns = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : columnMap.entrySet()) {
+            if (!primaryKey.isSourceColumn(entry.getKey())) {
+                nonPkColumns.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        if (nonPkColumns.isEmpty()) {
+            return; // PK만 있으면 업데이트할 것이 없음
+        }
+
+        String setClause = nonPkColumns.entrySet().stream()
+                .map(entry -> entry.getValue() + " = " + placeholder(sourceRow.get(entry.getKey())))
+                .collect(Collectors.joining(", "));
+
+        String updateSql = String.format("UPDATE %s SET %s WHERE %s",
+                targetTable, setClause, primaryKey.targetCondition());
+
+        try (PreparedStatement updateStmt = conn.prepareStatement(updateSql)) {
+            int idx = 1;
+            for (String sourceCol : nonPkColumns.keySet()) {
+                Object value = sourceRow.get(sourceCol);
+                bindValue(updateStmt, idx++, value);
+            }
+            // WHERE 조건의 PK 값
+            pkValue.bind(updateStmt, idx);
+            updateStmt.executeUpdate();
+        }
+    }
+
+    /**
+     * 파라미터 자리 표시 (큰 json / jsonb / xml 값은 타입 변환 포함)
+     */
+    private static String placeholder(Object value) {
+        return value instanceof LargeValue ? ((LargeValue) value).placeholder() : "?";
+    }
+
+    /**
+     * 파라미터 바인딩 (큰 컬럼 값은 스트림으로 전달)
+     */
+    private static void bindValue(PreparedStatement pstmt, int index, Object value) throws SQLException {
+        if (value instanceof LargeValue) {
+            ((LargeValue) value).bind(pstmt, index);
+        } else {
+            pstmt.setObject(index, value);
+        }
+    }
+}
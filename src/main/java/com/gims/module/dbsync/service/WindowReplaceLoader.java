@@ -0,0 +1,146 @@
+package com.gims.module.dbsync.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * WINDOW_REPLACE 모드 적재기 (기간 단위 교체)
+ *
+ * sourceDateColumn + syncStartDt/syncEndDt 기간에 해당하는 Target 행을 Source 기간 데이터로 통째로 교체합니다.
+ * 단일 트랜잭션에서 다음을 수행합니다.
+ *
+ * 1. Source 기간 데이터를 임시 테이블(ON COMMIT DROP)에 COPY
+ * 2. Target 기간 행을 한 번의 DELETE로 삭제 (Source에서 삭제된 행도 함께 제거됨)
+ * 3. INSERT ... SELECT ... ON CONFLICT 로 일괄 반영
+ *
+ * 3번의 ON CONFLICT는 기간 밖에 있던 행의 날짜가 기간 안으로 변경된 경우를 처리하기 위한 것으로,
+ * Target PK 컬럼에 PK 또는 UNIQUE 제약조건이 있어야 합니다.
+ */
+@Slf4j
+@Component
+public class WindowReplaceLoader {
+
+    private static final String STAGE_PREFIX = "dbsync_stage_";
+
+    private final SyncConnectionManager connectionManager;
+    private final SourceReader sourceReader;
+    private final SyncMetrics syncMetrics;
+
+    @Value("${sync.window-replace.batch-size:5000}")
+    private int batchSize;
+
+    public WindowReplaceLoader(
+            SyncConnectionManager connectionManager,
+            SourceReader sourceReader,
+            SyncMetrics syncMetrics) {
+        this.connectionManager = connectionManager;
+        this.sourceReader = sourceReader;
+        this.syncMetrics = syncMetrics;
+    }
+
+    /**
+     * Target 기간 데이터를 Source 기간 데이터로 교체
+     *
+     * @return 반영 건수
+     */
+    public long load(TableSyncPlan plan) throws SQLException {
+        String targetTable = plan.getTargetTable();
+        String targetDateColumn = resolveTargetDateColumn(plan);
+        String stageTable = STAGE_PREFIX + simpleName(targetTable);
+
+        List<String> sourceColumns = new ArrayList<>(plan.getColumnMap().keySet());
+        List<String> targetColumns = new ArrayList<>(plan.getColumnMap().values());
+        String columnList = String.join(", ", targetColumns);
+
+        try (Connection conn = connectionManager.getTargetConnection(plan.getExecId())) {
+            conn.setAutoCommit(false);
+            try {
+                // 1. 임시 테이블에 Source 기간 데이터 적재 (임시 테이블은 WAL 미기록)
+                execute(conn, String.format("CREATE TEMP TABLE %s (LIKE %s INCLUDING DEFAULTS) ON COMMIT DROP",
+                        stageTable, targetTable));
+
+                long stagedCount;
+                try (PgCopyWriter writer = PgCopyWriter.open(conn, stageTable, targetColumns, sourceColumns)) {
+                    sourceReader.read(plan, batchSize, syncMetrics.timed("WINDOW_REPLACE", writer::write));
+                    stagedCount = writer.finish();
+                }
+
+                // 2. Target 기간 데이터 삭제
+                int deletedCount;
+                String deleteSql = String.format("DELETE FROM %s WHERE %s >= ? AND %s < ?",
+                        targetTable, targetDateColumn, targetDateColumn);
+                try (PreparedStatement pstmt = conn.prepareStatement(deleteSql)) {
+                    pstmt.setTimestamp(1, Timestamp.valueOf(plan.getSyncStartDt()));
+                    pstmt.setTimestamp(2, Timestamp.valueOf(plan.getSyncEndDt()));
+                    deletedCount = pstmt.executeUpdate();
+                }
+
+                // 3. 일괄 반영
+                int insertedCount;
+                String insertSql = String.format("INSERT INTO %s (%s) SELECT %s FROM %s ON CONFLICT (%s) %s",
+                        targetTable, columnList, columnList, stageTable,
+                        plan.getPrimaryKey().targetColumnList(), buildConflictAction(plan));
+                try (Statement stmt = conn.createStatement()) {
+                    insertedCount = stmt.executeUpdate(insertSql);
+                }
+
+                conn.commit();
+                log.info("WINDOW_REPLACE 완료: {} ({}: {} ~ {}), 삭제 {}건, 적재 {}건 (Source {}건)",
+                        targetTable, targetDateColumn, plan.getSyncStartDt(), plan.getSyncEndDt(),
+                        deletedCount, insertedCount, stagedCount);
+                return insertedCount;
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * sourceDateColumn에 매핑된 Target 날짜 컬럼
+     */
+    private String resolveTargetDateColumn(TableSyncPlan plan) {
+        if (!plan.isUseDateFilter()) {
+            throw new RuntimeException(String.format(
+                    "WINDOW_REPLACE 모드는 sourceDateColumn과 syncStartDt/syncEndDt가 필요합니다: %s -> %s",
+                    plan.getSourceTable(), plan.getTargetTable()));
+        }
+        for (Map.Entry<String, String> entry : plan.getColumnMap().entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(plan.getSourceDateColumn())) {
+                return entry.getValue();
+            }
+        }
+        throw new RuntimeException(String.format(
+                "WINDOW_REPLACE 모드는 sourceDateColumn(%s)이 컬럼 매핑에 포함되어야 합니다: %s -> %s",
+                plan.getSourceDateColumn(), plan.getSourceTable(), plan.getTargetTable()));
+    }
+
+    private String buildConflictAction(TableSyncPlan plan) {
+        List<String> updateColumns = plan.getColumnMap().values().stream()
+                .filter(col -> !plan.getPrimaryKey().isTargetColumn(col))
+                .map(col -> col + " = EXCLUDED." + col)
+                .collect(Collectors.toList());
+        if (updateColumns.isEmpty()) {
+            return "DO NOTHING";
+        }
+        return "DO UPDATE SET " + String.join(", ", updateColumns);
+    }
+
+    private String simpleName(String table) {
+        int idx = table.lastIndexOf('.');
+        return idx >= 0 ? table.substring(idx + 1) : table;
+    }
+
+    private void execute(Connection conn, String sql) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+}
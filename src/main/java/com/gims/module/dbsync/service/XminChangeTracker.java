@@ -0,0 +1,289 @@
+package com.gims.module.dbsync.service;
+
+import com.gims.module.dbsync.dto.MappingConfigDto;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.*;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * xmin 기반 변경 추적 (changeTracking=XMIN)
+ *
+ * 변경 일시 컬럼이 없는 Source 테이블을 증분 동기화하기 위해, 직전 동기화 조회 전에 저장한
+ * 트랜잭션 스냅샷(txid_current_snapshot)에서 보이지 않던 트랜잭션이 기록한 행(xmin)만 조회합니다.
+ * 32비트 xmin은 조회 시점의 64비트 트랜잭션 ID(epoch 포함)로 복원해 스냅샷과 비교하므로 xid wraparound에 안전합니다.
+ *
+ * 저장 상태(Target DB의 dbsync_xmin_state)가 다음 중 하나면 전체 동기화로 되돌아가고 새 상태부터 다시 추적합니다.
+ * - 저장된 상태 없음, 매핑 설정 변경
+ * - Source DB가 바뀌었거나 트랜잭션 ID가 되돌아감 (복원, 다른 서버로 장애 조치)
+ * - 테이블 재작성 (TRUNCATE, VACUUM FULL, CLUSTER 등으로 relfilenode 변경)
+ * - 저장한 스냅샷 이후 sync.xmin.max-age개 이상의 트랜잭션 경과 (32비트 xmin 복원 안전 범위)
+ *
+ * 반영에 실패해 dead letter로 기록한 행은 그 행의 현재 xmin 트랜잭션을 저장 스냅샷에 진행 중으로 추가해
+ * 다음 동기화에서 다시 조회합니다. (계속 실패하면 max-age 경과 후 전체 동기화)
+ *
+ * 삭제된 행은 xmin으로 알 수 없으므로 반영되지 않습니다.
+ */
+@Slf4j
+@Component
+public class XminChangeTracker {
+
+    public static final String CHANGE_TRACKING_XMIN = "XMIN";
+
+    private static final String STATE_TABLE = "dbsync_xmin_state";
+
+    // 행의 32비트 xmin을 현재 스냅샷의 xmax 기준 64비트 트랜잭션 ID로 복원
+    private static final String XMIN_TXID =
+            "txid_snapshot_xmax(txid_current_snapshot()) - " +
+            "((txid_snapshot_xmax(txid_current_snapshot()) - xmin::text::bigint) & 4294967295)";
+
+    // 복원한 xmin이 직전 스냅샷에서 보이지 않던 트랜잭션인 행
+    private static final String CHANGED_CONDITION = "NOT txid_visible_in_snapshot(" + XMIN_TXID + ", ?::txid_snapshot)";
+
+    private final SyncConnectionManager connectionManager;
+    private final SourceSnapshotCoordinator snapshotCoordinator;
+
+    // 상태 테이블을 확인한 Target 풀
+    private final Set<String> tableReady = ConcurrentHashMap.newKeySet();
+
+    @Value("${sync.xmin.max-age:1000000000}")
+    private long maxAge;
+
+    @Value("${module.id}")
+    private String defaultModuleId;
+
+    public XminChangeTracker(SyncConnectionManager connectionManager, SourceSnapshotCoordinator snapshotCoordinator) {
+        this.connectionManager = connectionManager;
+        this.snapshotCoordinator = snapshotCoordinator;
+    }
+
+    /**
+     * 테이블 매핑이 xmin 변경 추적 대상인지
+     */
+    public static boolean isEnabled(MappingConfigDto.TableMappingDto tableMapping) {
+        return CHANGE_TRACKING_XMIN.equalsIgnoreCase(tableMapping.getChangeTracking());
+    }
+
+    /**
+     * 조회 전 Source의 현재 스냅샷과 테이블 상태 캡처
+     * 이 스냅샷 이후 커밋된 행은 이번 조회에 포함되더라도 다음 동기화에서 다시 조회됩니다. (UPSERT라 중복 반영 무해)
+     * 실행 단위 일관 스냅샷이 있으면 조회와 같은 그 스냅샷을 캡처합니다.
+     */
+    public XminState capture(Long execId, String sourceTable, MappingConfigDto.TableMappingDto tableMapping) throws SQLException {
+        try (Connection conn = connectionManager.getSourceConnection(execId)) {
+            conn.setAutoCommit(false);
+            snapshotCoordinator.importSnapshot(conn, execId);
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "SELECT txid_current_snapshot()::text, " +
+                    "(SELECT oid FROM pg_database WHERE datname = current_database()), " +
+                    "pg_relation_filenode(?::regclass)")) {
+                pstmt.setString(1, sourceTable);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    rs.next();
+                    return new XminState(rs.getString(1), rs.getLong(2), (Long) rs.getObject(3), mappingHash(tableMapping));
+                }
+            } finally {
+                conn.rollback();
+            }
+        }
+    }
+
+    /**
+     * 저장된 상태로 증분 조회할 수 있는지 확인
+     *
+     * @return 전체 동기화가 필요한 사유, 증분 조회 가능하면 null
+     */
+    public String validate(XminState saved, XminState current) {
+        if (saved == null) {
+            return "저장된 변경 추적 상태 없음";
+        }
+        if (!saved.mappingHash.equals(current.mappingHash)) {
+            return "매핑 설정 변경";
+        }
+        if (saved.databaseOid != current.databaseOid) {
+            return "Source DB 변경";
+        }
+        if (current.getXmax() < saved.getXmax()) {
+            return String.format("트랜잭션 ID가 되돌아감 (저장 %d, 현재 %d) - DB 복원 또는 장애 조치", saved.getXmax(), current.getXmax());
+        }
+        if (!Objects.equals(saved.relfilenode, current.relfilenode)) {
+            return "테이블 재작성 (TRUNCATE / VACUUM FULL 등)";
+        }
+        long age = current.getXmax() - saved.getXmin();
+        if (age >= maxAge) {
+            return String.format("추적 상태 이후 트랜잭션 %d개 경과 (sync.xmin.max-age=%d 초과)", age, maxAge);
+        }
+        return null;
+    }
+
+    /**
+     * 반영 실패 행을 다음 동기화에서 다시 조회하도록 저장할 스냅샷을 되돌림
+     * 실패 행의 현재 xmin 중 스냅샷 xmax 이전 트랜잭션을 진행 중 목록에 추가하고, 스냅샷 xmin보다 앞서면 xmin을 낮춥니다.
+     * 그 사이의 다른 트랜잭션은 계속 완료로 보므로 실패 행을 기록한 트랜잭션의 행만 다시 조회됩니다.
+     * (스냅샷 이후 다시 변경되었거나 삭제된 행은 추가하지 않음)
+     */
+    public XminState holdBack(Long execId, TableSyncPlan plan, XminState state) throws SQLException {
+        long xmin = state.getXmin();
+        long xmax = state.getXmax();
+        TreeSet<Long> inProgress = new TreeSet<>();
+        String xip = state.snapshot.substring(state.snapshot.indexOf(':', state.snapshot.indexOf(':') + 1) + 1);
+        for (String xid : xip.split(",")) {
+            if (!xid.isEmpty()) {
+                inProgress.add(Long.parseLong(xid));
+            }
+        }
+
+        StringBuilder condition = new StringBuilder();
+        for (String column : plan.getPrimaryKey().getSourceColumns()) {
+            if (condition.length() > 0) {
+                condition.append(" AND ");
+            }
+            condition.append(column).append(" = ?");
+        }
+        int added = 0;
+        try (Connection conn = connectionManager.getSourceConnection(execId);
+             PreparedStatement pstmt = conn.prepareStatement(
+                     "SELECT " + XMIN_TXID + " FROM " + plan.getSourceTable() + " WHERE " + condition)) {
+            for (RowKey key : plan.getDeadLetterKeys()) {
+                if (key.hasNull()) {
+                    continue;
+                }
+                key.bind(pstmt, 1);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        long txid = rs.getLong(1);
+                        if (txid < xmax && inProgress.add(txid)) {
+                            xmin = Math.min(xmin, txid);
+                            added++;
+                        }
+                    }
+                }
+            }
+        }
+        StringBuilder snapshot = new StringBuilder().append(xmin).append(':').append(xmax).append(':');
+        for (Long txid : inProgress) {
+            if (snapshot.charAt(snapshot.length() - 1) != ':') {
+                snapshot.append(',');
+            }
+            snapshot.append(txid);
+        }
+        log.info("  변경 추적(XMIN): 반영 실패 행 {}건의 트랜잭션 {}개를 다음 동기화에서 다시 조회 (스냅샷 {})",
+                plan.getDeadLetterKeys().size(), added, snapshot);
+        return new XminState(snapshot.toString(), state.databaseOid, state.relfilenode, state.mappingHash);
+    }
+
+    /**
+     * 직전 스냅샷 이후 변경된 행 조회 조건 (바인딩 값: 저장된 스냅샷)
+     */
+    public String changedCondition() {
+        return CHANGED_CONDITION;
+    }
+
+    public XminState load(Long execId, MappingConfigDto.TableMappingDto tableMapping, String tableKey) throws SQLException {
+        try (Connection conn = connectionManager.getTargetConnection(execId)) {
+            conn.setAutoCommit(true);
+            ensureTable(conn, connectionManager.getTargetPoolName(execId));
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "SELECT snapshot, database_oid, relfilenode, mapping_hash FROM " + STATE_TABLE +
+                    " WHERE module_id = ? AND table_key = ?")) {
+                pstmt.setString(1, moduleId(tableMapping));
+                pstmt.setString(2, tableKey);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    if (rs.next()) {
+                        return new XminState(rs.getString(1), rs.getLong(2), (Long) rs.getObject(3), rs.getString(4));
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 동기화 성공 후 조회 전 캡처한 상태 저장
+     */
+    public void save(Long execId, MappingConfigDto.TableMappingDto tableMapping, String tableKey, XminState state) throws SQLException {
+        try (Connection conn = connectionManager.getTargetConnection(execId)) {
+            conn.setAutoCommit(true);
+            ensureTable(conn, connectionManager.getTargetPoolName(execId));
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "INSERT INTO " + STATE_TABLE + " (module_id, table_key, snapshot, database_oid, relfilenode, mapping_hash, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP) " +
+                    "ON CONFLICT (module_id, table_key) DO UPDATE SET snapshot = EXCLUDED.snapshot, " +
+                    "database_oid = EXCLUDED.database_oid, relfilenode = EXCLUDED.relfilenode, " +
+                    "mapping_hash = EXCLUDED.mapping_hash, updated_at = CURRENT_TIMESTAMP")) {
+                pstmt.setString(1, moduleId(tableMapping));
+                pstmt.setString(2, tableKey);
+                pstmt.setString(3, state.snapshot);
+                pstmt.setLong(4, state.databaseOid);
+                pstmt.setObject(5, state.relfilenode);
+                pstmt.setString(6, state.mappingHash);
+                pstmt.executeUpdate();
+            }
+        }
+    }
+
+    private String moduleId(MappingConfigDto.TableMappingDto tableMapping) {
+        return tableMapping.getModuleId() != null ? tableMapping.getModuleId() : defaultModuleId;
+    }
+
+    /**
+     * 조회 결과에 영향을 주는 매핑 설정의 해시 (변경되면 전체 동기화)
+     */
+    private static String mappingHash(MappingConfigDto.TableMappingDto tableMapping) {
+        return Integer.toHexString(Objects.hash(
+                tableMapping.getSourceTable(), tableMapping.getSourceDateColumn(),
+                tableMapping.getPkColumn(), tableMapping.getTargetPkColumn(), tableMapping.getTargetTable(),
+                String.valueOf(tableMapping.getColumnMappings()), String.valueOf(tableMapping.getFilters())));
+    }
+
+    private void ensureTable(Connection conn, String targetPool) throws SQLException {
+        if (tableReady.contains(targetPool)) {
+            return;
+        }
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS " + STATE_TABLE + " (" +
+                    "module_id VARCHAR(100) NOT NULL, " +
+                    "table_key VARCHAR(500) NOT NULL, " +
+                    "snapshot TEXT NOT NULL, " +
+                    "database_oid BIGINT, " +
+                    "relfilenode BIGINT, " +
+                    "mapping_hash VARCHAR(20), " +
+                    "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+                    "PRIMARY KEY (module_id, table_key))");
+        }
+        tableReady.add(targetPool);
+    }
+
+    /**
+     * 변경 추적 상태 (스냅샷 "xmin:xmax:진행중xid목록", DB OID, 테이블 relfilenode, 매핑 해시)
+     */
+    @Getter
+    public static class XminState {
+        private final String snapshot;
+        private final long databaseOid;
+        private final Long relfilenode;
+        private final String mappingHash;
+
+        XminState(String snapshot, long databaseOid, Long relfilenode, String mappingHash) {
+            this.snapshot = snapshot;
+            this.databaseOid = databaseOid;
+            this.relfilenode = relfilenode;
+            this.mappingHash = mappingHash;
+        }
+
+        public long getXmin() {
+            return Long.parseLong(snapshot.substring(0, snapshot.indexOf(':')));
+        }
+
+        public long getXmax() {
+            int start = snapshot.indexOf(':') + 1;
+            return Long.parseLong(snapshot.substring(start, snapshot.indexOf(':', start)));
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.gims.module.dbsync.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnTransformCompilerTest {
+
+    private static Object apply(String expression, Object value) {
+        return apply(expression, value, Collections.emptyMap());
+    }
+
+    private static Object apply(String expression, Object value, Map<String, Object> row) {
+        return ColumnTransformCompiler.compile(expression).getTransform().apply(value, row);
+    }
+
+    @Test
+    void chainsStepsLeftToRight() {
+        assertEquals("ABC", apply("trim | upper", "  abc "));
+        assertEquals("N/A", apply("emptytonull | default('N/A')", "   "));
+        assertEquals("a", apply("ltrim|rtrim|lower", " \tA\n"));
+    }
+
+    @Test
+    void allowsSpacesAndCaseInFunctionNames() {
+        assertEquals("X", apply("  UPPER ( ) ", "x"));
+    }
+
+    @Test
+    void quotedLiteralEscapesQuote() {
+        assertEquals("it's", apply("default('it''s')", null));
+        assertEquals("a|b", apply("replace(',', '|')", "a,b"));
+    }
+
+    @Test
+    void columnReferencesUseOriginalRow() {
+        Map<String, Object> row = new HashMap<>();
+        row.put("first_name", "Gil-dong");
+        row.put("last_name", null);
+        row.put("nick", "hong");
+        ColumnTransformCompiler.CompiledTransform compiled =
+                ColumnTransformCompiler.compile("upper | concat($, ' ', first_name, last_name) | coalesce(missing, nick)");
+
+        assertEquals("KIM Gil-dong", compiled.getTransform().apply("kim", row));
+        assertEquals("hong", ColumnTransformCompiler.compile("coalesce(missing, nick)").getTransform().apply(null, row));
+        assertEquals(new LinkedHashSet<>(Arrays.asList("first_name", "last_name", "missing", "nick")),
+                compiled.getReferencedColumns());
+    }
+
+    @Test
+    void castTypeNameIsNotAColumnReference() {
+        ColumnTransformCompiler.CompiledTransform compiled = ColumnTransformCompiler.compile("cast(int)");
+        assertTrue(compiled.getReferencedColumns().isEmpty());
+        assertEquals(12, compiled.getTransform().apply(" 12 ", Collections.emptyMap()));
+    }
+
+    @Test
+    void casts() {
+        assertEquals(9_000_000_000L, apply("cast(bigint)", "9000000000"));
+        assertEquals(new BigDecimal("1.50"), apply("cast(numeric)", "1.50"));
+        assertEquals(2.5d, apply("cast(double)", "2.5"));
+        assertEquals("7", apply("cast(text)", 7));
+        assertEquals(Boolean.TRUE, apply("cast(boolean)", "Y"));
+        assertEquals(Boolean.FALSE, apply("cast(boolean)", 0));
+        assertEquals(Date.valueOf("2026-10-18"), apply("cast(date)", "2026-10-18 12:00:00"));
+        assertEquals(Timestamp.valueOf("2026-10-18 00:00:00"), apply("cast(timestamp)", "2026-10-18"));
+        assertEquals(Timestamp.valueOf("2026-10-18 12:34:56"), apply("cast(timestamp)", "2026-10-18 12:34:56"));
+        assertNull(apply("cast(int)", null));
+        assertThrows(ArithmeticException.class, () -> apply("cast(int)", "1.5"));
+    }
+
+    @Test
+    void stringFunctions() {
+        assertEquals("bcd", apply("substr(2, 3)", "abcdef"));
+        assertEquals("def", apply("substr(4)", "abcdef"));
+        assertEquals("", apply("substr(10)", "abc"));
+        assertEquals("*******5678", apply("mask(4)", "01012345678"));
+        assertEquals("####", apply("mask(0, '#')", "abcd"));
+        assertNull(apply("nullif('-')", "-"));
+        assertEquals("x", apply("nullif('-')", "x"));
+    }
+
+    @Test
+    void numericFunctions() {
+        assertEquals(new BigDecimal("2.35"), apply("round(2)", new BigDecimal("2.345")));
+        assertEquals(new BigDecimal("-3"), apply("round", -2.5d));
+        assertEquals("ok", apply("default(-1) | concat('ok')", null));
+    }
+
+    @Test
+    void digests() {
+        assertEquals("900150983cd24fb0d6963f7d28e17f72", apply("md5", "abc"));
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad", apply("sha256", "abc"));
+        assertNull(apply("sha256", null));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "   ",
+            "upper(",
+            "upper | ",
+            "default('open",
+            "trim extra",
+            "unknown",
+            "upper('x')",
+            "default()",
+            "substr(0)",
+            "substr('a')",
+            "mask(1, 'ab')",
+            "replace('', 'x')",
+            "cast(uuid)",
+            "nullif(col)",
+            "round(1.5.2)",
+            "123"
+    })
+    void rejectsInvalidExpressions(String expression) {
+        assertThrows(IllegalArgumentException.class, () -> ColumnTransformCompiler.compile(expression));
+    }
+
+    @Test
+    void errorMessageIncludesPositionAndExpression() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> ColumnTransformCompiler.compile("trim | upper)"));
+        assertTrue(e.getMessage().contains("13번째 문자"), e.getMessage());
+        assertTrue(e.getMessage().contains("[trim | upper)]"), e.getMessage());
+    }
+}
@@ -0,0 +1,61 @@
+package com.gims.module.dbsync.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileExportWriterTest {
+
+    @Test
+    void replacesPlaceholdersInOrder() {
+        String sql = FileExportWriter.inlineParameters(
+                "SELECT * FROM (SELECT * FROM orders) AS src WHERE created_at >= ? AND created_at < ? AND qty > CAST(? AS int4)",
+                Arrays.asList(Timestamp.valueOf("2026-01-01 00:00:00"), Timestamp.valueOf("2026-02-01 00:00:00"), 10));
+
+        assertEquals("SELECT * FROM (SELECT * FROM orders) AS src WHERE created_at >= E'2026-01-01 00:00:00.0'::timestamp "
+                + "AND created_at < E'2026-02-01 00:00:00.0'::timestamp AND qty > CAST(10 AS int4)", sql);
+    }
+
+    @Test
+    void skipsQuotedTextAndComments() {
+        String sql = "SELECT '?', E'\\'?', \"col?\", $$?$$, $tag$ ? $tag$, a$1 -- ?\n"
+                + "/* ? /* ? */ ? */ FROM t WHERE x = ?";
+        String expected = "SELECT '?', E'\\'?', \"col?\", $$?$$, $tag$ ? $tag$, a$1 -- ?\n"
+                + "/* ? /* ? */ ? */ FROM t WHERE x = 7";
+
+        assertEquals(expected, FileExportWriter.inlineParameters(sql, Collections.singletonList(7L)));
+    }
+
+    @Test
+    void doubledQuestionMarkIsLiteral() {
+        assertEquals("SELECT doc ? 'k' FROM t WHERE id = 1",
+                FileExportWriter.inlineParameters("SELECT doc ?? 'k' FROM t WHERE id = ?", Collections.singletonList(1)));
+    }
+
+    @Test
+    void rejectsPlaceholderCountMismatch() {
+        assertThrows(RuntimeException.class, () -> FileExportWriter.inlineParameters("SELECT ?", Collections.emptyList()));
+        assertThrows(RuntimeException.class, () -> FileExportWriter.inlineParameters("SELECT 1", Collections.singletonList(1)));
+        assertEquals("SELECT 1", FileExportWriter.inlineParameters("SELECT 1", null));
+    }
+
+    @Test
+    void rendersLiterals() {
+        assertEquals("NULL", FileExportWriter.toLiteral(null));
+        assertEquals("TRUE", FileExportWriter.toLiteral(true));
+        assertEquals("12.50", FileExportWriter.toLiteral(new BigDecimal("12.50")));
+        assertEquals("1000", FileExportWriter.toLiteral(new BigDecimal("1E+3")));
+        assertEquals("2.5", FileExportWriter.toLiteral(2.5d));
+        assertEquals("E'NaN'::float8", FileExportWriter.toLiteral(Double.NaN));
+        assertEquals("E'2026-10-18'::date", FileExportWriter.toLiteral(LocalDate.of(2026, 10, 18)));
+        assertEquals("E'O''Brien \\\\ co'", FileExportWriter.toLiteral("O'Brien \\ co"));
+        assertThrows(RuntimeException.class, () -> FileExportWriter.toLiteral("a\0b"));
+        assertThrows(RuntimeException.class, () -> FileExportWriter.toLiteral(new Object()));
+    }
+}
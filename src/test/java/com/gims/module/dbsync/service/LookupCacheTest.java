@@ -0,0 +1,74 @@
+package com.gims.module.dbsync.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LookupCacheTest {
+
+    @Test
+    void distinguishesMissingKeyFromNullValue() {
+        LookupCache cache = new LookupCache(10);
+        cache.put(1L, "A");
+        cache.put(2L, null);
+        cache.putNotFound(3L);
+
+        assertEquals("A", cache.get(1L));
+        // 참조 테이블에 있지만 값이 NULL인 키는 미존재(NOT_FOUND)와 구분
+        assertSame(LookupCache.NULL_VALUE, cache.get(2L));
+        assertSame(LookupCache.NOT_FOUND, cache.get(3L));
+        assertSame(LookupCache.ABSENT, cache.get(4L));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        LookupCache cache = new LookupCache(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        // a를 사용했으므로 c 추가 시 b가 제거됨
+        assertEquals(1, cache.get("a"));
+        cache.put("c", 3);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.get("a"));
+        assertSame(LookupCache.ABSENT, cache.get("b"));
+        assertEquals(3, cache.get("c"));
+    }
+
+    @Test
+    void countsHitsAndMisses() {
+        LookupCache cache = new LookupCache(10);
+        assertEquals(0, cache.getHitRate());
+        cache.put("k", "v");
+        cache.putNotFound("missing");
+        cache.get("k");
+        cache.get("missing");
+        cache.get("k");
+        cache.get("other");
+
+        assertEquals(3, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(0.75, cache.getHitRate());
+        assertEquals(10, cache.getMaxSize());
+    }
+
+    @Test
+    void normalizesIntegerKeysToLong() {
+        assertEquals(7L, LookupCache.normalizeKey(7));
+        assertEquals(7L, LookupCache.normalizeKey((short) 7));
+        assertEquals(7L, LookupCache.normalizeKey((byte) 7));
+        assertEquals(7L, LookupCache.normalizeKey(BigInteger.valueOf(7)));
+        BigInteger huge = BigInteger.ONE.shiftLeft(64);
+        assertSame(huge, LookupCache.normalizeKey(huge));
+        assertEquals(new BigDecimal("7"), LookupCache.normalizeKey(new BigDecimal("7")));
+        assertEquals("7", LookupCache.normalizeKey("7"));
+        assertNull(LookupCache.normalizeKey(null));
+
+        LookupCache cache = new LookupCache(10);
+        cache.put(LookupCache.normalizeKey(42), "int8 key");
+        assertEquals("int8 key", cache.get(LookupCache.normalizeKey(42L)));
+    }
+}
@@ -0,0 +1,120 @@
+package com.gims.module.dbsync.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PartitionLayoutTest {
+
+    private static PartitionedTargetWriter.Partition partition(String name) {
+        return new PartitionedTargetWriter.Partition("public." + name, name, false, "FOR VALUES ...", null);
+    }
+
+    private static BigDecimal epochDay(String date) {
+        return BigDecimal.valueOf(LocalDate.parse(date).atStartOfDay().toEpochSecond(ZoneOffset.UTC));
+    }
+
+    private static BigDecimal epochSecond(String instant) {
+        return BigDecimal.valueOf(Instant.parse(instant).getEpochSecond());
+    }
+
+    private PartitionedTargetWriter.PartitionLayout numeric;
+    private PartitionedTargetWriter.Partition low;
+    private PartitionedTargetWriter.Partition p0;
+    private PartitionedTargetWriter.Partition p100;
+    private PartitionedTargetWriter.Partition high;
+    private PartitionedTargetWriter.Partition fallback;
+
+    @BeforeEach
+    void setUp() {
+        numeric = new PartitionedTargetWriter.PartitionLayout("orders", "order_id", "int8");
+        low = partition("orders_low");
+        p0 = partition("orders_p0");
+        p100 = partition("orders_p100");
+        high = partition("orders_high");
+        fallback = partition("orders_default");
+        // 추가 순서와 관계없이 하한 순으로 정렬, [200, 300)은 비어 있음
+        numeric.addRange(high, BigDecimal.valueOf(300), null);
+        numeric.addRange(p100, BigDecimal.valueOf(100), BigDecimal.valueOf(200));
+        numeric.addRange(low, null, BigDecimal.ZERO);
+        numeric.addRange(p0, BigDecimal.ZERO, BigDecimal.valueOf(100));
+    }
+
+    @Test
+    void lowerBoundInclusiveUpperBoundExclusive() {
+        assertSame(low, numeric.route(Long.MIN_VALUE));
+        assertSame(low, numeric.route(-1));
+        assertSame(p0, numeric.route(0));
+        assertSame(p0, numeric.route(99L));
+        assertSame(p0, numeric.route(new BigDecimal("99.999")));
+        assertSame(p100, numeric.route((short) 100));
+        assertSame(high, numeric.route(300));
+        assertSame(high, numeric.route(Long.MAX_VALUE));
+    }
+
+    @Test
+    void gapAndNullGoToDefaultPartition() {
+        assertNull(numeric.route(250));
+        assertNull(numeric.route(null));
+
+        numeric.setDefaultPartition(fallback);
+        assertSame(fallback, numeric.route(200));
+        assertSame(fallback, numeric.route(299));
+        assertSame(fallback, numeric.route(null));
+        assertSame(p100, numeric.route(199));
+    }
+
+    @Test
+    void incomparableValuesAreNotRouted() {
+        numeric.setDefaultPartition(fallback);
+        assertNull(numeric.route("10"));
+        assertNull(numeric.route(Timestamp.valueOf("2026-01-01 00:00:00")));
+    }
+
+    @Test
+    void dateKeyUsesUtcWallClock() {
+        PartitionedTargetWriter.PartitionLayout layout =
+                new PartitionedTargetWriter.PartitionLayout("events", "event_date", "date");
+        PartitionedTargetWriter.Partition jan = partition("events_2026_01");
+        PartitionedTargetWriter.Partition feb = partition("events_2026_02");
+        layout.addRange(jan, epochDay("2026-01-01"), epochDay("2026-02-01"));
+        layout.addRange(feb, epochDay("2026-02-01"), epochDay("2026-03-01"));
+
+        assertSame(jan, layout.route(java.sql.Date.valueOf("2026-01-31")));
+        assertSame(feb, layout.route(LocalDate.of(2026, 2, 1)));
+        assertSame(jan, layout.route(LocalDateTime.of(2026, 1, 31, 23, 59, 59, 999_999_999)));
+        assertSame(feb, layout.route(Timestamp.valueOf("2026-02-28 12:00:00")));
+        assertNull(layout.route(java.sql.Date.valueOf("2026-03-01")));
+        assertNull(layout.route(20260115));
+    }
+
+    @Test
+    void timestamptzKeyUsesInstant() {
+        PartitionedTargetWriter.PartitionLayout layout =
+                new PartitionedTargetWriter.PartitionLayout("events", "created_at", "timestamptz");
+        PartitionedTargetWriter.Partition before = partition("events_before");
+        PartitionedTargetWriter.Partition after = partition("events_after");
+        layout.addRange(before, null, epochSecond("2026-01-01T00:00:00Z"));
+        layout.addRange(after, epochSecond("2026-01-01T00:00:00Z"), null);
+
+        assertSame(before, layout.route(Timestamp.from(Instant.parse("2025-12-31T23:59:59.999999Z"))));
+        assertSame(after, layout.route(Timestamp.from(Instant.parse("2026-01-01T00:00:00Z"))));
+        assertSame(before, layout.route(java.time.OffsetDateTime.parse("2026-01-01T08:59:59+09:00")));
+        assertSame(after, layout.route(java.time.OffsetDateTime.parse("2026-01-01T09:00:00+09:00")));
+    }
+
+    @Test
+    void layoutIsRoutableUntilMarkedUnsupported() {
+        assertTrue(numeric.isRoutable());
+        assertNull(numeric.getUnsupportedReason());
+        assertEquals("order_id", numeric.getKeyColumn());
+    }
+}
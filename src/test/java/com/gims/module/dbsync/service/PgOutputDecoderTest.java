@@ -0,0 +1,193 @@
+package com.gims.module.dbsync.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PgOutputDecoderTest {
+
+    private static final int ORDERS_OID = 16384;
+
+    private PgOutputDecoder decoder;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        decoder = new PgOutputDecoder();
+        // public.orders (id int8, qty int4, note text, paid bool, amount numeric, ord_date date, created timestamp)
+        Wire relation = new Wire().tag('R').int32(ORDERS_OID).string("public").string("orders").int8('d').int16(7);
+        relation.column("id", 20).column("qty", 23).column("note", 25).column("paid", 16)
+                .column("amount", 1700).column("ord_date", 1082).column("created", 1114);
+        assertNull(decoder.decode(relation.buffer()));
+    }
+
+    @Test
+    void beginAndCommit() throws IOException {
+        // 2000-01-01 00:00:01.5 UTC
+        long pgMicros = 1_500_000L;
+        PgOutputDecoder.Message begin = decoder.decode(new Wire().tag('B').int64(100L).int64(pgMicros).int32(7).buffer());
+        assertEquals(PgOutputDecoder.Type.BEGIN, begin.getType());
+        assertEquals(Timestamp.from(Instant.parse("2000-01-01T00:00:01.500Z")), begin.getCommitTime());
+
+        PgOutputDecoder.Message commit = decoder.decode(
+                new Wire().tag('C').int8(0).int64(100L).int64(0x26C2FC38L).int64(pgMicros).buffer());
+        assertEquals(PgOutputDecoder.Type.COMMIT, commit.getType());
+        assertEquals(0x26C2FC38L, commit.getEndLsn());
+        assertEquals(begin.getCommitTime(), commit.getCommitTime());
+    }
+
+    @Test
+    void insertConvertsTextValues() throws IOException {
+        Wire insert = new Wire().tag('I').int32(ORDERS_OID).int8('N').int16(7)
+                .text("9000000000").text("12").text("메모").text("t").text("1234.50")
+                .text("2026-10-18").text("2026-10-18 12:34:56.789");
+        PgOutputDecoder.Message message = decoder.decode(insert.buffer());
+
+        assertEquals(PgOutputDecoder.Type.INSERT, message.getType());
+        assertEquals("public.orders", message.getRelation().qualifiedName());
+        assertNull(message.getOldTuple());
+        assertEquals(9_000_000_000L, message.getNewTuple().getValues().get("id"));
+        assertEquals(12, message.getNewTuple().getValues().get("qty"));
+        assertEquals("메모", message.getNewTuple().getValues().get("note"));
+        assertEquals(Boolean.TRUE, message.getNewTuple().getValues().get("paid"));
+        assertEquals(new BigDecimal("1234.50"), message.getNewTuple().getValues().get("amount"));
+        assertEquals(java.sql.Date.valueOf("2026-10-18"), message.getNewTuple().getValues().get("ord_date"));
+        assertEquals(Timestamp.valueOf("2026-10-18 12:34:56.789"), message.getNewTuple().getValues().get("created"));
+    }
+
+    @Test
+    void updateWithKeyAndUnchangedToast() throws IOException {
+        Wire update = new Wire().tag('U').int32(ORDERS_OID)
+                .int8('K').int16(7).text("1").nul().nul().nul().nul().nul().nul()
+                .int8('N').int16(7).text("2").text("3").unchangedToast().text("f").text("NaN").nul().nul();
+        PgOutputDecoder.Message message = decoder.decode(update.buffer());
+
+        assertEquals(PgOutputDecoder.Type.UPDATE, message.getType());
+        assertEquals(1L, message.getOldTuple().getValues().get("id"));
+        assertEquals(2L, message.getNewTuple().getValues().get("id"));
+        assertEquals(Boolean.FALSE, message.getNewTuple().getValues().get("paid"));
+        // 변환할 수 없는 값은 문자열 그대로
+        assertEquals("NaN", message.getNewTuple().getValues().get("amount"));
+        assertTrue(message.getNewTuple().getValues().containsKey("ord_date"));
+        assertNull(message.getNewTuple().getValues().get("ord_date"));
+        // 변경되지 않은 TOAST 컬럼은 값 없이 표시
+        assertFalse(message.getNewTuple().getValues().containsKey("note"));
+        assertEquals(Collections.singleton("note"), message.getNewTuple().getUnchangedToast());
+    }
+
+    @Test
+    void updateWithoutOldTuple() throws IOException {
+        Wire update = new Wire().tag('U').int32(ORDERS_OID)
+                .int8('N').int16(7).text("5").text("6").nul().nul().nul().nul().nul();
+        PgOutputDecoder.Message message = decoder.decode(update.buffer());
+
+        assertNull(message.getOldTuple());
+        assertEquals(6, message.getNewTuple().getValues().get("qty"));
+    }
+
+    @Test
+    void deleteCarriesOldKey() throws IOException {
+        Wire delete = new Wire().tag('D').int32(ORDERS_OID)
+                .int8('K').int16(7).text("42").nul().nul().nul().nul().nul().nul();
+        PgOutputDecoder.Message message = decoder.decode(delete.buffer());
+
+        assertEquals(PgOutputDecoder.Type.DELETE, message.getType());
+        assertNull(message.getNewTuple());
+        assertEquals(42L, message.getOldTuple().getValues().get("id"));
+    }
+
+    @Test
+    void truncateListsRelations() throws IOException {
+        PgOutputDecoder.Message message = decoder.decode(
+                new Wire().tag('T').int32(1).int8(0).int32(ORDERS_OID).buffer());
+
+        assertEquals(PgOutputDecoder.Type.TRUNCATE, message.getType());
+        assertEquals(1, message.getTruncated().size());
+        assertEquals("orders", message.getTruncated().get(0).getName());
+    }
+
+    @Test
+    void unknownRelationFails() throws IOException {
+        ByteBuffer insert = new Wire().tag('I').int32(1).int8('N').int16(1).text("1").buffer();
+        assertThrows(IllegalStateException.class, () -> decoder.decode(insert));
+    }
+
+    @Test
+    void ignoresTypeAndOriginMessages() throws IOException {
+        assertNull(decoder.decode(new Wire().tag('Y').int32(600).string("pg_catalog").string("point").buffer()));
+        assertNull(decoder.decode(new Wire().tag('O').int64(1L).string("origin").buffer()));
+    }
+
+    /**
+     * pgoutput 메시지 작성 (네트워크 바이트 순서)
+     */
+    private static class Wire {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+
+        Wire tag(char tag) throws IOException {
+            out.writeByte(tag);
+            return this;
+        }
+
+        Wire int8(int value) throws IOException {
+            out.writeByte(value);
+            return this;
+        }
+
+        Wire int16(int value) throws IOException {
+            out.writeShort(value);
+            return this;
+        }
+
+        Wire int32(int value) throws IOException {
+            out.writeInt(value);
+            return this;
+        }
+
+        Wire int64(long value) throws IOException {
+            out.writeLong(value);
+            return this;
+        }
+
+        Wire string(String value) throws IOException {
+            out.write(value.getBytes(StandardCharsets.UTF_8));
+            out.writeByte(0);
+            return this;
+        }
+
+        Wire column(String name, int typeOid) throws IOException {
+            return int8(0).string(name).int32(typeOid).int32(-1);
+        }
+
+        Wire text(String value) throws IOException {
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            out.writeByte('t');
+            out.writeInt(encoded.length);
+            out.write(encoded);
+            return this;
+        }
+
+        Wire nul() throws IOException {
+            return int8('n');
+        }
+
+        Wire unchangedToast() throws IOException {
+            return int8('u');
+        }
+
+        ByteBuffer buffer() {
+            return ByteBuffer.wrap(bytes.toByteArray());
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.gims.module.dbsync.service;
+
+import com.gims.module.dbsync.dto.MappingConfigDto;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimaryKeyMappingTest {
+
+    private static MappingConfigDto.ColumnMappingDto column(String source, String target, String isPrimaryKey) {
+        return MappingConfigDto.ColumnMappingDto.builder()
+                .sourceColumn(source)
+                .targetColumn(target)
+                .isPrimaryKey(isPrimaryKey)
+                .build();
+    }
+
+    private static MappingConfigDto.TableMappingDto table(String pkColumn, String targetPkColumn,
+                                                          MappingConfigDto.ColumnMappingDto... columns) {
+        return MappingConfigDto.TableMappingDto.builder()
+                .sourceTable("src")
+                .targetTable("dst")
+                .pkColumn(pkColumn)
+                .targetPkColumn(targetPkColumn)
+                .columnMappings(Arrays.asList(columns))
+                .build();
+    }
+
+    @Test
+    void singleKeyConditions() {
+        PrimaryKeyMapping pk = PrimaryKeyMapping.of(table("id", "sync_id", column("name", "nm", "N")));
+
+        assertFalse(pk.isComposite());
+        assertEquals("id > ?", pk.sourceKeysetCondition());
+        assertEquals("sync_id = ?", pk.targetCondition());
+        assertEquals("sync_id", pk.targetColumnList());
+    }
+
+    @Test
+    void compositeKeyFollowsPkColumnThenMappingOrder() {
+        PrimaryKeyMapping pk = PrimaryKeyMapping.of(table("region", "region_cd",
+                column("order_no", "ord_no", "Y"),
+                column("name", "nm", null),
+                column("REGION", "region_cd", "y"),
+                column("line_no", "ln", "Y")));
+
+        assertTrue(pk.isComposite());
+        assertEquals(Arrays.asList("region", "order_no", "line_no"), pk.getSourceColumns());
+        assertEquals(Arrays.asList("region_cd", "ord_no", "ln"), pk.getTargetColumns());
+        assertEquals("(region, order_no, line_no) > (?, ?, ?)", pk.sourceKeysetCondition());
+        assertEquals("region_cd = ? AND ord_no = ? AND ln = ?", pk.targetCondition());
+        assertEquals("region_cd, ord_no, ln", pk.targetColumnList());
+        assertTrue(pk.isSourceColumn("ORDER_NO"));
+        assertTrue(pk.isTargetColumn("LN"));
+        assertFalse(pk.isSourceColumn("name"));
+    }
+
+    @Test
+    void compositeKeyWithoutPkColumn() {
+        PrimaryKeyMapping pk = PrimaryKeyMapping.of(table(null, null,
+                column("a", "ta", "Y"), column("b", "tb", "Y")));
+
+        assertEquals("(a, b) > (?, ?)", pk.sourceKeysetCondition());
+    }
+
+    @Test
+    void rejectsMissingOrDuplicateKeys() {
+        assertThrows(RuntimeException.class, () -> PrimaryKeyMapping.of(table(null, null, column("a", "ta", "N"))));
+        assertThrows(RuntimeException.class, () -> PrimaryKeyMapping.of(table("id", " ")));
+        assertThrows(RuntimeException.class, () -> PrimaryKeyMapping.of(table("id", "sync_id", column("b", "SYNC_ID", "Y"))));
+        assertThrows(RuntimeException.class, () -> PrimaryKeyMapping.of(table("id", "sync_id", column("b", null, "Y"))));
+    }
+
+    @Test
+    void keyOfFollowsPkOrder() {
+        PrimaryKeyMapping pk = PrimaryKeyMapping.of(table("a", "ta", column("b", "tb", "Y")));
+        Map<String, Object> row = new HashMap<>();
+        row.put("b", "x");
+        row.put("a", 1L);
+        row.put("c", "ignored");
+
+        RowKey key = pk.keyOf(row);
+        assertEquals(2, key.size());
+        assertEquals(1L, key.get(0));
+        assertEquals("x", key.get(1));
+        assertEquals("(1, x)", key.toString());
+        assertFalse(key.hasNull());
+    }
+
+    @Test
+    void rowKeyEqualityAndNulls() {
+        RowKey key = RowKey.of(new Object[]{1L, "x"});
+        assertEquals(key, RowKey.of(new Object[]{1L, "x"}));
+        assertEquals(key.hashCode(), RowKey.of(new Object[]{1L, "x"}).hashCode());
+        assertNotEquals(key, RowKey.of(new Object[]{"x", 1L}));
+        assertNotEquals(key, RowKey.of(new Object[]{1L, "x", null}));
+
+        RowKey withNull = RowKey.of(Collections.singletonMap("a", null), Arrays.asList("a", "b"));
+        assertTrue(withNull.hasNull());
+        assertEquals(RowKey.of(new Object[]{null, null}), withNull);
+        assertEquals("7", RowKey.of(new Object[]{7}).toString());
+    }
+
+    @Test
+    void rowKeyCopiesValues() {
+        Object[] values = {1L, 2L};
+        RowKey key = RowKey.of(values);
+        values[0] = 99L;
+        assertEquals(1L, key.get(0));
+    }
+
+    @Test
+    void rowKeyBindsInPkOrder() throws Exception {
+        Map<Integer, Object> bound = new TreeMap<>();
+        PreparedStatement pstmt = (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                    if ("setObject".equals(method.getName()) && args.length == 2) {
+                        bound.put((Integer) args[0], args[1]);
+                        return null;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        int next = RowKey.of(new Object[]{10L, "b"}).bind(pstmt, 3);
+        assertEquals(5, next);
+        assertEquals(Arrays.asList(10L, "b"), new ArrayList<>(bound.values()));
+        assertEquals(Arrays.asList(3, 4), new ArrayList<>(bound.keySet()));
+    }
+}
@@ -0,0 +1,78 @@
+package com.gims.module.dbsync.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SourceThrottleTokenBucketTest {
+
+    private static final long START = 1_000_000_000L;
+
+    private static long seconds(long seconds) {
+        return TimeUnit.SECONDS.toNanos(seconds);
+    }
+
+    @Test
+    void unlimitedRateNeverWaits() {
+        SourceThrottle.TokenBucket bucket = new SourceThrottle.TokenBucket(START);
+        assertEquals(0, bucket.reserve(1_000_000, 0, START));
+        assertEquals(0, bucket.reserve(1_000_000, -1, START));
+    }
+
+    @Test
+    void startsEmptyAndAccumulatesDebt() {
+        SourceThrottle.TokenBucket bucket = new SourceThrottle.TokenBucket(START);
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), bucket.reserve(10, 100, START));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(200), bucket.reserve(10, 100, START));
+    }
+
+    @Test
+    void refillsAtRate() {
+        SourceThrottle.TokenBucket bucket = new SourceThrottle.TokenBucket(START);
+        bucket.reserve(100, 100, START);
+        // 1초 뒤 부족분(100)이 채워져 대기 없음
+        assertEquals(0, bucket.reserve(0, 100, START + seconds(1)));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), bucket.reserve(50, 100, START + seconds(1)));
+    }
+
+    @Test
+    void capacityIsOneSecondOfTokens() {
+        SourceThrottle.TokenBucket bucket = new SourceThrottle.TokenBucket(START);
+        // 10초 쉬어도 1초 분량(100)만 쌓임
+        assertEquals(0, bucket.reserve(100, 100, START + seconds(10)));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(10), bucket.reserve(1, 100, START + seconds(10)));
+    }
+
+    @Test
+    void largeReservationWaitsForShortfall() {
+        SourceThrottle.TokenBucket bucket = new SourceThrottle.TokenBucket(START);
+        assertEquals(seconds(2), bucket.reserve(300, 100, START + seconds(5)));
+    }
+
+    @Test
+    void disablingRateClearsDebt() {
+        SourceThrottle.TokenBucket bucket = new SourceThrottle.TokenBucket(START);
+        bucket.reserve(1_000, 100, START);
+        assertEquals(0, bucket.reserve(1_000, 0, START));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(10), bucket.reserve(1, 100, START));
+    }
+
+    @Test
+    void estimatesRowBytes() {
+        Map<String, Object> row = new HashMap<>();
+        row.put("text", "abcd");
+        row.put("bytes", new byte[32]);
+        row.put("number", 1L);
+        row.put("flag", true);
+        row.put("nothing", null);
+        row.put("other", Arrays.asList(1, 2));
+        assertEquals(4 + 32 + 8 + 8 + 1 + 16, SourceThrottle.estimateBytes(row));
+        assertEquals(0, SourceThrottle.estimateBytes(Collections.emptyMap()));
+    }
+}
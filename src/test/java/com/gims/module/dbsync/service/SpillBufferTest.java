@@ -0,0 +1,171 @@
+package com.gims.module.dbsync.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.postgresql.util.PGobject;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpillBufferTest {
+
+    private static final List<String> COLUMNS = Arrays.asList(
+            "str", "int", "long", "double", "decimal", "timestamp", "date", "bool", "bytes", "short",
+            "float", "time", "uuid", "json", "array", "hstore", "ldt", "ld", "nullable");
+
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void replaysEveryTypeUnchanged(boolean compress) throws Exception {
+        Timestamp timestamp = Timestamp.valueOf("2026-10-18 12:34:56.123456789");
+        UUID uuid = UUID.randomUUID();
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("str", "한글 text");
+        row.put("int", 42);
+        row.put("long", Long.MAX_VALUE);
+        row.put("double", 1.5d);
+        row.put("decimal", new BigDecimal("-12345678901234567890.000123"));
+        row.put("timestamp", timestamp);
+        row.put("date", java.sql.Date.valueOf("1999-12-31"));
+        row.put("bool", Boolean.TRUE);
+        row.put("bytes", new byte[]{0, 1, (byte) 0xFF});
+        row.put("short", (short) -7);
+        row.put("float", 2.25f);
+        row.put("time", new Time(3_600_000L));
+        row.put("uuid", uuid);
+        row.put("json", pgObject("jsonb", "{\"a\": 1}"));
+        row.put("array", sqlArray("int4", "{1,2,NULL}"));
+        Map<String, String> hstore = new LinkedHashMap<>();
+        hstore.put("k", "v");
+        row.put("hstore", hstore);
+        row.put("ldt", LocalDateTime.of(2026, 10, 18, 23, 59, 59, 999_999_999));
+        row.put("ld", LocalDate.of(2026, 1, 1));
+        row.put("nullable", null);
+
+        SpillBuffer buffer = new SpillBuffer(tempDir.resolve("all"), COLUMNS, 1 << 20, compress, 0);
+        buffer.append(Collections.singletonList(row));
+        buffer.finish();
+
+        List<Map<String, Object>> replayed = replay(buffer, 10);
+        assertEquals(1, replayed.size());
+        Map<String, Object> read = replayed.get(0);
+        for (String column : Arrays.asList("str", "int", "long", "double", "decimal", "timestamp", "date", "bool",
+                "short", "float", "time", "uuid", "ldt", "ld")) {
+            assertEquals(row.get(column), read.get(column), column);
+        }
+        assertEquals(timestamp.getNanos(), ((Timestamp) read.get("timestamp")).getNanos());
+        assertArrayEquals((byte[]) row.get("bytes"), (byte[]) read.get("bytes"));
+        assertEquals(pgObject("jsonb", "{\"a\": 1}"), read.get("json"));
+        // 배열 / hstore는 타입명과 텍스트 표현의 PGobject로 재생
+        assertEquals(pgObject("_int4", "{1,2,NULL}"), read.get("array"));
+        assertEquals("hstore", ((PGobject) read.get("hstore")).getType());
+        assertTrue(((PGobject) read.get("hstore")).getValue().contains("\"k\"=>\"v\""));
+        assertTrue(read.containsKey("nullable"));
+        assertNull(read.get("nullable"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void splitsChunksAndReplaysRepeatedly(boolean compress) throws Exception {
+        List<String> columns = Arrays.asList("id", "name");
+        SpillBuffer buffer = new SpillBuffer(tempDir.resolve("chunks"), columns, 256, compress, 0);
+        for (int start = 0; start < 1000; start += 100) {
+            List<Map<String, Object>> batch = new ArrayList<>();
+            for (int id = start; id < start + 100; id++) {
+                Map<String, Object> row = new HashMap<>();
+                row.put("id", (long) id);
+                row.put("name", "row-" + id);
+                batch.add(row);
+            }
+            buffer.append(batch);
+        }
+        buffer.finish();
+
+        assertEquals(1000, buffer.getRowCount());
+        assertTrue(buffer.getChunkCount() > 1);
+        for (int attempt = 0; attempt < 2; attempt++) {
+            List<Map<String, Object>> replayed = replay(buffer, 64);
+            assertEquals(1000, replayed.size());
+            for (int id = 0; id < 1000; id++) {
+                assertEquals((long) id, replayed.get(id).get("id"));
+                assertEquals("row-" + id, replayed.get(id).get("name"));
+            }
+        }
+    }
+
+    @Test
+    void rejectsUnsupportedType() throws Exception {
+        SpillBuffer buffer = new SpillBuffer(tempDir.resolve("unsupported"), Collections.singletonList("v"), 1024, false, 0);
+        Map<String, Object> row = Collections.singletonMap("v", new Object());
+        assertThrows(SQLException.class, () -> buffer.append(Collections.singletonList(row)));
+    }
+
+    @Test
+    void failsWhenMaxBytesExceeded() throws Exception {
+        SpillBuffer buffer = new SpillBuffer(tempDir.resolve("max"), Collections.singletonList("v"), 16, false, 64);
+        List<Map<String, Object>> batch = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            batch.add(Collections.singletonMap("v", "value-" + i));
+        }
+        assertThrows(SQLException.class, () -> buffer.append(batch));
+    }
+
+    @Test
+    void deleteRemovesChunksAndDirectory() throws Exception {
+        Path directory = tempDir.resolve("delete");
+        SpillBuffer buffer = new SpillBuffer(directory, Collections.singletonList("v"), 1024, true, 0);
+        buffer.append(Collections.singletonList(Collections.singletonMap("v", 1)));
+        buffer.finish();
+        assertEquals(1, buffer.getChunkCount());
+
+        buffer.delete();
+        assertFalse(Files.exists(directory));
+    }
+
+    private static List<Map<String, Object>> replay(SpillBuffer buffer, int batchSize) throws SQLException {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        buffer.replay(batchSize, batch -> {
+            assertTrue(batch.size() <= batchSize);
+            rows.addAll(batch);
+        });
+        return rows;
+    }
+
+    private static PGobject pgObject(String type, String value) throws SQLException {
+        PGobject pgObject = new PGobject();
+        pgObject.setType(type);
+        pgObject.setValue(value);
+        return pgObject;
+    }
+
+    /**
+     * 드라이버 배열(PgArray)처럼 기본 타입명과 배열 리터럴만 제공하는 java.sql.Array
+     */
+    private static java.sql.Array sqlArray(String baseTypeName, String literal) {
+        return (java.sql.Array) Proxy.newProxyInstance(SpillBufferTest.class.getClassLoader(),
+                new Class<?>[]{java.sql.Array.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getBaseTypeName":
+                            return baseTypeName;
+                        case "toString":
+                            return literal;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}